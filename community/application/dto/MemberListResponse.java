@@ -18,9 +18,13 @@ import java.util.List;
 public class MemberListResponse {
 
     private List<MemberSummary> members;
-    private long totalCount;
+    /** 전체 회원 수 (includeTotal=false이면 null) */
+    private Long totalCount;
     private int pageNumber;
     private int pageSize;
+    private boolean hasNext;
+    /** 다음 페이지 조회에 사용할 커서 (마지막 페이지면 null) */
+    private Long nextCursor;
 
     @Data
     @Builder
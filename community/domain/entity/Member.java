@@ -5,7 +5,9 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "member")
+@Table(name = "member", indexes = {
+    @Index(name = "idx_member_role_active_id", columnList = "role, active, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -30,6 +32,13 @@ public class Member extends UpdatedEntity {
     @Column(name = "profile_image_url", length = 500)
     private String profileImageUrl;
 
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private MemberRole role;
+
+    @Column(nullable = false)
+    private boolean active;
+
     public void updateProfile(String nickname, String email, String profileImageUrl) {
         this.nickname = nickname;
         this.email = email;
@@ -39,4 +48,16 @@ public class Member extends UpdatedEntity {
     public void changePassword(String newPassword) {
         this.password = newPassword;
     }
+
+    public void updateRole(MemberRole role) {
+        this.role = role;
+    }
+
+    public void activate() {
+        this.active = true;
+    }
+
+    public void deactivate() {
+        this.active = false;
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,131 @@
+package com.sgyj.popupmoah.domain.community.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 팝업스토어 평점 집계
+ * 리뷰가 바뀔 때마다 전체 리뷰를 다시 집계하지 않도록 평점 합계, 리뷰 수, 별점별 리뷰 수를 누적해 둡니다.
+ */
+@Entity
+@Table(name = "popup_store_rating_summary")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class PopupStoreRatingSummary implements Persistable<Long> {
+
+    public static final int MIN_RATING = 1;
+    public static final int MAX_RATING = 5;
+
+    @Id
+    @Column(name = "popup_store_id")
+    private Long popupStoreId;
+
+    @Column(name = "review_count", nullable = false)
+    private long reviewCount;
+
+    @Column(name = "rating_sum", nullable = false)
+    private long ratingSum;
+
+    @Column(name = "one_star_count", nullable = false)
+    private long oneStarCount;
+
+    @Column(name = "two_star_count", nullable = false)
+    private long twoStarCount;
+
+    @Column(name = "three_star_count", nullable = false)
+    private long threeStarCount;
+
+    @Column(name = "four_star_count", nullable = false)
+    private long fourStarCount;
+
+    @Column(name = "five_star_count", nullable = false)
+    private long fiveStarCount;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    /** 팝업스토어 ID를 직접 지정하므로 새 행이면 merge 대신 INSERT 하도록 표시 */
+    @Transient
+    @Builder.Default
+    private boolean newSummary = true;
+
+    /**
+     * 별점별 리뷰 수로 집계를 만듭니다. (index 0 = 1점)
+     */
+    public static PopupStoreRatingSummary of(Long popupStoreId, long[] starCounts) {
+        PopupStoreRatingSummary summary = PopupStoreRatingSummary.builder()
+                .popupStoreId(popupStoreId)
+                .build();
+        summary.reset(starCounts);
+        return summary;
+    }
+
+    @Override
+    public Long getId() {
+        return popupStoreId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newSummary;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newSummary = false;
+    }
+
+    /**
+     * 별점별 리뷰 수로 집계를 다시 설정합니다. (index 0 = 1점)
+     */
+    public void reset(long[] starCounts) {
+        this.oneStarCount = starCounts[0];
+        this.twoStarCount = starCounts[1];
+        this.threeStarCount = starCounts[2];
+        this.fourStarCount = starCounts[3];
+        this.fiveStarCount = starCounts[4];
+        long count = 0;
+        long sum = 0;
+        for (int i = 0; i < starCounts.length; i++) {
+            count += starCounts[i];
+            sum += starCounts[i] * (i + MIN_RATING);
+        }
+        this.reviewCount = count;
+        this.ratingSum = sum;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 별점별 리뷰 수를 반환합니다. (index 0 = 1점)
+     */
+    public long[] starCounts() {
+        return new long[] {oneStarCount, twoStarCount, threeStarCount, fourStarCount, fiveStarCount};
+    }
+
+    /**
+     * 평균 평점을 반환합니다. 리뷰가 없으면 null을 반환합니다.
+     */
+    public Double averageRating() {
+        return reviewCount > 0 ? (double) ratingSum / reviewCount : null;
+    }
+
+    /**
+     * 별점(1~5)별 리뷰 수를 반환합니다.
+     */
+    public Map<Integer, Long> histogram() {
+        long[] counts = starCounts();
+        Map<Integer, Long> histogram = new LinkedHashMap<>();
+        for (int i = 0; i < counts.length; i++) {
+            histogram.put(i + MIN_RATING, counts[i]);
+        }
+        return histogram;
+    }
+}
@@ -6,7 +6,9 @@ import lombok.*;
 import jakarta.persistence.*;
 
 @Entity
-@Table(name = "review")
+@Table(name = "review", indexes = {
+    @Index(name = "idx_review_popup_store_rating", columnList = "popup_store_id, rating")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -1,15 +1,47 @@
 package com.sgyj.popupmoah.domain.community.repository;
 
 import com.sgyj.popupmoah.domain.community.entity.Comment;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
+
+    String THREAD_ROW_SELECT = "SELECT c.id AS id, p.id AS parentId, c.popupStore.id AS popupStoreId, " +
+            "m.id AS memberId, m.username AS memberUsername, m.nickname AS memberNickname, " +
+            "c.content AS content, c.createdAt AS createdAt, c.updatedAt AS updatedAt " +
+            "FROM Comment c JOIN c.member m LEFT JOIN c.parent p ";
+
+    String THREAD_ROOT_CONDITIONS = "WHERE c.popupStore.id = :popupStoreId AND c.parent IS NULL AND c.deleted = false";
     
     List<Comment> findByPopupStoreIdAndParentIsNull(Long popupStoreId);
     
     List<Comment> findByParentId(Long parentId);
     
     List<Comment> findByMemberId(Long memberId);
-} 
\ No newline at end of file
+
+    /**
+     * 팝업스토어의 삭제되지 않은 최상위 댓글과 대댓글을 작성자 정보와 함께 한 번에 조회합니다.
+     */
+    @Query(THREAD_ROW_SELECT + "WHERE c.popupStore.id = :popupStoreId AND c.deleted = false " +
+           "AND (p IS NULL OR p.parent IS NULL) ORDER BY c.id")
+    List<CommentThreadRow> findThreadRowsByPopupStoreId(@Param("popupStoreId") Long popupStoreId);
+
+    /**
+     * 팝업스토어의 최상위 댓글 ID를 페이지 단위로 조회합니다.
+     */
+    @Query(value = "SELECT c.id FROM Comment c " + THREAD_ROOT_CONDITIONS + " ORDER BY c.id",
+           countQuery = "SELECT COUNT(c) FROM Comment c " + THREAD_ROOT_CONDITIONS)
+    Page<Long> findThreadRootIds(@Param("popupStoreId") Long popupStoreId, Pageable pageable);
+
+    /**
+     * 최상위 댓글과 그 대댓글을 작성자 정보와 함께 한 번에 조회합니다.
+     */
+    @Query(THREAD_ROW_SELECT + "WHERE c.deleted = false AND (c.id IN :rootIds OR p.id IN :rootIds) ORDER BY c.id")
+    List<CommentThreadRow> findThreadRowsByRootIds(@Param("rootIds") Collection<Long> rootIds);
+}
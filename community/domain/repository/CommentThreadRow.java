@@ -0,0 +1,28 @@
+package com.sgyj.popupmoah.domain.community.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 스레드 조회용 프로젝션
+ * 작성자 정보를 조인으로 함께 조회하여 지연 로딩 없이 댓글 응답을 만들 수 있게 합니다.
+ */
+public interface CommentThreadRow {
+
+    Long getId();
+
+    Long getParentId();
+
+    Long getPopupStoreId();
+
+    Long getMemberId();
+
+    String getMemberUsername();
+
+    String getMemberNickname();
+
+    String getContent();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
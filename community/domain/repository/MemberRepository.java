@@ -1,11 +1,25 @@
 package com.sgyj.popupmoah.domain.community.repository;
 
 import com.sgyj.popupmoah.domain.community.entity.Member;
+import com.sgyj.popupmoah.domain.community.entity.MemberRole;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
+
+    String SUMMARY_SELECT = "SELECT m.id AS id, m.username AS username, m.email AS email, " +
+            "m.nickname AS nickname, m.role AS role, m.active AS active, " +
+            "m.createdAt AS createdAt, m.updatedAt AS updatedAt FROM Member m ";
+
+    String SUMMARY_CONDITIONS = "WHERE (:role IS NULL OR m.role = :role) " +
+            "AND (:active IS NULL OR m.active = :active) ";
     
     Optional<Member> findByUsername(String username);
     
@@ -14,4 +28,36 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     boolean existsByUsername(String username);
     
     boolean existsByEmail(String email);
-} 
\ No newline at end of file
+
+    /**
+     * 회원 목록을 필터 조건으로 페이지 조회합니다. (최신 가입순)
+     */
+    @Query(value = SUMMARY_SELECT + SUMMARY_CONDITIONS + "ORDER BY m.id DESC",
+           countQuery = "SELECT COUNT(m) FROM Member m " + SUMMARY_CONDITIONS)
+    Page<MemberSummaryView> findSummaries(@Param("role") MemberRole role,
+                                          @Param("active") Boolean active,
+                                          Pageable pageable);
+
+    /**
+     * 회원 목록을 필터 조건으로 조회합니다. (COUNT 쿼리 없이 다음 페이지 존재 여부만 확인)
+     */
+    @Query(SUMMARY_SELECT + SUMMARY_CONDITIONS + "ORDER BY m.id DESC")
+    Slice<MemberSummaryView> findSummarySlice(@Param("role") MemberRole role,
+                                              @Param("active") Boolean active,
+                                              Pageable pageable);
+
+    /**
+     * 커서 회원 ID 이전부터 내림차순으로 조회합니다. (키셋 페이지네이션)
+     */
+    @Query(SUMMARY_SELECT + SUMMARY_CONDITIONS + "AND m.id < :cursorId ORDER BY m.id DESC")
+    List<MemberSummaryView> findSummariesBefore(@Param("role") MemberRole role,
+                                                @Param("active") Boolean active,
+                                                @Param("cursorId") Long cursorId,
+                                                Pageable pageable);
+
+    /**
+     * 필터 조건에 해당하는 회원 수를 조회합니다.
+     */
+    @Query("SELECT COUNT(m) FROM Member m " + SUMMARY_CONDITIONS)
+    long countSummaries(@Param("role") MemberRole role, @Param("active") Boolean active);
+}
@@ -0,0 +1,28 @@
+package com.sgyj.popupmoah.domain.community.repository;
+
+import com.sgyj.popupmoah.domain.community.entity.MemberRole;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 목록 조회용 프로젝션
+ * 목록에 필요한 컬럼만 조회하여 비밀번호 등 나머지 컬럼과 엔티티 생성 비용을 줄입니다.
+ */
+public interface MemberSummaryView {
+
+    Long getId();
+
+    String getUsername();
+
+    String getEmail();
+
+    String getNickname();
+
+    MemberRole getRole();
+
+    boolean isActive();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
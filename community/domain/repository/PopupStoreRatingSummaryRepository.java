@@ -0,0 +1,54 @@
+package com.sgyj.popupmoah.domain.community.repository;
+
+import com.sgyj.popupmoah.domain.community.entity.PopupStoreRatingSummary;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PopupStoreRatingSummaryRepository extends JpaRepository<PopupStoreRatingSummary, Long> {
+
+    /**
+     * 평점 집계에 증감분을 원자적으로 반영합니다.
+     * @return 갱신된 행 수 (집계 행이 없으면 0)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE PopupStoreRatingSummary s SET " +
+           "s.reviewCount = s.reviewCount + :countDelta, " +
+           "s.ratingSum = s.ratingSum + :sumDelta, " +
+           "s.oneStarCount = s.oneStarCount + :oneStarDelta, " +
+           "s.twoStarCount = s.twoStarCount + :twoStarDelta, " +
+           "s.threeStarCount = s.threeStarCount + :threeStarDelta, " +
+           "s.fourStarCount = s.fourStarCount + :fourStarDelta, " +
+           "s.fiveStarCount = s.fiveStarCount + :fiveStarDelta, " +
+           "s.updatedAt = :now " +
+           "WHERE s.popupStoreId = :popupStoreId")
+    int applyDelta(@Param("popupStoreId") Long popupStoreId,
+                   @Param("countDelta") long countDelta,
+                   @Param("sumDelta") long sumDelta,
+                   @Param("oneStarDelta") long oneStarDelta,
+                   @Param("twoStarDelta") long twoStarDelta,
+                   @Param("threeStarDelta") long threeStarDelta,
+                   @Param("fourStarDelta") long fourStarDelta,
+                   @Param("fiveStarDelta") long fiveStarDelta,
+                   @Param("now") LocalDateTime now);
+
+    /**
+     * 팝업스토어 ID 구간의 평점 집계를 쓰기 잠금과 함께 조회합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM PopupStoreRatingSummary s " +
+           "WHERE s.popupStoreId BETWEEN :fromId AND :toId ORDER BY s.popupStoreId")
+    List<PopupStoreRatingSummary> findBetweenForUpdate(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    /**
+     * 평점 집계가 있는 가장 큰 팝업스토어 ID를 조회합니다.
+     */
+    @Query("SELECT COALESCE(MAX(s.popupStoreId), 0) FROM PopupStoreRatingSummary s")
+    Long findMaxPopupStoreId();
+}
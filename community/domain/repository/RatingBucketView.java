@@ -0,0 +1,13 @@
+package com.sgyj.popupmoah.domain.community.repository;
+
+/**
+ * 팝업스토어/별점별 리뷰 수 집계 프로젝션
+ */
+public interface RatingBucketView {
+
+    Long getPopupStoreId();
+
+    Integer getRating();
+
+    Long getReviewCount();
+}
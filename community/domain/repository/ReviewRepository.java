@@ -2,6 +2,8 @@ package com.sgyj.popupmoah.domain.community.repository;
 
 import com.sgyj.popupmoah.domain.community.entity.Review;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -10,4 +12,26 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     List<Review> findByPopupStoreId(Long popupStoreId);
     
     List<Review> findByMemberId(Long memberId);
-} 
\ No newline at end of file
+
+    boolean existsByPopupStoreIdAndMemberId(Long popupStoreId, Long memberId);
+
+    /**
+     * 팝업스토어의 별점별 리뷰 수를 집계합니다.
+     */
+    @Query("SELECT r.popupStore.id AS popupStoreId, r.rating AS rating, COUNT(r) AS reviewCount " +
+           "FROM Review r WHERE r.popupStore.id = :popupStoreId GROUP BY r.popupStore.id, r.rating")
+    List<RatingBucketView> countByRating(@Param("popupStoreId") Long popupStoreId);
+
+    /**
+     * 팝업스토어 ID 구간의 팝업스토어/별점별 리뷰 수를 집계합니다.
+     */
+    @Query("SELECT r.popupStore.id AS popupStoreId, r.rating AS rating, COUNT(r) AS reviewCount " +
+           "FROM Review r WHERE r.popupStore.id BETWEEN :fromId AND :toId GROUP BY r.popupStore.id, r.rating")
+    List<RatingBucketView> countByRatingBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    /**
+     * 리뷰가 있는 가장 큰 팝업스토어 ID를 조회합니다.
+     */
+    @Query("SELECT COALESCE(MAX(r.popupStore.id), 0) FROM Review r")
+    Long findMaxPopupStoreId();
+}
@@ -5,14 +5,22 @@ import com.sgyj.popupmoah.domain.community.application.dto.CommentResponse;
 import com.sgyj.popupmoah.domain.community.application.dto.CommentUpdateRequest;
 import com.sgyj.popupmoah.domain.community.entity.Comment;
 import com.sgyj.popupmoah.domain.community.repository.CommentRepository;
+import com.sgyj.popupmoah.domain.community.repository.CommentThreadRow;
 import com.sgyj.popupmoah.domain.popupstore.entity.PopupStore;
 import com.sgyj.popupmoah.domain.popupstore.repository.PopupStoreRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
@@ -125,17 +133,29 @@ public class CommentService {
 
     /**
      * 팝업스토어별 댓글 목록 조회 (계층 구조)
+     * 최상위 댓글과 대댓글을 작성자 정보와 함께 쿼리 한 번으로 조회한 뒤 메모리에서 스레드로 묶습니다.
      */
     public List<CommentResponse> getCommentsByPopupStore(Long popupStoreId) {
         log.info("팝업스토어 댓글 목록 조회: popupStoreId={}", popupStoreId);
 
-        // 최상위 댓글만 조회 (부모가 없는 댓글)
-        List<Comment> topLevelComments = commentRepository.findByPopupStoreIdAndParentIsNull(popupStoreId);
-        
-        return topLevelComments.stream()
-                .filter(comment -> !comment.isDeleted())
-                .map(this::convertToResponseWithReplies)
-                .collect(Collectors.toList());
+        return assembleThreads(commentRepository.findThreadRowsByPopupStoreId(popupStoreId));
+    }
+
+    /**
+     * 팝업스토어별 댓글 목록 페이지 조회 (최상위 댓글 기준 페이지)
+     * 최상위 댓글 ID 페이지를 먼저 조회하고, 해당 스레드의 댓글을 쿼리 한 번으로 조회합니다.
+     */
+    public Page<CommentResponse> getCommentsByPopupStore(Long popupStoreId, Pageable pageable) {
+        log.info("팝업스토어 댓글 페이지 조회: popupStoreId={}, page={}, size={}",
+                popupStoreId, pageable.getPageNumber(), pageable.getPageSize());
+
+        Page<Long> rootIds = commentRepository.findThreadRootIds(popupStoreId, pageable);
+        if (rootIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, rootIds.getTotalElements());
+        }
+        List<CommentResponse> threads = assembleThreads(rootIds.getContent(),
+                commentRepository.findThreadRowsByRootIds(rootIds.getContent()));
+        return new PageImpl<>(threads, pageable, rootIds.getTotalElements());
     }
 
     /**
@@ -164,7 +184,8 @@ public class CommentService {
             throw new IllegalArgumentException("삭제된 댓글입니다.");
         }
         
-        return convertToResponseWithReplies(comment);
+        List<Long> rootIds = List.of(commentId);
+        return assembleThreads(rootIds, commentRepository.findThreadRowsByRootIds(rootIds)).get(0);
     }
 
     /**
@@ -183,22 +204,59 @@ public class CommentService {
     }
 
     /**
-     * Comment 엔티티를 CommentResponse로 변환 (대댓글 포함)
+     * 부모가 없는 댓글을 스레드의 시작으로 삼아 스레드 조회 결과를 조립합니다.
      */
-    private CommentResponse convertToResponseWithReplies(Comment comment) {
-        CommentResponse response = convertToResponse(comment);
-        
-        // 대댓글 조회
-        List<Comment> replies = commentRepository.findByParentId(comment.getId());
-        List<CommentResponse> replyResponses = replies.stream()
-                .filter(reply -> !reply.isDeleted())
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
-        
-        response.setReplies(replyResponses);
-        response.setReplyCount(replyResponses.size());
-        
-        return response;
+    private List<CommentResponse> assembleThreads(List<CommentThreadRow> rows) {
+        List<Long> rootIds = rows.stream()
+                .filter(row -> row.getParentId() == null)
+                .map(CommentThreadRow::getId)
+                .toList();
+        return assembleThreads(rootIds, rows);
+    }
+
+    /**
+     * 스레드 조회 결과를 rootIds 순서대로 대댓글을 붙인 응답으로 조립합니다.
+     * 부모가 조회 결과에 없는(삭제된 댓글의) 대댓글은 제외합니다.
+     */
+    private List<CommentResponse> assembleThreads(List<Long> rootIds, List<CommentThreadRow> rows) {
+        Map<Long, CommentResponse> threads = new LinkedHashMap<>();
+        rootIds.forEach(rootId -> threads.put(rootId, null));
+        for (CommentThreadRow row : rows) {
+            if (threads.containsKey(row.getId())) {
+                threads.put(row.getId(), toResponse(row));
+            }
+        }
+        threads.values().removeIf(Objects::isNull);
+        for (CommentThreadRow row : rows) {
+            if (row.getParentId() == null || threads.containsKey(row.getId())) {
+                continue;
+            }
+            CommentResponse parent = threads.get(row.getParentId());
+            if (parent != null) {
+                parent.getReplies().add(toResponse(row));
+                parent.setReplyCount(parent.getReplyCount() + 1);
+            }
+        }
+        return new ArrayList<>(threads.values());
+    }
+
+    /**
+     * 스레드 조회 결과 한 행을 CommentResponse로 변환
+     */
+    private CommentResponse toResponse(CommentThreadRow row) {
+        return CommentResponse.builder()
+                .commentId(row.getId())
+                .popupStoreId(row.getPopupStoreId())
+                .memberId(row.getMemberId())
+                .memberUsername(row.getMemberUsername())
+                .memberNickname(row.getMemberNickname())
+                .content(row.getContent())
+                .parentId(row.getParentId())
+                .createdAt(row.getCreatedAt())
+                .updatedAt(row.getUpdatedAt())
+                .replies(new ArrayList<>())
+                .replyCount(0)
+                .build();
     }
 
     /**
@@ -14,12 +14,18 @@ import com.sgyj.popupmoah.domain.community.application.dto.TokenRefreshResponse;
 import com.sgyj.popupmoah.domain.community.entity.Member;
 import com.sgyj.popupmoah.domain.community.entity.MemberRole;
 import com.sgyj.popupmoah.domain.community.repository.MemberRepository;
+import com.sgyj.popupmoah.domain.community.repository.MemberSummaryView;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 /**
  * 회원 관리 서비스
  */
@@ -29,6 +35,8 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class MemberService {
 
+    private static final int MAX_MEMBER_PAGE_SIZE = 100;
+
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
@@ -264,31 +272,60 @@ public class MemberService {
      * 회원 목록 조회 (관리자용)
      */
     public MemberListResponse getMemberList(int page, int size) {
-        log.info("회원 목록 조회 요청: page={}, size={}", page, size);
+        return getMemberList(page, size, null, null, null, null);
+    }
 
-        // 페이징 처리
-        int offset = page * size;
-        
-        // 전체 회원 수 조회
-        long totalCount = memberRepository.count();
-        
-        // 회원 목록 조회 (간단한 구현, 실제로는 페이징 쿼리 사용)
-        List<Member> members = memberRepository.findAll();
-        
-        // 페이징 적용
-        List<Member> pagedMembers = members.stream()
-                .skip(offset)
-                .limit(size)
-                .toList();
+    /**
+     * 회원 목록 조회 (관리자용)
+     * 목록에 필요한 컬럼만 DB에서 페이지 크기만큼 조회합니다.
+     * cursor(마지막으로 받은 회원 ID)가 주어지면 OFFSET 없이 그 다음 회원부터 조회하며,
+     * includeTotal을 지정하지 않으면 커서 조회에서는 전체 회원 수를 세지 않습니다.
+     */
+    public MemberListResponse getMemberList(int page, int size, MemberRole role, Boolean active,
+                                            Long cursor, Boolean includeTotal) {
+        log.info("회원 목록 조회 요청: page={}, size={}, role={}, active={}, cursor={}",
+                page, size, role, active, cursor);
+
+        if (page < 0) {
+            throw new IllegalArgumentException("페이지 번호는 0 이상이어야 합니다.");
+        }
+        if (size <= 0 || size > MAX_MEMBER_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1~" + MAX_MEMBER_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        boolean withTotal = includeTotal != null ? includeTotal : cursor == null;
+
+        List<MemberSummaryView> rows;
+        boolean hasNext;
+        Long totalCount = null;
+        if (cursor != null) {
+            // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+            rows = memberRepository.findSummariesBefore(role, active, cursor, PageRequest.of(0, size + 1));
+            hasNext = rows.size() > size;
+            if (hasNext) {
+                rows = rows.subList(0, size);
+            }
+            if (withTotal) {
+                totalCount = memberRepository.countSummaries(role, active);
+            }
+        } else if (withTotal) {
+            Page<MemberSummaryView> result = memberRepository.findSummaries(role, active, PageRequest.of(page, size));
+            rows = result.getContent();
+            hasNext = result.hasNext();
+            totalCount = result.getTotalElements();
+        } else {
+            Slice<MemberSummaryView> result = memberRepository.findSummarySlice(role, active, PageRequest.of(page, size));
+            rows = result.getContent();
+            hasNext = result.hasNext();
+        }
 
         // DTO 변환
-        List<MemberListResponse.MemberSummary> memberSummaries = pagedMembers.stream()
+        List<MemberListResponse.MemberSummary> memberSummaries = rows.stream()
                 .map(member -> MemberListResponse.MemberSummary.builder()
                         .memberId(member.getId())
                         .username(member.getUsername())
                         .email(member.getEmail())
                         .nickname(member.getNickname())
-                        .role(member.getRole().name())
+                        .role(member.getRole() != null ? member.getRole().name() : null)
                         .active(member.isActive())
                         .createdAt(member.getCreatedAt())
                         .updatedAt(member.getUpdatedAt())
@@ -298,8 +335,12 @@ public class MemberService {
         return MemberListResponse.builder()
                 .members(memberSummaries)
                 .totalCount(totalCount)
-                .pageNumber(page)
+                .pageNumber(cursor != null ? 0 : page)
                 .pageSize(size)
+                .hasNext(hasNext)
+                .nextCursor(hasNext && !memberSummaries.isEmpty()
+                        ? memberSummaries.get(memberSummaries.size() - 1).getMemberId()
+                        : null)
                 .build();
     }
 
@@ -1,18 +1,29 @@
 package com.sgyj.popupmoah.domain.community.service;
 
+import com.sgyj.popupmoah.domain.community.entity.PopupStoreRatingSummary;
+import com.sgyj.popupmoah.domain.community.repository.PopupStoreRatingSummaryRepository;
+import com.sgyj.popupmoah.domain.community.repository.RatingBucketView;
 import com.sgyj.popupmoah.domain.community.repository.ReviewRepository;
-import com.sgyj.popupmoah.domain.popupstore.entity.PopupStore;
 import com.sgyj.popupmoah.domain.popupstore.repository.PopupStoreRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 
 /**
  * 평점 계산 서비스
+ * 리뷰 변경 시 전체 리뷰를 다시 집계하지 않고, 같은 트랜잭션 안에서 팝업스토어별 평점 집계에 증감분만 반영합니다.
  */
 @Slf4j
 @Service
@@ -20,71 +31,93 @@ import java.math.RoundingMode;
 @Transactional(readOnly = true)
 public class RatingCalculationService {
 
+    private static final int STAR_BUCKETS = PopupStoreRatingSummary.MAX_RATING - PopupStoreRatingSummary.MIN_RATING + 1;
+
     private final ReviewRepository reviewRepository;
     private final PopupStoreRepository popupStoreRepository;
+    private final PopupStoreRatingSummaryRepository ratingSummaryRepository;
+    private final RatingSummaryInitializer ratingSummaryInitializer;
 
     /**
-     * 팝업스토어의 평점을 재계산하고 업데이트
+     * 팝업스토어의 평점 집계를 리뷰 전체로 다시 계산합니다.
      */
     @Transactional
     public void recalculateRating(Long popupStoreId) {
         log.info("평점 재계산 시작: popupStoreId={}", popupStoreId);
-
-        // 팝업스토어 존재 확인
-        PopupStore popupStore = popupStoreRepository.findById(popupStoreId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 팝업스토어입니다."));
-
-        // 평균 평점 계산
-        Double averageRating = reviewRepository.getAverageRatingByPopupStoreId(popupStoreId);
-        
-        // 리뷰 개수 조회
-        Long reviewCount = reviewRepository.getReviewCountByPopupStoreId(popupStoreId);
-
-        // 평점 업데이트
-        if (averageRating != null) {
-            // 소수점 둘째 자리까지 반올림
-            BigDecimal roundedRating = BigDecimal.valueOf(averageRating)
-                    .setScale(2, RoundingMode.HALF_UP);
-            
-            popupStore.updateAverageRating(roundedRating.doubleValue());
-            log.info("평균 평점 업데이트: popupStoreId={}, averageRating={}", popupStoreId, roundedRating);
-        } else {
-            popupStore.updateAverageRating(null);
-            log.info("평점 없음으로 설정: popupStoreId={}", popupStoreId);
-        }
-
-        // 리뷰 개수 업데이트
-        popupStore.updateReviewCount(reviewCount != null ? reviewCount : 0L);
-        log.info("리뷰 개수 업데이트: popupStoreId={}, reviewCount={}", popupStoreId, reviewCount);
-
-        log.info("평점 재계산 완료: popupStoreId={}", popupStoreId);
+        int repaired = reconcileRange(popupStoreId, popupStoreId);
+        log.info("평점 재계산 완료: popupStoreId={}, repaired={}", popupStoreId, repaired > 0);
     }
 
     /**
      * 리뷰 생성 후 평점 업데이트
      */
     @Transactional
-    public void updateRatingAfterReviewCreation(Long popupStoreId) {
-        log.info("리뷰 생성 후 평점 업데이트: popupStoreId={}", popupStoreId);
-        recalculateRating(popupStoreId);
+    public void updateRatingAfterReviewCreation(Long popupStoreId, Integer rating) {
+        log.info("리뷰 생성 후 평점 업데이트: popupStoreId={}, rating={}", popupStoreId, rating);
+        applyDelta(popupStoreId, null, rating);
     }
 
     /**
      * 리뷰 수정 후 평점 업데이트
      */
     @Transactional
-    public void updateRatingAfterReviewUpdate(Long popupStoreId) {
-        log.info("리뷰 수정 후 평점 업데이트: popupStoreId={}", popupStoreId);
-        recalculateRating(popupStoreId);
+    public void updateRatingAfterReviewUpdate(Long popupStoreId, Integer oldRating, Integer newRating) {
+        log.info("리뷰 수정 후 평점 업데이트: popupStoreId={}, oldRating={}, newRating={}",
+                popupStoreId, oldRating, newRating);
+        if (!Objects.equals(oldRating, newRating)) {
+            applyDelta(popupStoreId, oldRating, newRating);
+        }
     }
 
     /**
      * 리뷰 삭제 후 평점 업데이트
      */
     @Transactional
-    public void updateRatingAfterReviewDeletion(Long popupStoreId) {
-        log.info("리뷰 삭제 후 평점 업데이트: popupStoreId={}", popupStoreId);
-        recalculateRating(popupStoreId);
+    public void updateRatingAfterReviewDeletion(Long popupStoreId, Integer rating) {
+        log.info("리뷰 삭제 후 평점 업데이트: popupStoreId={}, rating={}", popupStoreId, rating);
+        applyDelta(popupStoreId, rating, null);
+    }
+
+    /**
+     * 팝업스토어 ID 구간 [fromId, toId]의 평점 집계를 실제 리뷰와 비교하여 어긋난 집계를 바로잡습니다.
+     * 집계 행을 쓰기 잠금한 뒤 리뷰를 세므로, 동시에 커밋되는 리뷰 변경의 증감분과 겹치지 않습니다.
+     * @return 수정하거나 새로 만든 집계 행 수
+     */
+    @Transactional
+    public int reconcileRange(Long fromId, Long toId) {
+        Map<Long, PopupStoreRatingSummary> summaries = new HashMap<>();
+        ratingSummaryRepository.findBetweenForUpdate(fromId, toId)
+                .forEach(summary -> summaries.put(summary.getPopupStoreId(), summary));
+
+        Map<Long, long[]> actual = new HashMap<>();
+        for (RatingBucketView bucket : reviewRepository.countByRatingBetween(fromId, toId)) {
+            addToStarCounts(actual.computeIfAbsent(bucket.getPopupStoreId(), id -> new long[STAR_BUCKETS]), bucket);
+        }
+
+        int repaired = 0;
+        for (PopupStoreRatingSummary summary : summaries.values()) {
+            long[] starCounts = actual.getOrDefault(summary.getPopupStoreId(), new long[STAR_BUCKETS]);
+            if (!Arrays.equals(summary.starCounts(), starCounts)) {
+                log.warn("평점 집계 불일치 수정: popupStoreId={}, stored={}, actual={}",
+                        summary.getPopupStoreId(), Arrays.toString(summary.starCounts()), Arrays.toString(starCounts));
+                summary.reset(starCounts);
+                repaired++;
+            }
+        }
+        for (Map.Entry<Long, long[]> entry : actual.entrySet()) {
+            if (!summaries.containsKey(entry.getKey())) {
+                ratingSummaryRepository.save(PopupStoreRatingSummary.of(entry.getKey(), entry.getValue()));
+                repaired++;
+            }
+        }
+        return repaired;
+    }
+
+    /**
+     * 평점 집계 대상 중 가장 큰 팝업스토어 ID를 조회합니다.
+     */
+    public long getMaxRatedPopupStoreId() {
+        return Math.max(reviewRepository.findMaxPopupStoreId(), ratingSummaryRepository.findMaxPopupStoreId());
     }
 
     /**
@@ -93,17 +126,87 @@ public class RatingCalculationService {
     public RatingInfo getRatingInfo(Long popupStoreId) {
         log.info("평점 정보 조회: popupStoreId={}", popupStoreId);
 
-        PopupStore popupStore = popupStoreRepository.findById(popupStoreId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 팝업스토어입니다."));
+        Optional<PopupStoreRatingSummary> summary = ratingSummaryRepository.findById(popupStoreId);
+        if (summary.isEmpty() && !popupStoreRepository.existsById(popupStoreId)) {
+            throw new IllegalArgumentException("존재하지 않는 팝업스토어입니다.");
+        }
 
+        Double averageRating = summary.map(PopupStoreRatingSummary::averageRating)
+                .map(average -> BigDecimal.valueOf(average).setScale(2, RoundingMode.HALF_UP).doubleValue())
+                .orElse(null);
         return RatingInfo.builder()
                 .popupStoreId(popupStoreId)
-                .averageRating(popupStore.getAverageRating())
-                .reviewCount(popupStore.getReviewCount())
-                .hasRating(popupStore.hasRating())
+                .averageRating(averageRating)
+                .reviewCount(summary.map(PopupStoreRatingSummary::getReviewCount).orElse(0L))
+                .hasRating(averageRating != null)
+                .histogram(summary.map(PopupStoreRatingSummary::histogram)
+                        .orElseGet(() -> PopupStoreRatingSummary.of(popupStoreId, new long[STAR_BUCKETS]).histogram()))
                 .build();
     }
 
+    /**
+     * 별점별 리뷰 수 집계 결과를 배열로 변환합니다. (index 0 = 1점)
+     */
+    static long[] toStarCounts(List<RatingBucketView> buckets) {
+        long[] starCounts = new long[STAR_BUCKETS];
+        buckets.forEach(bucket -> addToStarCounts(starCounts, bucket));
+        return starCounts;
+    }
+
+    private static void addToStarCounts(long[] starCounts, RatingBucketView bucket) {
+        Integer rating = bucket.getRating();
+        if (rating != null && rating >= PopupStoreRatingSummary.MIN_RATING && rating <= PopupStoreRatingSummary.MAX_RATING) {
+            starCounts[rating - PopupStoreRatingSummary.MIN_RATING] += bucket.getReviewCount();
+        }
+    }
+
+    /**
+     * 이전 평점을 빼고 새 평점을 더하는 증감분을 집계에 반영합니다. (null은 해당 없음)
+     */
+    private void applyDelta(Long popupStoreId, Integer removedRating, Integer addedRating) {
+        long[] starDeltas = new long[STAR_BUCKETS];
+        long countDelta = 0;
+        long sumDelta = 0;
+        if (removedRating != null) {
+            validateRating(removedRating);
+            starDeltas[removedRating - PopupStoreRatingSummary.MIN_RATING]--;
+            countDelta--;
+            sumDelta -= removedRating;
+        }
+        if (addedRating != null) {
+            validateRating(addedRating);
+            starDeltas[addedRating - PopupStoreRatingSummary.MIN_RATING]++;
+            countDelta++;
+            sumDelta += addedRating;
+        }
+
+        if (update(popupStoreId, countDelta, sumDelta, starDeltas) == 0) {
+            createSummary(popupStoreId);
+            update(popupStoreId, countDelta, sumDelta, starDeltas);
+        }
+    }
+
+    private int update(Long popupStoreId, long countDelta, long sumDelta, long[] starDeltas) {
+        return ratingSummaryRepository.applyDelta(popupStoreId, countDelta, sumDelta,
+                starDeltas[0], starDeltas[1], starDeltas[2], starDeltas[3], starDeltas[4], LocalDateTime.now());
+    }
+
+    private void createSummary(Long popupStoreId) {
+        try {
+            // 이 트랜잭션의 리뷰 변경은 아직 커밋 전이라 집계 행에 포함되지 않으므로 증감분을 이어서 반영함
+            ratingSummaryInitializer.create(popupStoreId);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 트랜잭션이 같은 집계 행을 먼저 만든 경우
+            log.debug("평점 집계 행이 이미 존재합니다: popupStoreId={}", popupStoreId);
+        }
+    }
+
+    private void validateRating(Integer rating) {
+        if (rating < PopupStoreRatingSummary.MIN_RATING || rating > PopupStoreRatingSummary.MAX_RATING) {
+            throw new IllegalArgumentException("평점은 1~5 사이여야 합니다.");
+        }
+    }
+
     /**
      * 평점 정보 DTO
      */
@@ -112,15 +215,22 @@ public class RatingCalculationService {
         private Double averageRating;
         private Long reviewCount;
         private boolean hasRating;
+        private Map<Integer, Long> histogram;
 
         // Builder, Getter, Setter 생략 (Lombok 사용)
         public RatingInfo() {}
 
         public RatingInfo(Long popupStoreId, Double averageRating, Long reviewCount, boolean hasRating) {
+            this(popupStoreId, averageRating, reviewCount, hasRating, Map.of());
+        }
+
+        public RatingInfo(Long popupStoreId, Double averageRating, Long reviewCount, boolean hasRating,
+                          Map<Integer, Long> histogram) {
             this.popupStoreId = popupStoreId;
             this.averageRating = averageRating;
             this.reviewCount = reviewCount;
             this.hasRating = hasRating;
+            this.histogram = histogram;
         }
 
         public static RatingInfoBuilder builder() {
@@ -132,6 +242,7 @@ public class RatingCalculationService {
             private Double averageRating;
             private Long reviewCount;
             private boolean hasRating;
+            private Map<Integer, Long> histogram = Map.of();
 
             RatingInfoBuilder() {}
 
@@ -155,8 +266,13 @@ public class RatingCalculationService {
                 return this;
             }
 
+            public RatingInfoBuilder histogram(Map<Integer, Long> histogram) {
+                this.histogram = histogram;
+                return this;
+            }
+
             public RatingInfo build() {
-                return new RatingInfo(popupStoreId, averageRating, reviewCount, hasRating);
+                return new RatingInfo(popupStoreId, averageRating, reviewCount, hasRating, histogram);
             }
         }
 
@@ -172,6 +288,9 @@ public class RatingCalculationService {
         
         public boolean isHasRating() { return hasRating; }
         public void setHasRating(boolean hasRating) { this.hasRating = hasRating; }
+        
+        public Map<Integer, Long> getHistogram() { return histogram; }
+        public void setHistogram(Map<Integer, Long> histogram) { this.histogram = histogram; }
     }
 }
 
@@ -0,0 +1,28 @@
+package com.sgyj.popupmoah.domain.community.service;
+
+import com.sgyj.popupmoah.domain.community.entity.PopupStoreRatingSummary;
+import com.sgyj.popupmoah.domain.community.repository.PopupStoreRatingSummaryRepository;
+import com.sgyj.popupmoah.domain.community.repository.ReviewRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 평점 집계 행 생성
+ * 팝업스토어에 첫 리뷰 변경이 생길 때 이미 커밋된 리뷰를 반영한 집계 행을 별도 트랜잭션으로 만들어,
+ * 동시에 생성하다 충돌해도 호출한 트랜잭션에는 영향을 주지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RatingSummaryInitializer {
+
+    private final PopupStoreRatingSummaryRepository ratingSummaryRepository;
+    private final ReviewRepository reviewRepository;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public PopupStoreRatingSummary create(Long popupStoreId) {
+        long[] starCounts = RatingCalculationService.toStarCounts(reviewRepository.countByRating(popupStoreId));
+        return ratingSummaryRepository.saveAndFlush(PopupStoreRatingSummary.of(popupStoreId, starCounts));
+    }
+}
@@ -58,8 +58,8 @@ public class ReviewService {
 
         Review savedReview = reviewRepository.save(review);
 
-        // 평점 재계산
-        ratingCalculationService.updateRatingAfterReviewCreation(request.getPopupStoreId());
+        // 평점 집계 반영
+        ratingCalculationService.updateRatingAfterReviewCreation(request.getPopupStoreId(), request.getRating());
 
         log.info("리뷰 생성 완료: reviewId={}, memberId={}, popupStoreId={}", 
                 savedReview.getId(), memberId, request.getPopupStoreId());
@@ -82,10 +82,12 @@ public class ReviewService {
         }
 
         // 리뷰 수정
+        Integer previousRating = review.getRating();
         review.updateReview(request.getContent(), request.getRating());
 
-        // 평점 재계산
-        ratingCalculationService.updateRatingAfterReviewUpdate(review.getPopupStore().getId());
+        // 평점 집계 반영
+        ratingCalculationService.updateRatingAfterReviewUpdate(
+                review.getPopupStore().getId(), previousRating, review.getRating());
 
         log.info("리뷰 수정 완료: reviewId={}, memberId={}", reviewId, memberId);
 
@@ -107,10 +109,11 @@ public class ReviewService {
         }
 
         Long popupStoreId = review.getPopupStore().getId();
+        Integer rating = review.getRating();
         reviewRepository.delete(review);
 
-        // 평점 재계산
-        ratingCalculationService.updateRatingAfterReviewDeletion(popupStoreId);
+        // 평점 집계 반영
+        ratingCalculationService.updateRatingAfterReviewDeletion(popupStoreId, rating);
 
         log.info("리뷰 삭제 완료: reviewId={}, memberId={}", reviewId, memberId);
     }
@@ -155,14 +158,21 @@ public class ReviewService {
      * 팝업스토어 평균 평점 조회
      */
     public Double getAverageRating(Long popupStoreId) {
-        return reviewRepository.getAverageRatingByPopupStoreId(popupStoreId);
+        return ratingCalculationService.getRatingInfo(popupStoreId).getAverageRating();
     }
 
     /**
      * 팝업스토어 리뷰 개수 조회
      */
     public Long getReviewCount(Long popupStoreId) {
-        return reviewRepository.getReviewCountByPopupStoreId(popupStoreId);
+        return ratingCalculationService.getRatingInfo(popupStoreId).getReviewCount();
+    }
+
+    /**
+     * 팝업스토어 평점 정보 조회 (평균, 리뷰 수, 별점별 분포)
+     */
+    public RatingCalculationService.RatingInfo getRatingInfo(Long popupStoreId) {
+        return ratingCalculationService.getRatingInfo(popupStoreId);
     }
 
     /**
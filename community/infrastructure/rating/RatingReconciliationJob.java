@@ -0,0 +1,49 @@
+package com.sgyj.popupmoah.domain.community.infrastructure.rating;
+
+import com.sgyj.popupmoah.domain.community.service.RatingCalculationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 평점 집계 정합성 보정 작업
+ * 증감분으로 유지되는 평점 집계가 실제 리뷰와 어긋났는지 팝업스토어 ID 구간 단위로 주기적으로 확인하고 바로잡습니다.
+ * 구간마다 별도 트랜잭션으로 처리하므로 한 구간이 실패해도 나머지 구간은 계속 보정합니다.
+ */
+@Slf4j
+@Component
+public class RatingReconciliationJob {
+
+    private final RatingCalculationService ratingCalculationService;
+    private final int rangeSize;
+
+    public RatingReconciliationJob(RatingCalculationService ratingCalculationService,
+                                   @Value("${community.rating.reconcile-range-size:1000}") int rangeSize) {
+        if (rangeSize <= 0) {
+            throw new IllegalArgumentException("보정 구간 크기는 1 이상이어야 합니다: " + rangeSize);
+        }
+        this.ratingCalculationService = ratingCalculationService;
+        this.rangeSize = rangeSize;
+    }
+
+    @Scheduled(fixedDelayString = "${community.rating.reconcile-interval-ms:3600000}",
+               initialDelayString = "${community.rating.reconcile-initial-delay-ms:60000}")
+    public void reconcile() {
+        long maxId = ratingCalculationService.getMaxRatedPopupStoreId();
+        int repaired = 0;
+        int failedRanges = 0;
+        for (long fromId = 1; fromId <= maxId; fromId += rangeSize) {
+            long toId = Math.min(fromId + rangeSize - 1, maxId);
+            try {
+                repaired += ratingCalculationService.reconcileRange(fromId, toId);
+            } catch (RuntimeException e) {
+                failedRanges++;
+                log.warn("평점 집계 보정 실패, 다음 주기에 다시 시도합니다: popupStoreId {}~{}", fromId, toId, e);
+            }
+        }
+        if (repaired > 0 || failedRanges > 0) {
+            log.info("평점 집계 보정 완료: repaired={}, failedRanges={}", repaired, failedRanges);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.sgyj.popupmoah.domain.community.infrastructure.web;
 
 import com.sgyj.popupmoah.domain.community.application.dto.MemberListResponse;
 import com.sgyj.popupmoah.domain.community.application.dto.MemberRoleUpdateRequest;
+import com.sgyj.popupmoah.domain.community.entity.MemberRole;
 import com.sgyj.popupmoah.domain.community.service.MemberService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -30,11 +31,16 @@ public class AdminController {
     @GetMapping
     public ResponseEntity<MemberListResponse> getMemberList(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        log.info("회원 목록 조회 API 호출: page={}, size={}", page, size);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) MemberRole role,
+            @RequestParam(required = false) Boolean active,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Boolean includeTotal) {
+        log.info("회원 목록 조회 API 호출: page={}, size={}, role={}, active={}, cursor={}",
+                page, size, role, active, cursor);
         
         try {
-            MemberListResponse response = memberService.getMemberList(page, size);
+            MemberListResponse response = memberService.getMemberList(page, size, role, active, cursor, includeTotal);
             return ResponseEntity.ok(response);
         } catch (Exception e) {
             log.error("회원 목록 조회 실패: {}", e.getMessage());
@@ -7,6 +7,8 @@ import com.sgyj.popupmoah.domain.community.service.CommentService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -98,6 +100,25 @@ public class CommentController {
         }
     }
 
+    /**
+     * 팝업스토어별 댓글 스레드 페이지 조회 (최상위 댓글 기준)
+     */
+    @GetMapping("/popupstore/{popupStoreId}/threads")
+    public ResponseEntity<Page<CommentResponse>> getCommentThreadsByPopupStore(
+            @PathVariable Long popupStoreId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        log.info("팝업스토어 댓글 스레드 조회 API 호출: popupStoreId={}, page={}, size={}", popupStoreId, page, size);
+
+        try {
+            Page<CommentResponse> threads = commentService.getCommentsByPopupStore(popupStoreId, PageRequest.of(page, size));
+            return ResponseEntity.ok(threads);
+        } catch (Exception e) {
+            log.error("팝업스토어 댓글 스레드 조회 실패: {}", e.getMessage());
+            throw e;
+        }
+    }
+
     /**
      * 회원별 댓글 목록 조회
      */
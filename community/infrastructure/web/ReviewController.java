@@ -3,6 +3,7 @@ package com.sgyj.popupmoah.domain.community.infrastructure.web;
 import com.sgyj.popupmoah.domain.community.application.dto.ReviewCreateRequest;
 import com.sgyj.popupmoah.domain.community.application.dto.ReviewResponse;
 import com.sgyj.popupmoah.domain.community.application.dto.ReviewUpdateRequest;
+import com.sgyj.popupmoah.domain.community.service.RatingCalculationService;
 import com.sgyj.popupmoah.domain.community.service.ReviewService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -155,15 +156,9 @@ public class ReviewController {
         log.info("팝업스토어 평점 정보 조회 API 호출: popupStoreId={}", popupStoreId);
 
         try {
-            Double averageRating = reviewService.getAverageRating(popupStoreId);
-            Long reviewCount = reviewService.getReviewCount(popupStoreId);
+            RatingCalculationService.RatingInfo ratingInfo = reviewService.getRatingInfo(popupStoreId);
             
-            return ResponseEntity.ok(Map.of(
-                "popupStoreId", popupStoreId,
-                "averageRating", averageRating,
-                "reviewCount", reviewCount,
-                "hasRating", averageRating != null && averageRating > 0
-            ));
+            return ResponseEntity.ok(ratingInfo);
         } catch (Exception e) {
             log.error("팝업스토어 평점 정보 조회 실패: {}", e.getMessage());
             throw e;
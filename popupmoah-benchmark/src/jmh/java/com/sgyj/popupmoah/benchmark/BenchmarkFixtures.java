@@ -0,0 +1,149 @@
+package com.sgyj.popupmoah.benchmark;
+
+import com.sgyj.popupmoah.popupstore.adapters.jpa.PopupStoreJpaEntity;
+import com.sgyj.popupmoah.popupstore.domain.entity.PopupStore;
+import com.sgyj.popupmoah.reservation.adapters.jpa.ReservationJpaEntity;
+import com.sgyj.popupmoah.reservation.domain.entity.Reservation;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * 벤치마크 공통 데이터
+ * 운영 데이터와 비슷한 길이의 문자열과 값 분포로 팝업스토어/예약을 만듭니다. 같은 seed면 같은 데이터가 나옵니다.
+ */
+final class BenchmarkFixtures {
+
+    private static final String[] CATEGORIES = {"패션", "뷰티", "캐릭터", "식음료", "전시"};
+    private static final String[] LOCATIONS = {"서울 성동구 성수동", "서울 마포구 연남동", "서울 용산구 한남동", "서울 강남구 압구정동"};
+    private static final String[] STATUSES = {"PENDING", "CONFIRMED", "CANCELLED", "COMPLETED"};
+    private static final String DESCRIPTION = "한정 굿즈와 포토존을 운영하는 팝업스토어입니다. 사전 예약자는 입장 대기 없이 이용할 수 있습니다.";
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 3, 1, 10, 0);
+
+    private BenchmarkFixtures() {
+    }
+
+    static List<PopupStore> popupStores(int count, Random random) {
+        List<PopupStore> popupStores = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDateTime startDate = BASE.plusDays(random.nextInt(60));
+            popupStores.add(PopupStore.builder()
+                    .id((long) i + 1)
+                    .name("팝업스토어 " + (i + 1))
+                    .description(DESCRIPTION)
+                    .imageUrl("https://cdn.popupmoah.com/images/popupstore/" + (i + 1) + ".jpg")
+                    .sourceUrl("https://www.instagram.com/p/" + Long.toHexString(random.nextLong()))
+                    .category(CATEGORIES[random.nextInt(CATEGORIES.length)])
+                    .startDate(startDate)
+                    .endDate(startDate.plusDays(14))
+                    .location(LOCATIONS[random.nextInt(LOCATIONS.length)])
+                    .active(true)
+                    .viewCount((long) random.nextInt(100_000))
+                    .likeCount((long) random.nextInt(5_000))
+                    .build());
+        }
+        return popupStores;
+    }
+
+    static List<PopupStoreJpaEntity> popupStoreEntities(int count, Random random) {
+        List<PopupStoreJpaEntity> entities = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDateTime startDate = BASE.plusDays(random.nextInt(60));
+            entities.add(PopupStoreJpaEntity.builder()
+                    .id((long) i + 1)
+                    .name("팝업스토어 " + (i + 1))
+                    .description(DESCRIPTION)
+                    .imageUrl("https://cdn.popupmoah.com/images/popupstore/" + (i + 1) + ".jpg")
+                    .sourceUrl("https://www.instagram.com/p/" + Long.toHexString(random.nextLong()))
+                    .category(CATEGORIES[random.nextInt(CATEGORIES.length)])
+                    .startDate(startDate)
+                    .endDate(startDate.plusDays(14))
+                    .location(LOCATIONS[random.nextInt(LOCATIONS.length)])
+                    .latitude(37.5 + random.nextDouble() * 0.1)
+                    .longitude(127.0 + random.nextDouble() * 0.1)
+                    .active(true)
+                    .status("ACTIVE")
+                    .viewCount((long) random.nextInt(100_000))
+                    .likeCount((long) random.nextInt(5_000))
+                    .createdAt(startDate.minusDays(7))
+                    .updatedAt(startDate.minusDays(1))
+                    .build());
+        }
+        return entities;
+    }
+
+    static List<Reservation> reservations(int count, Random random) {
+        List<Reservation> reservations = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            reservations.add(Reservation.builder()
+                    .id((long) i + 1)
+                    .memberId((long) random.nextInt(10_000))
+                    .popupStoreId((long) random.nextInt(500))
+                    .memberName("회원" + i)
+                    .memberEmail("member" + i + "@example.com")
+                    .memberPhone(phone(random))
+                    .reservationDateTime(BASE.plusHours(random.nextInt(24 * 30)))
+                    .numberOfPeople(1 + random.nextInt(4))
+                    .status(STATUSES[random.nextInt(STATUSES.length)])
+                    .specialRequests(random.nextBoolean() ? "유모차 동반" : null)
+                    .build());
+        }
+        return reservations;
+    }
+
+    static List<ReservationJpaEntity> reservationEntities(int count, Random random) {
+        List<ReservationJpaEntity> entities = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDateTime reservationDateTime = BASE.plusHours(random.nextInt(24 * 30));
+            entities.add(ReservationJpaEntity.builder()
+                    .id((long) i + 1)
+                    .memberId((long) random.nextInt(10_000))
+                    .popupStoreId((long) random.nextInt(500))
+                    .memberName("회원" + i)
+                    .memberEmail("member" + i + "@example.com")
+                    .memberPhone(phone(random))
+                    .reservationDateTime(reservationDateTime)
+                    .numberOfPeople(1 + random.nextInt(4))
+                    .status(STATUSES[random.nextInt(STATUSES.length)])
+                    .specialRequests(random.nextBoolean() ? "유모차 동반" : null)
+                    .createdAt(reservationDateTime.minusDays(3))
+                    .updatedAt(reservationDateTime.minusDays(1))
+                    .build());
+        }
+        return entities;
+    }
+
+    /**
+     * Spring Data 리포지토리 인터페이스의 고정 응답 구현
+     * 메서드 이름으로 응답을 고르며, 지정하지 않은 메서드는 호출되면 실패합니다.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Object[] arguments = args == null ? new Object[0] : args;
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == arguments[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return type.getSimpleName() + "Stub";
+                default:
+                    Function<Object[], Object> answer = answers.get(method.getName());
+                    if (answer == null) {
+                        throw new UnsupportedOperationException("벤치마크에서 지원하지 않는 호출입니다: " + method.getName());
+                    }
+                    return answer.apply(arguments);
+            }
+        });
+    }
+
+    private static String phone(Random random) {
+        return "010-" + (1000 + random.nextInt(9000)) + "-" + (1000 + random.nextInt(9000));
+    }
+}
@@ -0,0 +1,91 @@
+package com.sgyj.popupmoah.benchmark;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sgyj.popupmoah.infrastructure.cache.CompactRedisSerializer;
+import com.sgyj.popupmoah.popupstore.domain.entity.PopupStore;
+import com.sgyj.popupmoah.reservation.domain.entity.Reservation;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 캐시 값 직렬화 벤치마크
+ * 'all'/'active' 키에 저장되는 PopupStore 목록과 회원/팝업스토어별 Reservation 목록을
+ * 기존 JSON(GenericJackson2JsonRedisSerializer)과 압축 바이너리(CompactRedisSerializer)로 비교합니다.
+ * 직렬화 크기는 @Setup에서 한 번 로그로 남깁니다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class CacheSerializationBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheSerializationBenchmark.class);
+
+    @Param({"popupStores", "reservations"})
+    private String payload;
+
+    @Param({"20", "500"})
+    private int count;
+
+    private final RedisSerializer<Object> jsonSerializer = jsonSerializer();
+
+    private final RedisSerializer<Object> compactSerializer = CompactRedisSerializer.builder()
+            .register(3, PopupStore.class)
+            .register(5, Reservation.class)
+            .build();
+
+    private List<?> value;
+    private byte[] jsonBytes;
+    private byte[] compactBytes;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        value = "popupStores".equals(payload)
+                ? BenchmarkFixtures.popupStores(count, random)
+                : BenchmarkFixtures.reservations(count, random);
+        jsonBytes = jsonSerializer.serialize(value);
+        compactBytes = compactSerializer.serialize(value);
+        log.info("[{} x {}] json={} bytes, compact={} bytes ({}%)",
+                payload, count, jsonBytes.length, compactBytes.length,
+                String.format("%.1f", compactBytes.length * 100.0 / jsonBytes.length));
+    }
+
+    @Benchmark
+    public byte[] serializeJson() {
+        return jsonSerializer.serialize(value);
+    }
+
+    @Benchmark
+    public byte[] serializeCompact() {
+        return compactSerializer.serialize(value);
+    }
+
+    @Benchmark
+    public Object deserializeJson() {
+        return jsonSerializer.deserialize(jsonBytes);
+    }
+
+    @Benchmark
+    public Object deserializeCompact() {
+        return compactSerializer.deserialize(compactBytes);
+    }
+
+    /**
+     * 운영과 같은 기본 설정에, isCurrentlyActive() 같은 파생 게터 값을 읽을 때 실패하지 않도록만 완화
+     */
+    private static RedisSerializer<Object> jsonSerializer() {
+        GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer();
+        serializer.configure(mapper -> mapper
+                .registerModule(new JavaTimeModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+        return serializer;
+    }
+}
@@ -0,0 +1,30 @@
+package com.sgyj.popupmoah.benchmark;
+
+import com.sgyj.popupmoah.infra.generator.HibernateIdGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ID 생성 벤치마크
+ * 엔티티 저장마다 호출되는 HibernateIdGenerator(GeneralIdGenerator)의 처리량을 측정합니다.
+ * 모든 스레드가 하나의 SecureRandom을 공유하므로 단일 스레드와 동시 호출 결과를 함께 비교합니다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class IdGeneratorBenchmark {
+
+    private final HibernateIdGenerator idGenerator = new HibernateIdGenerator();
+
+    @Benchmark
+    public Object generate() {
+        return idGenerator.generate(null, null);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Object generateConcurrently() {
+        return idGenerator.generate(null, null);
+    }
+}
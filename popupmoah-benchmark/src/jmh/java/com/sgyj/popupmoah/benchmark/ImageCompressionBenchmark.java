@@ -0,0 +1,94 @@
+package com.sgyj.popupmoah.benchmark;
+
+import com.sgyj.popupmoah.domain.file.service.ImageOptimizationService;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 크기 제한 압축 벤치마크
+ * 품질을 0.1씩 낮추며 매번 다시 디코딩/인코딩하던 방식과, 한 번 디코딩 후 품질을 이진 탐색하는 방식을 비교합니다.
+ * 이미지 한 장당 인코딩 시도 횟수는 encodeAttempts / images 로 확인합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ImageCompressionBenchmark {
+
+    /**
+     * 원본 JPEG(약 1MB) 대비 목표 크기
+     */
+    @Param({"400000", "150000", "60000"})
+    private long maxSizeBytes;
+
+    private final ImageOptimizationService imageOptimizationService = new ImageOptimizationService();
+
+    private byte[] imageData;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Attempts {
+        public long encodeAttempts;
+        public long images;
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        int width = 2000;
+        int height = 1500;
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(42);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.setRGB(x, y, (x * 255 / width) << 16 | (y * 255 / height) << 8 | random.nextInt(64));
+            }
+        }
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        imageOptimizationService.writeJpeg(image, 0.95f, outputStream);
+        imageData = outputStream.toByteArray();
+    }
+
+    /**
+     * 품질을 0.9부터 0.1씩 낮추며 매번 원본을 다시 디코딩하는 기존 방식
+     */
+    @Benchmark
+    public byte[] linearQualitySteps(Attempts attempts) throws IOException {
+        byte[] compressedData = imageData;
+        float quality = 0.9f;
+        while (compressedData.length > maxSizeBytes && quality > 0.1f) {
+            compressedData = imageOptimizationService.optimizeImage(imageData, quality);
+            attempts.encodeAttempts++;
+            quality -= 0.1f;
+        }
+        attempts.images++;
+        return compressedData;
+    }
+
+    /**
+     * 한 번 디코딩 후 ImageWriter를 재사용하며 품질을 이진 탐색하는 방식
+     */
+    @Benchmark
+    public byte[] binarySearchQuality(Attempts attempts) throws IOException {
+        ImageOptimizationService.CompressionResult result = imageOptimizationService.compressToSize(
+                imageOptimizationService.decode(imageData), maxSizeBytes, false);
+        attempts.encodeAttempts += result.attempts();
+        attempts.images++;
+        return result.data();
+    }
+
+    /**
+     * 품질만으로 부족할 때 해상도까지 줄이는 방식
+     */
+    @Benchmark
+    public byte[] binarySearchWithDownscale(Attempts attempts) throws IOException {
+        ImageOptimizationService.CompressionResult result = imageOptimizationService.compressToSize(
+                imageOptimizationService.decode(imageData), maxSizeBytes, true);
+        attempts.encodeAttempts += result.attempts();
+        attempts.images++;
+        return result.data();
+    }
+}
@@ -0,0 +1,89 @@
+package com.sgyj.popupmoah.benchmark;
+
+import com.sgyj.popupmoah.domain.file.service.ImageOptimizationService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드 이미지 처리 벤치마크
+ * 파생 이미지마다 원본을 다시 디코딩하던 방식과 한 번 디코딩한 이미지를 재사용하는 방식을 비교합니다.
+ * 할당량 비교는 gc 프로파일러의 gc.alloc.rate.norm 값을 확인합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ImagePipelineBenchmark {
+
+    @Param({"1600x1200", "4000x3000"})
+    private String resolution;
+
+    private final ImageOptimizationService imageOptimizationService = new ImageOptimizationService();
+
+    private byte[] imageData;
+
+    @Setup
+    public void setUp() throws IOException {
+        String[] size = resolution.split("x");
+        imageData = sampleJpeg(Integer.parseInt(size[0]), Integer.parseInt(size[1]));
+    }
+
+    /**
+     * 크기 조회, 썸네일, 최적화 이미지마다 원본을 디코딩하는 기존 방식
+     */
+    @Benchmark
+    public void decodePerRendition(Blackhole blackhole) throws IOException {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(imageData));
+        blackhole.consume(new int[]{image.getWidth(), image.getHeight()});
+        blackhole.consume(imageOptimizationService.generateThumbnail(imageData, 300, 300));
+        blackhole.consume(imageOptimizationService.optimizeImage(imageData, 0.8f));
+    }
+
+    /**
+     * 한 번 디코딩한 이미지를 모든 파생 이미지에 재사용하는 방식
+     */
+    @Benchmark
+    public void decodeOnce(Blackhole blackhole) throws IOException {
+        BufferedImage image = imageOptimizationService.decode(new ByteArrayInputStream(imageData));
+        blackhole.consume(new int[]{image.getWidth(), image.getHeight()});
+
+        ByteArrayOutputStream thumbnail = new ByteArrayOutputStream(64 * 1024);
+        imageOptimizationService.writeThumbnail(image, 300, 300, thumbnail);
+        blackhole.consume(thumbnail.size());
+
+        ByteArrayOutputStream optimized = new ByteArrayOutputStream(64 * 1024);
+        imageOptimizationService.writeJpeg(image, 0.8f, optimized);
+        blackhole.consume(optimized.size());
+    }
+
+    /**
+     * 픽셀 디코딩 없이 헤더만 읽어 크기를 조회
+     */
+    @Benchmark
+    public int[] readDimensionsFromHeader() throws IOException {
+        return imageOptimizationService.getImageDimensions(imageData);
+    }
+
+    private static byte[] sampleJpeg(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setPaint(new GradientPaint(0, 0, Color.ORANGE, width, height, Color.BLUE));
+        graphics.fillRect(0, 0, width, height);
+        graphics.setColor(Color.WHITE);
+        for (int i = 0; i < 200; i++) {
+            graphics.drawOval((i * 37) % width, (i * 53) % height, 40 + i % 120, 40 + i % 90);
+        }
+        graphics.dispose();
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "JPEG", outputStream);
+        return outputStream.toByteArray();
+    }
+}
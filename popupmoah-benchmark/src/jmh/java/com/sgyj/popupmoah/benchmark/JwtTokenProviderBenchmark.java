@@ -0,0 +1,63 @@
+package com.sgyj.popupmoah.benchmark;
+
+import com.sgyj.popupmoah.infra.config.JwtProperties;
+import com.sgyj.popupmoah.infra.security.JwtTokenProvider;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 처리 벤치마크
+ * 요청마다 실행되는 JwtAuthenticationFilter 경로(검증 후 사용자명/권한 추출)와 개별 파싱, 발급 비용을 측정합니다.
+ * 필터 경로는 토큰을 세 번 파싱하므로 개별 파싱 결과와 비교해 중복 비용을 확인합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    /**
+     * HS512 서명에 필요한 64바이트 이상 키
+     */
+    private static final String SECRET = "benchmark-secret-key-for-popupmoah-jwt-hs512-signature-0123456789abcdef";
+
+    private JwtTokenProvider tokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(SECRET);
+        jwtProperties.setExpiration(TimeUnit.HOURS.toMillis(1));
+        jwtProperties.setRefreshExpiration(TimeUnit.DAYS.toMillis(14));
+        tokenProvider = new JwtTokenProvider(jwtProperties);
+        token = tokenProvider.generateToken("member1@example.com", "[ROLE_USER]");
+    }
+
+    /**
+     * JwtAuthenticationFilter와 같은 순서의 호출
+     */
+    @Benchmark
+    public void authenticationFilterPath(Blackhole blackhole) {
+        if (tokenProvider.validateToken(token)) {
+            blackhole.consume(tokenProvider.getUsernameFromToken(token));
+            blackhole.consume(tokenProvider.getAuthoritiesFromToken(token));
+        }
+    }
+
+    @Benchmark
+    public Boolean validateToken() {
+        return tokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public String getUsernameFromToken() {
+        return tokenProvider.getUsernameFromToken(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenProvider.generateToken("member1@example.com", "[ROLE_USER]");
+    }
+}
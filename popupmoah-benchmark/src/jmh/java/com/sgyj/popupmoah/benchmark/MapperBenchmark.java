@@ -0,0 +1,100 @@
+package com.sgyj.popupmoah.benchmark;
+
+import com.sgyj.popupmoah.popupstore.adapters.jpa.PopupStoreJpaEntity;
+import com.sgyj.popupmoah.popupstore.adapters.jpa.PopupStoreJpaEntityRepository;
+import com.sgyj.popupmoah.popupstore.adapters.jpa.PopupStoreJpaRepository;
+import com.sgyj.popupmoah.popupstore.domain.entity.PopupStore;
+import com.sgyj.popupmoah.reservation.adapters.jpa.ReservationJpaEntity;
+import com.sgyj.popupmoah.reservation.adapters.jpa.ReservationJpaEntityRepository;
+import com.sgyj.popupmoah.reservation.adapters.jpa.ReservationJpaRepository;
+import com.sgyj.popupmoah.reservation.domain.entity.Reservation;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 영속성 어댑터 매핑 벤치마크
+ * PopupStoreJpaRepository/ReservationJpaRepository의 toDomainEntity/toJpaEntity 비용을 조회 목록 크기별로 측정합니다.
+ * Spring Data 리포지토리는 미리 만든 JPA 엔티티를 돌려주는 고정 구현으로 바꿔 DB 왕복은 포함하지 않습니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    @Param({"20", "500"})
+    private int count;
+
+    private PopupStoreJpaRepository popupStoreRepository;
+    private ReservationJpaRepository reservationRepository;
+    private PopupStore popupStore;
+    private Reservation reservation;
+    private Pageable pageable;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<PopupStoreJpaEntity> popupStoreEntities = BenchmarkFixtures.popupStoreEntities(count, random);
+        List<ReservationJpaEntity> reservationEntities = BenchmarkFixtures.reservationEntities(count, random);
+        pageable = PageRequest.of(0, count);
+
+        popupStoreRepository = new PopupStoreJpaRepository(BenchmarkFixtures.stub(PopupStoreJpaEntityRepository.class, Map.of(
+                "findAll", args -> args.length == 0
+                        ? popupStoreEntities
+                        : new PageImpl<>(popupStoreEntities, (Pageable) args[0], popupStoreEntities.size()),
+                "save", args -> args[0])));
+        reservationRepository = new ReservationJpaRepository(BenchmarkFixtures.stub(ReservationJpaEntityRepository.class, Map.of(
+                "findByMemberIdOrderByReservationDateTimeDesc", args -> reservationEntities,
+                "save", args -> args[0])));
+
+        popupStore = popupStoreRepository.findAll().get(0);
+        reservation = reservationRepository.findByMemberId(1L).get(0);
+    }
+
+    /**
+     * 전체 목록 조회: JPA 엔티티 count건을 도메인 엔티티로 변환
+     */
+    @Benchmark
+    public List<PopupStore> popupStoreToDomain() {
+        return popupStoreRepository.findAll();
+    }
+
+    /**
+     * 관리자 목록 조회: Page.map으로 변환
+     */
+    @Benchmark
+    public Page<PopupStore> popupStorePageToDomain() {
+        return popupStoreRepository.findAll(pageable);
+    }
+
+    /**
+     * 저장: 도메인 → JPA → 도메인 왕복 한 건
+     */
+    @Benchmark
+    public PopupStore popupStoreSave() {
+        return popupStoreRepository.save(popupStore);
+    }
+
+    /**
+     * 회원별 예약 목록 조회: JPA 엔티티 count건을 도메인 엔티티로 변환
+     */
+    @Benchmark
+    public List<Reservation> reservationToDomain() {
+        return reservationRepository.findByMemberId(1L);
+    }
+
+    /**
+     * 저장: 도메인 → JPA → 도메인 왕복 한 건
+     */
+    @Benchmark
+    public Reservation reservationSave() {
+        return reservationRepository.save(reservation);
+    }
+}
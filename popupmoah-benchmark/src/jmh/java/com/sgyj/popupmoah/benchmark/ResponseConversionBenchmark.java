@@ -0,0 +1,101 @@
+package com.sgyj.popupmoah.benchmark;
+
+import com.sgyj.popupmoah.popupstore.application.dto.PopupStoreResponse;
+import com.sgyj.popupmoah.popupstore.application.service.PopupStoreApplicationService;
+import com.sgyj.popupmoah.popupstore.domain.aggregate.PopupStoreAggregate;
+import com.sgyj.popupmoah.popupstore.domain.entity.PopupStore;
+import com.sgyj.popupmoah.popupstore.domain.port.PopupStoreRepositoryPort;
+import com.sgyj.popupmoah.reservation.application.dto.ReservationResponse;
+import com.sgyj.popupmoah.reservation.application.service.ReservationApplicationService;
+import com.sgyj.popupmoah.reservation.domain.aggregate.ReservationAggregate;
+import com.sgyj.popupmoah.reservation.domain.entity.Reservation;
+import com.sgyj.popupmoah.reservation.domain.port.ReservationRepositoryPort;
+import com.sgyj.popupmoah.reservation.infrastructure.cache.ReservationCache;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답 DTO 변환 벤치마크
+ * 애플리케이션 서비스의 convertToResponse를 실제 조회 메서드를 통해 측정합니다.
+ * 리포지토리 포트는 미리 만든 도메인 엔티티를 돌려주고, 예약 목록은 캐시 적중 상태에서 변환만 남도록 합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ResponseConversionBenchmark {
+
+    private static final Long MEMBER_ID = 1L;
+
+    @Param({"20", "500"})
+    private int count;
+
+    private PopupStoreApplicationService popupStoreService;
+    private ReservationApplicationService reservationService;
+    private Pageable pageable;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<PopupStore> popupStores = BenchmarkFixtures.popupStores(count, random);
+        List<Reservation> reservations = BenchmarkFixtures.reservations(count, random);
+        pageable = PageRequest.of(0, count);
+
+        PopupStoreRepositoryPort popupStoreRepository = BenchmarkFixtures.stub(PopupStoreRepositoryPort.class, Map.of(
+                "findAll", args -> new PageImpl<>(popupStores, (Pageable) args[0], popupStores.size()),
+                "findById", args -> Optional.of(popupStores.get(0))));
+        popupStoreService = new PopupStoreApplicationService(
+                popupStoreRepository, new PopupStoreAggregate(popupStoreRepository), null, null);
+
+        ReservationRepositoryPort reservationRepository = BenchmarkFixtures.stub(ReservationRepositoryPort.class, Map.of(
+                "findByMemberId", args -> reservations,
+                "findById", args -> Optional.of(reservations.get(0))));
+        reservationService = new ReservationApplicationService(
+                reservationRepository, new ReservationAggregate(reservationRepository), null,
+                new ReservationCache(new ConcurrentMapCacheManager("reservations")));
+        // 캐시를 채워 두어 측정에는 변환만 남김
+        reservationService.getReservations(MEMBER_ID, null, null);
+        reservationService.getReservationById(1L);
+    }
+
+    /**
+     * 관리자 팝업스토어 목록: count건 변환
+     */
+    @Benchmark
+    public Page<PopupStoreResponse> popupStoreAdminPage() {
+        return popupStoreService.getAllPopupStoresForAdmin(pageable, null);
+    }
+
+    /**
+     * 관리자 팝업스토어 상세: 한 건 변환
+     */
+    @Benchmark
+    public PopupStoreResponse popupStoreDetail() {
+        return popupStoreService.getPopupStoreById(1L);
+    }
+
+    /**
+     * 회원별 예약 목록 (캐시 적중): count건 변환
+     */
+    @Benchmark
+    public List<ReservationResponse> reservationList() {
+        return reservationService.getReservations(MEMBER_ID, null, null);
+    }
+
+    /**
+     * 예약 상세 (캐시 적중): 한 건 변환
+     */
+    @Benchmark
+    public Optional<ReservationResponse> reservationDetail() {
+        return reservationService.getReservationById(1L);
+    }
+}
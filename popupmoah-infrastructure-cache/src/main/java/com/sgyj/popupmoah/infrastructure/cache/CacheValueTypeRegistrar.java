@@ -0,0 +1,13 @@
+package com.sgyj.popupmoah.infrastructure.cache;
+
+/**
+ * L2 compact 직렬화에 캐시 값 타입을 등록하는 확장점
+ * 캐시를 사용하는 모듈이 자신이 캐시하는 타입을 빈으로 등록합니다.
+ * 타입 번호는 Redis에 저장된 값을 읽는 데 쓰이므로 애플리케이션 전체에서 겹치지 않아야 하고, 한 번 정한 번호는 바꾸거나 재사용하지 않습니다.
+ * 번호가 겹치면 기동 시 예외가 발생합니다.
+ */
+@FunctionalInterface
+public interface CacheValueTypeRegistrar {
+
+    void register(CompactRedisSerializer.Builder builder);
+}
@@ -0,0 +1,261 @@
+package com.sgyj.popupmoah.infrastructure.cache;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 캐시 값용 압축 바이너리 직렬화
+ * 등록한 도메인 타입(과 그 List)은 클래스 이름 대신 1바이트 타입 번호를 붙이고 본문을 Smile(바이너리 JSON)로 씁니다.
+ * 본문이 임계값보다 크면 LZ4로 압축합니다.
+ * 등록하지 않은 타입은 기존 JSON 직렬화로 쓰며, 읽을 때 첫 바이트로 구분하므로 전환 전 JSON 값도 그대로 읽습니다.
+ *
+ * 형식: [헤더 1바이트 (0xC0 | 플래그)] [타입 번호 1바이트] [LZ4이면 원본 길이 4바이트] [본문]
+ */
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+
+    private static final int MAGIC_MASK = 0xF0;
+    private static final int MAGIC = 0xC0;
+    private static final int FLAG_LZ4 = 0x01;
+    private static final int FLAG_LIST = 0x02;
+
+    /** 원소 타입을 알 수 없는 빈 List */
+    private static final int EMPTY_LIST_TYPE_ID = 0;
+    private static final int MAX_TYPE_ID = 0xFF;
+    private static final byte[] EMPTY_ARRAY = new byte[0];
+
+    private final Map<Class<?>, Integer> typeIds = new HashMap<>();
+    private final Map<Integer, ObjectReader> valueReaders = new HashMap<>();
+    private final Map<Integer, ObjectReader> listReaders = new HashMap<>();
+    private final ObjectWriter writer;
+    private final int compressionThreshold;
+    private final RedisSerializer<Object> fallbackSerializer;
+    private final LZ4Compressor compressor = LZ4Factory.fastestInstance().fastCompressor();
+    private final LZ4FastDecompressor decompressor = LZ4Factory.fastestInstance().fastDecompressor();
+
+    private CompactRedisSerializer(Builder builder) {
+        // 필드 기준으로 직렬화해 게터가 없는 도메인 객체도 그대로 복원
+        SmileMapper mapper = SmileMapper.builder(SmileFactory.builder()
+                        .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                        .build())
+                .addModule(new JavaTimeModule())
+                .visibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+                .visibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+                .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+        this.writer = mapper.writer();
+        for (Map.Entry<Integer, JavaType> entry : builder.types.entrySet()) {
+            Integer typeId = entry.getKey();
+            JavaType type = entry.getValue();
+            JavaType listType = mapper.getTypeFactory().constructCollectionType(ArrayList.class, type);
+            typeIds.put(type.getRawClass(), typeId);
+            valueReaders.put(typeId, mapper.readerFor(type));
+            listReaders.put(typeId, mapper.readerFor(listType));
+        }
+        this.compressionThreshold = builder.compressionThreshold;
+        this.fallbackSerializer = builder.fallbackSerializer;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return EMPTY_ARRAY;
+        }
+        int flags;
+        Integer typeId;
+        if (value instanceof List<?> list) {
+            flags = FLAG_LIST;
+            typeId = list.isEmpty() ? Integer.valueOf(EMPTY_LIST_TYPE_ID) : listTypeId(list);
+        } else {
+            flags = 0;
+            typeId = typeIds.get(value.getClass());
+        }
+        if (typeId == null) {
+            return fallbackSerializer.serialize(value);
+        }
+
+        byte[] body;
+        try {
+            body = typeId == EMPTY_LIST_TYPE_ID ? EMPTY_ARRAY : writer.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값을 직렬화할 수 없습니다: " + value.getClass().getName(), e);
+        }
+        if (body.length < compressionThreshold) {
+            byte[] result = new byte[2 + body.length];
+            result[0] = (byte) (MAGIC | flags);
+            result[1] = (byte) typeId.intValue();
+            System.arraycopy(body, 0, result, 2, body.length);
+            return result;
+        }
+
+        int maxLength = compressor.maxCompressedLength(body.length);
+        byte[] result = new byte[6 + maxLength];
+        result[0] = (byte) (MAGIC | flags | FLAG_LZ4);
+        result[1] = (byte) typeId.intValue();
+        writeInt(result, 2, body.length);
+        int compressedLength = compressor.compress(body, 0, body.length, result, 6, maxLength);
+        byte[] trimmed = new byte[6 + compressedLength];
+        System.arraycopy(result, 0, trimmed, 0, trimmed.length);
+        return trimmed;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        int header = bytes[0] & 0xFF;
+        if ((header & MAGIC_MASK) != MAGIC) {
+            // JSON은 0xC0~0xCF로 시작할 수 없으므로 압축 형식이 아니면 JSON으로 읽음
+            return fallbackSerializer.deserialize(bytes);
+        }
+        if (bytes.length < 2) {
+            throw new SerializationException("캐시 값 헤더가 잘못되었습니다");
+        }
+        int typeId = bytes[1] & 0xFF;
+        boolean list = (header & FLAG_LIST) != 0;
+        if (list && typeId == EMPTY_LIST_TYPE_ID) {
+            return new ArrayList<>();
+        }
+        ObjectReader reader = list ? listReaders.get(typeId) : valueReaders.get(typeId);
+        if (reader == null) {
+            throw new SerializationException("등록되지 않은 캐시 값 타입 번호입니다: " + typeId);
+        }
+
+        byte[] body;
+        int offset;
+        int length;
+        if ((header & FLAG_LZ4) != 0) {
+            int originalLength = readInt(bytes, 2);
+            body = new byte[originalLength];
+            decompressor.decompress(bytes, 6, body, 0, originalLength);
+            offset = 0;
+            length = originalLength;
+        } else {
+            body = bytes;
+            offset = 2;
+            length = bytes.length - 2;
+        }
+        try {
+            return reader.readValue(body, offset, length);
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값을 역직렬화할 수 없습니다: 타입 번호 " + typeId, e);
+        }
+    }
+
+    /**
+     * 모든 원소가 같은 등록 타입인 List만 압축 형식으로 씁니다.
+     */
+    private Integer listTypeId(List<?> list) {
+        Object first = list.get(0);
+        if (first == null) {
+            return null;
+        }
+        Class<?> elementType = first.getClass();
+        for (Object element : list) {
+            if (element == null || element.getClass() != elementType) {
+                return null;
+            }
+        }
+        return typeIds.get(elementType);
+    }
+
+    private static void writeInt(byte[] target, int offset, int value) {
+        target[offset] = (byte) (value >>> 24);
+        target[offset + 1] = (byte) (value >>> 16);
+        target[offset + 2] = (byte) (value >>> 8);
+        target[offset + 3] = (byte) value;
+    }
+
+    private static int readInt(byte[] source, int offset) {
+        return (source[offset] & 0xFF) << 24
+                | (source[offset + 1] & 0xFF) << 16
+                | (source[offset + 2] & 0xFF) << 8
+                | (source[offset + 3] & 0xFF);
+    }
+
+    public static class Builder {
+
+        private final Map<Integer, JavaType> types = new HashMap<>();
+        private int compressionThreshold = 1024;
+        private RedisSerializer<Object> fallbackSerializer = new GenericJackson2JsonRedisSerializer();
+
+        /**
+         * 타입 번호를 등록합니다. 저장된 값을 읽을 수 있도록 한 번 쓴 번호는 바꾸지 않아야 합니다.
+         */
+        public Builder register(int typeId, Class<?> type) {
+            return register(typeId, TypeFactory.defaultInstance().constructType(type));
+        }
+
+        /**
+         * 제네릭 타입을 타입 번호로 등록합니다. 같은 클래스는 한 가지 타입 인자로만 등록할 수 있으므로,
+         * 그 클래스로 캐시하는 값은 모두 이 타입 인자여야 합니다.
+         */
+        public Builder register(int typeId, TypeReference<?> type) {
+            return register(typeId, TypeFactory.defaultInstance().constructType(type));
+        }
+
+        private Builder register(int typeId, JavaType type) {
+            if (typeId <= EMPTY_LIST_TYPE_ID || typeId > MAX_TYPE_ID) {
+                throw new IllegalArgumentException("타입 번호는 1~255 사이여야 합니다: " + typeId);
+            }
+            boolean registeredClass = types.values().stream()
+                    .anyMatch(registered -> registered.getRawClass() == type.getRawClass());
+            if (types.containsKey(typeId) || registeredClass) {
+                throw new IllegalArgumentException("이미 등록된 타입 번호 또는 타입입니다: " + typeId + ", " + type.toCanonical());
+            }
+            types.put(typeId, type);
+            return this;
+        }
+
+        /**
+         * 이 크기(바이트) 이상인 본문을 LZ4로 압축합니다.
+         */
+        public Builder compressionThreshold(int compressionThreshold) {
+            if (compressionThreshold < 0) {
+                throw new IllegalArgumentException("압축 임계값은 0 이상이어야 합니다: " + compressionThreshold);
+            }
+            this.compressionThreshold = compressionThreshold;
+            return this;
+        }
+
+        /**
+         * 등록하지 않은 타입과 기존 값에 사용할 직렬화
+         */
+        public Builder fallbackSerializer(RedisSerializer<Object> fallbackSerializer) {
+            this.fallbackSerializer = fallbackSerializer;
+            return this;
+        }
+
+        public CompactRedisSerializer build() {
+            return new CompactRedisSerializer(this);
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.sgyj.popupmoah.infrastructure.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 2단계 캐시
+ * 프로세스 내 Caffeine(L1)을 먼저 보고, 없으면 Redis(L2)에서 읽어 L1에 채웁니다.
+ * 쓰기/삭제는 L2와 L1에 함께 반영하고, 다른 노드의 L1은 무효화 메시지로 비웁니다.
+ * L1 적중 시 역직렬화 없이 같은 인스턴스를 반환하므로 캐시된 값은 읽기 전용으로 다뤄야 합니다.
+ */
+public class TieredCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> localCache;
+    private final Cache remoteCache;
+    private final InvalidationPublisher invalidationPublisher;
+
+    private final Counter localHits;
+    private final Counter localMisses;
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+
+    public TieredCache(String name,
+                       com.github.benmanes.caffeine.cache.Cache<String, Object> localCache,
+                       Cache remoteCache,
+                       boolean allowNullValues,
+                       InvalidationPublisher invalidationPublisher,
+                       MeterRegistry meterRegistry) {
+        super(allowNullValues);
+        this.name = name;
+        this.localCache = localCache;
+        this.remoteCache = remoteCache;
+        this.invalidationPublisher = invalidationPublisher;
+        this.localHits = counter(meterRegistry, "l1", "hit");
+        this.localMisses = counter(meterRegistry, "l1", "miss");
+        this.remoteHits = counter(meterRegistry, "l2", "hit");
+        this.remoteMisses = counter(meterRegistry, "l2", "miss");
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String localKey = localKey(key);
+        Object value = localCache.getIfPresent(localKey);
+        if (value != null) {
+            localHits.increment();
+            return value;
+        }
+        localMisses.increment();
+        ValueWrapper wrapper = remoteCache.get(key);
+        if (wrapper == null) {
+            remoteMisses.increment();
+            return null;
+        }
+        remoteHits.increment();
+        Object storeValue = toStoreValue(wrapper.get());
+        localCache.put(localKey, storeValue);
+        return storeValue;
+    }
+
+    /**
+     * 같은 노드에서 동시에 빈 키를 요청하면 L1이 키별로 한 번만 L2 조회/로딩을 수행합니다.
+     * null 값을 허용하지 않으면 로더가 반환한 null은 캐시하지 않고 그대로 반환합니다.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = localKey(key);
+        Object value = localCache.getIfPresent(localKey);
+        if (value != null) {
+            localHits.increment();
+            return (T) fromStoreValue(value);
+        }
+        localMisses.increment();
+        value = localCache.get(localKey, k -> loadThroughRemote(key, valueLoader));
+        return (T) fromStoreValue(value);
+    }
+
+    private Object loadThroughRemote(Object key, Callable<?> valueLoader) {
+        ValueWrapper wrapper = remoteCache.get(key);
+        if (wrapper != null) {
+            remoteHits.increment();
+            return toStoreValue(wrapper.get());
+        }
+        remoteMisses.increment();
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        if (value == null && !isAllowNullValues()) {
+            // null을 저장할 수 없으므로 두 단계 모두 비워 두고 다음 조회에서 다시 로딩
+            return null;
+        }
+        remoteCache.put(key, value);
+        return toStoreValue(value);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        String localKey = localKey(key);
+        remoteCache.put(key, value);
+        localCache.put(localKey, toStoreValue(value));
+        invalidationPublisher.publish(name, localKey);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        String localKey = localKey(key);
+        ValueWrapper existing = remoteCache.putIfAbsent(key, value);
+        if (existing != null) {
+            localCache.put(localKey, toStoreValue(existing.get()));
+            return existing;
+        }
+        localCache.put(localKey, toStoreValue(value));
+        invalidationPublisher.publish(name, localKey);
+        return null;
+    }
+
+    @Override
+    public void evict(Object key) {
+        String localKey = localKey(key);
+        remoteCache.evict(key);
+        localCache.invalidate(localKey);
+        invalidationPublisher.publish(name, localKey);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        String localKey = localKey(key);
+        boolean evicted = remoteCache.evictIfPresent(key);
+        localCache.invalidate(localKey);
+        invalidationPublisher.publish(name, localKey);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        remoteCache.clear();
+        localCache.invalidateAll();
+        invalidationPublisher.publish(name, null);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = remoteCache.invalidate();
+        localCache.invalidateAll();
+        invalidationPublisher.publish(name, null);
+        return invalidated;
+    }
+
+    /**
+     * 다른 노드의 무효화 메시지로 L1 항목만 지웁니다.
+     */
+    void evictLocal(String localKey) {
+        localCache.invalidate(localKey);
+    }
+
+    /**
+     * 다른 노드의 무효화 메시지로 L1 전체를 비웁니다.
+     */
+    void clearLocal() {
+        localCache.invalidateAll();
+    }
+
+    /**
+     * L1 키는 L2(Redis) 키와 같은 문자열 표현을 사용해 노드 간 메시지로 그대로 전달합니다.
+     */
+    static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String level, String result) {
+        return Counter.builder("cache.tiered.gets")
+                .description("2단계 캐시 단계별 조회 결과")
+                .tag("cache", name)
+                .tag("level", level)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 다른 노드에 L1 무효화를 알립니다. key가 null이면 캐시 전체를 뜻합니다.
+     */
+    @FunctionalInterface
+    public interface InvalidationPublisher {
+        void publish(String cacheName, String key);
+    }
+}
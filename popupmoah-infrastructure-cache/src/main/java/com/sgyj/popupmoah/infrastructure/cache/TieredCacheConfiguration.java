@@ -0,0 +1,119 @@
+package com.sgyj.popupmoah.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 캐시 설정 클래스
+ * Caffeine(L1) + Redis(L2) 2단계 캐시 매니저와 L1 무효화 구독을 구성
+ * 이 모듈에 의존하는 애플리케이션과 도메인 모듈(popupstore, reservation 등)의 캐시가 모두 이 매니저를 사용합니다.
+ */
+@Configuration
+@EnableCaching
+public class TieredCacheConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.cache", name = "l2-enabled", havingValue = "true", matchIfMissing = true)
+    public TieredCacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                           TieredCacheProperties properties,
+                                           ObjectProvider<CacheValueTypeRegistrar> registrars,
+                                           MeterRegistry meterRegistry) {
+        RedisCacheConfiguration baseConfig = RedisCacheConfiguration.defaultCacheConfig()
+                .serializeKeysWith(RedisSerializationContext.SerializationPair
+                        .fromSerializer(new StringRedisSerializer()))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair
+                        .fromSerializer(cacheValueSerializer(properties, registrars)));
+        if (!properties.isCacheNullValues()) {
+            baseConfig = baseConfig.disableCachingNullValues();
+        }
+
+        // 캐시별 L2 TTL 설정
+        Map<String, RedisCacheConfiguration> cacheConfigs = new HashMap<>();
+        for (Map.Entry<String, TieredCacheProperties.Spec> entry : properties.getCaches().entrySet()) {
+            cacheConfigs.put(entry.getKey(), baseConfig.entryTtl(entry.getValue().getL2Ttl()));
+        }
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(baseConfig.entryTtl(properties.getDefaults().getL2Ttl()))
+                .withInitialCacheConfigurations(cacheConfigs)
+                .build();
+        redisCacheManager.initializeCaches();
+
+        return new TieredCacheManager(redisCacheManager, properties,
+                new StringRedisTemplate(connectionFactory), meterRegistry);
+    }
+
+    /**
+     * Redis 없이 L1만 사용하는 캐시 매니저 (app.cache.l2-enabled=false)
+     * 노드 간 무효화가 없으므로 단일 노드에서만 사용합니다.
+     */
+    @Bean(name = "cacheManager")
+    @ConditionalOnProperty(prefix = "app.cache", name = "l2-enabled", havingValue = "false")
+    public CacheManager localCacheManager(TieredCacheProperties properties) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setAllowNullValues(properties.isCacheNullValues());
+        cacheManager.setCaffeine(caffeine(properties.getDefaults()));
+        for (Map.Entry<String, TieredCacheProperties.Spec> entry : properties.getCaches().entrySet()) {
+            cacheManager.registerCustomCache(entry.getKey(), caffeine(entry.getValue()).build());
+        }
+        return cacheManager;
+    }
+
+    private Caffeine<Object, Object> caffeine(TieredCacheProperties.Spec spec) {
+        return Caffeine.newBuilder()
+                .maximumSize(spec.getL1MaximumSize())
+                .expireAfterWrite(spec.getL1Ttl())
+                .recordStats();
+    }
+
+    /**
+     * L2 값 직렬화
+     * compact 방식은 각 모듈이 CacheValueTypeRegistrar로 등록한 타입만 바이너리로 쓰고, 나머지는 JSON으로 씁니다.
+     */
+    private RedisSerializer<Object> cacheValueSerializer(TieredCacheProperties properties,
+                                                         ObjectProvider<CacheValueTypeRegistrar> registrars) {
+        GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer();
+        if ("json".equalsIgnoreCase(properties.getValueFormat())) {
+            return jsonSerializer;
+        }
+        CompactRedisSerializer.Builder builder = CompactRedisSerializer.builder()
+                .compressionThreshold(properties.getCompressionThresholdBytes())
+                .fallbackSerializer(jsonSerializer);
+        registrars.orderedStream().forEach(registrar -> registrar.register(builder));
+        return builder.build();
+    }
+
+    /**
+     * 다른 노드가 보낸 L1 무효화 메시지 구독
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "app.cache", name = "l2-enabled", havingValue = "true", matchIfMissing = true)
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                            TieredCacheManager cacheManager,
+                                                                            TieredCacheProperties properties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(properties.getInvalidationChannel()));
+        return container;
+    }
+}
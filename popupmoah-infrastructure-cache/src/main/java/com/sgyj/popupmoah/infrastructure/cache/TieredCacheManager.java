@@ -0,0 +1,98 @@
+package com.sgyj.popupmoah.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 2단계 캐시 매니저
+ * 캐시마다 Caffeine(L1)을 Redis(L2) 앞에 두고, L1 무효화를 Redis pub/sub으로 다른 노드에 전파합니다.
+ * 메시지 형식: "노드ID\n캐시이름\n키" (키가 없으면 캐시 전체 무효화)
+ */
+@Slf4j
+public class TieredCacheManager implements CacheManager, MessageListener {
+
+    private static final String SEPARATOR = "\n";
+
+    private final RedisCacheManager redisCacheManager;
+    private final TieredCacheProperties properties;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, TieredCache> caches = new ConcurrentHashMap<>();
+
+    public TieredCacheManager(RedisCacheManager redisCacheManager,
+                              TieredCacheProperties properties,
+                              StringRedisTemplate redisTemplate,
+                              MeterRegistry meterRegistry) {
+        this.redisCacheManager = redisCacheManager;
+        this.properties = properties;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    private TieredCache createCache(String name) {
+        TieredCacheProperties.Spec spec = properties.specFor(name);
+        com.github.benmanes.caffeine.cache.Cache<String, Object> localCache = Caffeine.newBuilder()
+                .maximumSize(spec.getL1MaximumSize())
+                .expireAfterWrite(spec.getL1Ttl())
+                .build();
+        return new TieredCache(name, localCache, redisCacheManager.getCache(name),
+                properties.isCacheNullValues(), this::publish, meterRegistry);
+    }
+
+    /**
+     * 다른 노드에 L1 무효화를 알립니다.
+     * 전송에 실패해도 L2와 이 노드의 L1은 이미 반영되었으므로, 다른 노드는 L1 TTL이 지나면 맞춰집니다.
+     */
+    private void publish(String cacheName, String key) {
+        String message = nodeId + SEPARATOR + cacheName + (key == null ? "" : SEPARATOR + key);
+        try {
+            redisTemplate.convertAndSend(properties.getInvalidationChannel(), message);
+        } catch (RuntimeException e) {
+            log.warn("캐시 무효화 메시지 전송 실패: cache={}, key={}", cacheName, key, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR, 3);
+        if (parts.length < 2 || nodeId.equals(parts[0])) {
+            return;
+        }
+        TieredCache cache = caches.get(parts[1]);
+        if (cache == null) {
+            // 이 노드에서 아직 쓰지 않은 캐시는 L1에 항목이 없음
+            return;
+        }
+        if (parts.length == 2) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(parts[2]);
+        }
+        meterRegistry.counter("cache.tiered.invalidations", "cache", parts[1]).increment();
+    }
+}
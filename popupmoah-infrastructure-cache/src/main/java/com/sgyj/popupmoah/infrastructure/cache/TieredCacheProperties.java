@@ -0,0 +1,79 @@
+package com.sgyj.popupmoah.infrastructure.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 2단계 캐시 설정 클래스
+ * 프로세스 내 Caffeine(L1)과 Redis(L2)의 캐시별 크기/TTL을 관리
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.cache")
+public class TieredCacheProperties {
+
+    /**
+     * Redis(L2) 사용 여부 (false면 Redis 없이 프로세스 내 Caffeine(L1)만 사용, 단일 노드 부하 테스트용)
+     */
+    private boolean l2Enabled = true;
+
+    /**
+     * 다른 노드의 L1 항목 무효화를 알리는 Redis pub/sub 채널
+     */
+    private String invalidationChannel = "popupmoah:cache:invalidation";
+
+    /**
+     * null 값 캐시 여부
+     */
+    private boolean cacheNullValues = false;
+
+    /**
+     * L2 값 직렬화 방식 (compact: 등록한 도메인 타입은 Smile 바이너리, json: 모두 JSON)
+     */
+    private String valueFormat = "compact";
+
+    /**
+     * compact 방식에서 LZ4 압축을 적용하는 최소 본문 크기 (바이트)
+     */
+    private int compressionThresholdBytes = 1024;
+
+    /**
+     * 캐시별 설정이 없을 때 사용하는 기본값
+     */
+    private Spec defaults = new Spec();
+
+    /**
+     * 캐시 이름별 설정
+     */
+    private Map<String, Spec> caches = new HashMap<>();
+
+    /**
+     * 캐시 이름에 해당하는 설정 반환 (없으면 기본값)
+     */
+    public Spec specFor(String cacheName) {
+        return caches.getOrDefault(cacheName, defaults);
+    }
+
+    @Data
+    public static class Spec {
+        /**
+         * L1 최대 항목 수
+         */
+        private long l1MaximumSize = 1000;
+
+        /**
+         * L1 항목 유지 시간 (다른 노드의 무효화 메시지를 놓쳤을 때 오래된 값이 남는 최대 시간)
+         */
+        private Duration l1Ttl = Duration.ofMinutes(1);
+
+        /**
+         * L2(Redis) 항목 유지 시간
+         */
+        private Duration l2Ttl = Duration.ofMinutes(30);
+    }
+}
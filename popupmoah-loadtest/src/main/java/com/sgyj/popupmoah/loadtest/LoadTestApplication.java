@@ -0,0 +1,119 @@
+package com.sgyj.popupmoah.loadtest;
+
+import com.sgyj.popupmoah.loadtest.data.HttpSeeder;
+import com.sgyj.popupmoah.loadtest.data.LoadTestDataGenerator;
+import com.sgyj.popupmoah.loadtest.http.LoadTestHttpClient;
+import com.sgyj.popupmoah.loadtest.infra.EmbeddedServices;
+import com.sgyj.popupmoah.loadtest.load.Endpoint;
+import com.sgyj.popupmoah.loadtest.load.EndpointStats;
+import com.sgyj.popupmoah.loadtest.load.OpenModelLoadGenerator;
+import com.sgyj.popupmoah.loadtest.report.LoadTestReport;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 종단 간 부하 테스트 진입점
+ * 내장 H2/S3 호환 서버 기동 → 측정 대상 기동 대기 → 인증 → 초기 데이터 생성 → 개방형 부하 → 리포트 순으로 실행합니다.
+ * 외부 서비스 없이 한 대에서 돌릴 수 있으며, --embedded=false와 --base-url로 이미 떠 있는 환경을 대상으로 할 수도 있습니다.
+ * 내장 모드의 루트 애플리케이션은 팝업스토어 검색과 예약 API를 제공하지 않으므로 두 엔드포인트는 기본으로 측정 범위에서 빠집니다.
+ * 켜 둔 엔드포인트를 측정 대상이 제공하지 않으면 오류로 집계하지 않고 부하를 주기 전에 실패합니다.
+ */
+@Slf4j
+public class LoadTestApplication {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        ExecutorService httpExecutor = Executors.newFixedThreadPool(options.getHttpThreads());
+        EmbeddedServices embeddedServices = options.isEmbedded() ? new EmbeddedServices(options) : null;
+
+        try {
+            if (embeddedServices != null) {
+                embeddedServices.start();
+            }
+            LoadTestHttpClient client = new LoadTestHttpClient(options.getBaseUrl(), options.getRequestTimeout(), httpExecutor);
+            if (embeddedServices != null) {
+                embeddedServices.awaitApplication(client);
+            }
+            authenticate(options, client);
+
+            LoadTestDataGenerator generator = new LoadTestDataGenerator(options);
+            List<Long> popupStoreIds = seed(options, generator, client);
+
+            Map<String, Object> seedSummary = new LinkedHashMap<>();
+            seedSummary.put("popupStores", popupStoreIds.stream().filter(Objects::nonNull).count());
+            seedSummary.put("reservationsRequested", options.getReservations());
+            seedSummary.put("commentsRequested", options.getComments());
+            seedSummary.put("reviewsRequested", options.getReviews());
+            if (embeddedServices != null) {
+                seedSummary.put("rowCounts", embeddedServices.rowCounts());
+            }
+
+            List<Endpoint> endpoints = Endpoint.defaults(options, generator, client, popupStoreIds);
+            verifyServed(options, client, endpoints);
+            List<EndpointStats> stats = new OpenModelLoadGenerator(options, client, endpoints).run();
+
+            LoadTestReport report = new LoadTestReport(options, stats, seedSummary);
+            report.print();
+            report.write();
+        } finally {
+            if (embeddedServices != null) {
+                embeddedServices.close();
+            }
+            httpExecutor.shutdownNow();
+        }
+    }
+
+    private static void authenticate(LoadTestOptions options, LoadTestHttpClient client) throws Exception {
+        if (options.getToken() != null) {
+            client.setToken(options.getToken());
+        } else if (options.getLoginEmail() != null) {
+            client.setToken(client.login(options.getLoginEmail(), options.getLoginPassword()));
+            log.info("로그인 완료: {}", options.getLoginEmail());
+        } else {
+            log.warn("토큰이나 로그인 정보가 없어 인증 없이 요청합니다. 인증이 필요한 엔드포인트는 오류로 집계됩니다.");
+        }
+    }
+
+    /**
+     * 엔드포인트마다 요청을 하나씩 보내, 측정 대상에 없는 경로(404/405)가 있으면 부하를 주기 전에 실패합니다.
+     */
+    private static void verifyServed(LoadTestOptions options, LoadTestHttpClient client, List<Endpoint> endpoints)
+            throws IOException, InterruptedException {
+        Random random = new Random(options.getRandomSeed());
+        List<String> notServed = new ArrayList<>();
+        for (Endpoint endpoint : endpoints) {
+            int status = client.sendAndWait(endpoint.requestFactory().apply(random)).statusCode();
+            if (LoadTestHttpClient.isNotServed(status)) {
+                notServed.add(endpoint.method() + " " + endpoint.path() + " (" + endpoint.name() + ", status=" + status + ")");
+            }
+        }
+        if (!notServed.isEmpty()) {
+            throw new IllegalStateException("측정 대상이 제공하지 않는 엔드포인트입니다: " + notServed
+                    + ". 해당 모듈을 포함한 애플리케이션을 대상으로 하거나 --rate.이름=0으로 끄세요.");
+        }
+    }
+
+    /**
+     * --seed=false면 데이터를 만들지 않고, 이미 있는 팝업스토어 ID가 1..stores라고 가정합니다.
+     */
+    private static List<Long> seed(LoadTestOptions options, LoadTestDataGenerator generator, LoadTestHttpClient client)
+            throws InterruptedException {
+        if (options.isSeed()) {
+            return new HttpSeeder(options, generator, client).seed();
+        }
+        Long[] ids = new Long[options.getStores()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = i + 1L;
+        }
+        return List.of(ids);
+    }
+}
@@ -0,0 +1,169 @@
+package com.sgyj.popupmoah.loadtest;
+
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 실행 옵션
+ * --이름=값 형식의 인자로 기본값을 바꿉니다. 시간은 30s, 5m처럼 단위를 붙이고, 요청 비율은 초당 요청 수입니다.
+ */
+@Getter
+public class LoadTestOptions {
+
+    /**
+     * 엔드포인트별 기본 도착률 (초당 요청 수)
+     * 내장 모드로 띄우는 루트 애플리케이션에는 popupstore/reservation 모듈이 없어
+     * POST /api/popupstores/search와 /api/reservations를 제공하지 않으므로, 검색과 예약은 기본으로 측정하지 않습니다.
+     * 이 모듈을 포함한 애플리케이션을 --base-url로 대상으로 할 때 --rate.search=100 --reservations=50000처럼 켭니다.
+     */
+    private static final Map<String, Double> DEFAULT_RATES = new LinkedHashMap<>();
+
+    static {
+        DEFAULT_RATES.put("search", 0.0);
+        DEFAULT_RATES.put("popupstore-detail", 150.0);
+        DEFAULT_RATES.put("reservation-create", 0.0);
+        DEFAULT_RATES.put("reservation-list", 0.0);
+        DEFAULT_RATES.put("comment-tree", 60.0);
+        DEFAULT_RATES.put("comment-create", 10.0);
+        DEFAULT_RATES.put("file-upload", 2.0);
+    }
+
+    private String baseUrl = "http://localhost:5032";
+
+    // 측정 대상 기동
+    private boolean embedded = true;
+    private int h2Port = 9092;
+    private int s3Port = 9000;
+    private Path appJar;
+    private Duration startupTimeout = Duration.ofMinutes(5);
+
+    // 인증 (토큰을 주거나 로그인 정보로 발급)
+    private String token;
+    private String loginEmail;
+    private String loginPassword;
+
+    // 데이터 생성
+    private boolean seed = true;
+    private long randomSeed = 42L;
+    private int stores = 2_000;
+    private int members = 20_000;
+    private int reservations = 0;
+    private int comments = 30_000;
+    private int reviews = 10_000;
+    private double replyRatio = 0.3;
+    private double skew = 1.1;
+    private int seedConcurrency = 32;
+
+    // 부하
+    private Duration warmup = Duration.ofSeconds(30);
+    private Duration duration = Duration.ofMinutes(2);
+    private Duration requestTimeout = Duration.ofSeconds(10);
+    private Duration reportInterval = Duration.ofSeconds(10);
+    private int maxInFlight = 2_000;
+    private int httpThreads = 16;
+    private final Map<String, Double> rates = new LinkedHashMap<>(DEFAULT_RATES);
+
+    private Path report = Path.of("build", "loadtest", "report.json");
+
+    public static LoadTestOptions parse(String[] args) {
+        LoadTestOptions options = new LoadTestOptions();
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("옵션은 --이름=값 형식이어야 합니다: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        values.forEach(options::apply);
+        return options;
+    }
+
+    public double rateOf(String endpoint) {
+        return rates.getOrDefault(endpoint, 0.0);
+    }
+
+    private void apply(String name, String value) {
+        if (name.startsWith("rate.")) {
+            String endpoint = name.substring("rate.".length());
+            if (!DEFAULT_RATES.containsKey(endpoint)) {
+                throw new IllegalArgumentException("알 수 없는 엔드포인트입니다: " + endpoint + " (사용 가능: " + DEFAULT_RATES.keySet() + ")");
+            }
+            rates.put(endpoint, nonNegative(name, Double.parseDouble(value)));
+            return;
+        }
+        switch (name) {
+            case "base-url" -> baseUrl = value.endsWith("/") ? value.substring(0, value.length() - 1) : value;
+            case "embedded" -> embedded = Boolean.parseBoolean(value);
+            case "h2-port" -> h2Port = Integer.parseInt(value);
+            case "s3-port" -> s3Port = Integer.parseInt(value);
+            case "app-jar" -> appJar = Path.of(value);
+            case "startup-timeout" -> startupTimeout = duration(value);
+            case "token" -> token = value;
+            case "login-email" -> loginEmail = value;
+            case "login-password" -> loginPassword = value;
+            case "seed" -> seed = Boolean.parseBoolean(value);
+            case "random-seed" -> randomSeed = Long.parseLong(value);
+            case "stores" -> stores = positive(name, Integer.parseInt(value));
+            case "members" -> members = positive(name, Integer.parseInt(value));
+            case "reservations" -> reservations = (int) nonNegative(name, Integer.parseInt(value));
+            case "comments" -> comments = (int) nonNegative(name, Integer.parseInt(value));
+            case "reviews" -> reviews = (int) nonNegative(name, Integer.parseInt(value));
+            case "reply-ratio" -> replyRatio = ratio(name, Double.parseDouble(value));
+            case "skew" -> skew = nonNegative(name, Double.parseDouble(value));
+            case "seed-concurrency" -> seedConcurrency = positive(name, Integer.parseInt(value));
+            case "warmup" -> warmup = duration(value);
+            case "duration" -> duration = duration(value);
+            case "request-timeout" -> requestTimeout = duration(value);
+            case "report-interval" -> reportInterval = duration(value);
+            case "max-in-flight" -> maxInFlight = positive(name, Integer.parseInt(value));
+            case "http-threads" -> httpThreads = positive(name, Integer.parseInt(value));
+            case "report" -> report = Path.of(value);
+            default -> throw new IllegalArgumentException("알 수 없는 옵션입니다: --" + name);
+        }
+    }
+
+    /**
+     * 500ms, 30s, 5m, 1h 형식의 시간을 읽습니다. 단위가 없으면 초로 봅니다.
+     */
+    static Duration duration(String value) {
+        String trimmed = value.trim().toLowerCase();
+        if (trimmed.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(trimmed.substring(0, trimmed.length() - 2)));
+        }
+        long amount = Long.parseLong(trimmed.replaceAll("[smh]$", ""));
+        if (trimmed.endsWith("h")) {
+            return Duration.ofHours(amount);
+        }
+        if (trimmed.endsWith("m")) {
+            return Duration.ofMinutes(amount);
+        }
+        return Duration.ofSeconds(amount);
+    }
+
+    private static int positive(String name, int value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException("--" + name + " 값은 0보다 커야 합니다: " + value);
+        }
+        return value;
+    }
+
+    private static double nonNegative(String name, double value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("--" + name + " 값은 0 이상이어야 합니다: " + value);
+        }
+        return value;
+    }
+
+    private static double ratio(String name, double value) {
+        if (value < 0 || value > 1) {
+            throw new IllegalArgumentException("--" + name + " 값은 0과 1 사이여야 합니다: " + value);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,164 @@
+package com.sgyj.popupmoah.loadtest.data;
+
+import com.sgyj.popupmoah.loadtest.LoadTestOptions;
+import com.sgyj.popupmoah.loadtest.http.LoadTestHttpClient;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.http.HttpRequest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * 애플리케이션의 쓰기 API로 초기 데이터를 넣습니다.
+ * 테이블에 직접 INSERT하지 않고 API를 거치므로 스키마가 바뀌어도 그대로 동작하고, 애플리케이션의 캐시와 인메모리 인덱스도 함께 채워집니다.
+ * 요청 본문은 고정 시드로 한 스레드에서 만들고 전송만 동시에 하므로, 같은 옵션이면 같은 데이터가 만들어집니다.
+ */
+@Slf4j
+public class HttpSeeder {
+
+    private final LoadTestOptions options;
+    private final LoadTestDataGenerator generator;
+    private final LoadTestHttpClient client;
+
+    public HttpSeeder(LoadTestOptions options, LoadTestDataGenerator generator, LoadTestHttpClient client) {
+        this.options = options;
+        this.generator = generator;
+        this.client = client;
+    }
+
+    /**
+     * 팝업스토어, 예약, 댓글(대댓글 포함), 리뷰 순으로 생성하고 팝업스토어 ID 목록을 돌려줍니다.
+     * 목록의 순서는 생성 요청 순서와 같고, 실패한 항목은 null입니다.
+     */
+    public List<Long> seed() throws InterruptedException {
+        Random random = new Random(options.getRandomSeed() + 1);
+
+        List<Map<String, Object>> popupStores = generator.popupStores();
+        Long[] popupStoreIds = new Long[popupStores.size()];
+        submit("popupstore", popupStores.size(),
+                i -> client.postJson("/api/popupstores", popupStores.get(i)),
+                (i, id) -> popupStoreIds[i] = id);
+        List<Long> ids = Collections.unmodifiableList(Arrays.asList(popupStoreIds));
+        if (ids.stream().allMatch(id -> id == null)) {
+            throw new IllegalStateException("팝업스토어를 하나도 생성하지 못했습니다. 측정 대상의 /api/popupstores를 확인하세요.");
+        }
+
+        submit("reservation", options.getReservations(),
+                i -> client.postJson("/api/reservations", generator.reservation(random, ids)),
+                null);
+
+        int replies = (int) Math.round(options.getComments() * options.getReplyRatio());
+        int topLevelComments = options.getComments() - replies;
+        Map<Long, List<Long>> commentsByPopupStore = new ConcurrentHashMap<>();
+        List<long[]> allComments = new CopyOnWriteArrayList<>();
+        Long[] commentTargets = new Long[topLevelComments];
+        submit("comment", topLevelComments,
+                i -> {
+                    commentTargets[i] = generator.popupStoreId(random, ids);
+                    return client.postJson("/api/comments", generator.comment(random, commentTargets[i], null));
+                },
+                (i, id) -> {
+                    commentsByPopupStore.computeIfAbsent(commentTargets[i], key -> new CopyOnWriteArrayList<>()).add(id);
+                    allComments.add(new long[]{commentTargets[i], id});
+                });
+
+        if (!allComments.isEmpty()) {
+            submit("reply", replies,
+                    i -> {
+                        long[] parent = parentComment(random, ids, commentsByPopupStore, allComments);
+                        return client.postJson("/api/comments/reply", generator.comment(random, parent[0], parent[1]));
+                    },
+                    null);
+        }
+
+        submit("review", options.getReviews(),
+                i -> client.postJson("/api/reviews", generator.review(random, generator.popupStoreId(random, ids))),
+                null);
+        return ids;
+    }
+
+    /**
+     * 대댓글의 부모: 인기 팝업스토어의 댓글을 우선 고르고, 그 팝업스토어에 댓글이 없으면 전체에서 고릅니다.
+     */
+    private long[] parentComment(Random random, List<Long> popupStoreIds,
+                                 Map<Long, List<Long>> commentsByPopupStore, List<long[]> allComments) {
+        Long popupStoreId = generator.popupStoreId(random, popupStoreIds);
+        List<Long> comments = commentsByPopupStore.get(popupStoreId);
+        if (comments == null || comments.isEmpty()) {
+            return allComments.get(random.nextInt(allComments.size()));
+        }
+        return new long[]{popupStoreId, comments.get(random.nextInt(comments.size()))};
+    }
+
+    /**
+     * 요청을 동시에 최대 seedConcurrency개까지 보내고 모두 끝날 때까지 기다립니다.
+     */
+    private void submit(String name, int count, IntFunction<HttpRequest> requestFactory, IdConsumer onCreated)
+            throws InterruptedException {
+        if (count == 0) {
+            return;
+        }
+        Semaphore permits = new Semaphore(options.getSeedConcurrency());
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        AtomicInteger notServed = new AtomicInteger();
+        List<String> failureSamples = new CopyOnWriteArrayList<>();
+        long startedAt = System.nanoTime();
+
+        for (int i = 0; i < count; i++) {
+            permits.acquire();
+            int index = i;
+            client.send(requestFactory.apply(index)).whenComplete((response, throwable) -> {
+                try {
+                    if (throwable == null && response.statusCode() / 100 == 2) {
+                        created.incrementAndGet();
+                        if (onCreated != null) {
+                            Long id = client.extractId(response.body());
+                            if (id != null) {
+                                onCreated.accept(index, id);
+                            }
+                        }
+                    } else {
+                        failed.incrementAndGet();
+                        if (throwable == null && LoadTestHttpClient.isNotServed(response.statusCode())) {
+                            notServed.incrementAndGet();
+                        }
+                        if (failureSamples.size() < 3) {
+                            failureSamples.add(throwable != null ? throwable.toString() : "status=" + response.statusCode());
+                        }
+                    }
+                } catch (RuntimeException e) {
+                    failed.incrementAndGet();
+                } finally {
+                    permits.release();
+                }
+            });
+        }
+        permits.acquire(options.getSeedConcurrency());
+        permits.release(options.getSeedConcurrency());
+
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        log.info("데이터 생성 [{}] 성공 {}건, 실패 {}건, {}ms", name, created.get(), failed.get(), elapsedMillis);
+        if (!failureSamples.isEmpty()) {
+            log.warn("데이터 생성 [{}] 실패 예: {}", name, new ArrayList<>(failureSamples));
+        }
+        if (notServed.get() == count) {
+            throw new IllegalStateException("측정 대상이 [" + name + "] 데이터 생성 경로를 제공하지 않습니다. "
+                    + "해당 모듈을 포함한 애플리케이션을 대상으로 하거나 생성 건수를 0으로 지정하세요.");
+        }
+    }
+
+    @FunctionalInterface
+    private interface IdConsumer {
+        void accept(int index, Long id);
+    }
+}
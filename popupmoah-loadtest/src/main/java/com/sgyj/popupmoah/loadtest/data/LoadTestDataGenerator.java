@@ -0,0 +1,269 @@
+package com.sgyj.popupmoah.loadtest.data;
+
+import com.sgyj.popupmoah.loadtest.LoadTestOptions;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 부하 테스트 데이터 생성기
+ * 팝업스토어, 예약, 댓글/리뷰 요청 본문을 만듭니다. 같은 옵션과 seed면 같은 데이터가 나옵니다.
+ * 운영 트래픽처럼 소수의 인기 팝업스토어와 활동적인 회원에게 예약/댓글/조회가 몰리도록 Zipf 분포로 대상을 고릅니다.
+ */
+public class LoadTestDataGenerator {
+
+    private static final String[] BRANDS = {"무신사", "젠틀몬스터", "카카오프렌즈", "라인프렌즈", "노티드", "런던베이글",
+            "탬버린즈", "아더에러", "포켓몬", "산리오", "디즈니", "나이키", "뉴진스", "BT21", "이솝", "스타벅스"};
+    private static final String[] THEMES = {"한정판", "굿즈", "체험", "포토존", "시즌", "콜라보", "플래그십", "아트", "디저트", "향수"};
+    private static final String[] CATEGORIES = {"패션", "뷰티", "캐릭터", "식음료", "전시", "라이프스타일"};
+    private static final int[] CATEGORY_WEIGHTS = {30, 20, 20, 15, 10, 5};
+    private static final String[] DISTRICTS = {"서울 성동구 성수동", "서울 마포구 연남동", "서울 용산구 한남동", "서울 강남구 압구정동",
+            "서울 송파구 잠실동", "서울 영등포구 여의도동", "서울 마포구 서교동", "서울 중구 명동"};
+    private static final double[][] DISTRICT_CENTERS = {{37.5446, 127.0557}, {37.5660, 126.9250}, {37.5340, 127.0026},
+            {37.5271, 127.0286}, {37.5133, 127.1001}, {37.5219, 126.9245}, {37.5563, 126.9220}, {37.5609, 126.9860}};
+    private static final int[] DISTRICT_WEIGHTS = {30, 15, 12, 12, 10, 8, 8, 5};
+    private static final String[] COMMENT_SENTENCES = {"주말 오후에는 대기가 한 시간 넘게 걸렸어요.", "굿즈 재고가 빨리 빠지니 오픈 시간에 가세요.",
+            "포토존 구성이 예뻐서 사진 찍기 좋아요.", "사전 예약하면 바로 입장할 수 있어요.", "평일 저녁은 한산한 편이에요.",
+            "한정판은 1인당 구매 수량 제한이 있어요.", "근처 카페랑 같이 들르기 좋아요.", "직원분들이 친절하게 안내해 주셨어요."};
+    private static final int[] RATING_WEIGHTS = {5, 7, 15, 33, 40};
+    private static final int[] PEOPLE_WEIGHTS = {35, 40, 15, 10};
+
+    private final LoadTestOptions options;
+    private final ZipfSampler popupStoreSampler;
+    private final ZipfSampler memberSampler;
+    private final ZipfSampler keywordSampler;
+    private final List<String> keywords = new ArrayList<>();
+    private final LocalDate today = LocalDate.now();
+
+    public LoadTestDataGenerator(LoadTestOptions options) {
+        this.options = options;
+        Random random = new Random(options.getRandomSeed());
+        this.popupStoreSampler = new ZipfSampler(options.getStores(), options.getSkew(), random);
+        this.memberSampler = new ZipfSampler(options.getMembers(), options.getSkew(), random);
+        for (String brand : BRANDS) {
+            keywords.add(brand);
+        }
+        for (String theme : THEMES) {
+            keywords.add(theme);
+        }
+        this.keywordSampler = new ZipfSampler(keywords.size(), options.getSkew(), random);
+    }
+
+    /**
+     * 팝업스토어 생성 요청 본문 (진행 중 60%, 예정 25%, 종료 15%)
+     */
+    public List<Map<String, Object>> popupStores() {
+        Random random = new Random(options.getRandomSeed());
+        List<Map<String, Object>> popupStores = new ArrayList<>(options.getStores());
+        for (int i = 0; i < options.getStores(); i++) {
+            String brand = BRANDS[random.nextInt(BRANDS.length)];
+            String theme = THEMES[random.nextInt(THEMES.length)];
+            int district = weighted(DISTRICT_WEIGHTS, random);
+            LocalDateTime startDate = startDate(random);
+
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("name", brand + " " + theme + " 팝업스토어 " + (i + 1));
+            body.put("description", brand + "의 " + theme + " 팝업스토어입니다. " + sentences(random, 2 + random.nextInt(4)));
+            body.put("imageUrl", "https://cdn.popupmoah.com/images/popupstore/" + (i + 1) + ".jpg");
+            body.put("sourceUrl", "https://www.instagram.com/p/" + Long.toHexString(random.nextLong()));
+            body.put("category", CATEGORIES[weighted(CATEGORY_WEIGHTS, random)]);
+            body.put("startDate", startDate);
+            body.put("endDate", startDate.plusDays(7 + random.nextInt(38)));
+            body.put("location", DISTRICTS[district]);
+            body.put("address", DISTRICTS[district] + " " + (1 + random.nextInt(300)) + "-" + (1 + random.nextInt(40)));
+            body.put("latitude", DISTRICT_CENTERS[district][0] + (random.nextDouble() - 0.5) * 0.02);
+            body.put("longitude", DISTRICT_CENTERS[district][1] + (random.nextDouble() - 0.5) * 0.02);
+            popupStores.add(body);
+        }
+        return popupStores;
+    }
+
+    /**
+     * 예약 생성 요청 본문: 인기 팝업스토어와 활동적인 회원에 몰리고, 앞으로 14일의 30분 단위 시간대에 흩어집니다.
+     */
+    public Map<String, Object> reservation(Random random, List<Long> popupStoreIds) {
+        long memberId = memberSampler.sample(random) + 1L;
+        LocalDateTime reservationDateTime = LocalDateTime.of(today.plusDays(1 + random.nextInt(14)),
+                LocalTime.of(10 + random.nextInt(10), random.nextBoolean() ? 0 : 30));
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("memberId", memberId);
+        body.put("popupStoreId", popupStoreId(random, popupStoreIds));
+        body.put("memberName", "회원" + memberId);
+        body.put("memberEmail", "member" + memberId + "@example.com");
+        body.put("memberPhone", String.format("010-%04d-%04d", memberId / 10_000 % 10_000, memberId % 10_000));
+        body.put("reservationDateTime", reservationDateTime);
+        body.put("numberOfPeople", 1 + weighted(PEOPLE_WEIGHTS, random));
+        if (random.nextInt(5) == 0) {
+            body.put("specialRequests", "유모차 동반");
+        }
+        return body;
+    }
+
+    /**
+     * 댓글 생성 요청 본문 (parentCommentId가 있으면 대댓글)
+     */
+    public Map<String, Object> comment(Random random, Long popupStoreId, Long parentCommentId) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("popupStoreId", popupStoreId);
+        if (parentCommentId != null) {
+            body.put("parentCommentId", parentCommentId);
+        }
+        body.put("author", "member" + (memberSampler.sample(random) + 1));
+        body.put("content", sentences(random, contentLength(random)));
+        return body;
+    }
+
+    /**
+     * 리뷰 생성 요청 본문 (평점은 4~5점에 몰림)
+     */
+    public Map<String, Object> review(Random random, Long popupStoreId) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("popupStoreId", popupStoreId);
+        body.put("author", "member" + (memberSampler.sample(random) + 1));
+        body.put("content", sentences(random, contentLength(random)));
+        body.put("rating", 1 + weighted(RATING_WEIGHTS, random));
+        return body;
+    }
+
+    /**
+     * 검색 요청 본문: 인기 검색어에 몰리고, 일부는 카테고리/진행 중 필터와 전체 개수를 함께 요청합니다.
+     */
+    public Map<String, Object> searchRequest(Random random) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("keyword", keywords.get(keywordSampler.sample(random)));
+        if (random.nextInt(10) < 3) {
+            body.put("category", CATEGORIES[weighted(CATEGORY_WEIGHTS, random)]);
+        }
+        if (random.nextInt(10) < 4) {
+            body.put("currentlyActive", true);
+        }
+        body.put("page", random.nextInt(10) < 8 ? 0 : random.nextInt(5));
+        body.put("size", 20);
+        body.put("includeTotal", random.nextInt(10) == 0);
+        return body;
+    }
+
+    /**
+     * 인기도에 따라 팝업스토어 ID를 고릅니다. 생성에 실패한 항목은 null입니다.
+     */
+    public Long popupStoreId(Random random, List<Long> popupStoreIds) {
+        for (int attempt = 0; attempt < 10; attempt++) {
+            Long id = popupStoreIds.get(popupStoreSampler.sample(random));
+            if (id != null) {
+                return id;
+            }
+        }
+        throw new IllegalStateException("생성된 팝업스토어가 없습니다.");
+    }
+
+    public long memberId(Random random) {
+        return memberSampler.sample(random) + 1L;
+    }
+
+    /**
+     * 업로드용 JPEG 세 가지 크기 (800x600, 1600x1200, 3000x2000)
+     */
+    public List<byte[]> sampleImages() {
+        Random random = new Random(options.getRandomSeed());
+        return List.of(jpeg(800, 600, random), jpeg(1600, 1200, random), jpeg(3000, 2000, random));
+    }
+
+    /**
+     * 작은 사진 60%, 중간 30%, 큰 사진 10% 비율로 고릅니다.
+     */
+    public static byte[] pickImage(Random random, List<byte[]> images) {
+        int roll = random.nextInt(10);
+        return images.get(roll < 6 ? 0 : roll < 9 ? 1 : 2);
+    }
+
+    private LocalDateTime startDate(Random random) {
+        LocalDateTime now = today.atTime(10, 0);
+        int roll = random.nextInt(100);
+        if (roll < 60) {
+            return now.minusDays(random.nextInt(30));
+        }
+        if (roll < 85) {
+            return now.plusDays(1 + random.nextInt(30));
+        }
+        return now.minusDays(60 + random.nextInt(60));
+    }
+
+    /**
+     * 대부분 한두 문장이고 가끔 긴 글이 섞이도록 길이를 고릅니다.
+     */
+    private static int contentLength(Random random) {
+        int roll = random.nextInt(100);
+        if (roll < 70) {
+            return 1 + random.nextInt(2);
+        }
+        if (roll < 95) {
+            return 3 + random.nextInt(4);
+        }
+        return 10 + random.nextInt(20);
+    }
+
+    private static String sentences(Random random, int count) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            builder.append(COMMENT_SENTENCES[random.nextInt(COMMENT_SENTENCES.length)]);
+        }
+        return builder.toString();
+    }
+
+    private static int weighted(int[] weights, Random random) {
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        int roll = random.nextInt(total);
+        for (int i = 0; i < weights.length; i++) {
+            roll -= weights[i];
+            if (roll < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    private static byte[] jpeg(int width, int height, Random random) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.setRGB(x, y, (x * 255 / width) << 16 | (y * 255 / height) << 8 | random.nextInt(64));
+            }
+        }
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(0.9f);
+            writer.setOutput(imageOutputStream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            writer.dispose();
+        }
+        return outputStream.toByteArray();
+    }
+}
@@ -0,0 +1,62 @@
+package com.sgyj.popupmoah.loadtest.data;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Zipf 분포 표본 추출기
+ * 순위 k(1부터)가 뽑힐 확률이 1/k^s에 비례합니다. s가 클수록 소수 항목에 몰리고, 0이면 균등 분포입니다.
+ * 순위를 그대로 인덱스로 쓰면 인기 항목이 항상 앞 번호가 되므로, 섞은 순열로 순위를 인덱스에 대응시킵니다.
+ */
+public class ZipfSampler {
+
+    private final double[] cumulative;
+    private final int[] rankToIndex;
+
+    public ZipfSampler(int size, double skew, Random random) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("표본 공간 크기는 0보다 커야 합니다: " + size);
+        }
+        cumulative = new double[size];
+        double sum = 0;
+        for (int rank = 1; rank <= size; rank++) {
+            sum += 1.0 / Math.pow(rank, skew);
+            cumulative[rank - 1] = sum;
+        }
+        for (int i = 0; i < size; i++) {
+            cumulative[i] /= sum;
+        }
+        cumulative[size - 1] = 1.0;
+
+        rankToIndex = new int[size];
+        for (int i = 0; i < size; i++) {
+            rankToIndex[i] = i;
+        }
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = rankToIndex[i];
+            rankToIndex[i] = rankToIndex[j];
+            rankToIndex[j] = swap;
+        }
+    }
+
+    /**
+     * 0 이상 size 미만의 인덱스를 뽑습니다.
+     */
+    public int sample(Random random) {
+        int position = Arrays.binarySearch(cumulative, random.nextDouble());
+        int rank = position >= 0 ? position : -position - 1;
+        return rankToIndex[Math.min(rank, rankToIndex.length - 1)];
+    }
+
+    /**
+     * 가장 인기 있는 n개 항목의 인덱스
+     */
+    public int[] top(int n) {
+        return Arrays.copyOf(rankToIndex, Math.min(n, rankToIndex.length));
+    }
+
+    public int size() {
+        return rankToIndex.length;
+    }
+}
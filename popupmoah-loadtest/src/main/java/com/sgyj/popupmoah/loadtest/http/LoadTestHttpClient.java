@@ -0,0 +1,180 @@
+package com.sgyj.popupmoah.loadtest.http;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 측정 대상 HTTP 클라이언트
+ * 요청을 만들고 비동기로 보냅니다. 응답을 기다리지 않으므로 호출 스레드 하나로 정해진 도착률을 유지할 수 있습니다.
+ */
+public class LoadTestHttpClient {
+
+    private final HttpClient client;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+    private final Duration requestTimeout;
+    private volatile String token;
+
+    public LoadTestHttpClient(String baseUrl, Duration requestTimeout, ExecutorService executor) {
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(executor)
+                .build();
+        this.objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        this.baseUrl = baseUrl;
+        this.requestTimeout = requestTimeout;
+    }
+
+    public void setToken(String token) {
+        this.token = token;
+    }
+
+    public HttpRequest get(String path) {
+        return builder(path).GET().build();
+    }
+
+    public HttpRequest postJson(String path, Object body) {
+        return builder(path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(toJson(body)))
+                .build();
+    }
+
+    /**
+     * multipart/form-data 요청 (텍스트 필드와 파일 하나)
+     */
+    public HttpRequest postMultipart(String path, Map<String, String> fields, String fileField,
+                                     String fileName, String contentType, byte[] content) {
+        String boundary = "----popupmoah-loadtest-" + UUID.randomUUID();
+        ByteArrayOutputStream body = new ByteArrayOutputStream(content.length + 1024);
+        for (Map.Entry<String, String> field : fields.entrySet()) {
+            write(body, "--" + boundary + "\r\n"
+                    + "Content-Disposition: form-data; name=\"" + field.getKey() + "\"\r\n\r\n"
+                    + field.getValue() + "\r\n");
+        }
+        write(body, "--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"" + fileField + "\"; filename=\"" + fileName + "\"\r\n"
+                + "Content-Type: " + contentType + "\r\n\r\n");
+        body.writeBytes(content);
+        write(body, "\r\n--" + boundary + "--\r\n");
+
+        return builder(path)
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()))
+                .build();
+    }
+
+    public CompletableFuture<HttpResponse<byte[]>> send(HttpRequest request) {
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    public HttpResponse<byte[]> sendAndWait(HttpRequest request) throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    /**
+     * 측정 대상에 요청 경로나 메서드가 없다는 응답인지 확인합니다.
+     */
+    public static boolean isNotServed(int statusCode) {
+        return statusCode == 404 || statusCode == 405;
+    }
+
+    /**
+     * 생성 응답에서 ID를 꺼냅니다. ApiResponse로 감싼 응답(data.id)과 그대로인 응답(id)을 모두 읽습니다.
+     */
+    public Long extractId(byte[] body) {
+        JsonNode node = readTree(body);
+        JsonNode id = node.path("data").path("id");
+        if (id.isMissingNode() || id.isNull()) {
+            id = node.path("id");
+        }
+        return id.canConvertToLong() ? id.asLong() : null;
+    }
+
+    /**
+     * 로그인해 액세스 토큰을 받습니다.
+     */
+    public String login(String email, String password) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = sendAndWait(postJson("/api/auth/login", Map.of("email", email, "password", password)));
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException("로그인 실패: status=" + response.statusCode());
+        }
+        JsonNode node = readTree(response.body());
+        JsonNode accessToken = node.path("data").path("accessToken");
+        if (accessToken.isMissingNode()) {
+            accessToken = node.path("accessToken");
+        }
+        if (!accessToken.isTextual()) {
+            throw new IllegalStateException("로그인 응답에 accessToken이 없습니다.");
+        }
+        return accessToken.asText();
+    }
+
+    /**
+     * 측정 대상이 요청을 받을 수 있는지 확인합니다.
+     */
+    public boolean isUp() {
+        try {
+            HttpResponse<byte[]> response = sendAndWait(builder("/actuator/health").timeout(Duration.ofSeconds(2)).GET().build());
+            return response.statusCode() / 100 == 2;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    private HttpRequest.Builder builder(String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(requestTimeout);
+        String current = token;
+        if (current != null) {
+            builder.header("Authorization", "Bearer " + current);
+        }
+        return builder;
+    }
+
+    private byte[] toJson(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("요청 본문을 JSON으로 변환할 수 없습니다.", e);
+        }
+    }
+
+    private JsonNode readTree(byte[] body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException("응답 본문을 읽을 수 없습니다.", e);
+        }
+    }
+
+    private static void write(ByteArrayOutputStream outputStream, String text) {
+        outputStream.writeBytes(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,155 @@
+package com.sgyj.popupmoah.loadtest.infra;
+
+import com.sgyj.popupmoah.loadtest.LoadTestOptions;
+import com.sgyj.popupmoah.loadtest.http.LoadTestHttpClient;
+import lombok.extern.slf4j.Slf4j;
+import org.h2.tools.Server;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 외부 서비스 없이 측정 대상을 띄우기 위한 내장 인프라
+ * H2 TCP 서버(데이터베이스)와 S3 호환 서버(파일 업로드)를 띄우고, 필요하면 애플리케이션 jar를 loadtest 프로필로 실행합니다.
+ */
+@Slf4j
+public class EmbeddedServices implements AutoCloseable {
+
+    private static final String JDBC_URL = "jdbc:h2:tcp://localhost:%d/mem:popupmoah;MODE=PostgreSQL;DB_CLOSE_DELAY=-1";
+
+    private final LoadTestOptions options;
+    private Server h2Server;
+    private S3SinkServer s3Server;
+    private Process appProcess;
+    private Connection keepAlive;
+
+    public EmbeddedServices(LoadTestOptions options) {
+        this.options = options;
+    }
+
+    public void start() throws IOException, SQLException {
+        h2Server = Server.createTcpServer("-tcp", "-tcpPort", String.valueOf(options.getH2Port()), "-ifNotExists").start();
+        // 인메모리 DB는 마지막 연결이 끊기면 사라지므로 하나를 계속 붙잡아 둡니다.
+        keepAlive = DriverManager.getConnection(jdbcUrl(), "sa", "");
+        log.info("H2 TCP 서버 시작: {}", jdbcUrl());
+
+        s3Server = new S3SinkServer(options.getS3Port());
+        s3Server.start();
+
+        if (options.getAppJar() != null) {
+            startApplication(options.getAppJar());
+        }
+    }
+
+    /**
+     * 측정 대상이 헬스 체크에 응답할 때까지 기다립니다.
+     */
+    public void awaitApplication(LoadTestHttpClient client) throws InterruptedException {
+        long deadline = System.nanoTime() + options.getStartupTimeout().toNanos();
+        while (!client.isUp()) {
+            if (appProcess != null && !appProcess.isAlive()) {
+                throw new IllegalStateException("애플리케이션 프로세스가 종료되었습니다: exitCode=" + appProcess.exitValue());
+            }
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("애플리케이션이 " + options.getStartupTimeout() + " 안에 기동하지 않았습니다: " + options.getBaseUrl());
+            }
+            TimeUnit.SECONDS.sleep(1);
+        }
+        log.info("측정 대상 준비 완료: {}", options.getBaseUrl());
+    }
+
+    /**
+     * 테이블별 행 수 (내장 H2를 쓸 때만)
+     */
+    public Map<String, Long> rowCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        if (keepAlive == null) {
+            return counts;
+        }
+        try (Statement statement = keepAlive.createStatement()) {
+            List<String> tables = new ArrayList<>();
+            try (ResultSet resultSet = statement.executeQuery(
+                    "SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = 'PUBLIC' ORDER BY TABLE_NAME")) {
+                while (resultSet.next()) {
+                    tables.add(resultSet.getString(1));
+                }
+            }
+            for (String table : tables) {
+                try (ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM \"" + table + "\"")) {
+                    resultSet.next();
+                    counts.put(table, resultSet.getLong(1));
+                }
+            }
+        } catch (SQLException e) {
+            log.warn("행 수 조회 실패: {}", e.getMessage());
+        }
+        return counts;
+    }
+
+    public S3SinkServer s3() {
+        return s3Server;
+    }
+
+    @Override
+    public void close() {
+        if (appProcess != null) {
+            appProcess.destroy();
+            try {
+                if (!appProcess.waitFor(30, TimeUnit.SECONDS)) {
+                    appProcess.destroyForcibly();
+                }
+            } catch (InterruptedException e) {
+                appProcess.destroyForcibly();
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (s3Server != null) {
+            s3Server.close();
+        }
+        if (keepAlive != null) {
+            try {
+                keepAlive.close();
+            } catch (SQLException e) {
+                log.debug("H2 연결 종료 실패: {}", e.getMessage());
+            }
+        }
+        if (h2Server != null) {
+            h2Server.stop();
+        }
+    }
+
+    private void startApplication(Path appJar) throws IOException {
+        if (!Files.isRegularFile(appJar)) {
+            throw new IllegalArgumentException("애플리케이션 jar를 찾을 수 없습니다: " + appJar);
+        }
+        Path logFile = options.getReport().toAbsolutePath().resolveSibling("app.log");
+        Files.createDirectories(logFile.getParent());
+
+        String javaBin = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        ProcessBuilder builder = new ProcessBuilder(
+                javaBin,
+                "-jar", appJar.toAbsolutePath().toString(),
+                "--spring.profiles.active=loadtest",
+                "--spring.datasource.url=" + jdbcUrl(),
+                "--aws.s3.endpoint=http://localhost:" + options.getS3Port());
+        builder.redirectErrorStream(true);
+        builder.redirectOutput(logFile.toFile());
+        appProcess = builder.start();
+        log.info("애플리케이션 실행: {} (로그: {})", appJar, logFile);
+    }
+
+    private String jdbcUrl() {
+        return String.format(JDBC_URL, options.getH2Port());
+    }
+}
@@ -0,0 +1,145 @@
+package com.sgyj.popupmoah.loadtest.infra;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 부하 테스트용 S3 호환 서버
+ * 애플리케이션의 S3 클라이언트(path-style)가 호출하는 PUT/GET/HEAD/DELETE와 다중 삭제만 처리하고, 객체는 메모리에 둡니다.
+ * 인증 서명은 검사하지 않습니다.
+ */
+@Slf4j
+public class S3SinkServer implements AutoCloseable {
+
+    private static final String S3_NAMESPACE = "http://s3.amazonaws.com/doc/2006-03-01/";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private final AtomicLong storedBytes = new AtomicLong();
+
+    public S3SinkServer(int port) throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress(port), 512);
+        this.executor = Executors.newFixedThreadPool(8);
+        this.server.setExecutor(executor);
+        this.server.createContext("/", this::handle);
+    }
+
+    public void start() {
+        server.start();
+        log.info("S3 호환 서버 시작: port={}", server.getAddress().getPort());
+    }
+
+    public int objectCount() {
+        return objects.size();
+    }
+
+    public long storedBytes() {
+        return storedBytes.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String key = exchange.getRequestURI().getPath();
+            String query = exchange.getRequestURI().getQuery();
+            switch (exchange.getRequestMethod()) {
+                case "PUT" -> put(exchange, key);
+                case "GET", "HEAD" -> get(exchange, key);
+                case "DELETE" -> {
+                    remove(key);
+                    exchange.sendResponseHeaders(204, -1);
+                }
+                case "POST" -> {
+                    if (query != null && query.startsWith("delete")) {
+                        // 다중 삭제는 키 목록을 해석하지 않고 빈 결과로 응답합니다.
+                        exchange.getRequestBody().readAllBytes();
+                        sendXml(exchange, 200, "<DeleteResult xmlns=\"" + S3_NAMESPACE + "\"></DeleteResult>");
+                    } else {
+                        exchange.sendResponseHeaders(501, -1);
+                    }
+                }
+                default -> exchange.sendResponseHeaders(405, -1);
+            }
+        } catch (RuntimeException e) {
+            log.warn("S3 호환 서버 요청 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    private void put(HttpExchange exchange, String key) throws IOException {
+        byte[] content;
+        try (InputStream body = exchange.getRequestBody()) {
+            content = body.readAllBytes();
+        }
+        byte[] previous = objects.put(key, content);
+        storedBytes.addAndGet(content.length - (previous == null ? 0 : previous.length));
+
+        // S3 클라이언트가 업로드 본문의 MD5와 ETag를 비교하므로 실제 값을 돌려줍니다.
+        exchange.getResponseHeaders().add("ETag", "\"" + md5Hex(content) + "\"");
+        exchange.sendResponseHeaders(200, -1);
+    }
+
+    private void get(HttpExchange exchange, String key) throws IOException {
+        byte[] content = objects.get(key);
+        if (content == null) {
+            sendXml(exchange, 404, "<Error><Code>NoSuchKey</Code><Message>The specified key does not exist.</Message><Key>"
+                    + key + "</Key></Error>");
+            return;
+        }
+        exchange.getResponseHeaders().add("Content-Type", "application/octet-stream");
+        exchange.getResponseHeaders().add("ETag", "\"" + md5Hex(content) + "\"");
+        if ("HEAD".equals(exchange.getRequestMethod())) {
+            exchange.getResponseHeaders().add("Content-Length", String.valueOf(content.length));
+            exchange.sendResponseHeaders(200, -1);
+            return;
+        }
+        exchange.sendResponseHeaders(200, content.length);
+        try (OutputStream body = exchange.getResponseBody()) {
+            body.write(content);
+        }
+    }
+
+    private void remove(String key) {
+        byte[] previous = objects.remove(key);
+        if (previous != null) {
+            storedBytes.addAndGet(-previous.length);
+        }
+    }
+
+    private static void sendXml(HttpExchange exchange, int status, String xml) throws IOException {
+        byte[] body = ("<?xml version=\"1.0\" encoding=\"UTF-8\"?>" + xml).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/xml");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+
+    private static String md5Hex(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.sgyj.popupmoah.loadtest.load;
+
+import com.sgyj.popupmoah.loadtest.LoadTestOptions;
+import com.sgyj.popupmoah.loadtest.data.LoadTestDataGenerator;
+import com.sgyj.popupmoah.loadtest.http.LoadTestHttpClient;
+
+import java.net.http.HttpRequest;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * 부하를 줄 엔드포인트
+ *
+ * @param name           옵션(--rate.이름)과 리포트에 쓰는 이름
+ * @param method         리포트 표시용 HTTP 메서드
+ * @param path           리포트 표시용 경로
+ * @param rate           초당 도착률
+ * @param requestFactory 요청 생성기 (엔드포인트마다 한 스레드에서만 호출)
+ */
+public record Endpoint(String name, String method, String path, double rate, Function<Random, HttpRequest> requestFactory) {
+
+    /**
+     * 옵션의 도착률이 0보다 큰 기본 엔드포인트 목록
+     */
+    public static List<Endpoint> defaults(LoadTestOptions options, LoadTestDataGenerator generator,
+                                          LoadTestHttpClient client, List<Long> popupStoreIds) {
+        List<byte[]> images = options.rateOf("file-upload") > 0 ? generator.sampleImages() : List.of();
+
+        List<Endpoint> endpoints = new ArrayList<>();
+        add(endpoints, options, "search", "POST", "/api/popupstores/search",
+                random -> client.postJson("/api/popupstores/search", generator.searchRequest(random)));
+        add(endpoints, options, "popupstore-detail", "GET", "/api/popupstores/{id}",
+                random -> client.get("/api/popupstores/" + generator.popupStoreId(random, popupStoreIds)));
+        add(endpoints, options, "reservation-create", "POST", "/api/reservations",
+                random -> client.postJson("/api/reservations", generator.reservation(random, popupStoreIds)));
+        add(endpoints, options, "reservation-list", "GET", "/api/reservations/member/{memberId}",
+                random -> client.get("/api/reservations/member/" + generator.memberId(random)));
+        add(endpoints, options, "comment-tree", "GET", "/api/comments/popup/{id}/tree/paged",
+                random -> client.get("/api/comments/popup/" + generator.popupStoreId(random, popupStoreIds) + "/tree/paged?page=0&size=10"));
+        add(endpoints, options, "comment-create", "POST", "/api/comments",
+                random -> client.postJson("/api/comments", generator.comment(random, generator.popupStoreId(random, popupStoreIds), null)));
+        add(endpoints, options, "file-upload", "POST", "/api/v1/files/upload/image",
+                random -> {
+                    Map<String, String> fields = new LinkedHashMap<>();
+                    fields.put("referenceType", "POPUP_STORE");
+                    fields.put("referenceId", String.valueOf(generator.popupStoreId(random, popupStoreIds)));
+                    return client.postMultipart("/api/v1/files/upload/image", fields, "file", "loadtest.jpg", "image/jpeg",
+                            LoadTestDataGenerator.pickImage(random, images));
+                });
+        return endpoints;
+    }
+
+    private static void add(List<Endpoint> endpoints, LoadTestOptions options, String name, String method, String path,
+                            Function<Random, HttpRequest> requestFactory) {
+        double rate = options.rateOf(name);
+        if (rate > 0) {
+            endpoints.add(new Endpoint(name, method, path, rate, requestFactory));
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.sgyj.popupmoah.loadtest.load;
+
+import lombok.Getter;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트 하나의 측정값
+ * 응답 시간은 요청을 보냈어야 할 시각(예정 시각)부터 잽니다. 측정 대상이 밀려 요청이 늦게 나가도 그 대기 시간이 빠지지 않으므로
+ * coordinated omission이 생기지 않습니다. 서비스 시간은 실제로 보낸 시각부터 잰 값으로, 둘의 차이가 부하 발생기 쪽 지연입니다.
+ */
+public class EndpointStats {
+
+    /**
+     * 응답 코드 대신 기록하는 값 (타임아웃, 연결 실패 등 예외)
+     */
+    public static final int EXCEPTION_STATUS = -1;
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    @Getter
+    private final Endpoint endpoint;
+    private final Recorder responseTimeRecorder = new Recorder(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private final Recorder serviceTimeRecorder = new Recorder(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private final Histogram responseTime = new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private final Histogram serviceTime = new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final Map<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+    private volatile long measurementStartNanos = Long.MIN_VALUE;
+
+    public EndpointStats(Endpoint endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public void sent() {
+        sent.increment();
+    }
+
+    /**
+     * 동시 요청 수 한도를 넘어 보내지 못한 요청
+     */
+    public void dropped() {
+        dropped.increment();
+    }
+
+    public void record(int status, long intendedStartNanos, long actualStartNanos, long endNanos) {
+        if (intendedStartNanos < measurementStartNanos) {
+            // 워밍업 중에 예정된 요청은 측정 구간이 시작된 뒤에 끝나도 집계하지 않습니다.
+            return;
+        }
+        completed.increment();
+        if (status == EXCEPTION_STATUS || status >= 400) {
+            errors.increment();
+        }
+        statusCounts.computeIfAbsent(status, key -> new LongAdder()).increment();
+        responseTimeRecorder.recordValue(clamp(endNanos - intendedStartNanos));
+        serviceTimeRecorder.recordValue(clamp(endNanos - actualStartNanos));
+    }
+
+    /**
+     * 지금까지 쌓인 값을 누적 히스토그램으로 옮기고, 이번 구간의 응답 시간 히스토그램을 돌려줍니다.
+     */
+    public synchronized Histogram drainInterval() {
+        Histogram interval = responseTimeRecorder.getIntervalHistogram();
+        responseTime.add(interval);
+        serviceTime.add(serviceTimeRecorder.getIntervalHistogram());
+        return interval;
+    }
+
+    /**
+     * 워밍업 동안 쌓인 값을 버리고 지금부터 측정합니다.
+     */
+    public synchronized void reset() {
+        measurementStartNanos = System.nanoTime();
+        drainInterval();
+        responseTime.reset();
+        serviceTime.reset();
+        sent.reset();
+        completed.reset();
+        errors.reset();
+        dropped.reset();
+        statusCounts.clear();
+    }
+
+    public synchronized Histogram responseTime() {
+        drainInterval();
+        return responseTime.copy();
+    }
+
+    public synchronized Histogram serviceTime() {
+        drainInterval();
+        return serviceTime.copy();
+    }
+
+    public long sentCount() {
+        return sent.sum();
+    }
+
+    public long completedCount() {
+        return completed.sum();
+    }
+
+    public long errorCount() {
+        return errors.sum();
+    }
+
+    public long droppedCount() {
+        return dropped.sum();
+    }
+
+    public Map<Integer, Long> statusCounts() {
+        Map<Integer, Long> counts = new TreeMap<>();
+        statusCounts.forEach((status, count) -> counts.put(status, count.sum()));
+        return counts;
+    }
+
+    private static long clamp(long nanos) {
+        return Math.min(Math.max(TimeUnit.NANOSECONDS.toMicros(nanos), 1), HIGHEST_TRACKABLE_MICROS);
+    }
+}
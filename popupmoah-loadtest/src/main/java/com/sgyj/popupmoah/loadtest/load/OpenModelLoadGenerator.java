@@ -0,0 +1,176 @@
+package com.sgyj.popupmoah.loadtest.load;
+
+import com.sgyj.popupmoah.loadtest.LoadTestOptions;
+import com.sgyj.popupmoah.loadtest.http.LoadTestHttpClient;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+
+import java.net.http.HttpRequest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 개방형(open model) 부하 발생기
+ * 엔드포인트마다 전송 스레드 하나가 포아송 과정으로 도착 시각을 정하고, 응답을 기다리지 않고 그 시각에 요청을 보냅니다.
+ * 측정 대상이 느려져도 도착률이 줄지 않으므로 실제 사용자 유입과 같은 조건에서 지연이 쌓이는 모습을 볼 수 있습니다.
+ * 동시 요청 수가 maxInFlight를 넘으면 요청을 보내지 않고 dropped로 셉니다.
+ */
+@Slf4j
+public class OpenModelLoadGenerator {
+
+    private final LoadTestOptions options;
+    private final LoadTestHttpClient client;
+    private final List<EndpointStats> stats = new ArrayList<>();
+    private final Semaphore inFlight;
+
+    public OpenModelLoadGenerator(LoadTestOptions options, LoadTestHttpClient client, List<Endpoint> endpoints) {
+        if (endpoints.isEmpty()) {
+            throw new IllegalArgumentException("부하를 줄 엔드포인트가 없습니다. --rate.이름 값을 확인하세요.");
+        }
+        this.options = options;
+        this.client = client;
+        this.inFlight = new Semaphore(options.getMaxInFlight());
+        for (Endpoint endpoint : endpoints) {
+            stats.add(new EndpointStats(endpoint));
+        }
+    }
+
+    /**
+     * 워밍업 후 측정 구간 동안 부하를 주고, 측정 구간의 결과를 돌려줍니다.
+     */
+    public List<EndpointStats> run() throws InterruptedException {
+        long startNanos = System.nanoTime();
+        long measurementStartNanos = startNanos + options.getWarmup().toNanos();
+        long endNanos = measurementStartNanos + options.getDuration().toNanos();
+
+        List<Thread> dispatchers = new ArrayList<>();
+        for (int i = 0; i < stats.size(); i++) {
+            EndpointStats endpointStats = stats.get(i);
+            Random random = new Random(options.getRandomSeed() + 31L * (i + 1));
+            dispatchers.add(Thread.ofPlatform()
+                    .name("load-" + endpointStats.getEndpoint().name())
+                    .start(() -> dispatch(endpointStats, random, startNanos, endNanos)));
+        }
+        log.info("부하 시작: 엔드포인트 {}개, 워밍업 {}, 측정 {}", stats.size(), options.getWarmup(), options.getDuration());
+
+        try {
+            report(startNanos, measurementStartNanos, endNanos);
+        } catch (InterruptedException e) {
+            dispatchers.forEach(Thread::interrupt);
+            throw e;
+        }
+        for (Thread dispatcher : dispatchers) {
+            dispatcher.join();
+        }
+
+        // 마지막으로 보낸 요청들의 응답(최대 요청 타임아웃)까지 기다립니다.
+        if (inFlight.tryAcquire(options.getMaxInFlight(), options.getRequestTimeout().toMillis() + 1_000, TimeUnit.MILLISECONDS)) {
+            inFlight.release(options.getMaxInFlight());
+        } else {
+            log.warn("응답을 받지 못한 요청이 남아 있습니다: {}건", options.getMaxInFlight() - inFlight.availablePermits());
+        }
+        return stats;
+    }
+
+    private void dispatch(EndpointStats endpointStats, Random random, long startNanos, long endNanos) {
+        Endpoint endpoint = endpointStats.getEndpoint();
+        double meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / endpoint.rate();
+        long intendedNanos = startNanos;
+
+        while (!Thread.currentThread().isInterrupted()) {
+            // 지수 분포 간격 = 포아송 도착
+            intendedNanos += (long) (-Math.log(1 - random.nextDouble()) * meanIntervalNanos);
+            if (intendedNanos >= endNanos) {
+                return;
+            }
+            long waitNanos;
+            while ((waitNanos = intendedNanos - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(waitNanos);
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+            }
+
+            if (!inFlight.tryAcquire()) {
+                endpointStats.dropped();
+                continue;
+            }
+            long intendedStartNanos = intendedNanos;
+            long actualStartNanos = System.nanoTime();
+            HttpRequest request;
+            try {
+                request = endpoint.requestFactory().apply(random);
+            } catch (RuntimeException e) {
+                inFlight.release();
+                endpointStats.record(EndpointStats.EXCEPTION_STATUS, intendedStartNanos, actualStartNanos, System.nanoTime());
+                continue;
+            }
+            endpointStats.sent();
+            client.send(request).whenComplete((response, throwable) -> {
+                try {
+                    int status = throwable == null ? response.statusCode() : EndpointStats.EXCEPTION_STATUS;
+                    endpointStats.record(status, intendedStartNanos, actualStartNanos, System.nanoTime());
+                } finally {
+                    inFlight.release();
+                }
+            });
+        }
+    }
+
+    /**
+     * 워밍업이 끝나면 측정값을 비우고, reportInterval마다 구간 처리량과 지연을 출력합니다.
+     */
+    private void report(long startNanos, long measurementStartNanos, long endNanos) throws InterruptedException {
+        long intervalNanos = options.getReportInterval().toNanos();
+        long nextReportNanos = startNanos + intervalNanos;
+        long lastReportNanos = startNanos;
+        boolean measuring = false;
+
+        while (true) {
+            long now = System.nanoTime();
+            if (!measuring && now >= measurementStartNanos) {
+                stats.forEach(EndpointStats::reset);
+                measuring = true;
+                lastReportNanos = now;
+                nextReportNanos = now + intervalNanos;
+                log.info("워밍업 종료, 측정 시작");
+            }
+            if (now >= nextReportNanos) {
+                logInterval(measuring, (now - lastReportNanos) / 1e9);
+                lastReportNanos = now;
+                nextReportNanos += intervalNanos;
+            }
+            if (now >= endNanos) {
+                return;
+            }
+            long wakeUpNanos = Math.min(nextReportNanos, endNanos);
+            if (!measuring) {
+                wakeUpNanos = Math.min(wakeUpNanos, measurementStartNanos);
+            }
+            TimeUnit.NANOSECONDS.sleep(Math.max(wakeUpNanos - System.nanoTime(), 0));
+        }
+    }
+
+    private void logInterval(boolean measuring, double seconds) {
+        for (EndpointStats endpointStats : stats) {
+            Histogram interval = endpointStats.drainInterval();
+            log.info("{} [{}] {} req/s, p50 {}ms, p99 {}ms, max {}ms, 오류 {}, 버림 {}",
+                    measuring ? "측정" : "워밍업",
+                    endpointStats.getEndpoint().name(),
+                    String.format("%.1f", interval.getTotalCount() / seconds),
+                    millis(interval.getValueAtPercentile(50)),
+                    millis(interval.getValueAtPercentile(99)),
+                    millis(interval.getMaxValue()),
+                    endpointStats.errorCount(),
+                    endpointStats.droppedCount());
+        }
+    }
+
+    private static String millis(long micros) {
+        return String.format("%.2f", micros / 1000.0);
+    }
+}
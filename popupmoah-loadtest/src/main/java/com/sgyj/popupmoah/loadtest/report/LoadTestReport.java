@@ -0,0 +1,117 @@
+package com.sgyj.popupmoah.loadtest.report;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sgyj.popupmoah.loadtest.LoadTestOptions;
+import com.sgyj.popupmoah.loadtest.load.Endpoint;
+import com.sgyj.popupmoah.loadtest.load.EndpointStats;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 엔드포인트별 처리량과 지연 백분위 리포트
+ * 콘솔에 표로 출력하고, 실행 간 비교를 위해 같은 내용을 JSON 파일로 남깁니다. 지연은 밀리초 단위입니다.
+ */
+@Slf4j
+public class LoadTestReport {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final LoadTestOptions options;
+    private final List<EndpointStats> stats;
+    private final Map<String, Object> seedSummary;
+
+    public LoadTestReport(LoadTestOptions options, List<EndpointStats> stats, Map<String, Object> seedSummary) {
+        this.options = options;
+        this.stats = stats;
+        this.seedSummary = seedSummary;
+    }
+
+    public void print() {
+        StringBuilder table = new StringBuilder(System.lineSeparator());
+        table.append(String.format("%-20s %9s %9s %9s %7s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "target/s", "actual/s", "completed", "errors", "dropped",
+                "p50", "p90", "p99", "p99.9", "max"));
+        for (EndpointStats endpointStats : stats) {
+            Histogram responseTime = endpointStats.responseTime();
+            table.append(String.format("%-20s %9.1f %9.1f %9d %7d %7d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    endpointStats.getEndpoint().name(),
+                    endpointStats.getEndpoint().rate(),
+                    throughput(endpointStats),
+                    endpointStats.completedCount(),
+                    endpointStats.errorCount(),
+                    endpointStats.droppedCount(),
+                    millis(responseTime.getValueAtPercentile(50)),
+                    millis(responseTime.getValueAtPercentile(90)),
+                    millis(responseTime.getValueAtPercentile(99)),
+                    millis(responseTime.getValueAtPercentile(99.9)),
+                    millis(responseTime.getMaxValue())));
+        }
+        log.info("부하 테스트 결과 (측정 {}, 응답 시간 ms){}", options.getDuration(), table);
+    }
+
+    public Path write() throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("generatedAt", Instant.now().toString());
+        report.put("baseUrl", options.getBaseUrl());
+        report.put("warmupSeconds", options.getWarmup().toSeconds());
+        report.put("durationSeconds", options.getDuration().toSeconds());
+        report.put("seed", seedSummary);
+
+        List<Map<String, Object>> endpoints = new ArrayList<>();
+        for (EndpointStats endpointStats : stats) {
+            Endpoint endpoint = endpointStats.getEndpoint();
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("name", endpoint.name());
+            entry.put("method", endpoint.method());
+            entry.put("path", endpoint.path());
+            entry.put("targetRate", endpoint.rate());
+            entry.put("sent", endpointStats.sentCount());
+            entry.put("completed", endpointStats.completedCount());
+            entry.put("errors", endpointStats.errorCount());
+            entry.put("dropped", endpointStats.droppedCount());
+            entry.put("throughput", throughput(endpointStats));
+            entry.put("statusCounts", endpointStats.statusCounts());
+            entry.put("latencyMs", summary(endpointStats.responseTime()));
+            entry.put("serviceTimeMs", summary(endpointStats.serviceTime()));
+            endpoints.add(entry);
+        }
+        report.put("endpoints", endpoints);
+
+        Path path = options.getReport();
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), report);
+        log.info("리포트 저장: {}", path.toAbsolutePath());
+        return path;
+    }
+
+    private double throughput(EndpointStats endpointStats) {
+        return endpointStats.completedCount() / (options.getDuration().toMillis() / 1000.0);
+    }
+
+    private static Map<String, Object> summary(Histogram histogram) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        for (double percentile : PERCENTILES) {
+            summary.put("p" + (percentile == Math.rint(percentile) ? String.valueOf((int) percentile) : String.valueOf(percentile)),
+                    millis(histogram.getValueAtPercentile(percentile)));
+        }
+        summary.put("max", millis(histogram.getMaxValue()));
+        summary.put("mean", histogram.getTotalCount() == 0 ? 0.0 : histogram.getMean() / 1000.0);
+        return summary;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,98 @@
+package com.sgyj.popupmoah.loadtest.data;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ZipfSamplerTest {
+
+    private static final int SAMPLES = 100_000;
+
+    @Test
+    @DisplayName("순위별 추출 빈도가 1/k^s 비율을 따름 테스트")
+    void testFrequencyFollowsZipf() {
+        // Given
+        ZipfSampler sampler = new ZipfSampler(100, 1.1, new Random(42));
+        double harmonic = 0;
+        for (int rank = 1; rank <= 100; rank++) {
+            harmonic += 1.0 / Math.pow(rank, 1.1);
+        }
+
+        // When
+        int[] counts = sample(sampler, new Random(7));
+
+        // Then
+        int[] top = sampler.top(2);
+        double expectedFirst = SAMPLES / harmonic;
+        double expectedSecond = expectedFirst / Math.pow(2, 1.1);
+        assertThat((double) counts[top[0]]).isCloseTo(expectedFirst, withinPercentage(5));
+        assertThat((double) counts[top[1]]).isCloseTo(expectedSecond, withinPercentage(5));
+        assertThat(Arrays.stream(counts).max().getAsInt()).isEqualTo(counts[top[0]]);
+    }
+
+    @Test
+    @DisplayName("skew가 0이면 균등 분포 테스트")
+    void testZeroSkewIsUniform() {
+        // Given
+        ZipfSampler sampler = new ZipfSampler(10, 0, new Random(1));
+
+        // When
+        int[] counts = sample(sampler, new Random(7));
+
+        // Then
+        for (int count : counts) {
+            assertThat((double) count).isCloseTo(SAMPLES / 10.0, withinPercentage(5));
+        }
+    }
+
+    @Test
+    @DisplayName("인기 항목 인덱스는 서로 다르고 크기를 넘지 않음 테스트")
+    void testTopIndicesAreDistinctAndCapped() {
+        // Given
+        ZipfSampler sampler = new ZipfSampler(5, 1.1, new Random(42));
+
+        // When
+        int[] top = sampler.top(10);
+
+        // Then
+        assertThat(top).hasSize(5);
+        assertThat(Arrays.stream(top).distinct().count()).isEqualTo(5);
+        assertThat(top).allMatch(index -> index >= 0 && index < 5);
+    }
+
+    @Test
+    @DisplayName("같은 시드면 같은 표본 순서 테스트")
+    void testSameSeedIsReproducible() {
+        // Given
+        ZipfSampler first = new ZipfSampler(50, 1.1, new Random(42));
+        ZipfSampler second = new ZipfSampler(50, 1.1, new Random(42));
+        Random firstRandom = new Random(3);
+        Random secondRandom = new Random(3);
+
+        // When & Then
+        assertThat(first.top(50)).containsExactly(second.top(50));
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(first.sample(firstRandom)).isEqualTo(second.sample(secondRandom));
+        }
+    }
+
+    @Test
+    @DisplayName("표본 공간 크기 검증 테스트")
+    void testRejectsEmptySpace() {
+        assertThatThrownBy(() -> new ZipfSampler(0, 1.1, new Random(42)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("표본 공간 크기는 0보다 커야 합니다");
+    }
+
+    private static int[] sample(ZipfSampler sampler, Random random) {
+        int[] counts = new int[sampler.size()];
+        for (int i = 0; i < SAMPLES; i++) {
+            counts[sampler.sample(random)]++;
+        }
+        return counts;
+    }
+}
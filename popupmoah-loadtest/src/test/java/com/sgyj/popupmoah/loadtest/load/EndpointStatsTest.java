@@ -0,0 +1,104 @@
+package com.sgyj.popupmoah.loadtest.load;
+
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class EndpointStatsTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private EndpointStats stats;
+
+    @BeforeEach
+    void setUp() {
+        stats = new EndpointStats(new Endpoint("popupstore-detail", "GET", "/api/popupstores/{id}", 10.0, random -> null));
+    }
+
+    @Test
+    @DisplayName("응답 시간은 예정 시각부터, 서비스 시간은 실제 전송 시각부터 측정 테스트")
+    void testResponseTimeIncludesSchedulingDelay() {
+        // Given
+        long intended = System.nanoTime();
+
+        // When (예정보다 90ms 늦게 보내 10ms 만에 응답)
+        stats.record(200, intended, intended + 90 * MILLIS, intended + 100 * MILLIS);
+
+        // Then
+        Histogram responseTime = stats.responseTime();
+        Histogram serviceTime = stats.serviceTime();
+        assertThat(responseTime.getTotalCount()).isEqualTo(1);
+        assertThat((double) responseTime.getMaxValue()).isCloseTo(100_000, withinPercentage(1));
+        assertThat((double) serviceTime.getMaxValue()).isCloseTo(10_000, withinPercentage(1));
+    }
+
+    @Test
+    @DisplayName("4xx/5xx와 예외는 오류로, 응답 코드별 건수 집계 테스트")
+    void testCountsErrorsAndStatuses() {
+        // Given
+        long now = System.nanoTime();
+
+        // When
+        stats.sent();
+        stats.sent();
+        stats.sent();
+        stats.record(200, now, now, now + MILLIS);
+        stats.record(404, now, now, now + MILLIS);
+        stats.record(EndpointStats.EXCEPTION_STATUS, now, now, now + MILLIS);
+        stats.dropped();
+
+        // Then
+        assertThat(stats.sentCount()).isEqualTo(3);
+        assertThat(stats.completedCount()).isEqualTo(3);
+        assertThat(stats.errorCount()).isEqualTo(2);
+        assertThat(stats.droppedCount()).isEqualTo(1);
+        assertThat(stats.statusCounts()).containsExactly(
+                Map.entry(EndpointStats.EXCEPTION_STATUS, 1L), Map.entry(200, 1L), Map.entry(404, 1L));
+    }
+
+    @Test
+    @DisplayName("측정 시작 후에는 워밍업 값과 워밍업 중 예정된 요청 제외 테스트")
+    void testResetDiscardsWarmup() {
+        // Given
+        long warmupStart = System.nanoTime();
+        stats.sent();
+        stats.record(500, warmupStart, warmupStart, warmupStart + MILLIS);
+        stats.drainInterval();
+
+        // When
+        stats.reset();
+        long measuredStart = System.nanoTime();
+        stats.record(200, warmupStart, warmupStart, measuredStart + MILLIS);
+        stats.record(200, measuredStart, measuredStart, measuredStart + 2 * MILLIS);
+
+        // Then
+        assertThat(stats.sentCount()).isZero();
+        assertThat(stats.completedCount()).isEqualTo(1);
+        assertThat(stats.errorCount()).isZero();
+        assertThat(stats.statusCounts()).containsExactly(Map.entry(200, 1L));
+        assertThat(stats.responseTime().getTotalCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("구간 히스토그램은 읽을 때마다 비워지고 누적 값에는 남음 테스트")
+    void testDrainIntervalAccumulates() {
+        // Given
+        long now = System.nanoTime();
+        stats.record(200, now, now, now + MILLIS);
+
+        // When
+        Histogram first = stats.drainInterval();
+        Histogram second = stats.drainInterval();
+
+        // Then
+        assertThat(first.getTotalCount()).isEqualTo(1);
+        assertThat(second.getTotalCount()).isZero();
+        assertThat(stats.responseTime().getTotalCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,25 @@
+package com.sgyj.popupmoah.shared.application.service;
+
+import com.sgyj.popupmoah.shared.application.dto.CoordinatesDto;
+import com.sgyj.popupmoah.shared.application.dto.PlaceSearchResponse;
+
+/**
+ * 주변 팝업스토어 검색 포트
+ * 외부 지도 API 대신 서비스가 보유한 팝업스토어 좌표로 주변 검색을 제공하는 구현체를 위한 인터페이스
+ */
+public interface NearbyPopupStoreSearchPort {
+
+    /**
+     * 중심 좌표에서 반경(미터) 이내의 팝업스토어를 가까운 순으로 검색합니다.
+     * @param page 페이지 번호 (1부터 시작)
+     */
+    PlaceSearchResponse searchNearby(CoordinatesDto center, int radiusMeters, int page, int size);
+
+    /**
+     * 경계 상자 안의 팝업스토어를 기준 좌표에서 가까운 순으로 검색합니다.
+     * 기준 좌표가 없으면 경계 상자의 중심을 사용합니다.
+     * @param page 페이지 번호 (1부터 시작)
+     */
+    PlaceSearchResponse searchWithinBounds(CoordinatesDto southWest, CoordinatesDto northEast,
+                                           CoordinatesDto origin, int page, int size);
+}
@@ -19,9 +19,11 @@ import java.time.LocalDateTime;
     @Index(name = "idx_popup_stores_end_date", columnList = "end_date"),
     @Index(name = "idx_popup_stores_location", columnList = "location"),
     @Index(name = "idx_popup_stores_created_at", columnList = "created_at"),
+    @Index(name = "idx_popup_stores_created_at_id", columnList = "created_at, id"),
     @Index(name = "idx_popup_stores_active_dates", columnList = "active, start_date, end_date"),
     @Index(name = "idx_popup_stores_category_active", columnList = "category, active"),
-    @Index(name = "idx_popup_stores_status_created", columnList = "status, created_at")
+    @Index(name = "idx_popup_stores_status_created", columnList = "status, created_at"),
+    @Index(name = "idx_popup_stores_updated_at", columnList = "updated_at")
 })
 @Getter
 @Setter
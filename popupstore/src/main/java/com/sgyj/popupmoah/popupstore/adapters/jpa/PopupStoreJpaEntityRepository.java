@@ -2,6 +2,7 @@ package com.sgyj.popupmoah.popupstore.adapters.jpa;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -46,9 +47,14 @@ public interface PopupStoreJpaEntityRepository extends JpaRepository<PopupStoreJ
     List<PopupStoreJpaEntity> findCurrentlyActive(@Param("now") LocalDateTime now);
 
     /**
-     * 복합 검색 조건으로 팝업스토어를 조회합니다. (최적화된 쿼리)
+     * 지정한 시각 이후 수정된 팝업스토어를 조회합니다. (노드 간 색인 동기화용)
+     */
+    List<PopupStoreJpaEntity> findByUpdatedAtGreaterThanEqual(LocalDateTime updatedAt);
+
+    /**
+     * 복합 검색 조건 (검색/개수/키셋 쿼리에서 공통으로 사용)
      */
-    @Query("SELECT p FROM PopupStoreJpaEntity p WHERE " +
+    String SEARCH_CONDITIONS =
            "(:keyword IS NULL OR " +
            "LOWER(p.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
            "LOWER(p.description) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
@@ -65,8 +71,13 @@ public interface PopupStoreJpaEntityRepository extends JpaRepository<PopupStoreJ
            "(p.startDate IS NULL OR p.startDate <= :now) AND " +
            "(p.endDate IS NULL OR p.endDate >= :now)) OR " +
            "(:currentlyActive = false AND (p.active = false OR " +
-           "p.startDate > :now OR p.endDate < :now))) " +
-           "ORDER BY p.createdAt DESC")
+           "p.startDate > :now OR p.endDate < :now)))";
+
+    /**
+     * 복합 검색 조건으로 팝업스토어를 조회합니다. (최적화된 쿼리)
+     * 정렬은 pageable의 정렬을 따릅니다.
+     */
+    @Query("SELECT p FROM PopupStoreJpaEntity p WHERE " + SEARCH_CONDITIONS)
     Page<PopupStoreJpaEntity> findBySearchConditions(
             @Param("keyword") String keyword,
             @Param("category") String category,
@@ -80,26 +91,69 @@ public interface PopupStoreJpaEntityRepository extends JpaRepository<PopupStoreJ
             @Param("now") LocalDateTime now,
             Pageable pageable);
 
+    /**
+     * 복합 검색 조건으로 팝업스토어를 조회합니다. (COUNT 쿼리 없이 다음 페이지 존재 여부만 확인)
+     */
+    @Query("SELECT p FROM PopupStoreJpaEntity p WHERE " + SEARCH_CONDITIONS)
+    Slice<PopupStoreJpaEntity> findSliceBySearchConditions(
+            @Param("keyword") String keyword,
+            @Param("category") String category,
+            @Param("location") String location,
+            @Param("startDateFrom") LocalDateTime startDateFrom,
+            @Param("startDateTo") LocalDateTime startDateTo,
+            @Param("endDateFrom") LocalDateTime endDateFrom,
+            @Param("endDateTo") LocalDateTime endDateTo,
+            @Param("active") Boolean active,
+            @Param("currentlyActive") Boolean currentlyActive,
+            @Param("now") LocalDateTime now,
+            Pageable pageable);
+
+    /**
+     * 커서 이전 (createdAt, id) 위치부터 내림차순으로 조회합니다. (키셋 페이지네이션)
+     */
+    @Query("SELECT p FROM PopupStoreJpaEntity p WHERE " + SEARCH_CONDITIONS + " AND " +
+           "(p.createdAt < :cursorCreatedAt OR (p.createdAt = :cursorCreatedAt AND p.id < :cursorId)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PopupStoreJpaEntity> findBySearchConditionsBefore(
+            @Param("keyword") String keyword,
+            @Param("category") String category,
+            @Param("location") String location,
+            @Param("startDateFrom") LocalDateTime startDateFrom,
+            @Param("startDateTo") LocalDateTime startDateTo,
+            @Param("endDateFrom") LocalDateTime endDateFrom,
+            @Param("endDateTo") LocalDateTime endDateTo,
+            @Param("active") Boolean active,
+            @Param("currentlyActive") Boolean currentlyActive,
+            @Param("now") LocalDateTime now,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
+    /**
+     * 커서 이후 (createdAt, id) 위치부터 오름차순으로 조회합니다. (키셋 페이지네이션)
+     */
+    @Query("SELECT p FROM PopupStoreJpaEntity p WHERE " + SEARCH_CONDITIONS + " AND " +
+           "(p.createdAt > :cursorCreatedAt OR (p.createdAt = :cursorCreatedAt AND p.id > :cursorId)) " +
+           "ORDER BY p.createdAt ASC, p.id ASC")
+    List<PopupStoreJpaEntity> findBySearchConditionsAfter(
+            @Param("keyword") String keyword,
+            @Param("category") String category,
+            @Param("location") String location,
+            @Param("startDateFrom") LocalDateTime startDateFrom,
+            @Param("startDateTo") LocalDateTime startDateTo,
+            @Param("endDateFrom") LocalDateTime endDateFrom,
+            @Param("endDateTo") LocalDateTime endDateTo,
+            @Param("active") Boolean active,
+            @Param("currentlyActive") Boolean currentlyActive,
+            @Param("now") LocalDateTime now,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
     /**
      * 복합 검색 조건으로 팝업스토어 개수를 조회합니다.
      */
-    @Query("SELECT COUNT(p) FROM PopupStoreJpaEntity p WHERE " +
-           "(:keyword IS NULL OR LOWER(p.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(p.description) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(p.location) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND " +
-           "(:category IS NULL OR p.category = :category) AND " +
-           "(:location IS NULL OR LOWER(p.location) LIKE LOWER(CONCAT('%', :location, '%'))) AND " +
-           "(:startDateFrom IS NULL OR p.startDate >= :startDateFrom) AND " +
-           "(:startDateTo IS NULL OR p.startDate <= :startDateTo) AND " +
-           "(:endDateFrom IS NULL OR p.endDate >= :endDateFrom) AND " +
-           "(:endDateTo IS NULL OR p.endDate <= :endDateTo) AND " +
-           "(:active IS NULL OR p.active = :active) AND " +
-           "(:currentlyActive IS NULL OR " +
-           "(:currentlyActive = true AND p.active = true AND " +
-           "(p.startDate IS NULL OR p.startDate <= :now) AND " +
-           "(p.endDate IS NULL OR p.endDate >= :now)) OR " +
-           "(:currentlyActive = false AND (p.active = false OR " +
-           "p.startDate > :now OR p.endDate < :now)))")
+    @Query("SELECT COUNT(p) FROM PopupStoreJpaEntity p WHERE " + SEARCH_CONDITIONS)
     Long countBySearchConditions(
             @Param("keyword") String keyword,
             @Param("category") String category,
@@ -2,11 +2,15 @@ package com.sgyj.popupmoah.popupstore.adapters.jpa;
 
 import com.sgyj.popupmoah.popupstore.domain.entity.PopupStore;
 import com.sgyj.popupmoah.popupstore.domain.port.PopupStoreRepositoryPort;
+import com.sgyj.popupmoah.popupstore.domain.search.PopupStoreSearchCondition;
+import com.sgyj.popupmoah.popupstore.domain.search.PopupStoreSearchCursor;
+import com.sgyj.popupmoah.popupstore.domain.search.PopupStoreSearchResult;
 import jakarta.persistence.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 
@@ -90,6 +94,13 @@ public class PopupStoreJpaRepository implements PopupStoreRepositoryPort {
                 .toList();
     }
 
+    /**
+     * 지정한 시각 이후 수정된 팝업스토어를 조회합니다.
+     */
+    public List<PopupStore> findUpdatedSince(LocalDateTime updatedAt) {
+        return toDomainEntities(repository.findByUpdatedAtGreaterThanEqual(updatedAt));
+    }
+
     @Override
     public List<PopupStore> findBySearchConditions(String keyword, String category, String location,
                                                    LocalDateTime startDateFrom, LocalDateTime startDateTo,
@@ -98,8 +109,7 @@ public class PopupStoreJpaRepository implements PopupStoreRepositoryPort {
                                                    String sortBy, String sortDirection,
                                                    Integer page, Integer size) {
         // 정렬 설정
-        Sort sort = Sort.by(Sort.Direction.fromString(sortDirection), sortBy);
-        Pageable pageable = PageRequest.of(page, size, sort);
+        Pageable pageable = PageRequest.of(page, size, searchSort(sortBy, sortDirection));
         
         LocalDateTime now = LocalDateTime.now();
         return repository.findBySearchConditions(
@@ -124,6 +134,83 @@ public class PopupStoreJpaRepository implements PopupStoreRepositoryPort {
         );
     }
 
+    @Override
+    public PopupStoreSearchResult searchBySearchConditions(PopupStoreSearchCondition condition) {
+        if (condition.isKeyset()) {
+            return searchByCursor(condition);
+        }
+
+        Pageable pageable = PageRequest.of(condition.getPage(), condition.getSize(),
+                searchSort(condition.getSortBy(), condition.getSortDirection()));
+        LocalDateTime now = LocalDateTime.now();
+
+        if (!condition.isIncludeTotal()) {
+            // COUNT 쿼리 없이 size + 1 건만 조회하여 다음 페이지 존재 여부를 판단
+            Slice<PopupStoreJpaEntity> slice = repository.findSliceBySearchConditions(
+                    condition.getKeyword(), condition.getCategory(), condition.getLocation(),
+                    condition.getStartDateFrom(), condition.getStartDateTo(),
+                    condition.getEndDateFrom(), condition.getEndDateTo(),
+                    condition.getActive(), condition.getCurrentlyActive(), now, pageable
+            );
+            return new PopupStoreSearchResult(toDomainEntities(slice.getContent()), null, slice.hasNext());
+        }
+
+        Page<PopupStoreJpaEntity> result = repository.findBySearchConditions(
+                condition.getKeyword(), condition.getCategory(), condition.getLocation(),
+                condition.getStartDateFrom(), condition.getStartDateTo(),
+                condition.getEndDateFrom(), condition.getEndDateTo(),
+                condition.getActive(), condition.getCurrentlyActive(), now, pageable
+        );
+        return new PopupStoreSearchResult(toDomainEntities(result.getContent()), result.getTotalElements(), result.hasNext());
+    }
+
+    /**
+     * (createdAt, id) 커서 이후의 행을 인덱스 범위 탐색으로 조회합니다.
+     * OFFSET 없이 size + 1 건을 읽어 다음 페이지 존재 여부를 판단합니다.
+     */
+    private PopupStoreSearchResult searchByCursor(PopupStoreSearchCondition condition) {
+        PopupStoreSearchCursor cursor = condition.getCursor();
+        Pageable limit = PageRequest.of(0, condition.getSize() + 1);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<PopupStoreJpaEntity> rows = condition.isAscending()
+                ? repository.findBySearchConditionsAfter(
+                        condition.getKeyword(), condition.getCategory(), condition.getLocation(),
+                        condition.getStartDateFrom(), condition.getStartDateTo(),
+                        condition.getEndDateFrom(), condition.getEndDateTo(),
+                        condition.getActive(), condition.getCurrentlyActive(), now,
+                        cursor.getCreatedAt(), cursor.getId(), limit)
+                : repository.findBySearchConditionsBefore(
+                        condition.getKeyword(), condition.getCategory(), condition.getLocation(),
+                        condition.getStartDateFrom(), condition.getStartDateTo(),
+                        condition.getEndDateFrom(), condition.getEndDateTo(),
+                        condition.getActive(), condition.getCurrentlyActive(), now,
+                        cursor.getCreatedAt(), cursor.getId(), limit);
+
+        boolean hasNext = rows.size() > condition.getSize();
+        List<PopupStoreJpaEntity> page = hasNext ? rows.subList(0, condition.getSize()) : rows;
+
+        Long totalElements = null;
+        if (condition.isIncludeTotal()) {
+            totalElements = repository.countBySearchConditions(
+                    condition.getKeyword(), condition.getCategory(), condition.getLocation(),
+                    condition.getStartDateFrom(), condition.getStartDateTo(),
+                    condition.getEndDateFrom(), condition.getEndDateTo(),
+                    condition.getActive(), condition.getCurrentlyActive(), now);
+        }
+        return new PopupStoreSearchResult(toDomainEntities(page), totalElements, hasNext);
+    }
+
+    /**
+     * 요청한 정렬 뒤에 같은 방향의 id 정렬을 붙입니다.
+     * 정렬 값이 같은 행의 순서가 페이지마다 바뀌지 않고, 첫 페이지의 마지막 행에서 만든 커서가 키셋 조회 순서와 맞습니다.
+     */
+    private static Sort searchSort(String sortBy, String sortDirection) {
+        Sort.Direction direction = Sort.Direction.fromString(sortDirection);
+        Sort sort = Sort.by(direction, sortBy);
+        return "id".equals(sortBy) ? sort : sort.and(Sort.by(direction, "id"));
+    }
+
     // ========== 관리자 기능 ==========
 
     @Override
@@ -138,6 +225,12 @@ public class PopupStoreJpaRepository implements PopupStoreRepositoryPort {
         return entities.map(this::toDomainEntity);
     }
     
+    private List<PopupStore> toDomainEntities(List<PopupStoreJpaEntity> entities) {
+        return entities.stream()
+                .map(this::toDomainEntity)
+                .toList();
+    }
+
     /**
      * 도메인 엔티티를 JPA 엔티티로 변환
      */
@@ -0,0 +1,65 @@
+package com.sgyj.popupmoah.popupstore.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 팝업스토어 지도 클러스터 응답 DTO
+ * 화면 영역과 줌 레벨에 맞춰 미리 집계된 클러스터만 담아 팝업스토어 수와 무관하게 응답 크기를 유지
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PopupStoreClusterResponse {
+
+    /**
+     * 줌 레벨
+     */
+    private Integer zoom;
+
+    /**
+     * 영역 내 전체 팝업스토어 수
+     */
+    private Integer totalCount;
+
+    /**
+     * 클러스터 목록 (개수 내림차순)
+     */
+    private List<Cluster> clusters;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Cluster {
+        /**
+         * 격자 셀 ID (zoom/x/y)
+         */
+        private String cellId;
+
+        /**
+         * 클러스터에 속한 팝업스토어 수
+         */
+        private Integer count;
+
+        /**
+         * 무게중심 위도
+         */
+        private Double latitude;
+
+        /**
+         * 무게중심 경도
+         */
+        private Double longitude;
+
+        /**
+         * 대표 팝업스토어 ID 목록
+         */
+        private List<Long> popupStoreIds;
+    }
+}
@@ -84,4 +84,14 @@ public class PopupStoreSearchRequest {
      * 정렬 방향 (asc, desc)
      */
     private String sortDirection;
+
+    /**
+     * 다음 페이지 커서 (이전 응답의 nextCursor, 지정 시 page는 무시하고 createdAt 기준으로 정렬)
+     */
+    private String cursor;
+
+    /**
+     * 전체 개수 포함 여부 (기본값: 커서 조회 시 false, 그 외 true)
+     */
+    private Boolean includeTotal;
 }
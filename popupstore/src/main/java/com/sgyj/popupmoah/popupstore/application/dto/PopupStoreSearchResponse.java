@@ -24,12 +24,12 @@ public class PopupStoreSearchResponse {
     private List<PopupStoreResponse> popupStores;
 
     /**
-     * 전체 개수
+     * 전체 개수 (includeTotal=false 인 경우 null)
      */
     private Long totalElements;
 
     /**
-     * 전체 페이지 수
+     * 전체 페이지 수 (includeTotal=false 인 경우 null)
      */
     private Integer totalPages;
 
@@ -53,6 +53,16 @@ public class PopupStoreSearchResponse {
      */
     private Boolean last;
 
+    /**
+     * 다음 페이지 존재 여부
+     */
+    private Boolean hasNext;
+
+    /**
+     * 다음 페이지 커서 (다음 요청의 cursor로 전달, 마지막 페이지면 null)
+     */
+    private String nextCursor;
+
     /**
      * 검색 조건
      */
@@ -1,18 +1,23 @@
 package com.sgyj.popupmoah.popupstore.application.service;
 
+import com.sgyj.popupmoah.popupstore.application.dto.PopupStoreClusterResponse;
 import com.sgyj.popupmoah.popupstore.application.dto.PopupStoreResponse;
 import com.sgyj.popupmoah.popupstore.application.dto.PopupStoreSearchRequest;
 import com.sgyj.popupmoah.popupstore.application.dto.PopupStoreSearchResponse;
 import com.sgyj.popupmoah.popupstore.domain.aggregate.PopupStoreAggregate;
 import com.sgyj.popupmoah.popupstore.domain.entity.PopupStore;
+import com.sgyj.popupmoah.popupstore.domain.port.PopupStoreClusterPort;
+import com.sgyj.popupmoah.popupstore.domain.port.PopupStoreListCachePort;
 import com.sgyj.popupmoah.popupstore.domain.port.PopupStoreRepositoryPort;
 import com.sgyj.popupmoah.popupstore.domain.port.PopupStoreServicePort;
+import com.sgyj.popupmoah.popupstore.domain.search.PopupStoreCluster;
+import com.sgyj.popupmoah.popupstore.domain.search.PopupStoreSearchCondition;
+import com.sgyj.popupmoah.popupstore.domain.search.PopupStoreSearchCursor;
+import com.sgyj.popupmoah.popupstore.domain.search.PopupStoreSearchResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import io.micrometer.core.annotation.Timed;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -34,13 +39,20 @@ import java.util.stream.Collectors;
 @Transactional
 public class PopupStoreApplicationService implements PopupStoreServicePort {
     
+    private static final String CACHE_NAME = "popupstores";
+    private static final String ALL_KEY = "all";
+    private static final String ACTIVE_KEY = "active";
+    
     private final PopupStoreRepositoryPort repository;
     private final PopupStoreAggregate aggregate;
+    private final PopupStoreClusterPort clusterIndex;
+    private final PopupStoreListCachePort listCache;
     
+    /**
+     * 캐시는 어그리게이트가 발행한 변경 이벤트로 PopupStoreCacheMaintainer가 커밋 후에 고칩니다.
+     */
     @Override
-    @CacheEvict(value = "popupstores", allEntries = true)
     public PopupStore createPopupStore(PopupStore popupStore) {
-        log.debug("팝업스토어 생성 - 캐시 무효화");
         return aggregate.create(popupStore);
     }
     
@@ -52,31 +64,25 @@ public class PopupStoreApplicationService implements PopupStoreServicePort {
         return aggregate.findById(id);
     }
     
+    /**
+     * 전체 목록은 갱신 중에도 이전 값을 제공하고, 한 노드의 한 요청만 다시 조회합니다.
+     */
     @Override
-    @Cacheable(value = "popupstores", key = "'all'")
     @Timed(name = "popupstore.get.all", description = "전체 팝업스토어 조회 시간")
     public List<PopupStore> getAllPopupStores() {
-        log.debug("전체 팝업스토어 조회 (캐시 미스)");
-        return aggregate.findAll();
+        return listCache.get(CACHE_NAME, ALL_KEY, aggregate::findAll);
     }
     
     @Override
-    @Cacheable(value = "popupstores", key = "'active'")
     @Timed(name = "popupstore.get.active", description = "활성 팝업스토어 조회 시간")
     public List<PopupStore> getActivePopupStores() {
-        log.debug("활성 팝업스토어 조회 (캐시 미스)");
-        return aggregate.findActive();
+        return listCache.get(CACHE_NAME, ACTIVE_KEY, aggregate::findActive);
     }
     
     @Override
-    @Caching(evict = {
-        @CacheEvict(value = "popupstores", key = "#id"),
-        @CacheEvict(value = "popupstores", key = "'all'"),
-        @CacheEvict(value = "popupstores", key = "'active'")
-    })
     @Timed(name = "popupstore.update", description = "팝업스토어 수정 시간")
     public PopupStore updatePopupStore(Long id, PopupStore popupStore) {
-        log.debug("팝업스토어 수정 - 캐시 무효화: id={}", id);
+        log.debug("팝업스토어 수정: id={}", id);
         return aggregate.update(id, popupStore);
     }
     
@@ -112,45 +118,50 @@ public class PopupStoreApplicationService implements PopupStoreServicePort {
         String sortBy = request.getSortBy() != null ? request.getSortBy() : "createdAt";
         String sortDirection = request.getSortDirection() != null ? request.getSortDirection() : "desc";
 
-        // 검색 조건으로 팝업스토어 조회
-        List<PopupStore> popupStores = aggregate.searchByConditions(
-                request.getKeyword(),
-                request.getCategory(),
-                request.getLocation(),
-                request.getStartDateFrom(),
-                request.getStartDateTo(),
-                request.getEndDateFrom(),
-                request.getEndDateTo(),
-                request.getActive(),
-                request.getCurrentlyActive(),
-                sortBy,
-                sortDirection,
-                page,
-                size
-        );
+        // 커서가 있으면 (createdAt, id) 키셋 페이지네이션으로 조회하고, 기본적으로 COUNT를 생략
+        PopupStoreSearchCursor cursor = request.getCursor() != null && !request.getCursor().isBlank()
+                ? PopupStoreSearchCursor.decode(request.getCursor())
+                : null;
+        if (cursor != null) {
+            sortBy = "createdAt";
+        }
+        boolean includeTotal = request.getIncludeTotal() != null ? request.getIncludeTotal() : cursor == null;
 
-        // 전체 개수 조회
-        Long totalElements = aggregate.countByConditions(
-                request.getKeyword(),
-                request.getCategory(),
-                request.getLocation(),
-                request.getStartDateFrom(),
-                request.getStartDateTo(),
-                request.getEndDateFrom(),
-                request.getEndDateTo(),
-                request.getActive(),
-                request.getCurrentlyActive()
-        );
+        // 검색 조건으로 팝업스토어와 전체 개수를 한 번에 조회
+        PopupStoreSearchCondition condition = PopupStoreSearchCondition.builder()
+                .keyword(request.getKeyword())
+                .category(request.getCategory())
+                .location(request.getLocation())
+                .startDateFrom(request.getStartDateFrom())
+                .startDateTo(request.getStartDateTo())
+                .endDateFrom(request.getEndDateFrom())
+                .endDateTo(request.getEndDateTo())
+                .active(request.getActive())
+                .currentlyActive(request.getCurrentlyActive())
+                .sortBy(sortBy)
+                .sortDirection(sortDirection)
+                .page(page)
+                .size(size)
+                .cursor(cursor)
+                .includeTotal(includeTotal)
+                .build();
+        PopupStoreSearchResult result = aggregate.search(condition);
+        List<PopupStore> popupStores = result.getContent();
+        Long totalElements = result.getTotalElements();
 
         // PopupStoreResponse로 변환
         List<PopupStoreResponse> responses = popupStores.stream()
                 .map(this::convertToResponse)
                 .collect(Collectors.toList());
 
-        // 페이징 정보 계산
-        Integer totalPages = (int) Math.ceil((double) totalElements / size);
-        Boolean first = page == 0;
-        Boolean last = page >= totalPages - 1;
+        // 페이징 정보 계산 (전체 개수를 생략한 경우 다음 페이지 존재 여부로 판단)
+        Integer totalPages = totalElements != null ? (int) Math.ceil((double) totalElements / size) : null;
+        Boolean first = cursor == null && page == 0;
+        Boolean last = !result.isHasNext();
+
+        // 다음 페이지 커서 (createdAt 정렬일 때만 제공, 첫 페이지와 같은 방향의 (createdAt, id) 순서로 이어서 조회)
+        PopupStoreSearchCursor next = "createdAt".equals(sortBy) ? result.nextCursor() : null;
+        String nextCursor = next != null ? next.encode() : null;
 
         // 검색 조건 정보
         PopupStoreSearchResponse.SearchCondition searchCondition = PopupStoreSearchResponse.SearchCondition.builder()
@@ -175,6 +186,8 @@ public class PopupStoreApplicationService implements PopupStoreServicePort {
                 .pageSize(size)
                 .first(first)
                 .last(last)
+                .hasNext(result.isHasNext())
+                .nextCursor(nextCursor)
                 .searchCondition(searchCondition)
                 .build();
     }
@@ -215,6 +228,35 @@ public class PopupStoreApplicationService implements PopupStoreServicePort {
         return aggregate.findCurrentlyActive();
     }
 
+    /**
+     * 지도 영역과 줌 레벨에 해당하는 팝업스토어 클러스터를 조회합니다.
+     */
+    @Transactional(readOnly = true)
+    @Timed(name = "popupstore.get.clusters", description = "팝업스토어 지도 클러스터 조회 시간")
+    public PopupStoreClusterResponse getPopupStoreClusters(double south, double west, double north, double east, int zoom) {
+        log.debug("팝업스토어 지도 클러스터 조회 요청: {},{} ~ {},{}, zoom={}", south, west, north, east, zoom);
+        if (!clusterIndex.isReady()) {
+            clusterIndex.rebuild(repository.findByActiveTrue());
+        }
+
+        List<PopupStoreCluster> clusters = clusterIndex.findClusters(south, west, north, east, zoom);
+        List<PopupStoreClusterResponse.Cluster> responses = clusters.stream()
+                .map(cluster -> PopupStoreClusterResponse.Cluster.builder()
+                        .cellId(cluster.getCellId())
+                        .count(cluster.getCount())
+                        .latitude(cluster.getLatitude())
+                        .longitude(cluster.getLongitude())
+                        .popupStoreIds(cluster.getRepresentativeIds())
+                        .build())
+                .collect(Collectors.toList());
+
+        return PopupStoreClusterResponse.builder()
+                .zoom(zoom)
+                .totalCount(clusters.stream().mapToInt(PopupStoreCluster::getCount).sum())
+                .clusters(responses)
+                .build();
+    }
+
     /**
      * PopupStore 엔티티를 PopupStoreResponse DTO로 변환
      */
@@ -258,26 +300,10 @@ public class PopupStoreApplicationService implements PopupStoreServicePort {
     /**
      * 팝업스토어 승인
      */
-    @Caching(evict = {
-        @CacheEvict(value = "popupstores", key = "#popupStoreId"),
-        @CacheEvict(value = "popupstores", key = "'all'"),
-        @CacheEvict(value = "popupstores", key = "'active'")
-    })
     public void approvePopupStore(Long popupStoreId) {
         log.info("팝업스토어 승인 요청: popupStoreId={}", popupStoreId);
         
-        Optional<PopupStore> popupStoreOpt = aggregate.findById(popupStoreId);
-        if (popupStoreOpt.isEmpty()) {
-            throw new IllegalArgumentException("팝업스토어를 찾을 수 없습니다: " + popupStoreId);
-        }
-        
-        PopupStore popupStore = popupStoreOpt.get();
-        if (!"PENDING".equals(popupStore.getStatus())) {
-            throw new IllegalArgumentException("승인 대기 상태가 아닌 팝업스토어입니다: " + popupStoreId);
-        }
-        
-        popupStore.approve();
-        repository.save(popupStore);
+        aggregate.approve(popupStoreId);
         
         log.info("팝업스토어 승인 완료: popupStoreId={}", popupStoreId);
     }
@@ -285,26 +311,10 @@ public class PopupStoreApplicationService implements PopupStoreServicePort {
     /**
      * 팝업스토어 거부
      */
-    @Caching(evict = {
-        @CacheEvict(value = "popupstores", key = "#popupStoreId"),
-        @CacheEvict(value = "popupstores", key = "'all'"),
-        @CacheEvict(value = "popupstores", key = "'active'")
-    })
     public void rejectPopupStore(Long popupStoreId, String reason) {
         log.info("팝업스토어 거부 요청: popupStoreId={}, reason={}", popupStoreId, reason);
         
-        Optional<PopupStore> popupStoreOpt = aggregate.findById(popupStoreId);
-        if (popupStoreOpt.isEmpty()) {
-            throw new IllegalArgumentException("팝업스토어를 찾을 수 없습니다: " + popupStoreId);
-        }
-        
-        PopupStore popupStore = popupStoreOpt.get();
-        if (!"PENDING".equals(popupStore.getStatus())) {
-            throw new IllegalArgumentException("승인 대기 상태가 아닌 팝업스토어입니다: " + popupStoreId);
-        }
-        
-        popupStore.reject(reason);
-        repository.save(popupStore);
+        aggregate.reject(popupStoreId, reason);
         
         log.info("팝업스토어 거부 완료: popupStoreId={}, reason={}", popupStoreId, reason);
     }
@@ -315,14 +325,7 @@ public class PopupStoreApplicationService implements PopupStoreServicePort {
     public void deactivatePopupStore(Long popupStoreId) {
         log.info("팝업스토어 비활성화 요청: popupStoreId={}", popupStoreId);
         
-        Optional<PopupStore> popupStoreOpt = aggregate.findById(popupStoreId);
-        if (popupStoreOpt.isEmpty()) {
-            throw new IllegalArgumentException("팝업스토어를 찾을 수 없습니다: " + popupStoreId);
-        }
-        
-        PopupStore popupStore = popupStoreOpt.get();
-        popupStore.deactivate();
-        repository.save(popupStore);
+        aggregate.deactivate(popupStoreId);
         
         log.info("팝업스토어 비활성화 완료: popupStoreId={}", popupStoreId);
     }
@@ -333,14 +336,7 @@ public class PopupStoreApplicationService implements PopupStoreServicePort {
     public void activatePopupStore(Long popupStoreId) {
         log.info("팝업스토어 재활성화 요청: popupStoreId={}", popupStoreId);
         
-        Optional<PopupStore> popupStoreOpt = aggregate.findById(popupStoreId);
-        if (popupStoreOpt.isEmpty()) {
-            throw new IllegalArgumentException("팝업스토어를 찾을 수 없습니다: " + popupStoreId);
-        }
-        
-        PopupStore popupStore = popupStoreOpt.get();
-        popupStore.activate();
-        repository.save(popupStore);
+        aggregate.activate(popupStoreId);
         
         log.info("팝업스토어 재활성화 완료: popupStoreId={}", popupStoreId);
     }
@@ -383,11 +379,7 @@ public class PopupStoreApplicationService implements PopupStoreServicePort {
     public void deletePopupStore(Long popupStoreId) {
         log.info("팝업스토어 삭제 요청 (관리자용): popupStoreId={}", popupStoreId);
         
-        if (!repository.existsById(popupStoreId)) {
-            throw new IllegalArgumentException("팝업스토어를 찾을 수 없습니다: " + popupStoreId);
-        }
-        
-        repository.deleteById(popupStoreId);
+        aggregate.delete(popupStoreId);
         
         log.info("팝업스토어 삭제 완료: popupStoreId={}", popupStoreId);
     }
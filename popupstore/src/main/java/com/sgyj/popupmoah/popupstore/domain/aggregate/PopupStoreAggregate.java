@@ -1,10 +1,17 @@
 package com.sgyj.popupmoah.popupstore.domain.aggregate;
 
 import com.sgyj.popupmoah.popupstore.domain.entity.PopupStore;
+import com.sgyj.popupmoah.popupstore.domain.event.PopupStoreChangedEvent;
+import com.sgyj.popupmoah.popupstore.domain.port.PopupStoreCounterPort;
+import com.sgyj.popupmoah.popupstore.domain.port.PopupStoreEventPublisherPort;
 import com.sgyj.popupmoah.popupstore.domain.port.PopupStoreRepositoryPort;
+import com.sgyj.popupmoah.popupstore.domain.search.PopupStoreSearchCondition;
+import com.sgyj.popupmoah.popupstore.domain.search.PopupStoreSearchResult;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * 팝업스토어 어그리게이트 루트
@@ -13,9 +20,28 @@ import java.util.Optional;
 public class PopupStoreAggregate {
     
     private final PopupStoreRepositoryPort repository;
+    private final PopupStoreCounterPort counter;
+    private final PopupStoreEventPublisherPort events;
     
     public PopupStoreAggregate(PopupStoreRepositoryPort repository) {
+        this(repository, null);
+    }
+    
+    /**
+     * 카운터 포트가 주어지면 조회수/좋아요 수 증감을 엔티티 저장 없이 카운터에 누적합니다.
+     */
+    public PopupStoreAggregate(PopupStoreRepositoryPort repository, PopupStoreCounterPort counter) {
+        this(repository, counter, null);
+    }
+    
+    /**
+     * 이벤트 발행 포트가 주어지면 팝업스토어를 저장하거나 삭제할 때마다 변경 이벤트를 발행합니다.
+     */
+    public PopupStoreAggregate(PopupStoreRepositoryPort repository, PopupStoreCounterPort counter,
+                               PopupStoreEventPublisherPort events) {
         this.repository = repository;
+        this.counter = counter;
+        this.events = events;
     }
     
     /**
@@ -24,7 +50,9 @@ public class PopupStoreAggregate {
     public PopupStore create(PopupStore popupStore) {
         // 도메인 규칙 검증
         validatePopupStore(popupStore);
-        return repository.save(popupStore);
+        PopupStore created = repository.save(popupStore);
+        publish(() -> PopupStoreChangedEvent.created(created));
+        return created;
     }
     
     /**
@@ -77,7 +105,7 @@ public class PopupStoreAggregate {
                 .likeCount(popupStore.getLikeCount())
                 .build();
         
-        return repository.save(updated);
+        return saveChanged(updated);
     }
     
     /**
@@ -88,12 +116,17 @@ public class PopupStoreAggregate {
             throw new IllegalArgumentException("팝업스토어를 찾을 수 없습니다: " + id);
         }
         repository.deleteById(id);
+        publish(() -> PopupStoreChangedEvent.deleted(id));
     }
     
     /**
      * 조회수를 증가시킵니다.
      */
     public void incrementViewCount(Long id) {
+        if (counter != null) {
+            counter.incrementViewCount(id);
+            return;
+        }
         Optional<PopupStore> popupStore = repository.findById(id);
         if (popupStore.isPresent()) {
             PopupStore store = popupStore.get();
@@ -106,6 +139,10 @@ public class PopupStoreAggregate {
      * 좋아요 수를 증가시킵니다.
      */
     public void incrementLikeCount(Long id) {
+        if (counter != null) {
+            counter.incrementLikeCount(id);
+            return;
+        }
         Optional<PopupStore> popupStore = repository.findById(id);
         if (popupStore.isPresent()) {
             PopupStore store = popupStore.get();
@@ -118,6 +155,10 @@ public class PopupStoreAggregate {
      * 좋아요 수를 감소시킵니다.
      */
     public void decrementLikeCount(Long id) {
+        if (counter != null) {
+            counter.decrementLikeCount(id);
+            return;
+        }
         Optional<PopupStore> popupStore = repository.findById(id);
         if (popupStore.isPresent()) {
             PopupStore store = popupStore.get();
@@ -126,28 +167,40 @@ public class PopupStoreAggregate {
         }
     }
     
+    /**
+     * 승인 대기 중인 팝업스토어를 승인합니다.
+     */
+    public PopupStore approve(Long id) {
+        PopupStore store = getPending(id);
+        store.approve();
+        return saveChanged(store);
+    }
+    
+    /**
+     * 승인 대기 중인 팝업스토어를 거부합니다.
+     */
+    public PopupStore reject(Long id, String reason) {
+        PopupStore store = getPending(id);
+        store.reject(reason);
+        return saveChanged(store);
+    }
+    
     /**
      * 팝업스토어를 활성화합니다.
      */
-    public void activate(Long id) {
-        Optional<PopupStore> popupStore = repository.findById(id);
-        if (popupStore.isPresent()) {
-            PopupStore store = popupStore.get();
-            store.activate();
-            repository.save(store);
-        }
+    public PopupStore activate(Long id) {
+        PopupStore store = getExisting(id);
+        store.activate();
+        return saveChanged(store);
     }
     
     /**
      * 팝업스토어를 비활성화합니다.
      */
-    public void deactivate(Long id) {
-        Optional<PopupStore> popupStore = repository.findById(id);
-        if (popupStore.isPresent()) {
-            PopupStore store = popupStore.get();
-            store.deactivate();
-            repository.save(store);
-        }
+    public PopupStore deactivate(Long id) {
+        PopupStore store = getExisting(id);
+        store.deactivate();
+        return saveChanged(store);
     }
     
     /**
@@ -204,6 +257,41 @@ public class PopupStoreAggregate {
                 active, currentlyActive);
     }
 
+    /**
+     * 복합 검색 조건으로 팝업스토어 한 페이지와 전체 개수를 함께 조회합니다.
+     */
+    public PopupStoreSearchResult search(PopupStoreSearchCondition condition) {
+        return repository.searchBySearchConditions(condition);
+    }
+
+    private PopupStore getExisting(Long id) {
+        return repository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("팝업스토어를 찾을 수 없습니다: " + id));
+    }
+    
+    private PopupStore getPending(Long id) {
+        PopupStore store = getExisting(id);
+        if (!"PENDING".equals(store.getStatus())) {
+            throw new IllegalArgumentException("승인 대기 상태가 아닌 팝업스토어입니다: " + id);
+        }
+        return store;
+    }
+    
+    /**
+     * 변경된 팝업스토어를 저장하고 변경 이벤트를 발행합니다.
+     */
+    private PopupStore saveChanged(PopupStore store) {
+        PopupStore saved = repository.save(store);
+        publish(() -> PopupStoreChangedEvent.updated(saved));
+        return saved;
+    }
+    
+    private void publish(Supplier<PopupStoreChangedEvent> event) {
+        if (events != null) {
+            events.publish(event.get());
+        }
+    }
+    
     /**
      * 팝업스토어 도메인 규칙을 검증합니다.
      */
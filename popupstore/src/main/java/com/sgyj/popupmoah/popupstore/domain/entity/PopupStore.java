@@ -12,7 +12,7 @@ import java.time.LocalDateTime;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class PopupStore extends UpdatedEntity {
 
     private Long id;
@@ -73,6 +73,19 @@ public class PopupStore extends UpdatedEntity {
         }
     }
 
+    /**
+     * 조회수/좋아요 수에 증감분을 더한 사본을 반환합니다. 좋아요 수는 0 아래로 내려가지 않습니다.
+     */
+    public PopupStore withCountDeltas(long viewDelta, long likeDelta) {
+        PopupStore copy = toBuilder()
+                .viewCount((viewCount == null ? 0L : viewCount) + viewDelta)
+                .likeCount(Math.max(0L, (likeCount == null ? 0L : likeCount) + likeDelta))
+                .build();
+        copy.setCreatedAt(getCreatedAt());
+        copy.setUpdatedAt(getUpdatedAt());
+        return copy;
+    }
+
 
     /**
      * 팝업스토어가 좌표 정보를 가지고 있는지 확인합니다.
@@ -0,0 +1,40 @@
+package com.sgyj.popupmoah.popupstore.domain.event;
+
+import com.sgyj.popupmoah.popupstore.domain.entity.PopupStore;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 팝업스토어 변경 이벤트
+ * 어그리게이트가 팝업스토어를 저장하거나 삭제할 때 발행하며, 저장된 경우 변경 후 상태를 함께 담습니다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class PopupStoreChangedEvent {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final Type type;
+    private final Long popupStoreId;
+    /** 변경 후 팝업스토어 (삭제 이벤트는 null) */
+    private final PopupStore popupStore;
+
+    public static PopupStoreChangedEvent created(PopupStore popupStore) {
+        return new PopupStoreChangedEvent(Type.CREATED, popupStore.getId(), popupStore);
+    }
+
+    public static PopupStoreChangedEvent updated(PopupStore popupStore) {
+        return new PopupStoreChangedEvent(Type.UPDATED, popupStore.getId(), popupStore);
+    }
+
+    public static PopupStoreChangedEvent deleted(Long popupStoreId) {
+        return new PopupStoreChangedEvent(Type.DELETED, popupStoreId, null);
+    }
+
+    public boolean isDeleted() {
+        return type == Type.DELETED;
+    }
+}
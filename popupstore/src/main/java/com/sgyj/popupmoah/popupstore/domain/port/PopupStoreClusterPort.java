@@ -0,0 +1,31 @@
+package com.sgyj.popupmoah.popupstore.domain.port;
+
+import com.sgyj.popupmoah.popupstore.domain.entity.PopupStore;
+import com.sgyj.popupmoah.popupstore.domain.search.PopupStoreCluster;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 팝업스토어 지도 클러스터 포트
+ * 좌표를 미리 집계해 두고 지도 영역과 줌 레벨로 클러스터를 조회하는 구현체를 위한 인터페이스
+ */
+public interface PopupStoreClusterPort {
+
+    /**
+     * 집계가 구성되어 조회에 사용할 수 있는지 확인합니다.
+     */
+    boolean isReady();
+
+    /**
+     * 전체 팝업스토어로 집계를 다시 구성합니다.
+     */
+    void rebuild(Collection<PopupStore> popupStores);
+
+    /**
+     * 경계 상자와 줌 레벨에 해당하는 클러스터 목록을 조회합니다.
+     *
+     * @throws IllegalArgumentException 줌 레벨이나 경계 상자가 범위를 벗어난 경우
+     */
+    List<PopupStoreCluster> findClusters(double south, double west, double north, double east, int zoom);
+}
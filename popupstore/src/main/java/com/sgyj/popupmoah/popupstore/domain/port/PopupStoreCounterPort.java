@@ -0,0 +1,23 @@
+package com.sgyj.popupmoah.popupstore.domain.port;
+
+/**
+ * 팝업스토어 조회수/좋아요 수 카운터 포트
+ * 증감 요청을 모아 두었다가 저장소에 일괄 반영하는 구현체를 위한 인터페이스
+ */
+public interface PopupStoreCounterPort {
+
+    /**
+     * 조회수를 1 증가시킵니다.
+     */
+    void incrementViewCount(Long id);
+
+    /**
+     * 좋아요 수를 1 증가시킵니다.
+     */
+    void incrementLikeCount(Long id);
+
+    /**
+     * 좋아요 수를 1 감소시킵니다. (0 미만으로 내려가지 않음)
+     */
+    void decrementLikeCount(Long id);
+}
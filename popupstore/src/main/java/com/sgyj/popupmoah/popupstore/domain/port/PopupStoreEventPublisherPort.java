@@ -0,0 +1,15 @@
+package com.sgyj.popupmoah.popupstore.domain.port;
+
+import com.sgyj.popupmoah.popupstore.domain.event.PopupStoreChangedEvent;
+
+/**
+ * 팝업스토어 변경 이벤트 발행 포트
+ * 캐시처럼 팝업스토어 상태를 복제해 두는 구성 요소가 변경을 구독할 수 있도록 합니다.
+ */
+public interface PopupStoreEventPublisherPort {
+
+    /**
+     * 변경 이벤트를 발행합니다. 구독자는 트랜잭션이 커밋된 후에 이벤트를 받습니다.
+     */
+    void publish(PopupStoreChangedEvent event);
+}
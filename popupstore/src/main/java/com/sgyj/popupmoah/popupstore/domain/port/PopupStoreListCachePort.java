@@ -0,0 +1,15 @@
+package com.sgyj.popupmoah.popupstore.domain.port;
+
+import java.util.function.Supplier;
+
+/**
+ * 팝업스토어 목록 캐시 포트
+ * 갱신 시각이 지난 값은 이전 값을 그대로 제공하면서 다시 조회하고, 값이 없을 때는 한 번만 조회하는 구현체를 위한 인터페이스
+ */
+public interface PopupStoreListCachePort {
+
+    /**
+     * 캐시된 값을 반환합니다. 값이 없으면 loader로 조회해 저장합니다.
+     */
+    <T> T get(String cacheName, String key, Supplier<T> loader);
+}
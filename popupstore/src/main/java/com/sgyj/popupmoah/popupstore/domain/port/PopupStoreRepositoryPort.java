@@ -1,6 +1,8 @@
 package com.sgyj.popupmoah.popupstore.domain.port;
 
 import com.sgyj.popupmoah.popupstore.domain.entity.PopupStore;
+import com.sgyj.popupmoah.popupstore.domain.search.PopupStoreSearchCondition;
+import com.sgyj.popupmoah.popupstore.domain.search.PopupStoreSearchResult;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -82,6 +84,11 @@ public interface PopupStoreRepositoryPort {
                                 LocalDateTime endDateFrom, LocalDateTime endDateTo,
                                 Boolean active, Boolean currentlyActive);
 
+    /**
+     * 복합 검색 조건으로 팝업스토어 한 페이지와 전체 개수를 함께 조회합니다.
+     */
+    PopupStoreSearchResult searchBySearchConditions(PopupStoreSearchCondition condition);
+
     // ========== 관리자 기능 ==========
 
     /**
@@ -0,0 +1,20 @@
+package com.sgyj.popupmoah.popupstore.domain.search;
+
+import com.sgyj.popupmoah.popupstore.domain.entity.PopupStore;
+import lombok.Getter;
+
+/**
+ * 주변 검색 결과 항목
+ * 팝업스토어와 기준 좌표로부터의 거리(미터)를 함께 전달합니다.
+ */
+@Getter
+public class NearbyPopupStore {
+
+    private final PopupStore popupStore;
+    private final double distanceMeters;
+
+    public NearbyPopupStore(PopupStore popupStore, double distanceMeters) {
+        this.popupStore = popupStore;
+        this.distanceMeters = distanceMeters;
+    }
+}
@@ -0,0 +1,27 @@
+package com.sgyj.popupmoah.popupstore.domain.search;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 지도 클러스터
+ * 한 격자 셀에 속한 팝업스토어 수와 무게중심 좌표, 대표 팝업스토어 ID를 전달합니다.
+ */
+@Getter
+public class PopupStoreCluster {
+
+    private final String cellId;
+    private final int count;
+    private final double latitude;
+    private final double longitude;
+    private final List<Long> representativeIds;
+
+    public PopupStoreCluster(String cellId, int count, double latitude, double longitude, List<Long> representativeIds) {
+        this.cellId = cellId;
+        this.count = count;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.representativeIds = representativeIds;
+    }
+}
@@ -0,0 +1,72 @@
+package com.sgyj.popupmoah.popupstore.domain.search;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 팝업스토어 검색 조건 값 객체
+ * 리포지토리 포트에 전달되는 검색/정렬/페이징 조건을 하나로 묶습니다.
+ * 커서가 있으면 (createdAt, id) 키셋 페이지네이션으로 조회하며 page 값은 무시됩니다.
+ */
+@Getter
+@Builder
+@ToString
+public class PopupStoreSearchCondition {
+
+    private final String keyword;
+    private final String category;
+    private final String location;
+    private final LocalDateTime startDateFrom;
+    private final LocalDateTime startDateTo;
+    private final LocalDateTime endDateFrom;
+    private final LocalDateTime endDateTo;
+    private final Boolean active;
+    private final Boolean currentlyActive;
+
+    @Builder.Default
+    private final String sortBy = "createdAt";
+
+    @Builder.Default
+    private final String sortDirection = "desc";
+
+    @Builder.Default
+    private final int page = 0;
+
+    @Builder.Default
+    private final int size = 20;
+
+    /**
+     * 키셋 페이지네이션 커서 (null이면 OFFSET 페이지네이션)
+     */
+    private final PopupStoreSearchCursor cursor;
+
+    /**
+     * 전체 개수 계산 여부 (무한 스크롤에서는 false로 두어 COUNT 쿼리를 생략)
+     */
+    @Builder.Default
+    private final boolean includeTotal = true;
+
+    /**
+     * 키워드 조건이 있는지 확인합니다.
+     */
+    public boolean hasKeyword() {
+        return keyword != null && !keyword.isBlank();
+    }
+
+    /**
+     * 키셋 페이지네이션 조회인지 확인합니다.
+     */
+    public boolean isKeyset() {
+        return cursor != null;
+    }
+
+    /**
+     * 오름차순 정렬인지 확인합니다.
+     */
+    public boolean isAscending() {
+        return "asc".equalsIgnoreCase(sortDirection);
+    }
+}
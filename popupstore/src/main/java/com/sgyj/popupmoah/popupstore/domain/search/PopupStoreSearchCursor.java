@@ -0,0 +1,81 @@
+package com.sgyj.popupmoah.popupstore.domain.search;
+
+import com.sgyj.popupmoah.popupstore.domain.entity.PopupStore;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 팝업스토어 검색 커서 (키셋 페이지네이션)
+ * 마지막으로 조회한 팝업스토어의 (createdAt, id)를 기억하여 OFFSET 없이 다음 페이지를 조회합니다.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public class PopupStoreSearchCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public PopupStoreSearchCursor(LocalDateTime createdAt, Long id) {
+        if (createdAt == null || id == null) {
+            throw new IllegalArgumentException("커서에는 생성일시와 ID가 모두 필요합니다.");
+        }
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    /**
+     * 팝업스토어 위치를 가리키는 커서를 생성합니다.
+     */
+    public static PopupStoreSearchCursor of(PopupStore popupStore) {
+        return new PopupStoreSearchCursor(popupStore.getCreatedAt(), popupStore.getId());
+    }
+
+    /**
+     * 클라이언트에 전달할 불투명한 커서 문자열로 인코딩합니다.
+     */
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 해석합니다.
+     */
+    public static PopupStoreSearchCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+            }
+            LocalDateTime createdAt = LocalDateTime.parse(raw.substring(0, separator));
+            Long id = Long.valueOf(raw.substring(separator + 1));
+            return new PopupStoreSearchCursor(createdAt, id);
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor, e);
+        }
+    }
+
+    /**
+     * 주어진 (createdAt, id)가 정렬 방향 기준으로 커서 이후에 위치하는지 확인합니다.
+     */
+    public boolean precedes(LocalDateTime otherCreatedAt, Long otherId, boolean ascending) {
+        if (otherCreatedAt == null || otherId == null) {
+            return false;
+        }
+        int compared = otherCreatedAt.compareTo(createdAt);
+        if (compared == 0) {
+            compared = otherId.compareTo(id);
+        }
+        return ascending ? compared > 0 : compared < 0;
+    }
+}
@@ -0,0 +1,39 @@
+package com.sgyj.popupmoah.popupstore.domain.search;
+
+import com.sgyj.popupmoah.popupstore.domain.entity.PopupStore;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 팝업스토어 검색 결과
+ * 현재 페이지의 팝업스토어 목록과 전체 개수를 한 번에 전달합니다.
+ * 전체 개수를 요청하지 않은 경우 totalElements는 null이며, 다음 페이지 존재 여부만 제공합니다.
+ */
+@Getter
+public class PopupStoreSearchResult {
+
+    private final List<PopupStore> content;
+    private final Long totalElements;
+    private final boolean hasNext;
+
+    public PopupStoreSearchResult(List<PopupStore> content, Long totalElements, boolean hasNext) {
+        this.content = content;
+        this.totalElements = totalElements;
+        this.hasNext = hasNext;
+    }
+
+    /**
+     * 다음 페이지를 조회할 커서를 반환합니다. 다음 페이지가 없으면 null을 반환합니다.
+     */
+    public PopupStoreSearchCursor nextCursor() {
+        if (!hasNext || content.isEmpty()) {
+            return null;
+        }
+        PopupStore last = content.get(content.size() - 1);
+        if (last.getCreatedAt() == null || last.getId() == null) {
+            return null;
+        }
+        return PopupStoreSearchCursor.of(last);
+    }
+}
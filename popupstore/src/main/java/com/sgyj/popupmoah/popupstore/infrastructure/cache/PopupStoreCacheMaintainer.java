@@ -0,0 +1,124 @@
+package com.sgyj.popupmoah.popupstore.infrastructure.cache;
+
+import com.sgyj.popupmoah.popupstore.domain.entity.PopupStore;
+import com.sgyj.popupmoah.popupstore.domain.event.PopupStoreChangedEvent;
+import com.sgyj.popupmoah.popupstore.infrastructure.counter.PopupStoreCounterDelta;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 팝업스토어 캐시 관리자
+ * 변경 이벤트를 커밋 후에 받아, 캐시를 지우는 대신 단건 값은 새 값으로 바꾸고
+ * 'all'/'active' 목록은 해당 팝업스토어 하나만 추가/교체/제거합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PopupStoreCacheMaintainer {
+
+    private static final String CACHE_NAME = "popupstores";
+    private static final String ALL_KEY = "all";
+    private static final String ACTIVE_KEY = "active";
+
+    private final CacheManager cacheManager;
+    private final StaleWhileRevalidateCache listCache;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onChanged(PopupStoreChangedEvent event) {
+        Long id = event.getPopupStoreId();
+        if (event.isDeleted()) {
+            evict(id);
+            listCache.<List<PopupStore>>patch(CACHE_NAME, ALL_KEY, list -> remove(list, id));
+            listCache.<List<PopupStore>>patch(CACHE_NAME, ACTIVE_KEY, list -> remove(list, id));
+            return;
+        }
+
+        PopupStore popupStore = event.getPopupStore();
+        put(popupStore);
+        listCache.<List<PopupStore>>patch(CACHE_NAME, ALL_KEY, list -> upsert(list, popupStore));
+        listCache.<List<PopupStore>>patch(CACHE_NAME, ACTIVE_KEY, list -> popupStore.isActive()
+                ? upsert(list, popupStore)
+                : remove(list, id));
+    }
+
+    /**
+     * 저장소에 반영된 카운터 증감분을 캐시에 맞춥니다.
+     * 단건 캐시는 지워 다음 조회가 저장소에서 읽게 하고, 'all'/'active' 목록은 해당 항목의 카운터만 고칩니다.
+     */
+    public void countersFlushed(List<PopupStoreCounterDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        Map<Long, PopupStoreCounterDelta> byId = deltas.stream()
+                .collect(Collectors.toMap(PopupStoreCounterDelta::popupStoreId, Function.identity()));
+        byId.keySet().forEach(this::evict);
+        listCache.<List<PopupStore>>patch(CACHE_NAME, ALL_KEY, list -> addCounts(list, byId));
+        listCache.<List<PopupStore>>patch(CACHE_NAME, ACTIVE_KEY, list -> addCounts(list, byId));
+    }
+
+    /**
+     * 같은 ID의 항목이 있으면 그 자리에서 교체하고, 없으면 끝에 추가합니다.
+     */
+    static List<PopupStore> upsert(List<PopupStore> list, PopupStore popupStore) {
+        List<PopupStore> patched = new ArrayList<>(list.size() + 1);
+        boolean replaced = false;
+        for (PopupStore element : list) {
+            if (Objects.equals(element.getId(), popupStore.getId())) {
+                patched.add(popupStore);
+                replaced = true;
+            } else {
+                patched.add(element);
+            }
+        }
+        if (!replaced) {
+            patched.add(popupStore);
+        }
+        return patched;
+    }
+
+    static List<PopupStore> addCounts(List<PopupStore> list, Map<Long, PopupStoreCounterDelta> deltas) {
+        List<PopupStore> patched = new ArrayList<>(list.size());
+        for (PopupStore element : list) {
+            PopupStoreCounterDelta delta = deltas.get(element.getId());
+            patched.add(delta == null ? element : element.withCountDeltas(delta.viewDelta(), delta.likeDelta()));
+        }
+        return patched;
+    }
+
+    static List<PopupStore> remove(List<PopupStore> list, Long id) {
+        List<PopupStore> patched = new ArrayList<>(list.size());
+        for (PopupStore element : list) {
+            if (!Objects.equals(element.getId(), id)) {
+                patched.add(element);
+            }
+        }
+        return patched;
+    }
+
+    /**
+     * 단건 캐시(@Cacheable key = #id)는 Optional을 벗긴 값으로 저장되므로 엔티티를 그대로 넣습니다.
+     */
+    private void put(PopupStore popupStore) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache != null) {
+            cache.put(popupStore.getId(), popupStore);
+        }
+    }
+
+    private void evict(Long id) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache != null) {
+            cache.evict(id);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.sgyj.popupmoah.popupstore.infrastructure.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Redis 임대(lease) 락
+ * SET NX PX로 임대 시간 동안만 유효한 락을 잡아, 여러 노드 중 한 노드만 작업하도록 합니다.
+ * 락을 쥔 노드가 죽어도 임대 시간이 지나면 풀리며, 해제는 자신이 잡은 락일 때만 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisLeaseLock {
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 락을 잡고 해제용 토큰을 반환합니다. 다른 노드가 쥐고 있으면 null을 반환합니다.
+     * Redis를 쓸 수 없으면 노드 간 중복 작업을 감수하고 진행하도록 토큰을 반환합니다.
+     */
+    public String tryAcquire(String key, Duration lease) {
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key, token, lease);
+            return Boolean.TRUE.equals(acquired) ? token : null;
+        } catch (RuntimeException e) {
+            log.warn("Redis 락 획득 실패, 락 없이 진행합니다: key={}", key, e);
+            return token;
+        }
+    }
+
+    /**
+     * 토큰이 일치할 때만 락을 해제합니다 (임대가 끝나 다른 노드가 잡은 락은 건드리지 않음).
+     */
+    public void release(String key, String token) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(key), token);
+        } catch (RuntimeException e) {
+            log.warn("Redis 락 해제 실패, 임대 시간이 지나면 풀립니다: key={}", key, e);
+        }
+    }
+}
@@ -0,0 +1,362 @@
+package com.sgyj.popupmoah.popupstore.infrastructure.cache;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.sgyj.popupmoah.popupstore.domain.port.PopupStoreListCachePort;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * stale-while-revalidate 캐시
+ * 값마다 갱신 시각을 함께 저장하고, 갱신 시각이 지난 값은 그대로 반환하면서 백그라운드에서 한 번만 다시 계산합니다.
+ * 값이 없을 때는 같은 노드의 동시 요청을 하나로 합치고(single-flight),
+ * Redis 임대 락으로 여러 노드 중 한 노드만 계산하며 나머지는 그 결과를 짧게 기다립니다.
+ */
+@Slf4j
+@Component
+public class StaleWhileRevalidateCache implements PopupStoreListCachePort {
+
+    private static final String LOCK_KEY_PREFIX = "popupmoah:cache-lock:";
+    private static final long AWAIT_POLL_MILLIS = 50;
+
+    private final CacheManager cacheManager;
+    private final RedisLeaseLock leaseLock;
+    private final MeterRegistry meterRegistry;
+    private final Executor refreshExecutor;
+    private final long softTtlMillis;
+    private final Duration lockLease;
+    private final Duration awaitTimeout;
+
+    /** 값이 없어 계산 중인 키 (같은 노드의 요청이 결과를 함께 기다림) */
+    private final Map<String, CompletableFuture<Object>> loading = new ConcurrentHashMap<>();
+    /** 백그라운드 갱신 중인 키 */
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public StaleWhileRevalidateCache(CacheManager cacheManager,
+                                     RedisLeaseLock leaseLock,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${popupstore.cache.soft-ttl-seconds:60}") long softTtlSeconds,
+                                     @Value("${popupstore.cache.lock-lease-ms:10000}") long lockLeaseMillis,
+                                     @Value("${popupstore.cache.await-ms:300}") long awaitMillis,
+                                     @Value("${popupstore.cache.refresh-threads:2}") int refreshThreads) {
+        this(cacheManager, leaseLock, meterRegistry, refreshExecutor(refreshThreads),
+                TimeUnit.SECONDS.toMillis(softTtlSeconds), Duration.ofMillis(lockLeaseMillis), Duration.ofMillis(awaitMillis));
+    }
+
+    StaleWhileRevalidateCache(CacheManager cacheManager,
+                              RedisLeaseLock leaseLock,
+                              MeterRegistry meterRegistry,
+                              Executor refreshExecutor,
+                              long softTtlMillis,
+                              Duration lockLease,
+                              Duration awaitTimeout) {
+        this.cacheManager = cacheManager;
+        this.leaseLock = leaseLock;
+        this.meterRegistry = meterRegistry;
+        this.refreshExecutor = refreshExecutor;
+        this.softTtlMillis = softTtlMillis;
+        this.lockLease = lockLease;
+        this.awaitTimeout = awaitTimeout;
+    }
+
+    /**
+     * 캐시된 값을 반환합니다. 갱신 시각이 지났으면 이전 값을 반환하고 백그라운드에서 갱신하며,
+     * 값이 없으면 한 번만 계산해 저장합니다.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(String cacheName, String key, Supplier<T> loader) {
+        Cache cache = cacheOf(cacheName);
+        CachedValue<?> cached = read(cache, key);
+        if (cached != null) {
+            if (cached.isStale(System.currentTimeMillis())) {
+                record("stale");
+                refreshInBackground(cache, key, loader);
+            } else {
+                record("fresh");
+            }
+            return (T) cached.value();
+        }
+        record("miss");
+        return (T) loadOnce(cache, key, loader);
+    }
+
+    /**
+     * 값을 지우지 않고 갱신 대상으로 표시합니다. 다음 조회는 이전 값을 받고 갱신이 시작됩니다.
+     * 트랜잭션 안이면 커밋 후에 표시해, 갱신이 커밋 전 데이터를 읽지 않도록 합니다.
+     */
+    public void markStale(String cacheName, String... keys) {
+        afterCommit(() -> {
+            Cache cache = cacheOf(cacheName);
+            for (String key : keys) {
+                invalidate(cache, key);
+            }
+        });
+    }
+
+    /**
+     * 캐시된 값을 지우거나 다시 계산하지 않고 patcher로 고친 값으로 바꿉니다. 갱신 시각은 그대로 둡니다.
+     * 임대 락을 잡고 고쳐, 다른 노드의 패치나 다시 조회한 결과와 겹쳐 쓰지 않도록 합니다.
+     * 락을 잡지 못하면 계산 중인 결과가 이 변경을 놓쳤을 수 있으므로 갱신 대상으로 표시합니다.
+     * 변경이 커밋된 후에 호출해야 합니다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void patch(String cacheName, String key, UnaryOperator<T> patcher) {
+        Cache cache = cacheOf(cacheName);
+        String lockKey = lockKey(cache, key);
+        String token = leaseLock.tryAcquire(lockKey, lockLease);
+        if (token == null) {
+            recordPatch("deferred");
+            invalidate(cache, key);
+            return;
+        }
+        try {
+            CachedValue<?> cached = read(cache, key);
+            if (cached == null) {
+                // 캐시에 없으면 다음 조회가 변경 후 데이터를 읽음
+                recordPatch("absent");
+                return;
+            }
+            cache.put(key, new CachedValue<>(patcher.apply((T) cached.value()), cached.refreshAt(), cached.invalidatedAt()));
+            recordPatch("patched");
+        } catch (RuntimeException e) {
+            recordPatch("failed");
+            log.warn("캐시 패치 실패, 갱신 대상으로 표시합니다: cache={}, key={}", cache.getName(), key, e);
+            invalidate(cache, key);
+        } finally {
+            leaseLock.release(lockKey, token);
+        }
+    }
+
+    private Object loadOnce(Cache cache, String key, Supplier<?> loader) {
+        String flightKey = cache.getName() + "::" + key;
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = loading.putIfAbsent(flightKey, flight);
+        if (existing != null) {
+            record("coalesced");
+            return join(existing);
+        }
+        try {
+            Object value = loadAcrossNodes(cache, key, loader);
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(flightKey, flight);
+        }
+    }
+
+    /**
+     * 임대 락을 잡은 노드만 계산합니다. 다른 노드가 계산 중이면 awaitTimeout 동안만 결과를 기다리고,
+     * 그래도 값이 없으면(계산이 느리거나 계산 노드 장애 등) 락 없이 직접 계산합니다.
+     * 요청 스레드가 락 임대 시간 내내 묶이지 않도록 대기 시간은 임대 시간보다 짧게 둡니다.
+     */
+    private Object loadAcrossNodes(Cache cache, String key, Supplier<?> loader) {
+        String lockKey = lockKey(cache, key);
+        String token = leaseLock.tryAcquire(lockKey, lockLease);
+        if (token == null) {
+            CachedValue<?> loaded = awaitOtherNode(cache, key);
+            if (loaded != null) {
+                return loaded.value();
+            }
+            record("await-timeout");
+        }
+        try {
+            return loadAndStore(cache, key, loader);
+        } finally {
+            if (token != null) {
+                leaseLock.release(lockKey, token);
+            }
+        }
+    }
+
+    private void refreshInBackground(Cache cache, String key, Supplier<?> loader) {
+        String flightKey = cache.getName() + "::" + key;
+        if (!refreshing.add(flightKey)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                String lockKey = lockKey(cache, key);
+                String token = null;
+                try {
+                    token = leaseLock.tryAcquire(lockKey, lockLease);
+                    if (token != null) {
+                        loadAndStore(cache, key, loader);
+                    }
+                } catch (RuntimeException e) {
+                    // 이전 값을 계속 제공하고 다음 조회에서 다시 시도
+                    meterRegistry.counter("popupstore.cache.refresh.failures", "cache", cache.getName()).increment();
+                    log.warn("캐시 백그라운드 갱신 실패: cache={}, key={}", cache.getName(), key, e);
+                } finally {
+                    if (token != null) {
+                        leaseLock.release(lockKey, token);
+                    }
+                    refreshing.remove(flightKey);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(flightKey);
+            log.warn("캐시 갱신 작업을 등록하지 못했습니다: cache={}, key={}", cache.getName(), key);
+        }
+    }
+
+    /**
+     * 계산 중에 갱신 대상으로 표시되었으면, 계산한 값도 바로 갱신 대상으로 저장합니다.
+     */
+    private Object loadAndStore(Cache cache, String key, Supplier<?> loader) {
+        long startedAt = System.currentTimeMillis();
+        Object value = loader.get();
+        CachedValue<?> current = read(cache, key);
+        CachedValue<Object> loaded = current != null && current.invalidatedAt() > startedAt
+                ? new CachedValue<>(value, 0, current.invalidatedAt())
+                : new CachedValue<>(value, startedAt + softTtlMillis, 0);
+        cache.put(key, loaded);
+        return value;
+    }
+
+    private void invalidate(Cache cache, String key) {
+        CachedValue<?> cached = read(cache, key);
+        if (cached != null) {
+            cache.put(key, cached.invalidated(System.currentTimeMillis()));
+        }
+    }
+
+    private CachedValue<?> awaitOtherNode(Cache cache, String key) {
+        long deadline = System.currentTimeMillis() + awaitTimeout.toMillis();
+        long remaining;
+        while ((remaining = deadline - System.currentTimeMillis()) > 0) {
+            try {
+                Thread.sleep(Math.min(AWAIT_POLL_MILLIS, remaining));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            CachedValue<?> loaded = read(cache, key);
+            if (loaded != null) {
+                return loaded;
+            }
+        }
+        return null;
+    }
+
+    private CachedValue<?> read(Cache cache, String key) {
+        Cache.ValueWrapper wrapper = cache.get(key);
+        // 이전 형식(값만 저장)으로 남아 있는 항목은 없는 것으로 보고 다시 계산
+        return wrapper != null && wrapper.get() instanceof CachedValue<?> cached ? cached : null;
+    }
+
+    private Cache cacheOf(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            throw new IllegalArgumentException("캐시를 찾을 수 없습니다: " + cacheName);
+        }
+        return cache;
+    }
+
+    private void record(String result) {
+        meterRegistry.counter("popupstore.cache.lookups", "result", result).increment();
+    }
+
+    private void recordPatch(String result) {
+        meterRegistry.counter("popupstore.cache.patches", "result", result).increment();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (refreshExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private static Object join(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static String lockKey(Cache cache, String key) {
+        return LOCK_KEY_PREFIX + cache.getName() + ":" + key;
+    }
+
+    private static ExecutorService refreshExecutor(int threads) {
+        AtomicInteger sequence = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "popupstore-cache-refresh-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 트랜잭션이 커밋된 후 작업을 실행합니다. 트랜잭션 밖에서는 즉시 실행합니다.
+     */
+    private static void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    /**
+     * 캐시에 저장하는 값과 갱신 시각
+     * refreshAt이 지나면 갱신 대상이며, invalidatedAt은 변경으로 갱신 대상이 된 시각입니다.
+     * L2 압축 직렬화는 값 타입을 등록된 타입 인자로 복원합니다(PopupStoreCacheConfiguration).
+     */
+    public record CachedValue<T>(T value, long refreshAt, long invalidatedAt) {
+
+        @JsonCreator
+        public CachedValue(@JsonProperty("value") T value,
+                           @JsonProperty("refreshAt") long refreshAt,
+                           @JsonProperty("invalidatedAt") long invalidatedAt) {
+            this.value = value;
+            this.refreshAt = refreshAt;
+            this.invalidatedAt = invalidatedAt;
+        }
+
+        boolean isStale(long now) {
+            return now >= refreshAt;
+        }
+
+        CachedValue<T> invalidated(long now) {
+            return new CachedValue<>(value, 0, now);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.sgyj.popupmoah.popupstore.infrastructure.config;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.sgyj.popupmoah.infrastructure.cache.CacheValueTypeRegistrar;
+import com.sgyj.popupmoah.popupstore.domain.entity.PopupStore;
+import com.sgyj.popupmoah.popupstore.infrastructure.cache.StaleWhileRevalidateCache.CachedValue;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * 팝업스토어 캐시 Configuration
+ * popupstores 캐시에 저장하는 값 타입을 L2 compact 직렬화에 등록합니다.
+ */
+@Configuration
+public class PopupStoreCacheConfiguration {
+
+    /**
+     * 단건 조회(key = id)는 PopupStore를, 'all'/'active' 목록은 stale-while-revalidate 값으로 감싼 목록을 저장합니다.
+     * 타입 번호는 애플리케이션 전체에서 고유해야 하며 바꾸거나 재사용하지 않습니다.
+     */
+    @Bean
+    public CacheValueTypeRegistrar popupStoreCacheValueTypes() {
+        return builder -> builder
+                .register(3, PopupStore.class)
+                .register(4, new TypeReference<CachedValue<List<PopupStore>>>() {});
+    }
+}
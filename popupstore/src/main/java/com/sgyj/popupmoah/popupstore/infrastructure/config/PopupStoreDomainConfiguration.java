@@ -0,0 +1,23 @@
+package com.sgyj.popupmoah.popupstore.infrastructure.config;
+
+import com.sgyj.popupmoah.popupstore.domain.aggregate.PopupStoreAggregate;
+import com.sgyj.popupmoah.popupstore.domain.port.PopupStoreCounterPort;
+import com.sgyj.popupmoah.popupstore.domain.port.PopupStoreEventPublisherPort;
+import com.sgyj.popupmoah.popupstore.domain.port.PopupStoreRepositoryPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 팝업스토어 도메인 Configuration
+ * 스프링에 의존하지 않는 어그리게이트에 포트 구현체를 주입합니다.
+ */
+@Configuration
+public class PopupStoreDomainConfiguration {
+
+    @Bean
+    public PopupStoreAggregate popupStoreAggregate(PopupStoreRepositoryPort repository,
+                                                   PopupStoreCounterPort counter,
+                                                   PopupStoreEventPublisherPort events) {
+        return new PopupStoreAggregate(repository, counter, events);
+    }
+}
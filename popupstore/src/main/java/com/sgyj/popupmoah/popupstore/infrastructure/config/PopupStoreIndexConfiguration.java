@@ -0,0 +1,25 @@
+package com.sgyj.popupmoah.popupstore.infrastructure.config;
+
+import com.sgyj.popupmoah.popupstore.infrastructure.search.PopupStoreIndexSynchronizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 팝업스토어 색인 Configuration
+ * 다른 노드가 보낸 색인 변경 알림을 구독합니다.
+ */
+@Configuration
+public class PopupStoreIndexConfiguration {
+
+    @Bean
+    public RedisMessageListenerContainer popupStoreIndexListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                          PopupStoreIndexSynchronizer indexSynchronizer) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(indexSynchronizer, new ChannelTopic(indexSynchronizer.getChannel()));
+        return container;
+    }
+}
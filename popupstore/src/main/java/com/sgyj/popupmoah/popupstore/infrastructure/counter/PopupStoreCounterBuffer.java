@@ -0,0 +1,265 @@
+package com.sgyj.popupmoah.popupstore.infrastructure.counter;
+
+import com.sgyj.popupmoah.popupstore.adapters.jpa.PopupStoreJpaRepository;
+import com.sgyj.popupmoah.popupstore.domain.port.PopupStoreCounterPort;
+import com.sgyj.popupmoah.popupstore.infrastructure.cache.PopupStoreCacheMaintainer;
+import com.sgyj.popupmoah.popupstore.infrastructure.search.PopupStoreIndexSynchronizer;
+import com.sgyj.popupmoah.popupstore.infrastructure.search.PopupStoreSearchIndex;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 팝업스토어 조회수/좋아요 수 write-behind 버퍼
+ * 증감 요청은 팝업스토어별 LongAdder에 락 없이 누적하고,
+ * 주기적으로 누적된 증감분만 배치 UPDATE로 저장소에 반영합니다.
+ * 플러시 주기마다 새 세대로 바꾸므로 버퍼에는 그 주기에 요청된 팝업스토어만 남고,
+ * 세대마다 처음 요청된 팝업스토어는 검색 색인(구성 전에는 저장소)에 있는지 확인해 없는 ID는 무시합니다.
+ * 반영한 증감분은 검색 색인의 조회수/좋아요 수 정렬과 캐시에도 맞춥니다.
+ */
+@Slf4j
+@Component
+public class PopupStoreCounterBuffer implements PopupStoreCounterPort {
+
+    private static final int WRITER_STRIPES = 64;
+
+    private final PopupStoreCounterWriter writer;
+    private final PopupStoreSearchIndex searchIndex;
+    private final PopupStoreJpaRepository jpaRepository;
+    private final PopupStoreIndexSynchronizer indexSynchronizer;
+    private final PopupStoreCacheMaintainer cacheMaintainer;
+    private final AtomicReference<Generation> current = new AtomicReference<>(new Generation());
+    private final AtomicLong oldestPendingAt = new AtomicLong();
+    private final Object flushLock = new Object();
+
+    private final Timer flushTimer;
+    private final Counter flushFailures;
+
+    public PopupStoreCounterBuffer(PopupStoreCounterWriter writer,
+                                   PopupStoreSearchIndex searchIndex,
+                                   PopupStoreJpaRepository jpaRepository,
+                                   PopupStoreIndexSynchronizer indexSynchronizer,
+                                   PopupStoreCacheMaintainer cacheMaintainer,
+                                   MeterRegistry meterRegistry) {
+        this.writer = writer;
+        this.searchIndex = searchIndex;
+        this.jpaRepository = jpaRepository;
+        this.indexSynchronizer = indexSynchronizer;
+        this.cacheMaintainer = cacheMaintainer;
+        this.flushTimer = Timer.builder("popupstore.counter.flush")
+                .description("팝업스토어 카운터 일괄 반영 시간")
+                .register(meterRegistry);
+        this.flushFailures = Counter.builder("popupstore.counter.flush.failures")
+                .description("팝업스토어 카운터 일괄 반영 실패 횟수")
+                .register(meterRegistry);
+        Gauge.builder("popupstore.counter.pending.deltas", this, PopupStoreCounterBuffer::pendingDeltas)
+                .description("저장소에 반영되지 않은 카운터 증감 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("popupstore.counter.flush.lag", this, PopupStoreCounterBuffer::flushLagSeconds)
+                .description("반영되지 않은 가장 오래된 증감 요청의 경과 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void incrementViewCount(Long id) {
+        record(id, counter -> counter.views.increment());
+    }
+
+    @Override
+    public void incrementLikeCount(Long id) {
+        record(id, counter -> counter.likes.increment());
+    }
+
+    @Override
+    public void decrementLikeCount(Long id) {
+        record(id, counter -> counter.likes.decrement());
+    }
+
+    /**
+     * 누적된 증감분을 저장소에 반영합니다.
+     * 새 세대로 바꾼 뒤 이전 세대에 쓰는 중인 요청이 끝나면 이전 세대를 통째로 비웁니다.
+     * 반영에 실패하면 증감분을 현재 세대에 되돌려 다음 주기에 다시 시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${popupstore.counter.flush-interval-ms:1000}")
+    public void flush() {
+        synchronized (flushLock) {
+            long since = oldestPendingAt.getAndSet(0);
+            Generation previous = current.getAndSet(new Generation());
+            previous.awaitWriters();
+            List<Drained> drained = drain(previous);
+            if (drained.isEmpty()) {
+                return;
+            }
+            List<PopupStoreCounterDelta> deltas = drained.stream()
+                    .map(Drained::delta)
+                    .filter(delta -> !delta.isEmpty())
+                    .toList();
+            try {
+                flushTimer.record(() -> writer.write(deltas));
+                log.debug("팝업스토어 카운터 반영 완료: {}건", deltas.size());
+            } catch (RuntimeException e) {
+                flushFailures.increment();
+                restore(drained, since);
+                log.warn("팝업스토어 카운터 반영 실패, 다음 주기에 재시도합니다: {}건", deltas.size(), e);
+                return;
+            }
+            publish(deltas);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 반영되지 않은 증감 요청 수를 반환합니다.
+     */
+    public long pendingDeltas() {
+        return current.get().counters.values().stream()
+                .mapToLong(counter -> counter.requests.sum())
+                .sum();
+    }
+
+    /**
+     * 이번 세대에 처음 요청된 팝업스토어만 존재 여부를 확인합니다.
+     */
+    private void record(Long id, Consumer<Counters> change) {
+        if (id == null) {
+            throw new IllegalArgumentException("팝업스토어 ID는 필수입니다.");
+        }
+        if (!current.get().counters.containsKey(id) && !exists(id)) {
+            log.debug("존재하지 않는 팝업스토어의 카운터 요청을 무시합니다: id={}", id);
+            return;
+        }
+        apply(id, counter -> {
+            change.accept(counter);
+            counter.requests.increment();
+        });
+        if (oldestPendingAt.get() == 0) {
+            oldestPendingAt.compareAndSet(0, System.currentTimeMillis());
+        }
+    }
+
+    private boolean exists(Long id) {
+        return searchIndex.isReady() ? searchIndex.contains(id) : jpaRepository.existsById(id);
+    }
+
+    /**
+     * 현재 세대의 카운터를 바꿉니다. 쓰는 도중 세대가 바뀌면 플러시가 이 쓰기를 기다리고,
+     * 쓰기 시작 전에 바뀌었으면 새 세대에 다시 씁니다.
+     */
+    private void apply(Long id, Consumer<Counters> change) {
+        while (true) {
+            Generation generation = current.get();
+            int stripe = generation.enter();
+            try {
+                if (current.get() == generation) {
+                    change.accept(generation.counters.computeIfAbsent(id, key -> new Counters()));
+                    return;
+                }
+            } finally {
+                generation.exit(stripe);
+            }
+        }
+    }
+
+    private List<Drained> drain(Generation generation) {
+        List<Drained> drained = new ArrayList<>();
+        generation.counters.forEach((id, counter) -> {
+            long requests = counter.requests.sum();
+            if (requests != 0) {
+                drained.add(new Drained(new PopupStoreCounterDelta(
+                        id, counter.views.sum(), counter.likes.sum()), requests));
+            }
+        });
+        return drained;
+    }
+
+    private void restore(List<Drained> drained, long since) {
+        for (Drained entry : drained) {
+            apply(entry.delta().popupStoreId(), counter -> {
+                counter.views.add(entry.delta().viewDelta());
+                counter.likes.add(entry.delta().likeDelta());
+                counter.requests.add(entry.requests());
+            });
+        }
+        oldestPendingAt.set(since != 0 ? since : System.currentTimeMillis());
+    }
+
+    /**
+     * 저장소 반영은 이미 끝났으므로 색인/캐시 반영이 실패해도 증감분을 되돌리지 않습니다.
+     */
+    private void publish(List<PopupStoreCounterDelta> deltas) {
+        try {
+            indexSynchronizer.countersFlushed(deltas);
+        } catch (RuntimeException e) {
+            log.warn("팝업스토어 카운터 색인 반영 실패: {}건", deltas.size(), e);
+        }
+        try {
+            cacheMaintainer.countersFlushed(deltas);
+        } catch (RuntimeException e) {
+            log.warn("팝업스토어 카운터 캐시 반영 실패: {}건", deltas.size(), e);
+        }
+    }
+
+    private double flushLagSeconds() {
+        long since = oldestPendingAt.get();
+        if (since == 0) {
+            return 0;
+        }
+        return (System.currentTimeMillis() - since) / 1000.0;
+    }
+
+    private record Drained(PopupStoreCounterDelta delta, long requests) {
+    }
+
+    /**
+     * 한 플러시 주기 동안의 카운터
+     * 쓰는 중인 요청 수는 스레드별로 고정된 칸에서 늘리고 줄이므로, 모든 칸이 0이면 이 세대에 남은 쓰기가 없습니다.
+     */
+    private static final class Generation {
+        private final Map<Long, Counters> counters = new ConcurrentHashMap<>();
+        private final AtomicLongArray writers = new AtomicLongArray(WRITER_STRIPES);
+
+        private int enter() {
+            int stripe = (int) (Thread.currentThread().threadId() & (WRITER_STRIPES - 1));
+            writers.incrementAndGet(stripe);
+            return stripe;
+        }
+
+        private void exit(int stripe) {
+            writers.decrementAndGet(stripe);
+        }
+
+        private void awaitWriters() {
+            for (int stripe = 0; stripe < WRITER_STRIPES; stripe++) {
+                while (writers.get(stripe) != 0) {
+                    Thread.onSpinWait();
+                }
+            }
+        }
+    }
+
+    private static final class Counters {
+        private final LongAdder views = new LongAdder();
+        private final LongAdder likes = new LongAdder();
+        private final LongAdder requests = new LongAdder();
+    }
+}
@@ -0,0 +1,11 @@
+package com.sgyj.popupmoah.popupstore.infrastructure.counter;
+
+/**
+ * 한 번의 플러시 주기 동안 누적된 팝업스토어별 카운터 증감분
+ */
+public record PopupStoreCounterDelta(Long popupStoreId, long viewDelta, long likeDelta) {
+
+    public boolean isEmpty() {
+        return viewDelta == 0 && likeDelta == 0;
+    }
+}
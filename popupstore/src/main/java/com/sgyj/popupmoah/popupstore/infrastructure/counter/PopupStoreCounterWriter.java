@@ -0,0 +1,41 @@
+package com.sgyj.popupmoah.popupstore.infrastructure.counter;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 팝업스토어 카운터 증감분 일괄 반영
+ * 엔티티를 읽지 않고 한 번의 배치 UPDATE로 누적 증감분을 더합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PopupStoreCounterWriter {
+
+    private static final String UPDATE_COUNTERS =
+            "UPDATE popup_stores SET " +
+            "view_count = COALESCE(view_count, 0) + ?, " +
+            "like_count = CASE WHEN COALESCE(like_count, 0) + ? < 0 THEN 0 ELSE COALESCE(like_count, 0) + ? END " +
+            "WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 팝업스토어별 증감분을 배치 UPDATE로 반영합니다.
+     */
+    @Transactional
+    public void write(List<PopupStoreCounterDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPDATE_COUNTERS, deltas, deltas.size(), (ps, delta) -> {
+            ps.setLong(1, delta.viewDelta());
+            ps.setLong(2, delta.likeDelta());
+            ps.setLong(3, delta.likeDelta());
+            ps.setLong(4, delta.popupStoreId());
+        });
+    }
+}
@@ -0,0 +1,23 @@
+package com.sgyj.popupmoah.popupstore.infrastructure.event;
+
+import com.sgyj.popupmoah.popupstore.domain.event.PopupStoreChangedEvent;
+import com.sgyj.popupmoah.popupstore.domain.port.PopupStoreEventPublisherPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 팝업스토어 변경 이벤트 발행 어댑터
+ * 스프링 애플리케이션 이벤트로 발행하며, 구독자는 @TransactionalEventListener로 커밋 후에 받습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PopupStoreEventPublisherAdapter implements PopupStoreEventPublisherPort {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Override
+    public void publish(PopupStoreChangedEvent event) {
+        applicationEventPublisher.publishEvent(event);
+    }
+}
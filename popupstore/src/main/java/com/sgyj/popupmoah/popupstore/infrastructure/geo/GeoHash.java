@@ -0,0 +1,142 @@
+package com.sgyj.popupmoah.popupstore.infrastructure.geo;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Geohash 인코딩 유틸리티
+ * 위도/경도를 base32 문자열로 인코딩하며, 접두사가 같은 셀은 공간적으로 포함 관계를 가집니다.
+ */
+public final class GeoHash {
+
+    public static final int MAX_PRECISION = 12;
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+
+    private GeoHash() {
+    }
+
+    /**
+     * 좌표를 지정한 정밀도의 geohash로 인코딩합니다.
+     */
+    public static String encode(double latitude, double longitude, int precision) {
+        if (precision < 1 || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("geohash 정밀도는 1~" + MAX_PRECISION + " 사이여야 합니다: " + precision);
+        }
+        double minLat = -90, maxLat = 90;
+        double minLon = -180, maxLon = 180;
+        StringBuilder hash = new StringBuilder(precision);
+        boolean evenBit = true;
+        int bit = 0;
+        int ch = 0;
+        while (hash.length() < precision) {
+            if (evenBit) {
+                double mid = (minLon + maxLon) / 2;
+                if (longitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLon = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLon = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLat = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+            if (++bit == 5) {
+                hash.append(BASE32[ch]);
+                bit = 0;
+                ch = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    /**
+     * 정밀도별 셀의 위도 방향 크기(도)를 반환합니다.
+     */
+    public static double cellHeight(int precision) {
+        int latBits = (precision * 5) / 2;
+        return 180.0 / (1L << latBits);
+    }
+
+    /**
+     * 정밀도별 셀의 경도 방향 크기(도)를 반환합니다.
+     */
+    public static double cellWidth(int precision) {
+        int lonBits = (precision * 5 + 1) / 2;
+        return 360.0 / (1L << lonBits);
+    }
+
+    /**
+     * 경계 상자를 덮는 geohash 셀 목록을 반환합니다.
+     */
+    public static Set<String> coveringCells(double south, double west, double north, double east, int precision) {
+        double height = cellHeight(precision);
+        double width = cellWidth(precision);
+        Set<String> cells = new LinkedHashSet<>();
+        for (double lat = south; ; lat += height) {
+            double rowLat = Math.min(lat, north);
+            for (double lon = west; ; lon += width) {
+                double colLon = Math.min(lon, east);
+                cells.add(encode(rowLat, colLon, precision));
+                if (colLon >= east) {
+                    break;
+                }
+            }
+            if (rowLat >= north) {
+                break;
+            }
+        }
+        return cells;
+    }
+
+    /**
+     * 경계 상자를 덮는 셀 수가 maxCells 이하가 되는 가장 높은 정밀도를 반환합니다.
+     */
+    public static int precisionFor(double south, double west, double north, double east, int maxPrecision, int maxCells) {
+        for (int precision = maxPrecision; precision > 1; precision--) {
+            long rows = (long) Math.ceil((north - south) / cellHeight(precision)) + 1;
+            long cols = (long) Math.ceil((east - west) / cellWidth(precision)) + 1;
+            if (rows * cols <= maxCells) {
+                return precision;
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * 두 좌표 사이의 대원 거리(미터)를 계산합니다. (하버사인 공식)
+     */
+    public static double distanceMeters(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    /**
+     * 중심점과 반경(미터)을 포함하는 경계 상자를 반환합니다. [south, west, north, east]
+     */
+    public static double[] boundingBox(double latitude, double longitude, double radiusMeters) {
+        double latDelta = Math.toDegrees(radiusMeters / EARTH_RADIUS_METERS);
+        double cosLat = Math.cos(Math.toRadians(latitude));
+        double lonDelta = cosLat < 1e-9 ? 180 : Math.toDegrees(radiusMeters / (EARTH_RADIUS_METERS * cosLat));
+        return new double[] {
+                Math.max(-90, latitude - latDelta),
+                Math.max(-180, longitude - lonDelta),
+                Math.min(90, latitude + latDelta),
+                Math.min(180, longitude + lonDelta)
+        };
+    }
+}
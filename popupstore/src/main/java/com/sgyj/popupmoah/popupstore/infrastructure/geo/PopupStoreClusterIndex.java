@@ -0,0 +1,257 @@
+package com.sgyj.popupmoah.popupstore.infrastructure.geo;
+
+import com.sgyj.popupmoah.popupstore.domain.entity.PopupStore;
+import com.sgyj.popupmoah.popupstore.domain.port.PopupStoreClusterPort;
+import com.sgyj.popupmoah.popupstore.domain.search.PopupStoreCluster;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 팝업스토어 지도 클러스터 격자
+ * 줌 레벨마다 웹 메르카토르 타일을 4x4로 나눈 격자에 팝업스토어 수와 좌표 합계를 미리 집계해 둡니다.
+ * 팝업스토어의 좌표나 상태가 바뀌면 이전/이후 셀만 갱신하므로, 조회 비용은 화면에 보이는 셀 수에만 비례합니다.
+ */
+@Slf4j
+@Component
+public class PopupStoreClusterIndex implements PopupStoreClusterPort {
+
+    public static final int MIN_ZOOM = 0;
+    public static final int MAX_ZOOM = 20;
+
+    /** 타일 하나를 2^CELL_BITS x 2^CELL_BITS 셀로 분할 (256px 타일 기준 64px 셀) */
+    private static final int CELL_BITS = 2;
+
+    /** 클러스터마다 함께 반환할 대표 팝업스토어 수 */
+    private static final int REPRESENTATIVE_COUNT = 3;
+
+    private static final double MAX_MERCATOR_LATITUDE = 85.05112878;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** 팝업스토어 ID -> 색인된 좌표 */
+    private final Map<Long, double[]> points = new HashMap<>();
+
+    /** 줌 레벨별 (셀 키 -> 집계) */
+    private final List<Map<Long, Cell>> grids = new ArrayList<>();
+
+    private volatile boolean ready = false;
+
+    public PopupStoreClusterIndex() {
+        for (int zoom = MIN_ZOOM; zoom <= MAX_ZOOM; zoom++) {
+            grids.add(new HashMap<>());
+        }
+    }
+
+    /**
+     * 전체 팝업스토어로 격자를 다시 구성합니다.
+     */
+    @Override
+    public void rebuild(Collection<PopupStore> popupStores) {
+        lock.writeLock().lock();
+        try {
+            points.clear();
+            grids.forEach(Map::clear);
+            for (PopupStore popupStore : popupStores) {
+                if (isClusterable(popupStore)) {
+                    add(popupStore.getId(), popupStore.getLatitude(), popupStore.getLongitude());
+                }
+            }
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("팝업스토어 클러스터 격자 구성 완료: points={}", points.size());
+    }
+
+    /**
+     * 팝업스토어의 좌표/상태 변경을 격자에 반영합니다.
+     * 좌표와 활성 상태가 그대로면 아무것도 갱신하지 않습니다.
+     */
+    public void index(PopupStore popupStore) {
+        if (popupStore == null || popupStore.getId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            double[] previous = points.get(popupStore.getId());
+            boolean clusterable = isClusterable(popupStore);
+            if (previous != null && clusterable
+                    && previous[0] == popupStore.getLatitude() && previous[1] == popupStore.getLongitude()) {
+                return;
+            }
+            if (previous != null) {
+                remove(popupStore.getId(), previous);
+            }
+            if (clusterable) {
+                add(popupStore.getId(), popupStore.getLatitude(), popupStore.getLongitude());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 팝업스토어를 격자에서 제거합니다.
+     */
+    public void remove(Long id) {
+        if (id == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            double[] previous = points.get(id);
+            if (previous != null) {
+                remove(id, previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 격자가 구성되어 조회에 사용할 수 있는지 확인합니다.
+     */
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 경계 상자와 줌 레벨에 해당하는 클러스터 목록을 조회합니다.
+     */
+    @Override
+    public List<PopupStoreCluster> findClusters(double south, double west, double north, double east, int zoom) {
+        if (zoom < MIN_ZOOM || zoom > MAX_ZOOM) {
+            throw new IllegalArgumentException("줌 레벨은 " + MIN_ZOOM + "~" + MAX_ZOOM + " 사이여야 합니다: " + zoom);
+        }
+        if (south < -90 || north > 90 || west < -180 || east > 180 || south > north || west > east) {
+            throw new IllegalArgumentException("잘못된 경계 상자입니다: " + south + "," + west + " ~ " + north + "," + east);
+        }
+        int level = zoom + CELL_BITS;
+        long minX = cellX(west, level);
+        long maxX = cellX(east, level);
+        long minY = cellY(north, level);
+        long maxY = cellY(south, level);
+
+        List<PopupStoreCluster> clusters = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            Map<Long, Cell> grid = grids.get(zoom);
+            long cellsInView = (maxX - minX + 1) * (maxY - minY + 1);
+            if (cellsInView <= grid.size()) {
+                // 화면 안의 셀 수가 적으면 셀 키로 직접 조회
+                for (long x = minX; x <= maxX; x++) {
+                    for (long y = minY; y <= maxY; y++) {
+                        Cell cell = grid.get(key(x, y));
+                        if (cell != null) {
+                            clusters.add(cell.toCluster(zoom, x, y));
+                        }
+                    }
+                }
+            } else {
+                // 화면이 넓으면 채워진 셀만 훑어 범위 안의 셀을 고름
+                grid.forEach((key, cell) -> {
+                    long x = key >>> 32;
+                    long y = key & 0xFFFFFFFFL;
+                    if (x >= minX && x <= maxX && y >= minY && y <= maxY) {
+                        clusters.add(cell.toCluster(zoom, x, y));
+                    }
+                });
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        clusters.sort(Comparator.comparingInt(PopupStoreCluster::getCount).reversed()
+                .thenComparing(PopupStoreCluster::getCellId));
+        return clusters;
+    }
+
+    private boolean isClusterable(PopupStore popupStore) {
+        return popupStore.isActive() && popupStore.hasCoordinates();
+    }
+
+    private void add(Long id, double latitude, double longitude) {
+        points.put(id, new double[] {latitude, longitude});
+        for (int zoom = MIN_ZOOM; zoom <= MAX_ZOOM; zoom++) {
+            int level = zoom + CELL_BITS;
+            grids.get(zoom)
+                    .computeIfAbsent(key(cellX(longitude, level), cellY(latitude, level)), k -> new Cell())
+                    .add(id, latitude, longitude);
+        }
+    }
+
+    private void remove(Long id, double[] point) {
+        points.remove(id);
+        for (int zoom = MIN_ZOOM; zoom <= MAX_ZOOM; zoom++) {
+            int level = zoom + CELL_BITS;
+            long key = key(cellX(point[1], level), cellY(point[0], level));
+            Map<Long, Cell> grid = grids.get(zoom);
+            Cell cell = grid.get(key);
+            if (cell != null && cell.remove(id, point[0], point[1])) {
+                grid.remove(key);
+            }
+        }
+    }
+
+    private static long cellX(double longitude, int level) {
+        long cells = 1L << level;
+        long x = (long) Math.floor((longitude + 180) / 360 * cells);
+        return Math.min(Math.max(x, 0), cells - 1);
+    }
+
+    private static long cellY(double latitude, int level) {
+        long cells = 1L << level;
+        double lat = Math.toRadians(Math.max(-MAX_MERCATOR_LATITUDE, Math.min(MAX_MERCATOR_LATITUDE, latitude)));
+        double y = (1 - Math.log(Math.tan(lat) + 1 / Math.cos(lat)) / Math.PI) / 2 * cells;
+        return Math.min(Math.max((long) Math.floor(y), 0), cells - 1);
+    }
+
+    private static long key(long x, long y) {
+        return (x << 32) | y;
+    }
+
+    /**
+     * 셀 하나의 집계 (개수, 좌표 합계, 소속 팝업스토어 ID)
+     */
+    private static final class Cell {
+        private final TreeSet<Long> members = new TreeSet<>();
+        private double latitudeSum;
+        private double longitudeSum;
+
+        void add(Long id, double latitude, double longitude) {
+            if (members.add(id)) {
+                latitudeSum += latitude;
+                longitudeSum += longitude;
+            }
+        }
+
+        /**
+         * 제거 후 셀이 비었으면 true를 반환합니다.
+         */
+        boolean remove(Long id, double latitude, double longitude) {
+            if (members.remove(id)) {
+                latitudeSum -= latitude;
+                longitudeSum -= longitude;
+            }
+            return members.isEmpty();
+        }
+
+        PopupStoreCluster toCluster(int zoom, long x, long y) {
+            int count = members.size();
+            List<Long> representatives = members.stream()
+                    .limit(REPRESENTATIVE_COUNT)
+                    .toList();
+            return new PopupStoreCluster(zoom + "/" + x + "/" + y, count,
+                    latitudeSum / count, longitudeSum / count, representatives);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.sgyj.popupmoah.popupstore.infrastructure.geo;
+
+import com.sgyj.popupmoah.popupstore.domain.entity.PopupStore;
+import com.sgyj.popupmoah.popupstore.domain.search.NearbyPopupStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 팝업스토어 인메모리 공간 색인
+ * 활성화되어 있고 좌표가 있는 팝업스토어를 geohash 셀 단위로 색인하여
+ * 반경/경계 상자 검색을 외부 지도 API 호출 없이 처리합니다.
+ * 셀은 정렬된 맵으로 관리하므로 넓은 범위는 짧은 접두사(더 큰 셀)로 탐색합니다.
+ */
+@Slf4j
+@Component
+public class PopupStoreGeoIndex {
+
+    /** 색인 정밀도 (약 1.2km x 0.6km 셀) */
+    static final int INDEX_PRECISION = 6;
+
+    /** 한 번의 검색에서 탐색할 최대 셀 수 */
+    private static final int MAX_QUERY_CELLS = 64;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** 팝업스토어 ID -> 색인된 스냅샷 */
+    private final Map<Long, PopupStore> documents = new HashMap<>();
+
+    /** geohash 셀 -> 팝업스토어 ID 목록 */
+    private final NavigableMap<String, Set<Long>> cells = new TreeMap<>();
+
+    private volatile boolean ready = false;
+
+    /**
+     * 전체 팝업스토어로 색인을 다시 구성합니다.
+     */
+    public void rebuild(Collection<PopupStore> popupStores) {
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            cells.clear();
+            for (PopupStore popupStore : popupStores) {
+                addDocument(popupStore);
+            }
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("팝업스토어 공간 색인 구성 완료: documents={}, cells={}", documents.size(), cells.size());
+    }
+
+    /**
+     * 팝업스토어를 색인에 추가하거나 갱신합니다.
+     * 비활성화되었거나 좌표가 없는 팝업스토어는 색인에서 제거됩니다.
+     */
+    public void index(PopupStore popupStore) {
+        if (popupStore == null || popupStore.getId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeDocument(popupStore.getId());
+            addDocument(popupStore);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 팝업스토어를 색인에서 제거합니다.
+     */
+    public void remove(Long id) {
+        if (id == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeDocument(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 색인이 구성되어 검색에 사용할 수 있는지 확인합니다.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 색인된 팝업스토어 수를 반환합니다.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 중심 좌표에서 반경(미터) 이내의 팝업스토어를 가까운 순으로 조회합니다.
+     */
+    public List<NearbyPopupStore> findWithinRadius(double latitude, double longitude, double radiusMeters) {
+        validateCoordinates(latitude, longitude);
+        if (radiusMeters <= 0) {
+            throw new IllegalArgumentException("검색 반경은 0보다 커야 합니다: " + radiusMeters);
+        }
+        double[] box = GeoHash.boundingBox(latitude, longitude, radiusMeters);
+        return search(box[0], box[1], box[2], box[3], latitude, longitude, radiusMeters);
+    }
+
+    /**
+     * 경계 상자 안의 팝업스토어를 기준 좌표에서 가까운 순으로 조회합니다.
+     */
+    public List<NearbyPopupStore> findWithinBounds(double south, double west, double north, double east,
+                                                   double originLatitude, double originLongitude) {
+        validateCoordinates(south, west);
+        validateCoordinates(north, east);
+        if (south > north || west > east) {
+            throw new IllegalArgumentException("잘못된 경계 상자입니다: " + south + "," + west + " ~ " + north + "," + east);
+        }
+        return search(south, west, north, east, originLatitude, originLongitude, Double.POSITIVE_INFINITY);
+    }
+
+    private List<NearbyPopupStore> search(double south, double west, double north, double east,
+                                          double originLatitude, double originLongitude, double radiusMeters) {
+        int precision = GeoHash.precisionFor(south, west, north, east, INDEX_PRECISION, MAX_QUERY_CELLS);
+        Set<String> prefixes = GeoHash.coveringCells(south, west, north, east, precision);
+
+        List<NearbyPopupStore> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            Set<Long> seen = new HashSet<>();
+            for (String prefix : prefixes) {
+                for (Set<Long> ids : cells.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+                    for (Long id : ids) {
+                        if (!seen.add(id)) {
+                            continue;
+                        }
+                        PopupStore popupStore = documents.get(id);
+                        double lat = popupStore.getLatitude();
+                        double lon = popupStore.getLongitude();
+                        if (lat < south || lat > north || lon < west || lon > east) {
+                            continue;
+                        }
+                        double distance = GeoHash.distanceMeters(originLatitude, originLongitude, lat, lon);
+                        if (distance <= radiusMeters) {
+                            result.add(new NearbyPopupStore(popupStore, distance));
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        result.sort(Comparator.comparingDouble(NearbyPopupStore::getDistanceMeters)
+                .thenComparing(nearby -> nearby.getPopupStore().getId()));
+        return result;
+    }
+
+    private void addDocument(PopupStore popupStore) {
+        if (!popupStore.isActive() || !popupStore.hasCoordinates()) {
+            return;
+        }
+        documents.put(popupStore.getId(), popupStore);
+        cells.computeIfAbsent(cellOf(popupStore), key -> new HashSet<>()).add(popupStore.getId());
+    }
+
+    private void removeDocument(Long id) {
+        PopupStore previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        String cell = cellOf(previous);
+        Set<Long> ids = cells.get(cell);
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                cells.remove(cell);
+            }
+        }
+    }
+
+    private String cellOf(PopupStore popupStore) {
+        return GeoHash.encode(popupStore.getLatitude(), popupStore.getLongitude(), INDEX_PRECISION);
+    }
+
+    private void validateCoordinates(double latitude, double longitude) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("잘못된 좌표입니다: " + latitude + ", " + longitude);
+        }
+    }
+}
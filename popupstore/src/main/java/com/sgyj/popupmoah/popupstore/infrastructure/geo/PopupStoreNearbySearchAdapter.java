@@ -0,0 +1,126 @@
+package com.sgyj.popupmoah.popupstore.infrastructure.geo;
+
+import com.sgyj.popupmoah.popupstore.domain.entity.PopupStore;
+import com.sgyj.popupmoah.popupstore.domain.port.PopupStoreRepositoryPort;
+import com.sgyj.popupmoah.popupstore.domain.search.NearbyPopupStore;
+import com.sgyj.popupmoah.shared.application.dto.CoordinatesDto;
+import com.sgyj.popupmoah.shared.application.dto.PlaceSearchResponse;
+import com.sgyj.popupmoah.shared.application.service.NearbyPopupStoreSearchPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 주변 팝업스토어 검색 어댑터
+ * 공간 색인으로 반경/경계 상자 검색을 처리하고 지도 API와 같은 응답 형식으로 변환합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PopupStoreNearbySearchAdapter implements NearbyPopupStoreSearchPort {
+
+    static final String SEARCH_PROVIDER = "popupmoah";
+
+    private static final int MAX_RADIUS_METERS = 20_000;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final PopupStoreGeoIndex geoIndex;
+    private final PopupStoreRepositoryPort repository;
+
+    @Override
+    public PlaceSearchResponse searchNearby(CoordinatesDto center, int radiusMeters, int page, int size) {
+        validateCoordinates(center);
+        if (radiusMeters <= 0 || radiusMeters > MAX_RADIUS_METERS) {
+            throw new IllegalArgumentException("검색 반경은 1~" + MAX_RADIUS_METERS + "m 사이여야 합니다: " + radiusMeters);
+        }
+        validatePaging(page, size);
+
+        ensureIndexReady();
+        List<NearbyPopupStore> matched = geoIndex.findWithinRadius(
+                center.getLatitude(), center.getLongitude(), radiusMeters);
+        return toResponse(matched, page, size);
+    }
+
+    @Override
+    public PlaceSearchResponse searchWithinBounds(CoordinatesDto southWest, CoordinatesDto northEast,
+                                                  CoordinatesDto origin, int page, int size) {
+        validateCoordinates(southWest);
+        validateCoordinates(northEast);
+        validatePaging(page, size);
+
+        CoordinatesDto reference = origin != null && origin.isValid() ? origin : CoordinatesDto.builder()
+                .latitude((southWest.getLatitude() + northEast.getLatitude()) / 2)
+                .longitude((southWest.getLongitude() + northEast.getLongitude()) / 2)
+                .build();
+
+        ensureIndexReady();
+        List<NearbyPopupStore> matched = geoIndex.findWithinBounds(
+                southWest.getLatitude(), southWest.getLongitude(),
+                northEast.getLatitude(), northEast.getLongitude(),
+                reference.getLatitude(), reference.getLongitude());
+        return toResponse(matched, page, size);
+    }
+
+    /**
+     * 기동 직후 색인이 아직 구성되지 않았다면 저장소에서 바로 구성합니다.
+     */
+    private void ensureIndexReady() {
+        if (!geoIndex.isReady()) {
+            log.info("팝업스토어 공간 색인이 준비되지 않아 즉시 구성합니다.");
+            geoIndex.rebuild(repository.findByActiveTrue());
+        }
+    }
+
+    private PlaceSearchResponse toResponse(List<NearbyPopupStore> matched, int page, int size) {
+        int from = Math.min((page - 1) * size, matched.size());
+        int to = Math.min(from + size, matched.size());
+        List<PlaceSearchResponse.PlaceDto> places = matched.subList(from, to).stream()
+                .map(this::toPlace)
+                .toList();
+
+        return PlaceSearchResponse.builder()
+                .places(places)
+                .totalCount(matched.size())
+                .page(page)
+                .size(size)
+                .hasNext(to < matched.size())
+                .searchProvider(SEARCH_PROVIDER)
+                .build();
+    }
+
+    private PlaceSearchResponse.PlaceDto toPlace(NearbyPopupStore nearby) {
+        PopupStore popupStore = nearby.getPopupStore();
+        return PlaceSearchResponse.PlaceDto.builder()
+                .id(String.valueOf(popupStore.getId()))
+                .name(popupStore.getName())
+                .category(popupStore.getCategory())
+                .address(popupStore.getLocation())
+                .roadAddress(popupStore.getAddress())
+                .coordinates(CoordinatesDto.builder()
+                        .latitude(popupStore.getLatitude())
+                        .longitude(popupStore.getLongitude())
+                        .build())
+                .url(popupStore.getSourceUrl())
+                .imageUrl(popupStore.getImageUrl())
+                .distance(Math.round(nearby.getDistanceMeters() * 10) / 10.0)
+                .description(popupStore.getDescription())
+                .build();
+    }
+
+    private void validateCoordinates(CoordinatesDto coordinates) {
+        if (coordinates == null || !coordinates.isValid()) {
+            throw new IllegalArgumentException("유효하지 않은 좌표입니다.");
+        }
+    }
+
+    private void validatePaging(int page, int size) {
+        if (page < 1) {
+            throw new IllegalArgumentException("페이지 번호는 1 이상이어야 합니다: " + page);
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1~" + MAX_PAGE_SIZE + " 사이여야 합니다: " + size);
+        }
+    }
+}
@@ -2,8 +2,18 @@ package com.sgyj.popupmoah.popupstore.infrastructure.persistence;
 
 import com.sgyj.popupmoah.popupstore.domain.entity.PopupStore;
 import com.sgyj.popupmoah.popupstore.domain.port.PopupStoreRepositoryPort;
+import com.sgyj.popupmoah.popupstore.domain.search.PopupStoreSearchCondition;
+import com.sgyj.popupmoah.popupstore.domain.search.PopupStoreSearchResult;
+import com.sgyj.popupmoah.popupstore.infrastructure.schedule.PopupStoreRunningIndex;
+import com.sgyj.popupmoah.popupstore.infrastructure.search.PopupStoreIndexSynchronizer;
+import com.sgyj.popupmoah.popupstore.infrastructure.search.PopupStoreSearchIndex;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -12,7 +22,10 @@ import java.util.Optional;
 /**
  * 팝업스토어 Repository 어댑터
  * 기술 중립적인 어댑터로, 구체적인 기술 구현체를 선택할 수 있음
+ * 저장/삭제 시 검색 색인, 공간 색인, 클러스터 격자, 진행 중 집합을 커밋 후 모든 노드에서 갱신하고,
+ * 복합 검색과 진행 중 조회는 색인이 준비된 경우 색인으로 처리합니다.
  */
+@Primary
 @Repository
 @RequiredArgsConstructor
 public class PopupStoreRepositoryAdapter implements PopupStoreRepositoryPort {
@@ -20,12 +33,17 @@ public class PopupStoreRepositoryAdapter implements PopupStoreRepositoryPort {
     // 기술별 구현체를 주입받음 (JPA, R2DBC 등)
     private final com.sgyj.popupmoah.popupstore.adapters.jpa.PopupStoreJpaRepository jpaRepository;
     // private final PopupStoreR2dbcRepository r2dbcRepository; // R2DBC 사용 시
+    private final PopupStoreSearchIndex searchIndex;
+    private final PopupStoreRunningIndex runningIndex;
+    private final PopupStoreIndexSynchronizer indexSynchronizer;
     
     @Override
     public PopupStore save(PopupStore popupStore) {
         // 현재는 JPA 사용, 필요시 R2DBC로 변경 가능
-        return jpaRepository.save(popupStore);
+        PopupStore saved = jpaRepository.save(popupStore);
         // return r2dbcRepository.save(popupStore); // R2DBC 사용 시
+        afterCommit(() -> indexSynchronizer.saved(saved));
+        return saved;
     }
     
     @Override
@@ -56,6 +74,7 @@ public class PopupStoreRepositoryAdapter implements PopupStoreRepositoryPort {
     public void deleteById(Long id) {
         jpaRepository.deleteById(id);
         // r2dbcRepository.deleteById(id); // R2DBC 사용 시
+        afterCommit(() -> indexSynchronizer.deleted(id));
     }
     
     @Override
@@ -78,6 +97,9 @@ public class PopupStoreRepositoryAdapter implements PopupStoreRepositoryPort {
 
     @Override
     public List<PopupStore> findCurrentlyActive() {
+        if (runningIndex.isReady()) {
+            return runningIndex.findRunning();
+        }
         return jpaRepository.findCurrentlyActive();
         // return r2dbcRepository.findCurrentlyActive(); // R2DBC 사용 시
     }
@@ -105,4 +127,39 @@ public class PopupStoreRepositoryAdapter implements PopupStoreRepositoryPort {
                 active, currentlyActive);
         // return r2dbcRepository.countBySearchConditions(...); // R2DBC 사용 시
     }
-} 
\ No newline at end of file
+
+    @Override
+    public PopupStoreSearchResult searchBySearchConditions(PopupStoreSearchCondition condition) {
+        if (searchIndex.isReady()) {
+            return searchIndex.search(condition);
+        }
+        return jpaRepository.searchBySearchConditions(condition);
+    }
+
+    @Override
+    public Page<PopupStore> findByStatus(String status, Pageable pageable) {
+        return jpaRepository.findByStatus(status, pageable);
+    }
+
+    @Override
+    public Page<PopupStore> findAll(Pageable pageable) {
+        return jpaRepository.findAll(pageable);
+    }
+
+    /**
+     * 트랜잭션이 커밋된 후 작업을 실행합니다.
+     * 롤백된 변경이 색인에 반영되지 않도록 하기 위함이며, 트랜잭션 밖에서는 즉시 실행합니다.
+     */
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
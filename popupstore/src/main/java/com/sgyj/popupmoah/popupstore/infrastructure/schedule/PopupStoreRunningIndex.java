@@ -0,0 +1,256 @@
+package com.sgyj.popupmoah.popupstore.infrastructure.schedule;
+
+import com.sgyj.popupmoah.popupstore.domain.entity.PopupStore;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 현재 진행 중인 팝업스토어 집합
+ * 활성 팝업스토어의 시작/종료 시각을 우선순위 큐에 넣어 두고, 가장 가까운 시각에 맞춰 한 번만 깨어나
+ * 그 시각에 시작하거나 끝나는 팝업스토어만 집합에 넣고 뺍니다.
+ * 조회는 미리 만들어 둔 목록과 ID 집합을 그대로 반환하므로 팝업스토어 수와 관계없이 O(1)입니다.
+ */
+@Slf4j
+@Component
+public class PopupStoreRunningIndex {
+
+    private final Clock clock;
+    private final ScheduledExecutorService scheduler;
+
+    /** 아직 종료되지 않은 활성 팝업스토어 (시작 전 포함) */
+    private final Map<Long, PopupStore> tracked = new HashMap<>();
+
+    /** 팝업스토어별 최신 전환 세대 (변경 전에 예약된 전환은 무시) */
+    private final Map<Long, Long> generations = new HashMap<>();
+
+    /** 다가오는 시작/종료 시각 */
+    private final PriorityQueue<Transition> transitions = new PriorityQueue<>(Comparator.comparing(Transition::at));
+
+    /** 진행 중인 팝업스토어 (ID 순) */
+    private final Map<Long, PopupStore> running = new TreeMap<>();
+
+    private volatile List<PopupStore> runningSnapshot = List.of();
+    private volatile Set<Long> runningIds = Set.of();
+    private volatile boolean ready = false;
+
+    private long generation = 0L;
+    private ScheduledFuture<?> wakeUp;
+    private LocalDateTime wakeUpAt;
+
+    public PopupStoreRunningIndex() {
+        this(Clock.systemDefaultZone(), Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "popupstore-running-index");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    PopupStoreRunningIndex(Clock clock, ScheduledExecutorService scheduler) {
+        this.clock = clock;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * 전체 팝업스토어로 집합과 전환 일정을 다시 구성합니다.
+     */
+    public synchronized void rebuild(Collection<PopupStore> popupStores) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        tracked.clear();
+        generations.clear();
+        transitions.clear();
+        running.clear();
+        for (PopupStore popupStore : popupStores) {
+            track(popupStore, now);
+        }
+        publish();
+        ready = true;
+        scheduleWakeUp(now);
+        log.info("진행 중인 팝업스토어 집합 구성 완료: running={}, scheduled={}", running.size(), transitions.size());
+    }
+
+    /**
+     * 팝업스토어의 상태/기간 변경을 반영합니다.
+     */
+    public synchronized void index(PopupStore popupStore) {
+        if (popupStore == null || popupStore.getId() == null) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now(clock);
+        untrack(popupStore.getId());
+        track(popupStore, now);
+        publish();
+        scheduleWakeUp(now);
+    }
+
+    /**
+     * 팝업스토어를 집합과 전환 일정에서 제거합니다.
+     */
+    public synchronized void remove(Long id) {
+        if (id == null) {
+            return;
+        }
+        untrack(id);
+        publish();
+    }
+
+    /**
+     * 집합이 구성되어 조회에 사용할 수 있는지 확인합니다.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 현재 진행 중인 팝업스토어 목록을 반환합니다. (읽기 전용)
+     */
+    public List<PopupStore> findRunning() {
+        return runningSnapshot;
+    }
+
+    /**
+     * 현재 진행 중인 팝업스토어 ID 집합을 반환합니다. (읽기 전용)
+     */
+    public Set<Long> getRunningIds() {
+        return runningIds;
+    }
+
+    /**
+     * 팝업스토어가 현재 진행 중인지 확인합니다.
+     */
+    public boolean isRunning(Long id) {
+        return runningIds.contains(id);
+    }
+
+    /**
+     * now까지 도래한 시작/종료를 반영하고 다음 전환 시각에 다시 깨어나도록 예약합니다.
+     */
+    synchronized void advanceTo(LocalDateTime now) {
+        boolean changed = false;
+        while (!transitions.isEmpty() && !transitions.peek().at().isAfter(now)) {
+            Transition transition = transitions.poll();
+            if (!Long.valueOf(transition.generation()).equals(generations.get(transition.id()))) {
+                continue;
+            }
+            changed |= evaluate(transition.id(), now);
+        }
+        if (changed) {
+            publish();
+        }
+        scheduleWakeUp(now);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private void track(PopupStore popupStore, LocalDateTime now) {
+        LocalDateTime startDate = popupStore.getStartDate();
+        LocalDateTime endDate = popupStore.getEndDate();
+        if (!popupStore.isActive() || (endDate != null && endDate.isBefore(now))) {
+            return;
+        }
+        Long id = popupStore.getId();
+        long current = ++generation;
+        tracked.put(id, popupStore);
+        generations.put(id, current);
+
+        if (startDate != null && startDate.isAfter(now)) {
+            transitions.add(new Transition(startDate, id, current));
+        } else {
+            running.put(id, popupStore);
+        }
+        if (endDate != null) {
+            // 종료 시각까지는 진행 중이므로 그 직후에 제거
+            transitions.add(new Transition(endDate.plusNanos(1), id, current));
+        }
+    }
+
+    private void untrack(Long id) {
+        // 큐에 남은 전환은 세대가 맞지 않아 무시됨
+        tracked.remove(id);
+        generations.remove(id);
+        running.remove(id);
+    }
+
+    /**
+     * 팝업스토어 하나의 진행 여부를 다시 판단합니다.
+     * @return 진행 중인 집합이 바뀌었는지 여부
+     */
+    private boolean evaluate(Long id, LocalDateTime now) {
+        PopupStore popupStore = tracked.get(id);
+        if (popupStore == null) {
+            return false;
+        }
+        LocalDateTime startDate = popupStore.getStartDate();
+        LocalDateTime endDate = popupStore.getEndDate();
+        if (endDate != null && endDate.isBefore(now)) {
+            untrack(id);
+            return true;
+        }
+        if (startDate == null || !startDate.isAfter(now)) {
+            return running.put(id, popupStore) == null;
+        }
+        return false;
+    }
+
+    private void publish() {
+        runningSnapshot = List.copyOf(running.values());
+        runningIds = Set.copyOf(running.keySet());
+    }
+
+    /**
+     * 가장 가까운 전환 시각에 한 번만 깨어나도록 예약합니다. 이미 더 이른 시각에 예약되어 있으면 그대로 둡니다.
+     */
+    private void scheduleWakeUp(LocalDateTime now) {
+        if (transitions.isEmpty()) {
+            return;
+        }
+        LocalDateTime next = transitions.peek().at();
+        if (wakeUp != null && !wakeUp.isDone() && wakeUpAt != null && !wakeUpAt.isAfter(next)) {
+            return;
+        }
+        if (wakeUp != null) {
+            wakeUp.cancel(false);
+        }
+        // 밀리초 단위로 올림해 전환 시각보다 일찍 깨어나지 않도록 함
+        long delayNanos = Math.max(0L, Duration.between(now, next).toNanos());
+        long delayMillis = TimeUnit.NANOSECONDS.toMillis(delayNanos + TimeUnit.MILLISECONDS.toNanos(1) - 1);
+        wakeUpAt = next;
+        wakeUp = scheduler.schedule(this::wakeUp, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void wakeUp() {
+        // 실행 중인 예약은 아직 끝나지 않은 상태이므로 비워 두어야 다음 예약이 잡힘
+        wakeUp = null;
+        wakeUpAt = null;
+        try {
+            advanceTo(LocalDateTime.now(clock));
+        } catch (RuntimeException e) {
+            log.error("진행 중인 팝업스토어 집합 갱신 실패", e);
+        }
+    }
+
+    /**
+     * id 팝업스토어의 진행 여부를 at에 다시 판단하라는 예약
+     */
+    private record Transition(LocalDateTime at, Long id, long generation) {
+    }
+}
@@ -0,0 +1,67 @@
+package com.sgyj.popupmoah.popupstore.infrastructure.search;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 한글 n-gram 토크나이저
+ * 공백/구분자로 나눈 토큰마다 글자 단위 bi-gram을 생성합니다.
+ * 한글은 조사가 붙어 형태소 단위 분리가 어렵기 때문에 n-gram으로 부분 일치 검색을 지원합니다.
+ */
+public class KoreanNGramTokenizer {
+
+    private static final int GRAM_SIZE = 2;
+
+    private KoreanNGramTokenizer() {
+    }
+
+    /**
+     * 검색용으로 문자열을 정규화합니다. (소문자 변환, 앞뒤 공백 제거)
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 문자열을 n-gram 토큰 집합으로 변환합니다.
+     * 길이가 1인 토큰은 그대로 포함합니다.
+     */
+    public static Set<String> tokenize(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        String normalized = normalize(text);
+        if (normalized.isEmpty()) {
+            return grams;
+        }
+
+        StringBuilder token = new StringBuilder();
+        for (int i = 0; i < normalized.length(); i++) {
+            char ch = normalized.charAt(i);
+            if (Character.isLetterOrDigit(ch)) {
+                token.append(ch);
+            } else {
+                addGrams(token, grams);
+                token.setLength(0);
+            }
+        }
+        addGrams(token, grams);
+        return grams;
+    }
+
+    private static void addGrams(CharSequence token, Set<String> grams) {
+        int length = token.length();
+        if (length == 0) {
+            return;
+        }
+        if (length < GRAM_SIZE) {
+            grams.add(token.toString());
+            return;
+        }
+        for (int i = 0; i + GRAM_SIZE <= length; i++) {
+            grams.add(token.subSequence(i, i + GRAM_SIZE).toString());
+        }
+    }
+}
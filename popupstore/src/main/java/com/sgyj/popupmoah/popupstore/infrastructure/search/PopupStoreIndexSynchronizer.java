@@ -0,0 +1,248 @@
+package com.sgyj.popupmoah.popupstore.infrastructure.search;
+
+import com.sgyj.popupmoah.popupstore.adapters.jpa.PopupStoreJpaRepository;
+import com.sgyj.popupmoah.popupstore.domain.entity.PopupStore;
+import com.sgyj.popupmoah.popupstore.infrastructure.counter.PopupStoreCounterDelta;
+import com.sgyj.popupmoah.popupstore.infrastructure.geo.PopupStoreClusterIndex;
+import com.sgyj.popupmoah.popupstore.infrastructure.geo.PopupStoreGeoIndex;
+import com.sgyj.popupmoah.popupstore.infrastructure.schedule.PopupStoreRunningIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 팝업스토어 메모리 색인 동기화
+ * 검색 색인, 공간 색인, 클러스터 격자, 진행 중 집합은 노드마다 따로 가지므로,
+ * 변경을 이 노드에 반영한 뒤 Redis pub/sub으로 팝업스토어 ID를 알리고 다른 노드는 저장소에서 다시 읽어 반영합니다.
+ * 메시지를 놓친 변경(Redis 장애, 구독 재연결 등)은 주기적으로 updatedAt 이후 수정된 행을 다시 색인해 맞춥니다.
+ * 조회수/좋아요 수 반영은 updatedAt을 바꾸지 않으므로 증감분 자체를 알리고, 다른 노드는 검색 색인의 스냅샷에 더합니다.
+ * 메시지 형식: "노드ID\n팝업스토어ID" 또는 "노드ID\ncounters\nID:조회수증감:좋아요증감,..."
+ */
+@Slf4j
+@Component
+public class PopupStoreIndexSynchronizer implements MessageListener {
+
+    private static final String SEPARATOR = "\n";
+    private static final String COUNTERS = "counters";
+
+    private final PopupStoreJpaRepository jpaRepository;
+    private final PopupStoreSearchIndex searchIndex;
+    private final PopupStoreGeoIndex geoIndex;
+    private final PopupStoreClusterIndex clusterIndex;
+    private final PopupStoreRunningIndex runningIndex;
+    private final StringRedisTemplate redisTemplate;
+    private final String channel;
+    private final Duration syncOverlap;
+    private final Clock clock;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /** 이 시각 이후 수정된 행은 다음 주기에 다시 색인합니다. 색인을 구성하기 전에는 null입니다. */
+    private LocalDateTime syncedUntil;
+
+    @Autowired
+    public PopupStoreIndexSynchronizer(PopupStoreJpaRepository jpaRepository,
+                                       PopupStoreSearchIndex searchIndex,
+                                       PopupStoreGeoIndex geoIndex,
+                                       PopupStoreClusterIndex clusterIndex,
+                                       PopupStoreRunningIndex runningIndex,
+                                       StringRedisTemplate redisTemplate,
+                                       @Value("${popupstore.index.channel:popupmoah:popupstore-index}") String channel,
+                                       @Value("${popupstore.index.sync-overlap-ms:10000}") long syncOverlapMillis) {
+        this(jpaRepository, searchIndex, geoIndex, clusterIndex, runningIndex, redisTemplate,
+                channel, Duration.ofMillis(syncOverlapMillis), Clock.systemDefaultZone());
+    }
+
+    PopupStoreIndexSynchronizer(PopupStoreJpaRepository jpaRepository,
+                                PopupStoreSearchIndex searchIndex,
+                                PopupStoreGeoIndex geoIndex,
+                                PopupStoreClusterIndex clusterIndex,
+                                PopupStoreRunningIndex runningIndex,
+                                StringRedisTemplate redisTemplate,
+                                String channel,
+                                Duration syncOverlap,
+                                Clock clock) {
+        this.jpaRepository = jpaRepository;
+        this.searchIndex = searchIndex;
+        this.geoIndex = geoIndex;
+        this.clusterIndex = clusterIndex;
+        this.runningIndex = runningIndex;
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+        this.syncOverlap = syncOverlap;
+        this.clock = clock;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    /**
+     * 저장소 전체로 모든 색인을 다시 구성합니다.
+     */
+    public synchronized void rebuild() {
+        LocalDateTime startedAt = LocalDateTime.now(clock);
+        List<PopupStore> popupStores = jpaRepository.findAll();
+        searchIndex.rebuild(popupStores);
+        geoIndex.rebuild(popupStores);
+        clusterIndex.rebuild(popupStores);
+        runningIndex.rebuild(popupStores);
+        syncedUntil = startedAt.minus(syncOverlap);
+    }
+
+    /**
+     * 커밋된 저장을 이 노드의 색인에 반영하고 다른 노드에 알립니다.
+     */
+    public void saved(PopupStore popupStore) {
+        synchronized (this) {
+            index(popupStore);
+        }
+        publish(popupStore.getId());
+    }
+
+    /**
+     * 커밋된 삭제를 이 노드의 색인에 반영하고 다른 노드에 알립니다.
+     */
+    public void deleted(Long id) {
+        synchronized (this) {
+            remove(id);
+        }
+        publish(id);
+    }
+
+    /**
+     * 저장소에 반영된 카운터 증감분을 이 노드의 검색 색인에 더하고 다른 노드에 알립니다.
+     */
+    public void countersFlushed(List<PopupStoreCounterDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        synchronized (this) {
+            searchIndex.applyCounterDeltas(deltas);
+        }
+        publish(COUNTERS + SEPARATOR + encode(deltas));
+    }
+
+    /**
+     * 다른 노드의 변경 알림을 받아 저장소에서 다시 읽어 반영합니다. 행이 없으면 삭제된 것으로 봅니다.
+     * 메시지 순서와 관계없이 저장소의 현재 상태로 맞추므로 늦게 도착한 메시지가 새 값을 덮어쓰지 않습니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR, 3);
+        if (parts.length < 2 || nodeId.equals(parts[0])) {
+            return;
+        }
+        List<PopupStoreCounterDelta> deltas = null;
+        Long id = null;
+        try {
+            if (parts.length == 3 && COUNTERS.equals(parts[1])) {
+                deltas = decode(parts[2]);
+            } else {
+                id = Long.valueOf(parts[1]);
+            }
+        } catch (RuntimeException e) {
+            log.warn("잘못된 팝업스토어 색인 메시지: {}", parts[1]);
+            return;
+        }
+        synchronized (this) {
+            if (syncedUntil == null) {
+                // 색인 구성 전에 온 변경은 구성 시 저장소 전체를 읽으며 반영됨
+                return;
+            }
+            if (deltas != null) {
+                searchIndex.applyCounterDeltas(deltas);
+                return;
+            }
+            Long changedId = id;
+            jpaRepository.findById(changedId).ifPresentOrElse(this::index, () -> remove(changedId));
+        }
+    }
+
+    /**
+     * 마지막 동기화 이후 수정된 행을 다시 색인합니다.
+     * 커밋이 updatedAt보다 늦거나 노드 간 시계가 어긋난 행을 놓치지 않도록 겹치는 구간을 두고 읽습니다.
+     * 조회와 반영을 같은 락 안에서 하므로, 그 사이에 도착한 삭제 알림은 반영이 끝난 뒤 적용됩니다.
+     */
+    @Scheduled(fixedDelayString = "${popupstore.index.sync-interval-ms:30000}")
+    public synchronized void catchUp() {
+        if (syncedUntil == null) {
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now(clock);
+        try {
+            List<PopupStore> changed = jpaRepository.findUpdatedSince(syncedUntil);
+            changed.forEach(this::index);
+            syncedUntil = startedAt.minus(syncOverlap);
+            if (!changed.isEmpty()) {
+                log.debug("팝업스토어 색인 동기화: {}건", changed.size());
+            }
+        } catch (RuntimeException e) {
+            log.warn("팝업스토어 색인 동기화 실패, 다음 주기에 재시도합니다.", e);
+        }
+    }
+
+    private void index(PopupStore popupStore) {
+        searchIndex.index(popupStore);
+        geoIndex.index(popupStore);
+        clusterIndex.index(popupStore);
+        runningIndex.index(popupStore);
+    }
+
+    private void remove(Long id) {
+        searchIndex.remove(id);
+        geoIndex.remove(id);
+        clusterIndex.remove(id);
+        runningIndex.remove(id);
+    }
+
+    /**
+     * 전송에 실패해도 이 노드는 이미 반영되었고, 다른 노드는 다음 동기화 주기에 맞춰집니다.
+     * 단, 삭제와 카운터 증감분은 updatedAt으로 찾을 수 없으므로 다른 노드는 색인을 다시 구성할 때까지 이전 값을 가질 수 있습니다.
+     */
+    private void publish(Object payload) {
+        try {
+            redisTemplate.convertAndSend(channel, nodeId + SEPARATOR + payload);
+        } catch (RuntimeException e) {
+            log.warn("팝업스토어 색인 변경 알림 전송 실패: {}", payload, e);
+        }
+    }
+
+    private static String encode(List<PopupStoreCounterDelta> deltas) {
+        StringBuilder encoded = new StringBuilder();
+        for (PopupStoreCounterDelta delta : deltas) {
+            if (!encoded.isEmpty()) {
+                encoded.append(',');
+            }
+            encoded.append(delta.popupStoreId()).append(':')
+                    .append(delta.viewDelta()).append(':')
+                    .append(delta.likeDelta());
+        }
+        return encoded.toString();
+    }
+
+    private static List<PopupStoreCounterDelta> decode(String encoded) {
+        List<PopupStoreCounterDelta> deltas = new ArrayList<>();
+        for (String entry : encoded.split(",")) {
+            String[] fields = entry.split(":");
+            if (fields.length != 3) {
+                throw new IllegalArgumentException("잘못된 카운터 증감분입니다: " + entry);
+            }
+            deltas.add(new PopupStoreCounterDelta(
+                    Long.valueOf(fields[0]), Long.parseLong(fields[1]), Long.parseLong(fields[2])));
+        }
+        return deltas;
+    }
+}
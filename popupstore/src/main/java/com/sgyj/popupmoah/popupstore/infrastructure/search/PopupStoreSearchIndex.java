@@ -0,0 +1,534 @@
+package com.sgyj.popupmoah.popupstore.infrastructure.search;
+
+import com.sgyj.popupmoah.popupstore.domain.entity.PopupStore;
+import com.sgyj.popupmoah.popupstore.domain.search.PopupStoreSearchCondition;
+import com.sgyj.popupmoah.popupstore.domain.search.PopupStoreSearchCursor;
+import com.sgyj.popupmoah.popupstore.domain.search.PopupStoreSearchResult;
+import com.sgyj.popupmoah.popupstore.infrastructure.counter.PopupStoreCounterDelta;
+import com.sgyj.popupmoah.popupstore.infrastructure.schedule.PopupStoreRunningIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * 팝업스토어 인메모리 역색인
+ * 이름/설명/위치를 n-gram으로 색인하고 카테고리 색인을 함께 유지하여
+ * 키워드 + 카테고리 + 날짜 조건 검색과 전체 개수 계산을 한 번의 탐색으로 처리합니다.
+ * 진행 중 여부 조건은 진행 중인 팝업스토어 집합이 준비되어 있으면 그 집합으로 판단합니다.
+ * 정렬 기준별로 정렬된 문서 목록을 함께 유지하여, 전체 개수가 필요 없는 조회는 정렬 순서대로 읽다가 한 페이지가 차면 멈추고,
+ * 후보를 모두 봐야 하는 조회는 요청한 페이지까지만 담는 크기 제한 힙으로 골라 전체 정렬을 하지 않습니다.
+ * 키셋 조회는 (createdAt, id) 순서의 목록에서 커서 위치를 이진 탐색으로 찾아 그 다음부터 읽습니다.
+ */
+@Slf4j
+@Component
+public class PopupStoreSearchIndex {
+
+    private static final String NAME_FIELD = "n:";
+    private static final String DESCRIPTION_FIELD = "d:";
+    private static final String LOCATION_FIELD = "l:";
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** 팝업스토어 ID -> 색인된 스냅샷 */
+    private final Map<Long, IndexedPopupStore> documents = new HashMap<>();
+
+    /** (필드 접두어 + n-gram) -> 팝업스토어 ID 목록 */
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+
+    /** 카테고리 -> 팝업스토어 ID 목록 */
+    private final Map<String, Set<Long>> categories = new HashMap<>();
+
+    /** 정렬 기준 -> 그 기준의 오름차순(같은 값은 ID 순)으로 정렬된 문서 */
+    private final Map<String, SortOrder> sortOrders = new HashMap<>();
+
+    private final PopupStoreRunningIndex runningIndex;
+
+    private volatile boolean ready = false;
+
+    public PopupStoreSearchIndex() {
+        this(null);
+    }
+
+    @Autowired
+    public PopupStoreSearchIndex(PopupStoreRunningIndex runningIndex) {
+        this.runningIndex = runningIndex;
+        sortOrder("createdAt", PopupStore::getCreatedAt);
+        sortOrder("name", PopupStore::getName);
+        sortOrder("startDate", PopupStore::getStartDate);
+        sortOrder("endDate", PopupStore::getEndDate);
+        sortOrder("viewCount", PopupStore::getViewCount);
+        sortOrder("likeCount", PopupStore::getLikeCount);
+    }
+
+    /**
+     * 전체 팝업스토어로 색인을 다시 구성합니다.
+     */
+    public void rebuild(Collection<PopupStore> popupStores) {
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            postings.clear();
+            categories.clear();
+            sortOrders.values().forEach(sortOrder -> sortOrder.documents().clear());
+            for (PopupStore popupStore : popupStores) {
+                addDocument(popupStore);
+            }
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("팝업스토어 검색 색인 구성 완료: documents={}, terms={}", documents.size(), postings.size());
+    }
+
+    /**
+     * 팝업스토어를 색인에 추가하거나 갱신합니다.
+     */
+    public void index(PopupStore popupStore) {
+        if (popupStore == null || popupStore.getId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeDocument(popupStore.getId());
+            addDocument(popupStore);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 팝업스토어를 색인에서 제거합니다.
+     */
+    public void remove(Long id) {
+        if (id == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeDocument(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 저장소에 반영된 조회수/좋아요 수 증감분을 색인된 스냅샷에 더합니다.
+     * 텍스트 색인은 그대로 두고 문서만 새 스냅샷으로 바꿔 넣어 조회수/좋아요 수 정렬 순서를 맞춥니다.
+     */
+    public void applyCounterDeltas(Collection<PopupStoreCounterDelta> deltas) {
+        lock.writeLock().lock();
+        try {
+            for (PopupStoreCounterDelta delta : deltas) {
+                IndexedPopupStore document = documents.get(delta.popupStoreId());
+                if (document == null) {
+                    continue;
+                }
+                IndexedPopupStore updated = document.withPopupStore(
+                        document.popupStore().withCountDeltas(delta.viewDelta(), delta.likeDelta()));
+                sortOrders.values().forEach(sortOrder -> {
+                    sortOrder.documents().remove(document);
+                    sortOrder.documents().add(updated);
+                });
+                documents.put(delta.popupStoreId(), updated);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 팝업스토어가 색인되어 있는지 확인합니다.
+     */
+    public boolean contains(Long id) {
+        lock.readLock().lock();
+        try {
+            return documents.containsKey(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인이 구성되어 검색에 사용할 수 있는지 확인합니다.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 색인된 팝업스토어 수를 반환합니다.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색 조건에 맞는 팝업스토어 한 페이지와 전체 개수를 함께 조회합니다.
+     * 커서가 있으면 커서 이후의 문서만 대상으로 (createdAt, id) 순서로 한 페이지를 반환합니다.
+     */
+    public PopupStoreSearchResult search(PopupStoreSearchCondition condition) {
+        LocalDateTime now = LocalDateTime.now();
+        Set<Long> runningIds = runningIndex != null && runningIndex.isReady() ? runningIndex.getRunningIds() : null;
+        int offset = condition.isKeyset() ? 0 : (int) Math.min((long) condition.getPage() * condition.getSize(), Integer.MAX_VALUE);
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 고릅니다.
+        int limit = (int) Math.min((long) offset + condition.getSize() + 1, Integer.MAX_VALUE);
+        List<IndexedPopupStore> selected;
+        Long totalElements = null;
+
+        lock.readLock().lock();
+        try {
+            Collection<Long> candidateIds = candidates(condition, runningIds);
+            if (candidateIds == null && (condition.isKeyset() || !condition.isIncludeTotal())) {
+                selected = scanInOrder(condition, now, runningIds, limit);
+                if (condition.isIncludeTotal()) {
+                    totalElements = countMatches(condition, now, runningIds);
+                }
+            } else {
+                TopMatches top = selectTop(condition, now, runningIds,
+                        candidateIds != null ? candidateIds : documents.keySet(), limit);
+                selected = top.documents();
+                if (condition.isIncludeTotal()) {
+                    totalElements = top.totalMatches();
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        int from = Math.min(offset, selected.size());
+        int to = Math.min(from + condition.getSize(), selected.size());
+        List<PopupStore> content = selected.subList(from, to).stream()
+                .map(IndexedPopupStore::popupStore)
+                .toList();
+        return new PopupStoreSearchResult(content, totalElements, to < selected.size());
+    }
+
+    /**
+     * 후보를 좁힐 조건이 없으면 정렬된 문서를 순서대로(커서가 있으면 커서 다음부터) 읽다가 limit건이 차면 멈춥니다.
+     * 후보를 좁힌 조회는 후보 수만큼만 보면 되므로 selectTop으로 처리합니다.
+     */
+    private List<IndexedPopupStore> scanInOrder(PopupStoreSearchCondition condition, LocalDateTime now,
+                                                Set<Long> runningIds, int limit) {
+        PopupStoreSearchCursor cursor = condition.getCursor();
+        boolean ascending = condition.isAscending();
+        NavigableSet<IndexedPopupStore> ordered = sortOrderOf(condition).documents();
+        List<IndexedPopupStore> selected = new ArrayList<>(Math.min(limit, 1024));
+        for (IndexedPopupStore document : seek(ordered, cursor, ascending)) {
+            if (cursor != null && document.popupStore().getCreatedAt() == null) {
+                // 생성일시가 없는 문서는 오름차순 맨 뒤에 모여 있고 커서 이후로 보지 않음
+                break;
+            }
+            if (!document.matches(condition, now, runningIds)) {
+                continue;
+            }
+            selected.add(document);
+            if (selected.size() >= limit) {
+                break;
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * 커서 바로 다음 문서부터 정렬 방향으로 읽도록 정렬된 목록에서 커서 위치를 찾습니다.
+     */
+    private static Iterable<IndexedPopupStore> seek(NavigableSet<IndexedPopupStore> ordered,
+                                                    PopupStoreSearchCursor cursor, boolean ascending) {
+        if (cursor == null) {
+            return ascending ? ordered : ordered.descendingSet();
+        }
+        IndexedPopupStore position = IndexedPopupStore.at(cursor);
+        return ascending
+                ? ordered.tailSet(position, false)
+                : ordered.headSet(position, false).descendingSet();
+    }
+
+    private long countMatches(PopupStoreSearchCondition condition, LocalDateTime now, Set<Long> runningIds) {
+        long totalMatches = 0;
+        for (IndexedPopupStore document : documents.values()) {
+            if (document.matches(condition, now, runningIds)) {
+                totalMatches++;
+            }
+        }
+        return totalMatches;
+    }
+
+    /**
+     * 후보를 모두 확인하며 조건에 맞는 수를 세고, 정렬 순서로 앞선 limit건만 크기 제한 힙에 남깁니다.
+     * 힙의 맨 위는 남긴 문서 중 가장 뒤에 오는 문서이며, 그보다 앞서는 문서가 나오면 교체합니다.
+     */
+    private TopMatches selectTop(PopupStoreSearchCondition condition, LocalDateTime now, Set<Long> runningIds,
+                                 Collection<Long> candidateIds, int limit) {
+        PopupStoreSearchCursor cursor = condition.getCursor();
+        boolean ascending = condition.isAscending();
+        Comparator<IndexedPopupStore> order = comparator(condition);
+        PriorityQueue<IndexedPopupStore> top = new PriorityQueue<>(order.reversed());
+        long totalMatches = 0;
+
+        for (Long id : candidateIds) {
+            IndexedPopupStore document = documents.get(id);
+            if (document == null || !document.matches(condition, now, runningIds)) {
+                continue;
+            }
+            totalMatches++;
+            PopupStore popupStore = document.popupStore();
+            if (cursor != null && !cursor.precedes(popupStore.getCreatedAt(), popupStore.getId(), ascending)) {
+                continue;
+            }
+            if (top.size() < limit) {
+                top.add(document);
+            } else if (order.compare(document, top.peek()) < 0) {
+                top.poll();
+                top.add(document);
+            }
+        }
+
+        List<IndexedPopupStore> selected = new ArrayList<>(top);
+        selected.sort(order);
+        return new TopMatches(selected, totalMatches);
+    }
+
+    /**
+     * 색인으로 후보 ID를 좁힙니다. 좁힐 조건이 없으면 null을 반환하며 전체 문서가 후보가 됩니다.
+     */
+    private Collection<Long> candidates(PopupStoreSearchCondition condition, Set<Long> runningIds) {
+        Collection<Long> result = null;
+
+        if (runningIds != null && Boolean.TRUE.equals(condition.getCurrentlyActive())) {
+            result = runningIds;
+        }
+        if (condition.getCategory() != null) {
+            result = intersect(result, categories.getOrDefault(condition.getCategory(), Collections.emptySet()));
+        }
+        if (condition.hasKeyword()) {
+            Set<Long> keywordCandidates = new HashSet<>();
+            for (String field : List.of(NAME_FIELD, DESCRIPTION_FIELD, LOCATION_FIELD)) {
+                keywordCandidates.addAll(lookup(field, condition.getKeyword()));
+            }
+            result = intersect(result, keywordCandidates);
+        }
+        if (condition.getLocation() != null && !condition.getLocation().isBlank()) {
+            result = intersect(result, lookup(LOCATION_FIELD, condition.getLocation()));
+        }
+        return result;
+    }
+
+    /**
+     * 필드별 n-gram 목록의 교집합을 구합니다.
+     * 색인 단위보다 짧은 검색어는 색인으로 좁힐 수 없으므로 전체 문서를 후보로 반환합니다.
+     */
+    private Set<Long> lookup(String field, String text) {
+        Set<String> grams = KoreanNGramTokenizer.tokenize(text);
+        if (grams.isEmpty() || grams.stream().anyMatch(gram -> gram.length() < 2)) {
+            return documents.keySet();
+        }
+
+        Set<Long> result = null;
+        for (String gram : grams) {
+            Set<Long> ids = postings.getOrDefault(field + gram, Collections.emptySet());
+            if (result == null) {
+                result = new HashSet<>(ids);
+            } else {
+                result.retainAll(ids);
+            }
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    private Collection<Long> intersect(Collection<Long> current, Collection<Long> next) {
+        if (current == null) {
+            return next;
+        }
+        Set<Long> result = new HashSet<>(current);
+        result.retainAll(next);
+        return result;
+    }
+
+    private void addDocument(PopupStore popupStore) {
+        Long id = popupStore.getId();
+        if (id == null) {
+            return;
+        }
+        IndexedPopupStore document = new IndexedPopupStore(popupStore);
+        documents.put(id, document);
+        sortOrders.values().forEach(sortOrder -> sortOrder.documents().add(document));
+
+        addPostings(NAME_FIELD, popupStore.getName(), id);
+        addPostings(DESCRIPTION_FIELD, popupStore.getDescription(), id);
+        addPostings(LOCATION_FIELD, popupStore.getLocation(), id);
+        if (popupStore.getCategory() != null) {
+            categories.computeIfAbsent(popupStore.getCategory(), key -> new HashSet<>()).add(id);
+        }
+    }
+
+    private void removeDocument(Long id) {
+        IndexedPopupStore document = documents.remove(id);
+        if (document == null) {
+            return;
+        }
+        sortOrders.values().forEach(sortOrder -> sortOrder.documents().remove(document));
+        PopupStore popupStore = document.popupStore();
+        removePostings(NAME_FIELD, popupStore.getName(), id);
+        removePostings(DESCRIPTION_FIELD, popupStore.getDescription(), id);
+        removePostings(LOCATION_FIELD, popupStore.getLocation(), id);
+        if (popupStore.getCategory() != null) {
+            removeFrom(categories, popupStore.getCategory(), id);
+        }
+    }
+
+    private void addPostings(String field, String text, Long id) {
+        for (String gram : KoreanNGramTokenizer.tokenize(text)) {
+            postings.computeIfAbsent(field + gram, key -> new HashSet<>()).add(id);
+        }
+    }
+
+    private void removePostings(String field, String text, Long id) {
+        for (String gram : KoreanNGramTokenizer.tokenize(text)) {
+            removeFrom(postings, field + gram, id);
+        }
+    }
+
+    private void removeFrom(Map<String, Set<Long>> index, String key, Long id) {
+        Set<Long> ids = index.get(key);
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    /**
+     * 정렬 기준별 문서 목록을 등록합니다. 값이 없는 문서는 오름차순에서 맨 뒤에 옵니다.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void sortOrder(String sortBy, Function<PopupStore, Comparable> key) {
+        Comparator<PopupStore> byKey = Comparator.comparing(key, Comparator.nullsLast(Comparator.naturalOrder()));
+        Comparator<PopupStore> ordering = byKey.thenComparing(PopupStore::getId);
+        Comparator<IndexedPopupStore> comparator = (left, right) -> ordering.compare(left.popupStore(), right.popupStore());
+        sortOrders.put(sortBy, new SortOrder(comparator, new TreeSet<>(comparator)));
+    }
+
+    /**
+     * 키셋 조회는 항상 (createdAt, id) 순서이며, 알 수 없는 정렬 기준은 생성일시로 정렬합니다.
+     */
+    private SortOrder sortOrderOf(PopupStoreSearchCondition condition) {
+        String sortBy = condition.isKeyset() || condition.getSortBy() == null ? "createdAt" : condition.getSortBy();
+        return sortOrders.getOrDefault(sortBy, sortOrders.get("createdAt"));
+    }
+
+    /**
+     * 내림차순은 오름차순을 그대로 뒤집으므로 값이 없는 문서가 맨 앞에 오고 같은 값은 ID 역순입니다.
+     */
+    private Comparator<IndexedPopupStore> comparator(PopupStoreSearchCondition condition) {
+        Comparator<IndexedPopupStore> ascending = sortOrderOf(condition).comparator();
+        return condition.isAscending() ? ascending : ascending.reversed();
+    }
+
+    private record SortOrder(Comparator<IndexedPopupStore> comparator, NavigableSet<IndexedPopupStore> documents) {
+    }
+
+    private record TopMatches(List<IndexedPopupStore> documents, long totalMatches) {
+    }
+
+    /**
+     * 색인에 보관되는 팝업스토어 스냅샷
+     * 검색 시 매번 소문자 변환을 하지 않도록 정규화된 텍스트를 함께 보관합니다.
+     */
+    private record IndexedPopupStore(PopupStore popupStore, String name, String description, String location) {
+
+        IndexedPopupStore(PopupStore popupStore) {
+            this(popupStore,
+                    KoreanNGramTokenizer.normalize(popupStore.getName()),
+                    KoreanNGramTokenizer.normalize(popupStore.getDescription()),
+                    KoreanNGramTokenizer.normalize(popupStore.getLocation()));
+        }
+
+        /**
+         * 정규화된 텍스트는 그대로 두고 팝업스토어 스냅샷만 바꿉니다. 텍스트 필드가 같은 스냅샷에만 사용합니다.
+         */
+        IndexedPopupStore withPopupStore(PopupStore updated) {
+            return new IndexedPopupStore(updated, name, description, location);
+        }
+
+        /**
+         * 정렬된 목록에서 커서 위치를 찾기 위한 탐색용 스냅샷 (색인에 넣지 않음)
+         */
+        static IndexedPopupStore at(PopupStoreSearchCursor cursor) {
+            PopupStore position = PopupStore.builder().id(cursor.getId()).build();
+            position.setCreatedAt(cursor.getCreatedAt());
+            return new IndexedPopupStore(position, "", "", "");
+        }
+
+        /**
+         * n-gram 후보에 대해 원래 LIKE 조건과 동일한 부분 문자열 일치 및 나머지 필터를 검증합니다.
+         * runningIds가 주어지면 진행 중 여부를 날짜 비교 대신 집합으로 판단합니다.
+         */
+        boolean matches(PopupStoreSearchCondition condition, LocalDateTime now, Set<Long> runningIds) {
+            if (condition.hasKeyword()) {
+                String keyword = KoreanNGramTokenizer.normalize(condition.getKeyword());
+                if (!name.contains(keyword) && !description.contains(keyword) && !location.contains(keyword)) {
+                    return false;
+                }
+            }
+            if (condition.getCategory() != null && !condition.getCategory().equals(popupStore.getCategory())) {
+                return false;
+            }
+            if (condition.getLocation() != null
+                    && !location.contains(KoreanNGramTokenizer.normalize(condition.getLocation()))) {
+                return false;
+            }
+
+            LocalDateTime startDate = popupStore.getStartDate();
+            LocalDateTime endDate = popupStore.getEndDate();
+            if (condition.getStartDateFrom() != null && (startDate == null || startDate.isBefore(condition.getStartDateFrom()))) {
+                return false;
+            }
+            if (condition.getStartDateTo() != null && (startDate == null || startDate.isAfter(condition.getStartDateTo()))) {
+                return false;
+            }
+            if (condition.getEndDateFrom() != null && (endDate == null || endDate.isBefore(condition.getEndDateFrom()))) {
+                return false;
+            }
+            if (condition.getEndDateTo() != null && (endDate == null || endDate.isAfter(condition.getEndDateTo()))) {
+                return false;
+            }
+            if (condition.getActive() != null && !condition.getActive().equals(popupStore.isActive())) {
+                return false;
+            }
+            if (condition.getCurrentlyActive() != null) {
+                boolean running = runningIds != null
+                        ? runningIds.contains(popupStore.getId())
+                        : popupStore.isActive()
+                                && (startDate == null || !startDate.isAfter(now))
+                                && (endDate == null || !endDate.isBefore(now));
+                return condition.getCurrentlyActive() == running;
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.sgyj.popupmoah.popupstore.infrastructure.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 애플리케이션 기동 시 팝업스토어 검색 색인, 공간 색인, 클러스터 격자, 진행 중 집합을 구성합니다.
+ * 색인이 준비되기 전까지 검색은 JPA 쿼리로 처리됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PopupStoreSearchIndexInitializer {
+
+    private final PopupStoreIndexSynchronizer indexSynchronizer;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            indexSynchronizer.rebuild();
+        } catch (Exception e) {
+            log.error("팝업스토어 색인 구성 실패 - JPA 검색으로 대체합니다.", e);
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package com.sgyj.popupmoah.popupstore.infrastructure.web;
 
-import com.sgyj.popupmoah.common.response.ApiResponse;
+import com.sgyj.popupmoah.popupstore.application.dto.PopupStoreClusterResponse;
 import com.sgyj.popupmoah.popupstore.application.dto.PopupStoreCreateRequest;
 import com.sgyj.popupmoah.popupstore.application.dto.PopupStoreResponse;
 import com.sgyj.popupmoah.popupstore.application.dto.PopupStoreUpdateRequest;
@@ -9,6 +9,7 @@ import com.sgyj.popupmoah.popupstore.application.dto.PopupStoreSearchRequest;
 import com.sgyj.popupmoah.popupstore.application.dto.PopupStoreSearchResponse;
 import com.sgyj.popupmoah.popupstore.application.service.PopupStoreApplicationService;
 import com.sgyj.popupmoah.popupstore.domain.entity.PopupStore;
+import com.sgyj.popupmoah.shared.response.ApiResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -383,6 +384,37 @@ public class PopupStoreController {
         }
     }
 
+    /**
+     * 지도 영역의 팝업스토어 클러스터를 조회합니다.
+     */
+    @Operation(summary = "팝업스토어 지도 클러스터 조회", description = "지도 영역과 줌 레벨에 맞춰 집계된 팝업스토어 클러스터를 조회합니다.")
+    @ApiResponses(value = {
+            @SwaggerApiResponse(responseCode = "200", description = "클러스터 조회 성공"),
+            @SwaggerApiResponse(responseCode = "400", description = "잘못된 요청"),
+            @SwaggerApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    @GetMapping("/locations/clusters")
+    public ResponseEntity<ApiResponse<PopupStoreClusterResponse>> getPopupStoreClusters(
+            @RequestParam Double south,
+            @RequestParam Double west,
+            @RequestParam Double north,
+            @RequestParam Double east,
+            @RequestParam Integer zoom) {
+        log.info("팝업스토어 지도 클러스터 조회 API 호출: {},{} ~ {},{}, zoom={}", south, west, north, east, zoom);
+        
+        try {
+            PopupStoreClusterResponse response = applicationService.getPopupStoreClusters(south, west, north, east, zoom);
+            return ResponseEntity.ok(ApiResponse.success(response));
+        } catch (IllegalArgumentException e) {
+            log.warn("팝업스토어 지도 클러스터 조회 실패: {}", e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("팝업스토어 지도 클러스터 조회 중 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("클러스터 조회에 실패했습니다."));
+        }
+    }
+
     /**
      * 팝업스토어를 검색합니다.
      */
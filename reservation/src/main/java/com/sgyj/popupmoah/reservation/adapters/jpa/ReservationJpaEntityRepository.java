@@ -1,6 +1,8 @@
 package com.sgyj.popupmoah.reservation.adapters.jpa;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -63,4 +65,47 @@ public interface ReservationJpaEntityRepository extends JpaRepository<Reservatio
      */
     @Query("SELECT r FROM ReservationJpaEntity r WHERE r.reservationDateTime < :now AND r.status = 'PENDING'")
     List<ReservationJpaEntity> findExpiredReservations(@Param("now") LocalDateTime now);
+
+    /**
+     * 시간대 내 유효한(대기/확정) 예약 인원 합계 조회
+     */
+    @Query("SELECT COALESCE(SUM(r.numberOfPeople), 0) FROM ReservationJpaEntity r " +
+           "WHERE r.popupStoreId = :popupStoreId AND r.status IN ('PENDING', 'CONFIRMED') " +
+           "AND r.reservationDateTime >= :slotStart AND r.reservationDateTime < :slotEnd")
+    Long sumActivePeopleBetween(@Param("popupStoreId") Long popupStoreId,
+                                @Param("slotStart") LocalDateTime slotStart,
+                                @Param("slotEnd") LocalDateTime slotEnd);
+
+    /**
+     * afterId 이후의 만료된 대기 예약 ID 조회 (엔티티 없이 ID만 조회)
+     */
+    @Query("SELECT r.id FROM ReservationJpaEntity r " +
+           "WHERE r.status = 'PENDING' AND r.reservationDateTime < :now AND r.id > :afterId ORDER BY r.id")
+    List<Long> findExpiredPendingIds(@Param("now") LocalDateTime now,
+                                     @Param("afterId") Long afterId,
+                                     Pageable pageable);
+
+    /**
+     * ID 구간 안의 만료된 대기 예약 일괄 취소
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE ReservationJpaEntity r SET r.status = 'CANCELLED', r.cancelledAt = :now, " +
+           "r.cancellationReason = :reason, r.updatedAt = :now " +
+           "WHERE r.id > :afterId AND r.id <= :lastId " +
+           "AND r.status = 'PENDING' AND r.reservationDateTime < :now")
+    int expirePendingBetween(@Param("afterId") Long afterId,
+                             @Param("lastId") Long lastId,
+                             @Param("now") LocalDateTime now,
+                             @Param("reason") String reason);
+
+    /**
+     * ID 구간 안에서 지정 시각 이후 해당 사유로 취소된 예약 ID 조회
+     */
+    @Query("SELECT r.id FROM ReservationJpaEntity r " +
+           "WHERE r.id > :afterId AND r.id <= :lastId AND r.status = 'CANCELLED' " +
+           "AND r.cancelledAt >= :expiredAt AND r.cancellationReason = :reason ORDER BY r.id")
+    List<Long> findCancelledIdsBetween(@Param("afterId") Long afterId,
+                                       @Param("lastId") Long lastId,
+                                       @Param("expiredAt") LocalDateTime expiredAt,
+                                       @Param("reason") String reason);
 }
@@ -3,6 +3,7 @@ package com.sgyj.popupmoah.reservation.adapters.jpa;
 import com.sgyj.popupmoah.reservation.domain.entity.Reservation;
 import com.sgyj.popupmoah.reservation.domain.port.ReservationRepositoryPort;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -104,6 +105,14 @@ public class ReservationJpaRepository implements ReservationRepositoryPort {
         return jpaEntityRepository.existsById(id);
     }
 
+    @Override
+    public List<Reservation> findAllByIds(List<Long> ids) {
+        return jpaEntityRepository.findAllById(ids)
+                .stream()
+                .map(this::toDomainEntity)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public List<Reservation> findExpiredReservations(LocalDateTime now) {
         return jpaEntityRepository.findExpiredReservations(now)
@@ -112,6 +121,21 @@ public class ReservationJpaRepository implements ReservationRepositoryPort {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Long> findExpiredPendingIds(LocalDateTime now, Long afterId, int limit) {
+        return jpaEntityRepository.findExpiredPendingIds(now, afterId, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public int expirePendingBetween(Long afterId, Long lastId, LocalDateTime now, String reason) {
+        return jpaEntityRepository.expirePendingBetween(afterId, lastId, now, reason);
+    }
+
+    @Override
+    public List<Long> findCancelledIdsBetween(Long afterId, Long lastId, LocalDateTime expiredAt, String reason) {
+        return jpaEntityRepository.findCancelledIdsBetween(afterId, lastId, expiredAt, reason);
+    }
+
     /**
      * 도메인 엔티티를 JPA 엔티티로 변환
      */
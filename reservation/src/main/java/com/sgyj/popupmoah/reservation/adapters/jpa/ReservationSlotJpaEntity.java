@@ -0,0 +1,40 @@
+package com.sgyj.popupmoah.reservation.adapters.jpa;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 시간대 JPA 엔티티
+ * 팝업스토어의 시간대별 수용 인원과 확보된 좌석 수를 관리합니다.
+ */
+@Entity
+@Table(name = "reservation_slots",
+        uniqueConstraints = @UniqueConstraint(name = "uk_reservation_slots_store_slot",
+                columnNames = {"popup_store_id", "slot_start"}))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationSlotJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "popup_store_id", nullable = false)
+    private Long popupStoreId;
+
+    @Column(name = "slot_start", nullable = false)
+    private LocalDateTime slotStart;
+
+    @Column(name = "capacity", nullable = false)
+    private Integer capacity;
+
+    @Column(name = "reserved", nullable = false)
+    private Integer reserved;
+}
@@ -0,0 +1,44 @@
+package com.sgyj.popupmoah.reservation.adapters.jpa;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 예약 시간대 JPA 엔티티 리포지토리
+ */
+@Repository
+public interface ReservationSlotJpaEntityRepository extends JpaRepository<ReservationSlotJpaEntity, Long> {
+
+    /**
+     * 팝업스토어와 시간대 시작 시각으로 시간대를 조회
+     */
+    Optional<ReservationSlotJpaEntity> findByPopupStoreIdAndSlotStart(Long popupStoreId, LocalDateTime slotStart);
+
+    /**
+     * 수용 인원을 넘지 않는 경우에만 좌석을 확보 (갱신된 행 수 반환)
+     */
+    @Modifying
+    @Query("UPDATE ReservationSlotJpaEntity s SET s.reserved = s.reserved + :people " +
+           "WHERE s.popupStoreId = :popupStoreId AND s.slotStart = :slotStart " +
+           "AND s.reserved + :people <= s.capacity")
+    int reserveSeats(@Param("popupStoreId") Long popupStoreId,
+                     @Param("slotStart") LocalDateTime slotStart,
+                     @Param("people") int people);
+
+    /**
+     * 확보된 좌석을 반환 (0 미만으로 내려가지 않음)
+     */
+    @Modifying
+    @Query("UPDATE ReservationSlotJpaEntity s SET s.reserved = " +
+           "CASE WHEN s.reserved < :people THEN 0 ELSE s.reserved - :people END " +
+           "WHERE s.popupStoreId = :popupStoreId AND s.slotStart = :slotStart")
+    int releaseSeats(@Param("popupStoreId") Long popupStoreId,
+                     @Param("slotStart") LocalDateTime slotStart,
+                     @Param("people") int people);
+}
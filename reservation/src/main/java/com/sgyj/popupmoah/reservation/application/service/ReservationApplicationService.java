@@ -5,11 +5,14 @@ import com.sgyj.popupmoah.reservation.application.dto.ReservationResponse;
 import com.sgyj.popupmoah.reservation.application.dto.ReservationUpdateRequest;
 import com.sgyj.popupmoah.reservation.domain.aggregate.ReservationAggregate;
 import com.sgyj.popupmoah.reservation.domain.entity.Reservation;
+import com.sgyj.popupmoah.reservation.domain.port.ReservationCachePort;
+import com.sgyj.popupmoah.reservation.domain.port.ReservationExpiryPort;
 import com.sgyj.popupmoah.reservation.domain.port.ReservationRepositoryPort;
 import com.sgyj.popupmoah.reservation.domain.port.ReservationServicePort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -29,6 +32,8 @@ public class ReservationApplicationService implements ReservationServicePort {
     
     private final ReservationRepositoryPort repository;
     private final ReservationAggregate aggregate;
+    private final ReservationExpiryPort expiry;
+    private final ReservationCachePort cache;
     
     @Override
     public Reservation createReservation(Reservation reservation) {
@@ -40,19 +45,19 @@ public class ReservationApplicationService implements ReservationServicePort {
     @Override
     public Optional<Reservation> getReservation(Long id) {
         log.info("예약 조회 요청: id={}", id);
-        return aggregate.findById(id);
+        return cache.findById(id, () -> aggregate.findById(id));
     }
     
     @Override
     public List<Reservation> getReservationsByMember(Long memberId) {
         log.info("회원별 예약 조회 요청: memberId={}", memberId);
-        return aggregate.findByMemberId(memberId);
+        return cache.findByMemberId(memberId, () -> aggregate.findByMemberId(memberId));
     }
     
     @Override
     public List<Reservation> getReservationsByPopupStore(Long popupStoreId) {
         log.info("팝업스토어별 예약 조회 요청: popupStoreId={}", popupStoreId);
-        return aggregate.findByPopupStoreId(popupStoreId);
+        return cache.findByPopupStoreId(popupStoreId, () -> aggregate.findByPopupStoreId(popupStoreId));
     }
     
     @Override
@@ -79,10 +84,16 @@ public class ReservationApplicationService implements ReservationServicePort {
         aggregate.complete(id);
     }
     
+    /**
+     * 만료된 예약을 정리합니다.
+     * 배치마다 별도 트랜잭션으로 커밋하므로 전체를 하나의 트랜잭션으로 묶지 않습니다.
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void cleanupExpiredReservations() {
         log.info("만료된 예약 정리 요청");
-        aggregate.cleanupExpiredReservations();
+        int expired = expiry.expireAll();
+        log.info("만료된 예약 정리 결과: {}건", expired);
     }
     
     @Override
@@ -100,7 +111,7 @@ public class ReservationApplicationService implements ReservationServicePort {
     /**
      * 예약을 생성합니다.
      */
-    @Transactional(readOnly = true)
+    @Transactional
     public ReservationResponse createReservation(ReservationCreateRequest request) {
         log.info("예약 생성 요청: {}", request);
 
@@ -123,7 +134,7 @@ public class ReservationApplicationService implements ReservationServicePort {
     /**
      * 예약을 수정합니다.
      */
-    @Transactional(readOnly = true)
+    @Transactional
     public ReservationResponse updateReservation(Long id, ReservationUpdateRequest request) {
         log.info("예약 수정 요청: id={}, {}", id, request);
 
@@ -155,13 +166,13 @@ public class ReservationApplicationService implements ReservationServicePort {
             if (status != null) {
                 reservations = repository.findByMemberIdAndStatus(memberId, status);
             } else {
-                reservations = aggregate.findByMemberId(memberId);
+                reservations = cache.findByMemberId(memberId, () -> aggregate.findByMemberId(memberId));
             }
         } else if (popupStoreId != null) {
             if (status != null) {
                 reservations = repository.findByPopupStoreIdAndStatus(popupStoreId, status);
             } else {
-                reservations = aggregate.findByPopupStoreId(popupStoreId);
+                reservations = cache.findByPopupStoreId(popupStoreId, () -> aggregate.findByPopupStoreId(popupStoreId));
             }
         } else {
             throw new IllegalArgumentException("회원 ID 또는 팝업스토어 ID 중 하나는 필수입니다.");
@@ -178,7 +189,7 @@ public class ReservationApplicationService implements ReservationServicePort {
     @Transactional(readOnly = true)
     public Optional<ReservationResponse> getReservationById(Long id) {
         log.info("예약 상세 조회 요청: id={}", id);
-        return aggregate.findById(id)
+        return cache.findById(id, () -> aggregate.findById(id))
                 .map(this::convertToResponse);
     }
 
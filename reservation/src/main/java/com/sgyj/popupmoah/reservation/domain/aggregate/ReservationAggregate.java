@@ -1,21 +1,52 @@
 package com.sgyj.popupmoah.reservation.domain.aggregate;
 
 import com.sgyj.popupmoah.reservation.domain.entity.Reservation;
+import com.sgyj.popupmoah.reservation.domain.event.ReservationChangedEvent;
+import com.sgyj.popupmoah.reservation.domain.expiry.ReservationExpiryBatch;
+import com.sgyj.popupmoah.reservation.domain.port.ReservationCapacityPort;
+import com.sgyj.popupmoah.reservation.domain.port.ReservationEventPublisherPort;
 import com.sgyj.popupmoah.reservation.domain.port.ReservationRepositoryPort;
-import lombok.RequiredArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * 예약 애그리게이트 루트
  * 예약 도메인에 대한 접근을 제어하는 루트 엔티티
  */
-@RequiredArgsConstructor
 public class ReservationAggregate {
     
+    public static final String EXPIRY_REASON = "예약 시간 만료";
+    
+    private static final int DEFAULT_EXPIRY_BATCH_SIZE = 500;
+    
     private final ReservationRepositoryPort repository;
+    private final ReservationCapacityPort capacity;
+    private final ReservationEventPublisherPort events;
+    
+    public ReservationAggregate(ReservationRepositoryPort repository) {
+        this(repository, null);
+    }
+    
+    /**
+     * 수용 인원 포트가 주어지면 예약 시간대별 수용 인원 안에서만 예약을 허용합니다.
+     */
+    public ReservationAggregate(ReservationRepositoryPort repository, ReservationCapacityPort capacity) {
+        this(repository, capacity, null);
+    }
+    
+    /**
+     * 이벤트 발행 포트가 주어지면 예약을 저장하거나 삭제할 때마다 변경 이벤트를 발행합니다.
+     */
+    public ReservationAggregate(ReservationRepositoryPort repository, ReservationCapacityPort capacity,
+                                ReservationEventPublisherPort events) {
+        this.repository = repository;
+        this.capacity = capacity;
+        this.events = events;
+    }
     
     /**
      * 예약을 생성합니다.
@@ -24,9 +55,12 @@ public class ReservationAggregate {
         // 도메인 규칙 검증
         validateReservation(reservation);
         
-        // 중복 예약 확인
-        if (repository.existsByPopupStoreIdAndReservationDateTime(
+        if (capacity != null) {
+            // 시간대 수용 인원 확보 (트랜잭션이 롤백되면 함께 반환됨)
+            reserveSeats(reservation);
+        } else if (repository.existsByPopupStoreIdAndReservationDateTime(
                 reservation.getPopupStoreId(), reservation.getReservationDateTime())) {
+            // 중복 예약 확인
             throw new IllegalArgumentException("해당 시간에 이미 예약이 존재합니다.");
         }
         
@@ -47,7 +81,9 @@ public class ReservationAggregate {
                     .build();
         }
         
-        return repository.save(reservation);
+        Reservation created = repository.save(reservation);
+        publish(() -> ReservationChangedEvent.created(created));
+        return created;
     }
     
     /**
@@ -83,10 +119,13 @@ public class ReservationAggregate {
         // 도메인 규칙 검증
         validateReservation(reservation);
         
-        Reservation updated = existing.get();
+        Reservation previous = existing.get();
+        if (capacity != null) {
+            changeSeats(previous, reservation);
+        }
         // 불변성을 유지하면서 업데이트
-        updated = Reservation.builder()
-                .id(updated.getId())
+        Reservation updated = Reservation.builder()
+                .id(previous.getId())
                 .memberId(reservation.getMemberId())
                 .popupStoreId(reservation.getPopupStoreId())
                 .memberName(reservation.getMemberName())
@@ -100,21 +139,31 @@ public class ReservationAggregate {
                 .confirmedAt(reservation.getConfirmedAt())
                 .cancelledAt(reservation.getCancelledAt())
                 .cancellationReason(reservation.getCancellationReason())
-                .createdAt(updated.getCreatedAt())
+                .createdAt(previous.getCreatedAt())
                 .updatedAt(LocalDateTime.now())
                 .build();
         
-        return repository.save(updated);
+        Reservation saved = repository.save(updated);
+        publish(() -> ReservationChangedEvent.updated(previous, saved));
+        return saved;
     }
     
     /**
      * 예약을 삭제합니다.
      */
     public void delete(Long id) {
-        if (!repository.existsById(id)) {
-            throw new IllegalArgumentException("예약을 찾을 수 없습니다: " + id);
+        if (events == null) {
+            if (!repository.existsById(id)) {
+                throw new IllegalArgumentException("예약을 찾을 수 없습니다: " + id);
+            }
+            repository.deleteById(id);
+            return;
         }
+        // 회원/팝업스토어별 목록에서도 제거할 수 있도록 삭제 전 예약을 이벤트에 담음
+        Reservation reservation = repository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("예약을 찾을 수 없습니다: " + id));
         repository.deleteById(id);
+        events.publish(ReservationChangedEvent.deleted(reservation));
     }
     
     /**
@@ -125,7 +174,7 @@ public class ReservationAggregate {
         if (reservation.isPresent()) {
             Reservation res = reservation.get();
             res.confirm();
-            repository.save(res);
+            saveChanged(res);
         }
     }
     
@@ -136,8 +185,12 @@ public class ReservationAggregate {
         Optional<Reservation> reservation = repository.findById(id);
         if (reservation.isPresent()) {
             Reservation res = reservation.get();
+            boolean heldSeats = holdsSeats(res);
             res.cancel(reason);
-            repository.save(res);
+            saveChanged(res);
+            if (capacity != null && heldSeats) {
+                releaseSeats(res);
+            }
         }
     }
     
@@ -149,7 +202,7 @@ public class ReservationAggregate {
         if (reservation.isPresent()) {
             Reservation res = reservation.get();
             res.complete();
-            repository.save(res);
+            saveChanged(res);
         }
     }
     
@@ -157,22 +210,120 @@ public class ReservationAggregate {
      * 예약 가능 여부를 확인합니다.
      */
     public boolean isReservationAvailable(Long popupStoreId, LocalDateTime reservationDateTime) {
+        if (capacity != null) {
+            return capacity.isAvailable(popupStoreId, reservationDateTime, 1);
+        }
         return !repository.existsByPopupStoreIdAndReservationDateTime(popupStoreId, reservationDateTime);
     }
     
     /**
      * 만료된 예약을 정리합니다.
+     * @return 취소 처리된 예약 수
+     */
+    public int cleanupExpiredReservations() {
+        LocalDateTime now = LocalDateTime.now();
+        int expired = 0;
+        ReservationExpiryBatch batch = ReservationExpiryBatch.empty(0L);
+        do {
+            batch = expireNextBatch(now, batch.getLastId(), DEFAULT_EXPIRY_BATCH_SIZE);
+            expired += batch.getExpiredCount();
+        } while (batch.isHasMore());
+        return expired;
+    }
+    
+    /**
+     * afterId 이후의 만료된 대기 예약을 최대 batchSize개 취소 처리합니다.
+     * 엔티티를 읽지 않고 ID 구간에 대한 UPDATE 한 번으로 처리하며,
+     * 반환된 lastId부터 다시 호출하면 중단된 지점부터 이어서 처리할 수 있습니다.
+     */
+    public ReservationExpiryBatch expireNextBatch(LocalDateTime now, Long afterId, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("배치 크기는 1 이상이어야 합니다.");
+        }
+        // 저장소의 시각 정밀도와 관계없이 취소 시각으로 다시 찾을 수 있도록 초 단위로 맞춤
+        LocalDateTime expiredAt = now.truncatedTo(ChronoUnit.SECONDS);
+        List<Long> candidateIds = repository.findExpiredPendingIds(expiredAt, afterId, batchSize);
+        if (candidateIds.isEmpty()) {
+            return ReservationExpiryBatch.empty(afterId);
+        }
+        Long lastId = candidateIds.get(candidateIds.size() - 1);
+        int updated = repository.expirePendingBetween(afterId, lastId, expiredAt, EXPIRY_REASON);
+        
+        // 조회와 갱신 사이에 확정/취소된 예약이 있으면 실제로 취소된 ID만 다시 조회
+        List<Long> expiredIds = updated == candidateIds.size()
+                ? candidateIds
+                : repository.findCancelledIdsBetween(afterId, lastId, expiredAt, EXPIRY_REASON);
+        if (events != null && !expiredIds.isEmpty()) {
+            // UPDATE로 바뀐 상태를 구독자가 알 수 있도록 취소된 예약을 한 번에 읽어 발행
+            for (Reservation expired : repository.findAllByIds(expiredIds)) {
+                events.publish(ReservationChangedEvent.updated(expired, expired));
+            }
+        }
+        return new ReservationExpiryBatch(expiredIds, lastId, candidateIds.size() == batchSize);
+    }
+    
+    /**
+     * 상태가 바뀐 예약을 저장하고 변경 이벤트를 발행합니다. (회원/팝업스토어는 바뀌지 않음)
      */
-    public void cleanupExpiredReservations() {
-        List<Reservation> expiredReservations = repository.findExpiredReservations(LocalDateTime.now());
-        for (Reservation reservation : expiredReservations) {
-            if (reservation.isPending()) {
-                reservation.cancel("예약 시간 만료");
-                repository.save(reservation);
+    private Reservation saveChanged(Reservation reservation) {
+        Reservation saved = repository.save(reservation);
+        publish(() -> ReservationChangedEvent.updated(reservation, saved));
+        return saved;
+    }
+    
+    private void publish(Supplier<ReservationChangedEvent> event) {
+        if (events != null) {
+            events.publish(event.get());
+        }
+    }
+    
+    private void reserveSeats(Reservation reservation) {
+        if (!capacity.tryReserve(reservation.getPopupStoreId(), reservation.getReservationDateTime(),
+                reservation.getNumberOfPeople())) {
+            throw new IllegalArgumentException("해당 시간대의 예약 가능 인원을 초과했습니다.");
+        }
+    }
+    
+    private void releaseSeats(Reservation reservation) {
+        capacity.release(reservation.getPopupStoreId(), reservation.getReservationDateTime(),
+                reservation.getNumberOfPeople());
+    }
+    
+    /**
+     * 예약 변경에 맞춰 좌석을 옮기거나, 취소로 바뀌면 반환하고, 취소된 예약이 다시 대기/확정으로 바뀌면 확보합니다.
+     */
+    private void changeSeats(Reservation previous, Reservation changed) {
+        boolean held = holdsSeats(previous);
+        if (held && holdsSeats(changed)) {
+            if (movesSeats(previous, changed) && !capacity.tryMove(
+                    previous.getPopupStoreId(), previous.getReservationDateTime(), previous.getNumberOfPeople(),
+                    changed.getPopupStoreId(), changed.getReservationDateTime(), changed.getNumberOfPeople())) {
+                throw new IllegalArgumentException("해당 시간대의 예약 가능 인원을 초과했습니다.");
             }
+        } else if (held && changed.isCancelled()) {
+            releaseSeats(previous);
+        } else if (previous.isCancelled() && holdsSeats(changed)) {
+            reserveSeats(changed);
         }
     }
     
+    /**
+     * 좌석을 점유하고 있는 예약(대기/확정)인지 확인합니다.
+     */
+    private boolean holdsSeats(Reservation reservation) {
+        return (reservation.isPending() || reservation.isConfirmed())
+                && reservation.getNumberOfPeople() != null;
+    }
+    
+    /**
+     * 예약 변경으로 시간대나 인원이 바뀌는지 확인합니다.
+     */
+    private boolean movesSeats(Reservation existing, Reservation changed) {
+        return !existing.getPopupStoreId().equals(changed.getPopupStoreId())
+                || !existing.getReservationDateTime().equals(changed.getReservationDateTime())
+                || !existing.getNumberOfPeople().equals(changed.getNumberOfPeople());
+    }
+    
     /**
      * 예약 도메인 규칙을 검증합니다.
      */
@@ -0,0 +1,49 @@
+package com.sgyj.popupmoah.reservation.domain.event;
+
+import com.sgyj.popupmoah.reservation.domain.entity.Reservation;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 예약 변경 이벤트
+ * 어그리게이트가 예약을 저장하거나 삭제할 때 발행합니다.
+ * 변경으로 회원이나 팝업스토어가 바뀌었으면 이전 값도 함께 담아, 이전 목록에서 제거할 수 있도록 합니다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ReservationChangedEvent {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final Type type;
+    /** 변경 후 예약 (삭제 이벤트는 삭제 전 예약) */
+    private final Reservation reservation;
+    private final Long previousMemberId;
+    private final Long previousPopupStoreId;
+
+    public static ReservationChangedEvent created(Reservation reservation) {
+        return new ReservationChangedEvent(Type.CREATED, reservation,
+                reservation.getMemberId(), reservation.getPopupStoreId());
+    }
+
+    public static ReservationChangedEvent updated(Reservation previous, Reservation reservation) {
+        return new ReservationChangedEvent(Type.UPDATED, reservation,
+                previous.getMemberId(), previous.getPopupStoreId());
+    }
+
+    public static ReservationChangedEvent deleted(Reservation reservation) {
+        return new ReservationChangedEvent(Type.DELETED, reservation,
+                reservation.getMemberId(), reservation.getPopupStoreId());
+    }
+
+    public Long getReservationId() {
+        return reservation.getId();
+    }
+
+    public boolean isDeleted() {
+        return type == Type.DELETED;
+    }
+}
@@ -0,0 +1,36 @@
+package com.sgyj.popupmoah.reservation.domain.expiry;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 만료 처리 배치 한 번의 결과
+ * 다음 배치는 lastId 이후부터 이어서 처리합니다.
+ */
+@Getter
+public class ReservationExpiryBatch {
+
+    /** 이번 배치에서 취소 처리된 예약 ID */
+    private final List<Long> expiredIds;
+
+    /** 이번 배치에서 처리한 마지막 예약 ID (다음 배치의 시작점) */
+    private final Long lastId;
+
+    /** 이후에 처리할 예약이 더 있을 수 있는지 여부 */
+    private final boolean hasMore;
+
+    public ReservationExpiryBatch(List<Long> expiredIds, Long lastId, boolean hasMore) {
+        this.expiredIds = expiredIds;
+        this.lastId = lastId;
+        this.hasMore = hasMore;
+    }
+
+    public static ReservationExpiryBatch empty(Long afterId) {
+        return new ReservationExpiryBatch(List.of(), afterId, false);
+    }
+
+    public int getExpiredCount() {
+        return expiredIds.size();
+    }
+}
@@ -0,0 +1,29 @@
+package com.sgyj.popupmoah.reservation.domain.port;
+
+import com.sgyj.popupmoah.reservation.domain.entity.Reservation;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 예약 캐시 포트
+ * 예약 단건과 회원별/팝업스토어별 예약 목록을 읽기 시 채우고 예약 변경에 맞춰 고치는 구현체를 위한 인터페이스
+ */
+public interface ReservationCachePort {
+
+    /**
+     * 예약을 캐시에서 찾고, 없으면 loader로 조회해 저장합니다.
+     */
+    Optional<Reservation> findById(Long id, Supplier<Optional<Reservation>> loader);
+
+    /**
+     * 회원의 예약 목록을 캐시에서 찾고, 없으면 loader로 조회해 저장합니다.
+     */
+    List<Reservation> findByMemberId(Long memberId, Supplier<List<Reservation>> loader);
+
+    /**
+     * 팝업스토어의 예약 목록을 캐시에서 찾고, 없으면 loader로 조회해 저장합니다.
+     */
+    List<Reservation> findByPopupStoreId(Long popupStoreId, Supplier<List<Reservation>> loader);
+}
@@ -0,0 +1,33 @@
+package com.sgyj.popupmoah.reservation.domain.port;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 시간대 수용 인원 포트
+ * 팝업스토어의 예약 시간대별 좌석을 원자적으로 확보/반환하는 구현체를 위한 인터페이스
+ */
+public interface ReservationCapacityPort {
+
+    /**
+     * 예약 시간이 속한 시간대에서 인원만큼 좌석을 확보합니다.
+     * @return 수용 인원을 초과하면 false
+     */
+    boolean tryReserve(Long popupStoreId, LocalDateTime reservationDateTime, int numberOfPeople);
+
+    /**
+     * 예약 시간이 속한 시간대에 인원만큼 좌석을 반환합니다.
+     */
+    void release(Long popupStoreId, LocalDateTime reservationDateTime, int numberOfPeople);
+
+    /**
+     * 예약의 시간대나 인원을 바꿉니다. 새 좌석을 확보하지 못하면 이전 좌석은 그대로 둡니다.
+     * @return 새 시간대의 수용 인원을 초과하면 false
+     */
+    boolean tryMove(Long fromPopupStoreId, LocalDateTime fromDateTime, int fromPeople,
+                    Long toPopupStoreId, LocalDateTime toDateTime, int toPeople);
+
+    /**
+     * 예약 시간이 속한 시간대에 인원만큼 남은 좌석이 있는지 확인합니다.
+     */
+    boolean isAvailable(Long popupStoreId, LocalDateTime reservationDateTime, int numberOfPeople);
+}
@@ -0,0 +1,15 @@
+package com.sgyj.popupmoah.reservation.domain.port;
+
+import com.sgyj.popupmoah.reservation.domain.event.ReservationChangedEvent;
+
+/**
+ * 예약 변경 이벤트 발행 포트
+ * 캐시처럼 예약 상태를 복제해 두는 구성 요소가 변경을 구독할 수 있도록 합니다.
+ */
+public interface ReservationEventPublisherPort {
+
+    /**
+     * 변경 이벤트를 발행합니다. 구독자는 트랜잭션이 커밋된 후에 이벤트를 받습니다.
+     */
+    void publish(ReservationChangedEvent event);
+}
@@ -0,0 +1,14 @@
+package com.sgyj.popupmoah.reservation.domain.port;
+
+/**
+ * 만료 예약 정리 포트
+ * 만료된 대기 예약을 배치로 나누어 취소하는 구현체를 위한 인터페이스
+ */
+public interface ReservationExpiryPort {
+
+    /**
+     * 만료된 대기 예약을 끝까지 취소 처리합니다. 이미 정리 중이면 기다리지 않고 0을 반환합니다.
+     * @return 이번 호출에서 취소 처리된 예약 수
+     */
+    int expireAll();
+}
@@ -0,0 +1,15 @@
+package com.sgyj.popupmoah.reservation.domain.port;
+
+import java.util.List;
+
+/**
+ * 예약 알림 포트
+ * 엔티티를 읽지 않고 예약 ID만으로 알림을 보내는 구현체를 위한 인터페이스
+ */
+public interface ReservationNotificationPort {
+
+    /**
+     * 시간 만료로 취소된 예약들에 대한 알림을 발송합니다.
+     */
+    void notifyExpired(List<Long> reservationIds);
+}
@@ -72,8 +72,29 @@ public interface ReservationRepositoryPort {
      */
     boolean existsById(Long id);
     
+    /**
+     * ID 목록에 해당하는 예약을 한 번에 조회합니다.
+     */
+    List<Reservation> findAllByIds(List<Long> ids);
+    
     /**
      * 만료된 예약 목록을 조회합니다.
      */
     List<Reservation> findExpiredReservations(LocalDateTime now);
+    
+    /**
+     * afterId 이후의 만료된 대기 예약 ID를 ID 순으로 최대 limit개 조회합니다.
+     */
+    List<Long> findExpiredPendingIds(LocalDateTime now, Long afterId, int limit);
+    
+    /**
+     * ID 구간 (afterId, lastId] 안의 만료된 대기 예약을 한 번의 UPDATE로 취소 처리합니다.
+     * @return 취소 처리된 예약 수
+     */
+    int expirePendingBetween(Long afterId, Long lastId, LocalDateTime now, String reason);
+    
+    /**
+     * ID 구간 (afterId, lastId] 안에서 expiredAt 이후 reason으로 취소된 예약 ID를 조회합니다.
+     */
+    List<Long> findCancelledIdsBetween(Long afterId, Long lastId, LocalDateTime expiredAt, String reason);
 }
@@ -0,0 +1,200 @@
+package com.sgyj.popupmoah.reservation.infrastructure.cache;
+
+import com.sgyj.popupmoah.reservation.domain.entity.Reservation;
+import com.sgyj.popupmoah.reservation.domain.event.ReservationChangedEvent;
+import com.sgyj.popupmoah.reservation.domain.port.ReservationCachePort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * 예약 캐시
+ * 예약 단건과 회원별/팝업스토어별 예약 목록을 'reservations' 캐시에 읽기 시 채우고,
+ * 예약 변경 이벤트를 커밋 후에 받아 지우는 대신 해당 예약 하나만 추가/교체/제거합니다.
+ * 같은 키의 패치는 노드 안에서 순서대로 처리하며, 노드 간에 겹친 패치는 캐시 TTL 안에서 마지막 값이 남습니다.
+ */
+@Slf4j
+@Component
+public class ReservationCache implements ReservationCachePort {
+
+    private static final String CACHE_NAME = "reservations";
+    private static final String MEMBER_KEY_PREFIX = "member:";
+    private static final String POPUP_STORE_KEY_PREFIX = "popupstore:";
+    private static final int STRIPES = 256;
+
+    private final CacheManager cacheManager;
+    private final Object[] locks = new Object[STRIPES];
+    /** 키 구간별 마지막 패치 시각 (패치 전에 시작한 조회 결과를 저장하지 않기 위함) */
+    private final AtomicLongArray patchedAt = new AtomicLongArray(STRIPES);
+
+    public ReservationCache(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * 예약을 캐시에서 찾고, 없으면 loader로 조회해 저장합니다. 없는 예약은 저장하지 않습니다.
+     */
+    @Override
+    public Optional<Reservation> findById(Long id, Supplier<Optional<Reservation>> loader) {
+        Cache cache = cache();
+        Reservation cached = cache.get(id, Reservation.class);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        long startedAt = System.currentTimeMillis();
+        Optional<Reservation> loaded = loader.get();
+        loaded.ifPresent(reservation -> storeIfUnchanged(cache, id, reservation, startedAt));
+        return loaded;
+    }
+
+    /**
+     * 회원의 예약 목록을 캐시에서 찾고, 없으면 loader로 조회해 저장합니다.
+     */
+    @Override
+    public List<Reservation> findByMemberId(Long memberId, Supplier<List<Reservation>> loader) {
+        return findList(MEMBER_KEY_PREFIX + memberId, loader);
+    }
+
+    /**
+     * 팝업스토어의 예약 목록을 캐시에서 찾고, 없으면 loader로 조회해 저장합니다.
+     */
+    @Override
+    public List<Reservation> findByPopupStoreId(Long popupStoreId, Supplier<List<Reservation>> loader) {
+        return findList(POPUP_STORE_KEY_PREFIX + popupStoreId, loader);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onChanged(ReservationChangedEvent event) {
+        Cache cache = cache();
+        Reservation reservation = event.getReservation();
+        Long id = event.getReservationId();
+        String memberKey = MEMBER_KEY_PREFIX + reservation.getMemberId();
+        String popupStoreKey = POPUP_STORE_KEY_PREFIX + reservation.getPopupStoreId();
+
+        if (event.isDeleted()) {
+            patch(cache, id, current -> null);
+            patch(cache, memberKey, list -> remove(list, id));
+            patch(cache, popupStoreKey, list -> remove(list, id));
+            return;
+        }
+
+        patch(cache, id, current -> reservation);
+        // 회원이나 팝업스토어가 바뀌었으면 이전 목록에서 제거
+        String previousMemberKey = MEMBER_KEY_PREFIX + event.getPreviousMemberId();
+        if (!previousMemberKey.equals(memberKey)) {
+            patch(cache, previousMemberKey, list -> remove(list, id));
+        }
+        String previousPopupStoreKey = POPUP_STORE_KEY_PREFIX + event.getPreviousPopupStoreId();
+        if (!previousPopupStoreKey.equals(popupStoreKey)) {
+            patch(cache, previousPopupStoreKey, list -> remove(list, id));
+        }
+        patch(cache, memberKey, list -> upsert(list, reservation));
+        patch(cache, popupStoreKey, list -> upsert(list, reservation));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Reservation> findList(String key, Supplier<List<Reservation>> loader) {
+        Cache cache = cache();
+        Cache.ValueWrapper cached = cache.get(key);
+        if (cached != null && cached.get() instanceof List<?> list) {
+            return (List<Reservation>) list;
+        }
+        long startedAt = System.currentTimeMillis();
+        List<Reservation> loaded = loader.get();
+        storeIfUnchanged(cache, key, loaded, startedAt);
+        return loaded;
+    }
+
+    /**
+     * 조회하는 동안 같은 키가 패치되었으면 조회 결과가 그 변경을 놓쳤을 수 있으므로 저장하지 않습니다.
+     */
+    private void storeIfUnchanged(Cache cache, Object key, Object value, long startedAt) {
+        int stripe = stripe(key);
+        synchronized (locks[stripe]) {
+            if (patchedAt.get(stripe) < startedAt) {
+                cache.put(key, value);
+            }
+        }
+    }
+
+    /**
+     * 캐시에 있는 값만 고칩니다. 없으면 다음 조회가 커밋된 데이터를 읽습니다.
+     * patcher가 null을 반환하면 항목을 지웁니다.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> void patch(Cache cache, Object key, UnaryOperator<T> patcher) {
+        int stripe = stripe(key);
+        synchronized (locks[stripe]) {
+            patchedAt.set(stripe, System.currentTimeMillis());
+            try {
+                Cache.ValueWrapper cached = cache.get(key);
+                if (cached == null || cached.get() == null) {
+                    return;
+                }
+                T patched = patcher.apply((T) cached.get());
+                if (patched == null) {
+                    cache.evict(key);
+                } else {
+                    cache.put(key, patched);
+                }
+            } catch (RuntimeException e) {
+                log.warn("예약 캐시 패치 실패, 항목을 지웁니다: key={}", key, e);
+                cache.evict(key);
+            }
+        }
+    }
+
+    /**
+     * 같은 ID의 항목을 빼고, 목록 정렬(예약 시간 내림차순)에 맞는 자리에 다시 넣습니다.
+     */
+    static List<Reservation> upsert(List<Reservation> list, Reservation reservation) {
+        List<Reservation> patched = remove(list, reservation.getId());
+        LocalDateTime dateTime = reservation.getReservationDateTime();
+        int index = 0;
+        while (index < patched.size()
+                && dateTime != null
+                && patched.get(index).getReservationDateTime() != null
+                && !patched.get(index).getReservationDateTime().isBefore(dateTime)) {
+            index++;
+        }
+        patched.add(index, reservation);
+        return patched;
+    }
+
+    static List<Reservation> remove(List<Reservation> list, Long id) {
+        List<Reservation> patched = new ArrayList<>(list.size() + 1);
+        for (Reservation element : list) {
+            if (!Objects.equals(element.getId(), id)) {
+                patched.add(element);
+            }
+        }
+        return patched;
+    }
+
+    private Cache cache() {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            throw new IllegalArgumentException("캐시를 찾을 수 없습니다: " + CACHE_NAME);
+        }
+        return cache;
+    }
+
+    private static int stripe(Object key) {
+        return (key.hashCode() & Integer.MAX_VALUE) % STRIPES;
+    }
+}
@@ -0,0 +1,218 @@
+package com.sgyj.popupmoah.reservation.infrastructure.capacity;
+
+import com.sgyj.popupmoah.reservation.adapters.jpa.ReservationSlotJpaEntity;
+import com.sgyj.popupmoah.reservation.adapters.jpa.ReservationSlotJpaEntityRepository;
+import com.sgyj.popupmoah.reservation.domain.port.ReservationCapacityPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 예약 시간대 수용 인원 관리자
+ * 좌석 확보는 수용 인원 조건부 UPDATE 한 번으로 DB가 보장하며, 인스턴스 안에서 따로 락을 잡지 않습니다.
+ * (UPDATE가 잡은 행 락을 기다리는 동안 프로세스 락을 쥐고 있으면, 같은 트랜잭션에서 먼저 행 락을 잡은 요청과
+ * 서로를 기다려 DB가 감지하지 못하는 교착이 생김)
+ * 시간대별 점유 현황은 메모리에 유지하여 가득 찬 시간대는 DB 조회 없이 바로 거절합니다.
+ * 메모리 값은 거절 판단에만 쓰는 추정치이므로, 동시 갱신으로 잠시 어긋나도 DB 조건부 UPDATE와 TTL로 바로잡힙니다.
+ */
+@Slf4j
+@Component
+public class ReservationCapacityManager implements ReservationCapacityPort {
+
+    private final ReservationSlotJpaEntityRepository slotRepository;
+    private final ReservationSlotInitializer slotInitializer;
+    private final int slotMinutes;
+    private final int defaultCapacity;
+    private final Duration occupancyTtl;
+
+    private final Map<SlotKey, SlotOccupancy> occupancy = new ConcurrentHashMap<>();
+
+    public ReservationCapacityManager(ReservationSlotJpaEntityRepository slotRepository,
+                                      ReservationSlotInitializer slotInitializer,
+                                      @Value("${reservation.slot.minutes:30}") int slotMinutes,
+                                      @Value("${reservation.slot.default-capacity:20}") int defaultCapacity,
+                                      @Value("${reservation.slot.occupancy-ttl-seconds:30}") long occupancyTtlSeconds) {
+        if (slotMinutes <= 0 || 1440 % slotMinutes != 0) {
+            throw new IllegalArgumentException("예약 시간대 길이는 하루를 나누어떨어지게 하는 분 단위여야 합니다: " + slotMinutes);
+        }
+        this.slotRepository = slotRepository;
+        this.slotInitializer = slotInitializer;
+        this.slotMinutes = slotMinutes;
+        this.defaultCapacity = defaultCapacity;
+        this.occupancyTtl = Duration.ofSeconds(occupancyTtlSeconds);
+    }
+
+    @Override
+    public boolean tryReserve(Long popupStoreId, LocalDateTime reservationDateTime, int numberOfPeople) {
+        validatePeople(numberOfPeople);
+        return reserve(slotOf(popupStoreId, reservationDateTime), numberOfPeople);
+    }
+
+    @Override
+    public void release(Long popupStoreId, LocalDateTime reservationDateTime, int numberOfPeople) {
+        validatePeople(numberOfPeople);
+        release(slotOf(popupStoreId, reservationDateTime), numberOfPeople);
+    }
+
+    /**
+     * 같은 시간대 안의 변경은 인원 차이만큼 UPDATE 한 번으로 조정하고,
+     * 다른 시간대로 옮기면 새 시간대 좌석을 먼저 확보한 뒤 이전 좌석을 반환합니다.
+     */
+    @Override
+    public boolean tryMove(Long fromPopupStoreId, LocalDateTime fromDateTime, int fromPeople,
+                           Long toPopupStoreId, LocalDateTime toDateTime, int toPeople) {
+        validatePeople(fromPeople);
+        validatePeople(toPeople);
+        SlotKey from = slotOf(fromPopupStoreId, fromDateTime);
+        SlotKey to = slotOf(toPopupStoreId, toDateTime);
+        if (from.equals(to)) {
+            int delta = toPeople - fromPeople;
+            if (delta > 0) {
+                return reserve(to, delta);
+            }
+            if (delta < 0) {
+                release(to, -delta);
+            }
+            return true;
+        }
+        if (!reserve(to, toPeople)) {
+            return false;
+        }
+        release(from, fromPeople);
+        return true;
+    }
+
+    @Override
+    public boolean isAvailable(Long popupStoreId, LocalDateTime reservationDateTime, int numberOfPeople) {
+        validatePeople(numberOfPeople);
+        return load(slotOf(popupStoreId, reservationDateTime)).canReserve(numberOfPeople);
+    }
+
+    private boolean reserve(SlotKey key, int people) {
+        SlotOccupancy slot = load(key);
+        if (!slot.canReserve(people)) {
+            return false;
+        }
+        if (slotRepository.reserveSeats(key.popupStoreId(), key.slotStart(), people) == 0) {
+            // 다른 요청이나 인스턴스가 먼저 좌석을 가져간 경우이므로 다음 요청에서 DB 값을 다시 읽음
+            occupancy.remove(key);
+            return false;
+        }
+        slot.adjust(people);
+        onRollback(() -> adjust(key, -people));
+        return true;
+    }
+
+    private void release(SlotKey key, int people) {
+        slotRepository.releaseSeats(key.popupStoreId(), key.slotStart(), people);
+        adjust(key, -people);
+        onRollback(() -> adjust(key, people));
+    }
+
+    /**
+     * 예약 시간이 속한 시간대의 시작 시각을 반환합니다.
+     */
+    LocalDateTime slotStartOf(LocalDateTime reservationDateTime) {
+        LocalDateTime startOfDay = reservationDateTime.truncatedTo(ChronoUnit.DAYS);
+        long minutes = ChronoUnit.MINUTES.between(startOfDay, reservationDateTime);
+        return startOfDay.plusMinutes(minutes - minutes % slotMinutes);
+    }
+
+    private SlotKey slotOf(Long popupStoreId, LocalDateTime reservationDateTime) {
+        if (popupStoreId == null || reservationDateTime == null) {
+            throw new IllegalArgumentException("팝업스토어 ID와 예약 시간은 필수입니다.");
+        }
+        return new SlotKey(popupStoreId, slotStartOf(reservationDateTime));
+    }
+
+    private SlotOccupancy load(SlotKey key) {
+        SlotOccupancy cached = occupancy.get(key);
+        if (cached != null && !cached.isStale(occupancyTtl)) {
+            return cached;
+        }
+        ReservationSlotJpaEntity entity = slotRepository.findByPopupStoreIdAndSlotStart(key.popupStoreId(), key.slotStart())
+                .orElseGet(() -> createSlot(key));
+        SlotOccupancy loaded = new SlotOccupancy(entity.getCapacity(), entity.getReserved());
+        occupancy.put(key, loaded);
+        return loaded;
+    }
+
+    private ReservationSlotJpaEntity createSlot(SlotKey key) {
+        try {
+            return slotInitializer.create(key.popupStoreId(), key.slotStart(),
+                    key.slotStart().plusMinutes(slotMinutes), defaultCapacity);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 같은 시간대를 먼저 만든 경우
+            return slotRepository.findByPopupStoreIdAndSlotStart(key.popupStoreId(), key.slotStart())
+                    .orElseThrow(() -> e);
+        }
+    }
+
+    private void adjust(SlotKey key, int delta) {
+        SlotOccupancy slot = occupancy.get(key);
+        if (slot != null) {
+            slot.adjust(delta);
+        }
+    }
+
+    private void validatePeople(int numberOfPeople) {
+        if (numberOfPeople <= 0) {
+            throw new IllegalArgumentException("예약 인원은 1명 이상이어야 합니다.");
+        }
+    }
+
+    /**
+     * 트랜잭션이 롤백되면 메모리 점유 현황을 되돌립니다.
+     */
+    private void onRollback(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    action.run();
+                }
+            }
+        });
+    }
+
+    private record SlotKey(Long popupStoreId, LocalDateTime slotStart) {
+    }
+
+    /**
+     * 시간대 하나의 메모리 점유 현황
+     */
+    private static final class SlotOccupancy {
+        private final int capacity;
+        private final long loadedAt = System.nanoTime();
+        private volatile int reserved;
+
+        SlotOccupancy(int capacity, int reserved) {
+            this.capacity = capacity;
+            this.reserved = reserved;
+        }
+
+        boolean canReserve(int people) {
+            return reserved + people <= capacity;
+        }
+
+        synchronized void adjust(int delta) {
+            reserved = Math.max(0, reserved + delta);
+        }
+
+        boolean isStale(Duration ttl) {
+            return System.nanoTime() - loadedAt > ttl.toNanos();
+        }
+    }
+}
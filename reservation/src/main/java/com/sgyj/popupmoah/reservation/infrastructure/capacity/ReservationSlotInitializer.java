@@ -0,0 +1,44 @@
+package com.sgyj.popupmoah.reservation.infrastructure.capacity;
+
+import com.sgyj.popupmoah.reservation.adapters.jpa.ReservationJpaEntityRepository;
+import com.sgyj.popupmoah.reservation.adapters.jpa.ReservationSlotJpaEntity;
+import com.sgyj.popupmoah.reservation.adapters.jpa.ReservationSlotJpaEntityRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 시간대 행 생성
+ * 시간대를 처음 사용할 때 기존 예약 인원을 반영한 행을 별도 트랜잭션으로 만들어,
+ * 다른 인스턴스와 동시에 생성하다 충돌해도 호출한 트랜잭션에는 영향을 주지 않습니다.
+ * 시간대 도입 전 예약이 기본 수용 인원을 넘으면, 수용 인원을 기존 예약 인원으로 맞춰 행을 만들고 경고를 남깁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationSlotInitializer {
+
+    private final ReservationSlotJpaEntityRepository slotRepository;
+    private final ReservationJpaEntityRepository reservationRepository;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public ReservationSlotJpaEntity create(Long popupStoreId, LocalDateTime slotStart, LocalDateTime slotEnd, int capacity) {
+        Long sum = reservationRepository.sumActivePeopleBetween(popupStoreId, slotStart, slotEnd);
+        int reserved = sum != null ? sum.intValue() : 0;
+        if (reserved > capacity) {
+            // reserved <= capacity 제약을 지키면서 기존 예약은 그대로 두고, 이 시간대는 더 받지 않음
+            log.warn("시간대 예약 인원이 수용 인원을 초과했습니다: popupStoreId={}, slotStart={}, reserved={}, capacity={}",
+                    popupStoreId, slotStart, reserved, capacity);
+        }
+        return slotRepository.saveAndFlush(ReservationSlotJpaEntity.builder()
+                .popupStoreId(popupStoreId)
+                .slotStart(slotStart)
+                .capacity(Math.max(capacity, reserved))
+                .reserved(reserved)
+                .build());
+    }
+}
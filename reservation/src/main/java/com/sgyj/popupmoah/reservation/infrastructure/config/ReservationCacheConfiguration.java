@@ -0,0 +1,23 @@
+package com.sgyj.popupmoah.reservation.infrastructure.config;
+
+import com.sgyj.popupmoah.infrastructure.cache.CacheValueTypeRegistrar;
+import com.sgyj.popupmoah.reservation.domain.entity.Reservation;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 예약 캐시 Configuration
+ * reservations 캐시에 저장하는 값 타입을 L2 compact 직렬화에 등록합니다.
+ */
+@Configuration
+public class ReservationCacheConfiguration {
+
+    /**
+     * 단건 예약과 회원/팝업스토어별 예약 목록(List&lt;Reservation&gt;)을 저장합니다.
+     * 타입 번호는 애플리케이션 전체에서 고유해야 하며 바꾸거나 재사용하지 않습니다.
+     */
+    @Bean
+    public CacheValueTypeRegistrar reservationCacheValueTypes() {
+        return builder -> builder.register(5, Reservation.class);
+    }
+}
@@ -0,0 +1,23 @@
+package com.sgyj.popupmoah.reservation.infrastructure.config;
+
+import com.sgyj.popupmoah.reservation.domain.aggregate.ReservationAggregate;
+import com.sgyj.popupmoah.reservation.domain.port.ReservationCapacityPort;
+import com.sgyj.popupmoah.reservation.domain.port.ReservationEventPublisherPort;
+import com.sgyj.popupmoah.reservation.domain.port.ReservationRepositoryPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 예약 도메인 Configuration
+ * 스프링에 의존하지 않는 어그리게이트에 포트 구현체를 주입합니다.
+ */
+@Configuration
+public class ReservationDomainConfiguration {
+
+    @Bean
+    public ReservationAggregate reservationAggregate(ReservationRepositoryPort repository,
+                                                     ReservationCapacityPort capacity,
+                                                     ReservationEventPublisherPort events) {
+        return new ReservationAggregate(repository, capacity, events);
+    }
+}
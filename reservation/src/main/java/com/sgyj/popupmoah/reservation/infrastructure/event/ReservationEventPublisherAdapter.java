@@ -0,0 +1,23 @@
+package com.sgyj.popupmoah.reservation.infrastructure.event;
+
+import com.sgyj.popupmoah.reservation.domain.event.ReservationChangedEvent;
+import com.sgyj.popupmoah.reservation.domain.port.ReservationEventPublisherPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 예약 변경 이벤트 발행 어댑터
+ * 스프링 애플리케이션 이벤트로 발행하며, 구독자는 @TransactionalEventListener로 커밋 후에 받습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReservationEventPublisherAdapter implements ReservationEventPublisherPort {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Override
+    public void publish(ReservationChangedEvent event) {
+        applicationEventPublisher.publishEvent(event);
+    }
+}
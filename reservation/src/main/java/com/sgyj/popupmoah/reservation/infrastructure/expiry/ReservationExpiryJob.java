@@ -0,0 +1,137 @@
+package com.sgyj.popupmoah.reservation.infrastructure.expiry;
+
+import com.sgyj.popupmoah.reservation.domain.aggregate.ReservationAggregate;
+import com.sgyj.popupmoah.reservation.domain.expiry.ReservationExpiryBatch;
+import com.sgyj.popupmoah.reservation.domain.port.ReservationExpiryPort;
+import com.sgyj.popupmoah.reservation.domain.port.ReservationNotificationPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 만료 예약 일괄 정리 작업
+ * 만료된 대기 예약을 ID 순으로 batchSize개씩 나누어 배치마다 별도 트랜잭션의 UPDATE 한 번으로 취소하고,
+ * 커밋된 배치의 예약 ID만 알림 포트로 넘깁니다.
+ * 처리 도중 실패하면 마지막으로 커밋된 ID를 기억해 두었다가 다음 실행에서 그 다음 ID부터 이어서 처리합니다.
+ */
+@Slf4j
+@Component
+public class ReservationExpiryJob implements ReservationExpiryPort {
+
+    private final ReservationAggregate aggregate;
+    private final ReservationNotificationPort notificationPort;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    private final ReentrantLock runLock = new ReentrantLock();
+    private volatile long checkpoint = 0L;
+
+    private final Counter expiredCounter;
+    private final Counter failureCounter;
+    private final Timer batchTimer;
+
+    public ReservationExpiryJob(ReservationAggregate aggregate,
+                                ReservationNotificationPort notificationPort,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry,
+                                @Value("${reservation.expiry.batch-size:500}") int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("배치 크기는 1 이상이어야 합니다: " + batchSize);
+        }
+        this.aggregate = aggregate;
+        this.notificationPort = notificationPort;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = batchSize;
+        this.expiredCounter = Counter.builder("reservation.expiry.expired")
+                .description("시간 만료로 취소 처리된 예약 수")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("reservation.expiry.failures")
+                .description("만료 예약 정리 실패 횟수")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("reservation.expiry.batch")
+                .description("만료 예약 정리 배치 하나의 처리 시간")
+                .register(meterRegistry);
+        Gauge.builder("reservation.expiry.checkpoint", this, job -> job.checkpoint)
+                .description("마지막으로 처리가 끝난 예약 ID")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${reservation.expiry.interval-ms:60000}")
+    public void runScheduled() {
+        try {
+            expireAll();
+        } catch (RuntimeException e) {
+            log.warn("만료 예약 정리 실패, 다음 실행에서 예약 ID {} 이후부터 재개합니다.", checkpoint, e);
+        }
+    }
+
+    /**
+     * 만료된 예약을 끝까지 정리합니다. 이미 실행 중이면 바로 0을 반환합니다.
+     * @return 이번 실행에서 취소 처리된 예약 수
+     */
+    @Override
+    public int expireAll() {
+        if (!runLock.tryLock()) {
+            log.info("만료 예약 정리가 이미 실행 중입니다.");
+            return 0;
+        }
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            int expired = 0;
+            ReservationExpiryBatch batch;
+            do {
+                long afterId = checkpoint;
+                try {
+                    batch = batchTimer.record(() -> transactionTemplate.execute(
+                            status -> aggregate.expireNextBatch(now, afterId, batchSize)));
+                } catch (RuntimeException e) {
+                    failureCounter.increment();
+                    throw e;
+                }
+                if (batch.getExpiredCount() > 0) {
+                    expiredCounter.increment(batch.getExpiredCount());
+                    notifyExpired(batch);
+                }
+                expired += batch.getExpiredCount();
+                checkpoint = batch.getLastId();
+            } while (batch.isHasMore());
+
+            // 끝까지 처리했으므로 다음 실행은 처음부터 다시 훑음
+            checkpoint = 0L;
+            if (expired > 0) {
+                log.info("만료 예약 정리 완료: {}건", expired);
+            }
+            return expired;
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    /**
+     * 다음 실행이 시작할 예약 ID를 반환합니다.
+     */
+    public long getCheckpoint() {
+        return checkpoint;
+    }
+
+    private void notifyExpired(ReservationExpiryBatch batch) {
+        try {
+            notificationPort.notifyExpired(batch.getExpiredIds());
+        } catch (RuntimeException e) {
+            // 이미 커밋된 배치이므로 알림 실패로 정리 작업을 멈추지 않음
+            log.warn("만료 예약 알림 발송 실패: {}건", batch.getExpiredCount(), e);
+        }
+    }
+}
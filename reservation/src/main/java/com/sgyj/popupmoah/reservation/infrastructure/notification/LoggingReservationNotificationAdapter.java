@@ -0,0 +1,22 @@
+package com.sgyj.popupmoah.reservation.infrastructure.notification;
+
+import com.sgyj.popupmoah.reservation.domain.port.ReservationNotificationPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 로그 기록 예약 알림 어댑터
+ * 이메일/SMS/푸시 발송 채널이 없으므로 만료 알림을 보내지 않고 대상 예약 ID만 로그로 남깁니다.
+ */
+@Slf4j
+@Component
+public class LoggingReservationNotificationAdapter implements ReservationNotificationPort {
+
+    @Override
+    public void notifyExpired(List<Long> reservationIds) {
+        log.info("예약 만료 알림 (로그 기록만 함): {}건", reservationIds.size());
+        log.debug("만료 알림 대상 예약 ID: {}", reservationIds);
+    }
+}
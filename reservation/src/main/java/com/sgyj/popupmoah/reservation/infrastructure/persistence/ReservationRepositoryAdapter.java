@@ -4,6 +4,7 @@ import com.sgyj.popupmoah.reservation.adapters.jpa.ReservationJpaRepository;
 import com.sgyj.popupmoah.reservation.domain.entity.Reservation;
 import com.sgyj.popupmoah.reservation.domain.port.ReservationRepositoryPort;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
@@ -14,6 +15,7 @@ import java.util.Optional;
  * 예약 리포지토리 어댑터
  * 도메인 포트와 JPA 구현체를 연결하는 어댑터
  */
+@Primary
 @Component
 @RequiredArgsConstructor
 public class ReservationRepositoryAdapter implements ReservationRepositoryPort {
@@ -80,8 +82,28 @@ public class ReservationRepositoryAdapter implements ReservationRepositoryPort {
         return jpaRepository.existsById(id);
     }
 
+    @Override
+    public List<Reservation> findAllByIds(List<Long> ids) {
+        return jpaRepository.findAllByIds(ids);
+    }
+
     @Override
     public List<Reservation> findExpiredReservations(LocalDateTime now) {
         return jpaRepository.findExpiredReservations(now);
     }
+
+    @Override
+    public List<Long> findExpiredPendingIds(LocalDateTime now, Long afterId, int limit) {
+        return jpaRepository.findExpiredPendingIds(now, afterId, limit);
+    }
+
+    @Override
+    public int expirePendingBetween(Long afterId, Long lastId, LocalDateTime now, String reason) {
+        return jpaRepository.expirePendingBetween(afterId, lastId, now, reason);
+    }
+
+    @Override
+    public List<Long> findCancelledIdsBetween(Long afterId, Long lastId, LocalDateTime expiredAt, String reason) {
+        return jpaRepository.findCancelledIdsBetween(afterId, lastId, expiredAt, reason);
+    }
 }
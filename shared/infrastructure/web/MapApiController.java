@@ -5,6 +5,7 @@ import com.sgyj.popupmoah.shared.application.dto.CoordinatesDto;
 import com.sgyj.popupmoah.shared.application.dto.PlaceSearchRequest;
 import com.sgyj.popupmoah.shared.application.dto.PlaceSearchResponse;
 import com.sgyj.popupmoah.shared.application.service.MapApiService;
+import com.sgyj.popupmoah.shared.application.service.NearbyPopupStoreSearchPort;
 import com.sgyj.popupmoah.shared.infrastructure.web.response.ApiResponse;
 import com.sgyj.popupmoah.shared.infrastructure.web.response.SwaggerApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -28,6 +29,7 @@ import javax.validation.Valid;
 public class MapApiController {
 
     private final MapApiService mapApiService;
+    private final NearbyPopupStoreSearchPort nearbyPopupStoreSearchPort;
 
     /**
      * 주소를 좌표로 변환 (지오코딩)
@@ -114,7 +116,7 @@ public class MapApiController {
     /**
      * 주변 팝업스토어 검색
      */
-    @Operation(summary = "주변 팝업스토어 검색", description = "현재 위치 주변의 팝업스토어를 검색합니다.")
+    @Operation(summary = "주변 팝업스토어 검색", description = "현재 위치 주변의 팝업스토어를 가까운 순으로 검색합니다.")
     @SwaggerApiResponse(responseCode = "200", description = "주변 팝업스토어 검색 성공")
     @SwaggerApiResponse(responseCode = "400", description = "잘못된 요청")
     @SwaggerApiResponse(responseCode = "500", description = "서버 내부 오류")
@@ -139,22 +141,64 @@ public class MapApiController {
                     .longitude(longitude)
                     .build();
             
-            PlaceSearchRequest request = PlaceSearchRequest.builder()
-                    .query("팝업스토어")
-                    .center(center)
-                    .radius(radius)
-                    .page(page)
-                    .size(size)
-                    .sort("distance")
-                    .build();
-            
-            PlaceSearchResponse response = mapApiService.searchPlaces(request);
+            PlaceSearchResponse response = nearbyPopupStoreSearchPort.searchNearby(center, radius, page, size);
             ApiResponse<PlaceSearchResponse> apiResponse = ApiResponse.success(response);
             return ResponseEntity.ok(apiResponse);
+        } catch (IllegalArgumentException e) {
+            ApiResponse<PlaceSearchResponse> response = ApiResponse.error(e.getMessage());
+            return ResponseEntity.status(400).body(response);
         } catch (Exception e) {
             log.error("주변 팝업스토어 검색 실패: {}", e.getMessage(), e);
             ApiResponse<PlaceSearchResponse> response = ApiResponse.error("주변 팝업스토어를 검색할 수 없습니다: " + e.getMessage());
             return ResponseEntity.status(500).body(response);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 지도 영역 내 팝업스토어 검색
+     */
+    @Operation(summary = "지도 영역 내 팝업스토어 검색", description = "지도 화면의 경계 상자 안에 있는 팝업스토어를 기준 위치에서 가까운 순으로 검색합니다.")
+    @SwaggerApiResponse(responseCode = "200", description = "지도 영역 내 팝업스토어 검색 성공")
+    @SwaggerApiResponse(responseCode = "400", description = "잘못된 요청")
+    @SwaggerApiResponse(responseCode = "500", description = "서버 내부 오류")
+    @GetMapping("/popupstores-in-bounds")
+    public ResponseEntity<ApiResponse<PlaceSearchResponse>> searchPopupStoresInBounds(
+            @Parameter(description = "남서쪽 위도", required = true)
+            @RequestParam Double south,
+            @Parameter(description = "남서쪽 경도", required = true)
+            @RequestParam Double west,
+            @Parameter(description = "북동쪽 위도", required = true)
+            @RequestParam Double north,
+            @Parameter(description = "북동쪽 경도", required = true)
+            @RequestParam Double east,
+            @Parameter(description = "거리 기준 위도 (기본값: 영역 중심)", required = false)
+            @RequestParam(required = false) Double latitude,
+            @Parameter(description = "거리 기준 경도 (기본값: 영역 중심)", required = false)
+            @RequestParam(required = false) Double longitude,
+            @Parameter(description = "페이지 번호", required = false)
+            @RequestParam(defaultValue = "1") Integer page,
+            @Parameter(description = "페이지 크기", required = false)
+            @RequestParam(defaultValue = "20") Integer size) {
+        
+        log.info("지도 영역 내 팝업스토어 검색 API 호출: {},{} ~ {},{}", south, west, north, east);
+        
+        try {
+            CoordinatesDto southWest = CoordinatesDto.builder().latitude(south).longitude(west).build();
+            CoordinatesDto northEast = CoordinatesDto.builder().latitude(north).longitude(east).build();
+            CoordinatesDto origin = latitude != null && longitude != null
+                    ? CoordinatesDto.builder().latitude(latitude).longitude(longitude).build()
+                    : null;
+            
+            PlaceSearchResponse response = nearbyPopupStoreSearchPort.searchWithinBounds(southWest, northEast, origin, page, size);
+            ApiResponse<PlaceSearchResponse> apiResponse = ApiResponse.success(response);
+            return ResponseEntity.ok(apiResponse);
+        } catch (IllegalArgumentException e) {
+            ApiResponse<PlaceSearchResponse> response = ApiResponse.error(e.getMessage());
+            return ResponseEntity.status(400).body(response);
+        } catch (Exception e) {
+            log.error("지도 영역 내 팝업스토어 검색 실패: {}", e.getMessage(), e);
+            ApiResponse<PlaceSearchResponse> response = ApiResponse.error("지도 영역 내 팝업스토어를 검색할 수 없습니다: " + e.getMessage());
+            return ResponseEntity.status(500).body(response);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.sgyj.popupmoah.adapter.persistence.file;
+
+import com.sgyj.popupmoah.domain.file.entity.FileBlob;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 파일 내용 행 생성
+ * 같은 내용이 동시에 처음 업로드되어 유일 제약에 걸려도 호출한 트랜잭션에는 영향을 주지 않도록 별도 트랜잭션으로 만듭니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FileBlobInitializer {
+
+    private final FileBlobJpaRepository fileBlobJpaRepository;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public FileBlob create(FileBlob fileBlob) {
+        return fileBlobJpaRepository.saveAndFlush(fileBlob);
+    }
+}
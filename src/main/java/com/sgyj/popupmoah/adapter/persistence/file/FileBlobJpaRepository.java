@@ -0,0 +1,73 @@
+package com.sgyj.popupmoah.adapter.persistence.file;
+
+import com.sgyj.popupmoah.domain.file.entity.FileBlob;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 파일 내용 JPA Repository
+ */
+@Repository
+public interface FileBlobJpaRepository extends JpaRepository<FileBlob, Long> {
+
+    Optional<FileBlob> findByContentHash(String contentHash);
+
+    /**
+     * 참조 수 증가 (갱신된 행 수 반환)
+     */
+    @Modifying
+    @Query("UPDATE FileBlob b SET b.referenceCount = b.referenceCount + 1 WHERE b.contentHash = :contentHash")
+    int incrementReferenceCount(@Param("contentHash") String contentHash);
+
+    /**
+     * 참조 수 감소
+     */
+    @Modifying
+    @Query("UPDATE FileBlob b SET b.referenceCount = b.referenceCount - 1 WHERE b.contentHash = :contentHash")
+    int decrementReferenceCount(@Param("contentHash") String contentHash);
+
+    /**
+     * 참조 대상의 업로드 수만큼 각 내용의 참조 수를 한 번에 감소
+     */
+    @Modifying
+    @Query(value = "UPDATE file_blobs b SET reference_count = reference_count - " +
+                   "(SELECT COUNT(*) FROM file_upload f WHERE f.content_hash = b.content_hash " +
+                   "AND f.reference_type = :referenceType AND f.reference_id = :referenceId) " +
+                   "WHERE b.content_hash IN (SELECT f.content_hash FROM file_upload f " +
+                   "WHERE f.reference_type = :referenceType AND f.reference_id = :referenceId)",
+           nativeQuery = true)
+    int releaseReferences(@Param("referenceType") String referenceType, @Param("referenceId") Long referenceId);
+
+    /**
+     * 참조가 남지 않은 행을 잠가 조회
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM FileBlob b WHERE b.contentHash IN :contentHashes AND b.referenceCount <= 0")
+    List<FileBlob> findUnreferencedForUpdate(@Param("contentHashes") Collection<String> contentHashes);
+
+    /**
+     * 일정 시간 전에 만들어졌고 참조가 남지 않은 행을 오래된 순으로 잠가 조회
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM FileBlob b WHERE b.referenceCount <= 0 AND b.createdAt < :createdBefore ORDER BY b.id")
+    List<FileBlob> findUnreferencedCreatedBeforeForUpdate(@Param("createdBefore") LocalDateTime createdBefore,
+                                                          Pageable pageable);
+
+    /**
+     * 참조가 남지 않은 행만 삭제 (그 사이 참조가 늘어난 행은 남김)
+     */
+    @Modifying
+    @Query("DELETE FROM FileBlob b WHERE b.id IN :ids AND b.referenceCount <= 0")
+    int deleteUnreferencedByIds(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,81 @@
+package com.sgyj.popupmoah.adapter.persistence.file;
+
+import com.sgyj.popupmoah.domain.file.entity.FileBlob;
+import com.sgyj.popupmoah.domain.file.entity.FileUpload;
+import com.sgyj.popupmoah.domain.file.port.FileBlobRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 파일 내용 저장소 어댑터 (Outbound Adapter)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FileBlobPersistenceAdapter implements FileBlobRepositoryPort {
+
+    private final FileBlobJpaRepository fileBlobJpaRepository;
+    private final FileBlobInitializer fileBlobInitializer;
+
+    @Override
+    public Optional<FileBlob> findByContentHash(String contentHash) {
+        return fileBlobJpaRepository.findByContentHash(contentHash);
+    }
+
+    @Override
+    public FileBlob createIfAbsent(FileBlob fileBlob) {
+        try {
+            return fileBlobInitializer.create(fileBlob);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 내용을 다른 요청이 먼저 등록함
+            return fileBlobJpaRepository.findByContentHash(fileBlob.getContentHash())
+                    .orElseThrow(() -> e);
+        }
+    }
+
+    @Override
+    public int incrementReferenceCount(String contentHash) {
+        return fileBlobJpaRepository.incrementReferenceCount(contentHash);
+    }
+
+    @Override
+    public void decrementReferenceCount(String contentHash) {
+        fileBlobJpaRepository.decrementReferenceCount(contentHash);
+    }
+
+    @Override
+    public void releaseReferences(FileUpload.ReferenceType referenceType, Long referenceId) {
+        fileBlobJpaRepository.releaseReferences(referenceType.name(), referenceId);
+    }
+
+    @Override
+    public List<FileBlob> lockUnreferenced(Collection<String> contentHashes) {
+        if (contentHashes.isEmpty()) {
+            return List.of();
+        }
+        return fileBlobJpaRepository.findUnreferencedForUpdate(contentHashes);
+    }
+
+    @Override
+    public List<FileBlob> lockUnreferencedCreatedBefore(LocalDateTime createdBefore, int limit) {
+        return fileBlobJpaRepository.findUnreferencedCreatedBeforeForUpdate(createdBefore, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public int deleteUnreferencedByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int deleted = fileBlobJpaRepository.deleteUnreferencedByIds(ids);
+        log.info("참조가 없는 파일 내용 삭제: {}개", deleted);
+        return deleted;
+    }
+}
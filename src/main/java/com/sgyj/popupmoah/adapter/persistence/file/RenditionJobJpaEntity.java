@@ -0,0 +1,66 @@
+package com.sgyj.popupmoah.adapter.persistence.file;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 파생 이미지 생성 작업 JPA 엔티티 (아웃박스)
+ * 원본 업로드 트랜잭션과 함께 저장되어, 서버가 재시작되어도 작업이 유실되지 않습니다.
+ */
+@Entity
+@Table(name = "file_rendition_jobs",
+        indexes = @Index(name = "idx_file_rendition_jobs_status_next", columnList = "status, next_attempt_at"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RenditionJobJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "file_upload_id", nullable = false)
+    private Long fileUploadId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    /** 점유 토큰 (점유를 잃은 워커가 결과를 덮어쓰지 않도록 확인) */
+    @Column(name = "lease_owner", length = 64)
+    private String leaseOwner;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    /**
+     * 작업 상태
+     */
+    public enum Status {
+        PENDING,     // 처리 대기 (재시도 대기 포함)
+        PROCESSING,  // 워커가 처리 중 (locked_until까지 점유)
+        DONE,        // 완료
+        FAILED       // 최대 시도 횟수 초과
+    }
+}
@@ -0,0 +1,91 @@
+package com.sgyj.popupmoah.adapter.persistence.file;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 파생 이미지 생성 작업 JPA 리포지토리
+ */
+@Repository
+public interface RenditionJobJpaRepository extends JpaRepository<RenditionJobJpaEntity, Long> {
+
+    /**
+     * 지금 처리할 수 있는 작업 ID를 오래된 순으로 조회
+     * (재시도 시각이 지난 대기 작업과, 점유 기한이 지났지만 시도 횟수가 남은 처리 중 작업)
+     */
+    @Query("SELECT j.id FROM RenditionJobJpaEntity j " +
+           "WHERE (j.status = 'PENDING' AND j.nextAttemptAt <= :now) " +
+           "OR (j.status = 'PROCESSING' AND j.lockedUntil < :now AND j.attempts < :maxAttempts) " +
+           "ORDER BY j.id")
+    List<Long> findClaimableIds(@Param("now") LocalDateTime now, @Param("maxAttempts") int maxAttempts,
+                                Pageable pageable);
+
+    /**
+     * 아직 아무도 점유하지 않은 경우에만 작업을 owner로 점유 (갱신된 행 수 반환)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE RenditionJobJpaEntity j SET j.status = 'PROCESSING', j.lockedUntil = :lockedUntil, " +
+           "j.leaseOwner = :owner, j.attempts = j.attempts + 1 " +
+           "WHERE j.id = :id AND ((j.status = 'PENDING' AND j.nextAttemptAt <= :now) " +
+           "OR (j.status = 'PROCESSING' AND j.lockedUntil < :now AND j.attempts < :maxAttempts))")
+    int claim(@Param("id") Long id, @Param("owner") String owner, @Param("now") LocalDateTime now,
+              @Param("lockedUntil") LocalDateTime lockedUntil, @Param("maxAttempts") int maxAttempts);
+
+    /**
+     * 점유 기한이 지난 처리 중 작업 중 최대 시도 횟수에 도달한 작업을 실패 처리 (갱신된 행 수 반환)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE RenditionJobJpaEntity j SET j.status = 'FAILED', j.lockedUntil = null, j.leaseOwner = null, " +
+           "j.completedAt = :now, j.lastError = :lastError " +
+           "WHERE j.status = 'PROCESSING' AND j.lockedUntil < :now AND j.attempts >= :maxAttempts")
+    int failExpiredExhausted(@Param("now") LocalDateTime now, @Param("maxAttempts") int maxAttempts,
+                             @Param("lastError") String lastError);
+
+    /**
+     * 작업 완료 처리 (owner가 아직 점유 중일 때만)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE RenditionJobJpaEntity j SET j.status = 'DONE', j.lockedUntil = null, j.leaseOwner = null, " +
+           "j.completedAt = :completedAt " +
+           "WHERE j.id = :id AND j.status = 'PROCESSING' AND j.leaseOwner = :owner")
+    int markDone(@Param("id") Long id, @Param("owner") String owner, @Param("completedAt") LocalDateTime completedAt);
+
+    /**
+     * 다음 시도 시각을 정해 대기 상태로 되돌림 (owner가 아직 점유 중일 때만)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE RenditionJobJpaEntity j SET j.status = 'PENDING', j.lockedUntil = null, j.leaseOwner = null, " +
+           "j.nextAttemptAt = :nextAttemptAt, j.lastError = :lastError " +
+           "WHERE j.id = :id AND j.status = 'PROCESSING' AND j.leaseOwner = :owner")
+    int scheduleRetry(@Param("id") Long id, @Param("owner") String owner,
+                      @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("lastError") String lastError);
+
+    /**
+     * 최대 시도 횟수를 넘긴 작업을 실패 처리 (owner가 아직 점유 중일 때만)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE RenditionJobJpaEntity j SET j.status = 'FAILED', j.lockedUntil = null, j.leaseOwner = null, " +
+           "j.completedAt = :completedAt, j.lastError = :lastError " +
+           "WHERE j.id = :id AND j.status = 'PROCESSING' AND j.leaseOwner = :owner")
+    int markFailed(@Param("id") Long id, @Param("owner") String owner,
+                   @Param("completedAt") LocalDateTime completedAt, @Param("lastError") String lastError);
+
+    /**
+     * 처리되지 않은 작업 수 (대기 + 처리 중)
+     */
+    @Query("SELECT COUNT(j) FROM RenditionJobJpaEntity j WHERE j.status IN ('PENDING', 'PROCESSING')")
+    long countOutstanding();
+}
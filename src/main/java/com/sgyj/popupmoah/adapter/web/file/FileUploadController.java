@@ -2,8 +2,10 @@ package com.sgyj.popupmoah.adapter.web.file;
 
 import com.sgyj.popupmoah.application.file.FileUploadApplicationService;
 import com.sgyj.popupmoah.domain.file.entity.FileUpload;
+import com.sgyj.popupmoah.domain.file.exception.RenditionQueueFullException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -51,6 +53,8 @@ public class FileUploadController {
             FileUploadResponse response = FileUploadResponse.from(fileUpload);
             return ResponseEntity.ok(response);
             
+        } catch (RenditionQueueFullException e) {
+            return queueFull(e);
         } catch (IOException e) {
             log.error("파일 업로드 실패", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -76,6 +80,8 @@ public class FileUploadController {
             
             return ResponseEntity.ok(response);
             
+        } catch (RenditionQueueFullException e) {
+            return queueFull(e);
         } catch (IOException e) {
             log.error("이미지 업로드 실패", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -154,6 +160,22 @@ public class FileUploadController {
         }
     }
 
+    /**
+     * 참조별 파일 일괄 삭제
+     */
+    @DeleteMapping("/reference/{referenceType}/{referenceId}")
+    public ResponseEntity<Void> deleteFilesByReference(
+            @PathVariable FileUpload.ReferenceType referenceType,
+            @PathVariable Long referenceId) {
+        try {
+            fileUploadApplicationService.deleteFilesByReference(referenceType, referenceId);
+            return ResponseEntity.noContent().build();
+        } catch (Exception e) {
+            log.error("참조별 파일 삭제 실패: referenceType={}, referenceId={}", referenceType, referenceId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
     /**
      * 파일 비활성화
      */
@@ -203,4 +225,14 @@ public class FileUploadController {
                     .body(FileUploadResponse.error("이미지 리사이징에 실패했습니다."));
         }
     }
-} 
\ No newline at end of file
+
+    /**
+     * 파생 이미지 생성 대기열이 가득 찬 경우 잠시 후 재시도하도록 응답
+     */
+    private ResponseEntity<FileUploadResponse> queueFull(RenditionQueueFullException e) {
+        log.warn("이미지 업로드 거절: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(FileUploadResponse.error(e.getMessage()));
+    }
+}
\ No newline at end of file
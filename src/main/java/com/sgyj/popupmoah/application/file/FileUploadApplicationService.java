@@ -78,6 +78,15 @@ public class FileUploadApplicationService {
         fileUploadServicePort.deleteFile(id);
     }
 
+    /**
+     * 참조별 파일 일괄 삭제
+     */
+    @Transactional
+    public int deleteFilesByReference(FileUpload.ReferenceType referenceType, Long referenceId) {
+        log.info("참조별 파일 삭제 시작: referenceType={}, referenceId={}", referenceType, referenceId);
+        return fileUploadServicePort.deleteFilesByReference(referenceType, referenceId);
+    }
+
     /**
      * 파일 비활성화
      */
@@ -1,35 +1,24 @@
 package com.sgyj.popupmoah.config;
 
-import org.springframework.cache.CacheManager;
-import org.springframework.cache.annotation.EnableCaching;
+import com.sgyj.popupmoah.infrastructure.cache.CacheValueTypeRegistrar;
+import com.sgyj.popupmoah.module.category.entity.Category;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.redis.cache.RedisCacheConfiguration;
-import org.springframework.data.redis.cache.RedisCacheManager;
-import org.springframework.data.redis.connection.RedisConnectionFactory;
-
-import java.time.Duration;
-import java.util.HashMap;
-import java.util.Map;
 
+/**
+ * 캐시 설정 클래스
+ * 2단계 캐시 매니저는 popupmoah-infrastructure-cache의 TieredCacheConfiguration이 구성하고,
+ * 여기서는 이 애플리케이션이 캐시하는 타입을 L2 compact 직렬화에 등록합니다.
+ */
 @Configuration
-@EnableCaching
 public class CacheConfig {
 
+    /**
+     * 타입 번호는 Redis에 저장된 값의 형식 일부이므로 바꾸거나 재사용하지 않습니다. 1번은 예약되어 있습니다.
+     * 팝업스토어와 예약 값 타입은 각 모듈의 캐시 Configuration이 등록합니다.
+     */
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
-        // 기본 TTL 1시간
-        RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofHours(1));
-
-        // 캐시별 TTL 설정
-        Map<String, RedisCacheConfiguration> cacheConfigs = new HashMap<>();
-        cacheConfigs.put("categories", RedisCacheConfiguration.defaultCacheConfig().entryTtl(Duration.ofMinutes(10)));
-        // 필요시 다른 캐시도 추가
-
-        return RedisCacheManager.builder(connectionFactory)
-                .cacheDefaults(defaultConfig)
-                .withInitialCacheConfigurations(cacheConfigs)
-                .build();
+    public CacheValueTypeRegistrar applicationCacheValueTypes() {
+        return builder -> builder.register(2, Category.class);
     }
-} 
\ No newline at end of file
+}
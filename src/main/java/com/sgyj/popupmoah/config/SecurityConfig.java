@@ -56,6 +56,7 @@ public class SecurityConfig {
                 
                 // 정적 리소스
                 .requestMatchers("/", "/index.html", "/static/**").permitAll()
+                .requestMatchers("/api/images/local/**", "/api/images/*/rendition").permitAll()
                 
                 // 나머지는 인증 필요
                 .anyRequest().authenticated()
@@ -0,0 +1,69 @@
+package com.sgyj.popupmoah.domain.file.entity;
+
+import com.sgyj.popupmoah.domain.common.CreatedEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 파일 내용 엔티티
+ * 같은 내용(SHA-256)의 업로드는 저장소의 객체 하나를 함께 사용하며,
+ * 참조 수가 0이 될 때만 저장소에서 지웁니다.
+ */
+@Getter
+@Entity
+@Table(name = "file_blobs")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class FileBlob extends CreatedEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 내용의 SHA-256 (소문자 16진수)
+     */
+    @Column(name = "content_hash", nullable = false, unique = true, length = 64)
+    private String contentHash;
+
+    @Column(name = "storage_path", nullable = false)
+    private String storagePath;
+
+    @Column(name = "content_type", nullable = false)
+    private String contentType;
+
+    @Column(name = "file_size", nullable = false)
+    private Long fileSize;
+
+    @Column(name = "image_width")
+    private Integer imageWidth;
+
+    @Column(name = "image_height")
+    private Integer imageHeight;
+
+    /**
+     * 이 내용을 가리키는 업로드 수
+     */
+    @Column(name = "reference_count", nullable = false)
+    @Builder.Default
+    private Integer referenceCount = 0;
+
+    /**
+     * 이미지 크기를 알고 있는지 확인
+     */
+    public boolean hasImageDimensions() {
+        return imageWidth != null && imageHeight != null;
+    }
+
+    /**
+     * 원본과 파생 이미지 저장 경로 목록 반환
+     */
+    public List<String> storagePaths() {
+        return List.of(storagePath,
+                FileUpload.thumbnailFilePath(storagePath),
+                FileUpload.optimizedFilePath(storagePath));
+    }
+}
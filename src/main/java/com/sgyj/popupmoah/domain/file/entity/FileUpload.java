@@ -6,6 +6,8 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * 파일 업로드 엔티티
@@ -71,6 +73,12 @@ public class FileUpload extends CreatedEntity {
     @Column(name = "image_height")
     private Integer imageHeight;
 
+    /**
+     * 내용의 SHA-256 (같은 내용의 업로드는 file_blobs의 같은 행과 저장소 객체를 공유)
+     */
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
     /**
      * 파일 업로드 타입
      */
@@ -112,6 +120,76 @@ public class FileUpload extends CreatedEntity {
         return optimizedUrl != null && !optimizedUrl.isEmpty();
     }
 
+    /**
+     * 썸네일 저장 경로 반환
+     */
+    public String thumbnailFilePath() {
+        return thumbnailFilePath(filePath);
+    }
+
+    /**
+     * 최적화된 이미지 저장 경로 반환
+     */
+    public String optimizedFilePath() {
+        return optimizedFilePath(filePath);
+    }
+
+    /**
+     * 원본 경로의 썸네일 저장 경로 반환
+     */
+    public static String thumbnailFilePath(String filePath) {
+        return withoutExtension(filePath) + "_thumb.jpg";
+    }
+
+    /**
+     * 원본 경로의 최적화된 이미지 저장 경로 반환
+     */
+    public static String optimizedFilePath(String filePath) {
+        return withoutExtension(filePath) + "_optimized.jpg";
+    }
+
+    /**
+     * 요청 시 생성되는 반응형 이미지의 저장 경로 접두어 반환 (renditions/{파일 ID}/)
+     */
+    public static String renditionPrefix(Long id) {
+        return "renditions/" + id + "/";
+    }
+
+    /**
+     * 이 파일의 반응형 이미지 저장 경로 접두어 반환
+     */
+    public String renditionPrefix() {
+        return renditionPrefix(id);
+    }
+
+    /**
+     * 내용을 다른 업로드와 공유하는지 확인
+     */
+    public boolean hasContentHash() {
+        return contentHash != null && !contentHash.isEmpty();
+    }
+
+    /**
+     * 저장소에 있는 원본과 파생 이미지 경로 목록 반환
+     * 반응형 이미지는 너비/포맷별로 요청 시 생성되어 경로를 알 수 없으므로 renditionPrefix() 아래를 따로 지웁니다.
+     */
+    public List<String> storagePaths() {
+        List<String> paths = new ArrayList<>(3);
+        paths.add(filePath);
+        if (hasThumbnail()) {
+            paths.add(thumbnailFilePath());
+        }
+        if (hasOptimizedImage()) {
+            paths.add(optimizedFilePath());
+        }
+        return paths;
+    }
+
+    private static String withoutExtension(String filePath) {
+        int extensionIndex = filePath.lastIndexOf(".");
+        return extensionIndex < 0 ? filePath : filePath.substring(0, extensionIndex);
+    }
+
     /**
      * 파일 크기를 MB 단위로 반환
      */
@@ -140,6 +218,14 @@ public class FileUpload extends CreatedEntity {
         this.optimizedUrl = optimizedUrl;
     }
 
+    /**
+     * 같은 내용의 다른 업로드에서 만든 파생 이미지 URL 복사
+     */
+    public void copyRenditionsFrom(FileUpload source) {
+        this.thumbnailUrl = source.thumbnailUrl;
+        this.optimizedUrl = source.optimizedUrl;
+    }
+
     /**
      * 이미지 크기 설정
      */
@@ -0,0 +1,11 @@
+package com.sgyj.popupmoah.domain.file.exception;
+
+/**
+ * 파생 이미지 생성 대기열이 가득 차 업로드를 받을 수 없음
+ */
+public class RenditionQueueFullException extends IllegalStateException {
+
+    public RenditionQueueFullException(String message) {
+        super(message);
+    }
+}
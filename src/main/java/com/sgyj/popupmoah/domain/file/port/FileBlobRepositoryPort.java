@@ -0,0 +1,59 @@
+package com.sgyj.popupmoah.domain.file.port;
+
+import com.sgyj.popupmoah.domain.file.entity.FileBlob;
+import com.sgyj.popupmoah.domain.file.entity.FileUpload;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 파일 내용 저장소 포트 (Outbound Port)
+ * 내용 해시 단위로 저장된 파일과 참조 수를 관리합니다.
+ */
+public interface FileBlobRepositoryPort {
+
+    /**
+     * 내용 해시로 조회합니다.
+     */
+    Optional<FileBlob> findByContentHash(String contentHash);
+
+    /**
+     * 참조 수 0인 행을 별도 트랜잭션으로 만듭니다.
+     * 다른 요청이 먼저 만들었으면 그 행을 반환합니다.
+     */
+    FileBlob createIfAbsent(FileBlob fileBlob);
+
+    /**
+     * 참조 수를 1 올리고 갱신된 행 수를 반환합니다 (행이 없으면 0).
+     */
+    int incrementReferenceCount(String contentHash);
+
+    /**
+     * 참조 수를 1 내립니다.
+     */
+    void decrementReferenceCount(String contentHash);
+
+    /**
+     * 참조 대상의 업로드들이 가리키던 참조 수를 한 번에 내립니다.
+     * 업로드 행을 지우기 전에 호출해야 합니다.
+     */
+    void releaseReferences(FileUpload.ReferenceType referenceType, Long referenceId);
+
+    /**
+     * 주어진 해시 중 참조 수가 0 이하인 행을 잠가 조회합니다.
+     * 잠금은 트랜잭션이 끝날 때까지 유지되며, 그 사이 참조 수를 올리려는 업로드는 기다립니다.
+     */
+    List<FileBlob> lockUnreferenced(Collection<String> contentHashes);
+
+    /**
+     * createdBefore 이전에 만들어졌고 참조 수가 0 이하인 행을 limit개까지 잠가 조회합니다.
+     */
+    List<FileBlob> lockUnreferencedCreatedBefore(LocalDateTime createdBefore, int limit);
+
+    /**
+     * 주어진 행 중 참조가 남지 않은 행을 지우고, 지운 행 수를 반환합니다.
+     */
+    int deleteUnreferencedByIds(Collection<Long> ids);
+}
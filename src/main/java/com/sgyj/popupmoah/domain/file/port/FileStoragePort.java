@@ -0,0 +1,56 @@
+package com.sgyj.popupmoah.domain.file.port;
+
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * 파일 저장소 포트 (Outbound Port)
+ * 도메인에서 객체 저장소(S3 등)와의 인터페이스를 정의합니다.
+ */
+public interface FileStoragePort {
+
+    /**
+     * 스트림을 저장소에 업로드합니다. 길이를 모르면 -1을 전달합니다.
+     */
+    void uploadFile(InputStream inputStream, String filePath, String contentType, long contentLength);
+
+    /**
+     * 파일 내용을 모두 읽어 반환합니다.
+     */
+    byte[] downloadFile(String filePath);
+
+    /**
+     * 내용을 받지 않고 메타데이터만 조회합니다 (HEAD). 파일이 없으면 빈 값을 반환합니다.
+     */
+    Optional<StoredFileMetadata> findMetadata(String filePath);
+
+    /**
+     * 여러 파일을 일괄 삭제하고 삭제된 파일 수를 반환합니다.
+     * 저장소의 다중 삭제 요청 한 번에 처리할 수 있는 만큼씩 묶어서 보냅니다.
+     */
+    int deleteFiles(Collection<String> filePaths);
+
+    /**
+     * 접두어 아래의 파일을 모두 찾아 일괄 삭제하고 삭제된 파일 수를 반환합니다.
+     * 요청 시 만들어져 경로 목록을 따로 저장하지 않는 파일(반응형 이미지 등)을 정리할 때 사용합니다.
+     */
+    int deleteFilesByPrefix(Collection<String> prefixes);
+
+    /**
+     * 파일 URL을 생성합니다.
+     */
+    String generateFileUrl(String filePath);
+
+    /**
+     * 파일 다운로드 URL을 생성합니다 (만료 시간 포함).
+     */
+    String generateDownloadUrl(String filePath, String fileName);
+
+    /**
+     * 저장된 파일 메타데이터
+     */
+    record StoredFileMetadata(long contentLength, String contentType, String eTag, Instant lastModified) {
+    }
+}
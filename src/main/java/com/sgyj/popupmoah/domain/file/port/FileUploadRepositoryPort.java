@@ -31,6 +31,11 @@ public interface FileUploadRepositoryPort {
      */
     List<FileUpload> findActiveByReferenceTypeAndReferenceId(FileUpload.ReferenceType referenceType, Long referenceId);
     
+    /**
+     * 같은 내용의 업로드 중 파생 이미지가 만들어진 업로드를 조회합니다.
+     */
+    Optional<FileUpload> findWithRenditionsByContentHash(String contentHash);
+    
     /**
      * 파일 업로드 정보를 삭제합니다.
      */
@@ -42,12 +47,22 @@ public interface FileUploadRepositoryPort {
     void deactivateById(Long id);
     
     /**
-     * 참조 타입과 ID로 모든 파일을 삭제합니다.
+     * 참조 타입과 ID로 모든 파일을 한 번에 삭제하고 삭제된 행 수를 반환합니다.
      */
-    void deleteByReferenceTypeAndReferenceId(FileUpload.ReferenceType referenceType, Long referenceId);
+    int deleteByReferenceTypeAndReferenceId(FileUpload.ReferenceType referenceType, Long referenceId);
     
     /**
      * 참조 타입과 ID로 모든 파일을 비활성화합니다.
      */
     void deactivateByReferenceTypeAndReferenceId(FileUpload.ReferenceType referenceType, Long referenceId);
-} 
\ No newline at end of file
+    
+    /**
+     * 썸네일 URL만 갱신합니다.
+     */
+    void updateThumbnailUrl(Long id, String thumbnailUrl);
+    
+    /**
+     * 최적화된 이미지 URL만 갱신합니다.
+     */
+    void updateOptimizedUrl(Long id, String optimizedUrl);
+}
\ No newline at end of file
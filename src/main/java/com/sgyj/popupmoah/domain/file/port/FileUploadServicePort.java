@@ -45,6 +45,11 @@ public interface FileUploadServicePort {
      */
     void deleteFile(Long id);
     
+    /**
+     * 참조 대상의 모든 파일을 삭제하고 삭제된 파일 수를 반환합니다.
+     */
+    int deleteFilesByReference(FileUpload.ReferenceType referenceType, Long referenceId);
+    
     /**
      * 파일을 비활성화합니다.
      */
@@ -0,0 +1,13 @@
+package com.sgyj.popupmoah.domain.file.port;
+
+/**
+ * 반응형 이미지 캐시 포트 (Outbound Port)
+ * 삭제/비활성화된 파일의 반응형 이미지를 이 노드의 로컬 캐시에서 지웁니다.
+ */
+public interface RenditionCachePort {
+
+    /**
+     * 파일의 반응형 이미지를 로컬 캐시에서 지웁니다.
+     */
+    void evict(Long fileUploadId);
+}
@@ -0,0 +1,23 @@
+package com.sgyj.popupmoah.domain.file.port;
+
+import com.sgyj.popupmoah.domain.file.exception.RenditionQueueFullException;
+
+/**
+ * 파생 이미지 생성 대기열 포트 (Outbound Port)
+ * 원본 업로드 후 썸네일/최적화 이미지 생성을 백그라운드 작업으로 넘깁니다.
+ */
+public interface RenditionQueuePort {
+    
+    /**
+     * 대기열에 여유가 있는지 확인합니다.
+     * 가득 찬 경우 원본을 저장하기 전에 업로드를 거절하도록 예외를 던집니다.
+     * @throws RenditionQueueFullException 처리되지 않은 작업이 최대치 이상인 경우
+     */
+    void checkCapacity();
+    
+    /**
+     * 파일의 파생 이미지 생성 작업을 대기열에 추가합니다.
+     * 호출한 트랜잭션과 함께 커밋되어야 합니다.
+     */
+    void enqueue(Long fileUploadId);
+}
@@ -0,0 +1,57 @@
+package com.sgyj.popupmoah.domain.file.service;
+
+import com.sgyj.popupmoah.domain.file.entity.FileBlob;
+import com.sgyj.popupmoah.domain.file.port.FileBlobRepositoryPort;
+import com.sgyj.popupmoah.domain.file.port.FileStoragePort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 참조가 없는 파일 내용 정리 서비스
+ * 내용 행을 잠근 채 저장소 파일을 먼저 지우고 행을 지웁니다.
+ * 같은 내용을 올리는 업로드는 참조 수를 올릴 때 이 잠금을 기다리고, 행이 지워졌으면 행을 새로 만들어 다시 업로드하므로
+ * 지워진 파일을 가리키는 업로드가 생기지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FileBlobCleanupService {
+
+    private final FileBlobRepositoryPort fileBlobRepositoryPort;
+    private final FileStoragePort fileStoragePort;
+
+    /**
+     * 주어진 내용 중 참조가 남지 않은 것을 정리합니다. 참조 수를 내린 트랜잭션이 커밋된 후에 호출해야 합니다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int release(Collection<String> contentHashes) {
+        return delete(fileBlobRepositoryPort.lockUnreferenced(contentHashes));
+    }
+
+    /**
+     * createdBefore 이전에 만들어지고 참조가 없는 내용을 limit개까지 정리합니다.
+     * 롤백된 업로드가 남긴 참조 수 0인 행과 저장소 파일을 지웁니다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int sweep(LocalDateTime createdBefore, int limit) {
+        return delete(fileBlobRepositoryPort.lockUnreferencedCreatedBefore(createdBefore, limit));
+    }
+
+    private int delete(List<FileBlob> unreferenced) {
+        if (unreferenced.isEmpty()) {
+            return 0;
+        }
+        // 저장소 삭제가 실패하면 행도 남아 다음 정리에서 다시 시도
+        fileStoragePort.deleteFiles(unreferenced.stream()
+                .flatMap(blob -> blob.storagePaths().stream())
+                .toList());
+        return fileBlobRepositoryPort.deleteUnreferencedByIds(unreferenced.stream().map(FileBlob::getId).toList());
+    }
+}
@@ -1,22 +1,36 @@
 package com.sgyj.popupmoah.domain.file.service;
 
+import com.sgyj.popupmoah.domain.file.entity.FileBlob;
 import com.sgyj.popupmoah.domain.file.entity.FileUpload;
+import com.sgyj.popupmoah.domain.file.port.FileBlobRepositoryPort;
+import com.sgyj.popupmoah.domain.file.port.FileStoragePort;
 import com.sgyj.popupmoah.domain.file.port.FileUploadRepositoryPort;
 import com.sgyj.popupmoah.domain.file.port.FileUploadServicePort;
+import com.sgyj.popupmoah.domain.file.port.RenditionCachePort;
+import com.sgyj.popupmoah.domain.file.port.RenditionQueuePort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * 파일 업로드 도메인 서비스
  * 파일 업로드 도메인의 비즈니스 로직을 처리합니다.
+ * 업로드 내용은 SHA-256으로 주소를 정하여, 같은 내용은 저장/이미지 처리를 한 번만 하고 참조 수로 공유합니다.
  */
 @Slf4j
 @Service
@@ -24,9 +38,16 @@ import java.util.UUID;
 @Transactional
 public class FileUploadDomainService implements FileUploadServicePort {
     
+    private static final int HASH_BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_BLOB_ACQUIRE_ATTEMPTS = 3;
+    
     private final FileUploadRepositoryPort fileUploadRepositoryPort;
-    private final S3FileService s3FileService;
+    private final FileBlobRepositoryPort fileBlobRepositoryPort;
+    private final FileStoragePort fileStoragePort;
     private final ImageOptimizationService imageOptimizationService;
+    private final RenditionQueuePort renditionQueuePort;
+    private final FileBlobCleanupService fileBlobCleanupService;
+    private final RenditionCachePort renditionCachePort;
     
     @Override
     public FileUpload uploadFile(MultipartFile file, FileUpload.UploadType uploadType, 
@@ -34,32 +55,8 @@ public class FileUploadDomainService implements FileUploadServicePort {
         // 도메인 규칙 검증
         validateFile(file, uploadType);
         
-        // 파일 정보 생성
-        String originalFileName = file.getOriginalFilename();
-        String fileExtension = getFileExtension(originalFileName);
-        String storedFileName = generateStoredFileName(fileExtension);
-        String filePath = generateFilePath(uploadType, referenceType, storedFileName);
-        
-        // S3에 파일 업로드
-        s3FileService.uploadFile(file.getInputStream(), filePath, file.getContentType());
-        
-        // 파일 URL 생성
-        String fileUrl = s3FileService.generateFileUrl(filePath);
-        
-        // 파일 업로드 엔티티 생성
-        FileUpload fileUpload = FileUpload.builder()
-                .originalFileName(originalFileName)
-                .storedFileName(storedFileName)
-                .filePath(filePath)
-                .fileUrl(fileUrl)
-                .contentType(file.getContentType())
-                .fileSize(file.getSize())
-                .fileExtension(fileExtension)
-                .uploadType(uploadType)
-                .referenceType(referenceType)
-                .referenceId(referenceId)
-                .active(true)
-                .build();
+        String contentHash = hashContent(file);
+        FileUpload fileUpload = storeContent(file, uploadType, referenceType, referenceId, contentHash, null);
         
         // 데이터베이스에 저장
         return fileUploadRepositoryPort.save(fileUpload);
@@ -70,31 +67,34 @@ public class FileUploadDomainService implements FileUploadServicePort {
                                             Long referenceId) throws IOException {
         // 이미지 파일 검증
         validateImageFile(file);
+        renditionQueuePort.checkCapacity();
         
-        // 원본 이미지 업로드
-        FileUpload fileUpload = uploadFile(file, FileUpload.UploadType.IMAGE, referenceType, referenceId);
-        
-        // 이미지 최적화 처리
-        byte[] imageData = file.getBytes();
+        // 이미 검증된 내용이면 저장된 해상도를 사용하고, 아니면 픽셀을 디코딩하지 않고 헤더에서 해상도만 읽어 검증
+        String contentHash = hashContent(file);
+        int[] dimensions = fileBlobRepositoryPort.findByContentHash(contentHash)
+                .filter(FileBlob::hasImageDimensions)
+                .map(blob -> new int[]{blob.getImageWidth(), blob.getImageHeight()})
+                .orElse(null);
+        if (dimensions == null) {
+            try (InputStream inputStream = file.getInputStream()) {
+                dimensions = imageOptimizationService.readDimensions(inputStream);
+            }
+            imageOptimizationService.validatePixelCount(dimensions[0], dimensions[1]);
+        }
         
-        // 이미지 크기 정보 추출
-        int[] dimensions = imageOptimizationService.getImageDimensions(imageData);
+        // 원본 이미지 업로드 (같은 내용이 이미 있으면 건너뜀)
+        FileUpload fileUpload = storeContent(file, FileUpload.UploadType.IMAGE, referenceType, referenceId,
+                contentHash, dimensions);
         fileUpload.setImageDimensions(dimensions[0], dimensions[1]);
         
-        // 썸네일 생성 및 업로드
-        byte[] thumbnailData = imageOptimizationService.generateThumbnail(imageData, 300, 300);
-        String thumbnailPath = generateThumbnailPath(fileUpload.getFilePath());
-        s3FileService.uploadFile(thumbnailData, thumbnailPath, "image/jpeg");
-        fileUpload.setThumbnailUrl(s3FileService.generateFileUrl(thumbnailPath));
-        
-        // 최적화된 이미지 생성 및 업로드
-        byte[] optimizedData = imageOptimizationService.optimizeImage(imageData, 0.8f);
-        String optimizedPath = generateOptimizedPath(fileUpload.getFilePath());
-        s3FileService.uploadFile(optimizedData, optimizedPath, "image/jpeg");
-        fileUpload.setOptimizedUrl(s3FileService.generateFileUrl(optimizedPath));
-        
-        // 업데이트된 정보 저장
-        return fileUploadRepositoryPort.save(fileUpload);
+        // 같은 내용의 파생 이미지가 이미 있으면 URL만 복사하고, 없으면 백그라운드 작업에서 생성하여 URL을 채움
+        Optional<FileUpload> renditionSource = fileUploadRepositoryPort.findWithRenditionsByContentHash(contentHash);
+        renditionSource.ifPresent(fileUpload::copyRenditionsFrom);
+        FileUpload saved = fileUploadRepositoryPort.save(fileUpload);
+        if (renditionSource.isEmpty()) {
+            renditionQueuePort.enqueue(saved.getId());
+        }
+        return saved;
     }
     
     @Override
@@ -116,38 +116,67 @@ public class FileUploadDomainService implements FileUploadServicePort {
     public void deleteFile(Long id) {
         Optional<FileUpload> fileUpload = fileUploadRepositoryPort.findById(id);
         if (fileUpload.isPresent()) {
-            // S3에서 파일 삭제
-            s3FileService.deleteFile(fileUpload.get().getFilePath());
-            
-            // 썸네일과 최적화된 이미지도 삭제
-            if (fileUpload.get().hasThumbnail()) {
-                String thumbnailPath = generateThumbnailPath(fileUpload.get().getFilePath());
-                s3FileService.deleteFile(thumbnailPath);
-            }
-            
-            if (fileUpload.get().hasOptimizedImage()) {
-                String optimizedPath = generateOptimizedPath(fileUpload.get().getFilePath());
-                s3FileService.deleteFile(optimizedPath);
-            }
-            
             // 데이터베이스에서 삭제
             fileUploadRepositoryPort.deleteById(id);
+            // 반응형 이미지는 내용을 공유해도 파일 ID별로 만들어지므로 항상 지움
+            afterCommit(() -> releaseRenditions(List.of(id)));
+            
+            if (fileUpload.get().hasContentHash()) {
+                // 같은 내용을 쓰는 업로드가 남아 있으면 저장소 파일은 그대로 둠
+                fileBlobRepositoryPort.decrementReferenceCount(fileUpload.get().getContentHash());
+                releaseUnreferencedBlobs(List.of(fileUpload.get().getContentHash()));
+            } else {
+                // 커밋 후 원본, 썸네일, 최적화된 이미지를 한 번의 요청으로 삭제
+                List<String> storagePaths = fileUpload.get().storagePaths();
+                afterCommit(() -> fileStoragePort.deleteFiles(storagePaths));
+            }
         }
     }
     
+    @Override
+    public int deleteFilesByReference(FileUpload.ReferenceType referenceType, Long referenceId) {
+        List<FileUpload> fileUploads = fileUploadRepositoryPort.findByReferenceTypeAndReferenceId(referenceType, referenceId);
+        Set<String> contentHashes = fileUploads.stream()
+                .filter(FileUpload::hasContentHash)
+                .map(FileUpload::getContentHash)
+                .collect(Collectors.toSet());
+        List<String> unsharedPaths = fileUploads.stream()
+                .filter(fileUpload -> !fileUpload.hasContentHash())
+                .flatMap(fileUpload -> fileUpload.storagePaths().stream())
+                .toList();
+        
+        // 참조 수는 UPDATE 한 번으로 내리고(행 삭제 전), 행은 DELETE 한 번으로 정리
+        if (!contentHashes.isEmpty()) {
+            fileBlobRepositoryPort.releaseReferences(referenceType, referenceId);
+        }
+        int deleted = fileUploadRepositoryPort.deleteByReferenceTypeAndReferenceId(referenceType, referenceId);
+        
+        // 저장소 파일은 커밋 후 1000개 단위 일괄 삭제로 정리
+        if (!unsharedPaths.isEmpty()) {
+            afterCommit(() -> fileStoragePort.deleteFiles(unsharedPaths));
+        }
+        List<Long> fileIds = fileUploads.stream().map(FileUpload::getId).toList();
+        if (!fileIds.isEmpty()) {
+            afterCommit(() -> releaseRenditions(fileIds));
+        }
+        releaseUnreferencedBlobs(contentHashes);
+        return deleted;
+    }
+    
     @Override
     public void deactivateFile(Long id) {
         fileUploadRepositoryPort.deactivateById(id);
+        afterCommit(() -> renditionCachePort.evict(id));
     }
     
     @Override
     public String generateFileUrl(String filePath) {
-        return s3FileService.generateFileUrl(filePath);
+        return fileStoragePort.generateFileUrl(filePath);
     }
     
     @Override
     public String generateDownloadUrl(String filePath, String fileName) {
-        return s3FileService.generateDownloadUrl(filePath, fileName);
+        return fileStoragePort.generateDownloadUrl(filePath, fileName);
     }
     
     @Override
@@ -173,7 +202,7 @@ public class FileUploadDomainService implements FileUploadServicePort {
     @Override
     public byte[] resizeImage(String filePath, int width, int height) throws IOException {
         // S3에서 파일 다운로드
-        byte[] imageData = s3FileService.downloadFile(filePath);
+        byte[] imageData = fileStoragePort.downloadFile(filePath);
         
         // 이미지 리사이징
         return imageOptimizationService.resizeImage(imageData, width, height);
@@ -181,6 +210,128 @@ public class FileUploadDomainService implements FileUploadServicePort {
     
     // Private helper methods
     
+    /**
+     * 내용 해시로 저장 위치를 정하고, 같은 내용이 저장소에 없을 때만 업로드합니다.
+     */
+    private FileUpload storeContent(MultipartFile file, FileUpload.UploadType uploadType,
+                                    FileUpload.ReferenceType referenceType, Long referenceId,
+                                    String contentHash, int[] dimensions) throws IOException {
+        String originalFileName = file.getOriginalFilename();
+        String fileExtension = getFileExtension(originalFileName);
+        
+        FileBlob blob = acquireBlob(FileBlob.builder()
+                .contentHash(contentHash)
+                .storagePath(generateFilePath(uploadType, contentHash, fileExtension))
+                .contentType(file.getContentType())
+                .fileSize(file.getSize())
+                .imageWidth(dimensions != null ? dimensions[0] : null)
+                .imageHeight(dimensions != null ? dimensions[1] : null)
+                .build());
+        String filePath = blob.getStoragePath();
+        
+        // 참조를 확보한 뒤 확인하므로, 그 사이 마지막 참조가 지워져도 다시 업로드됨
+        if (fileStoragePort.findMetadata(filePath).isEmpty()) {
+            // S3에 파일 업로드 (길이를 지정하여 메모리 버퍼링 없이 전송)
+            try (InputStream inputStream = file.getInputStream()) {
+                fileStoragePort.uploadFile(inputStream, filePath, blob.getContentType(), file.getSize());
+            }
+        } else {
+            log.info("같은 내용의 파일이 있어 업로드를 건너뜁니다: {}", filePath);
+        }
+        
+        return FileUpload.builder()
+                .originalFileName(originalFileName)
+                .storedFileName(filePath.substring(filePath.lastIndexOf('/') + 1))
+                .filePath(filePath)
+                .fileUrl(fileStoragePort.generateFileUrl(filePath))
+                .contentType(file.getContentType())
+                .fileSize(file.getSize())
+                .fileExtension(fileExtension)
+                .uploadType(uploadType)
+                .referenceType(referenceType)
+                .referenceId(referenceId)
+                .contentHash(contentHash)
+                .active(true)
+                .build();
+    }
+    
+    /**
+     * 내용 행의 참조 수를 올립니다. 행이 없으면 만들고, 올리기 직전에 마지막 참조가 지워졌으면 다시 만듭니다.
+     */
+    private FileBlob acquireBlob(FileBlob candidate) throws IOException {
+        String contentHash = candidate.getContentHash();
+        for (int attempt = 0; attempt < MAX_BLOB_ACQUIRE_ATTEMPTS; attempt++) {
+            FileBlob blob = fileBlobRepositoryPort.findByContentHash(contentHash)
+                    .orElseGet(() -> fileBlobRepositoryPort.createIfAbsent(candidate));
+            if (fileBlobRepositoryPort.incrementReferenceCount(contentHash) > 0) {
+                return blob;
+            }
+        }
+        throw new IOException("파일 내용 등록에 실패했습니다: " + contentHash);
+    }
+    
+    /**
+     * 커밋 후 참조 수가 0이 된 내용 행을 잠그고 저장소 파일(원본과 파생 이미지)과 함께 지웁니다.
+     * 그 사이 같은 내용이 다시 참조되었으면 남깁니다. 실패하면 주기적인 정리 작업이 다시 지웁니다.
+     */
+    private void releaseUnreferencedBlobs(Collection<String> contentHashes) {
+        if (contentHashes.isEmpty()) {
+            return;
+        }
+        List<String> released = List.copyOf(contentHashes);
+        afterCommit(() -> {
+            try {
+                fileBlobCleanupService.release(released);
+            } catch (RuntimeException e) {
+                log.warn("참조가 없는 파일 내용 정리 실패, 주기 정리에서 다시 시도합니다: {}", released, e);
+            }
+        });
+    }
+    
+    /**
+     * 업로드된 내용의 SHA-256을 버퍼 하나로 스트리밍하며 계산합니다.
+     */
+    private String hashContent(MultipartFile file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        byte[] buffer = new byte[HASH_BUFFER_SIZE];
+        try (InputStream inputStream = file.getInputStream()) {
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+    
+    /**
+     * 롤백된 삭제로 저장소 파일만 사라지지 않도록 트랜잭션 커밋 후에 실행합니다.
+     */
+    /**
+     * 삭제된 파일의 반응형 이미지를 로컬 캐시와 저장소(renditions/{파일 ID}/ 아래)에서 지웁니다.
+     */
+    private void releaseRenditions(List<Long> fileIds) {
+        fileIds.forEach(renditionCachePort::evict);
+        fileStoragePort.deleteFilesByPrefix(fileIds.stream().map(FileUpload::renditionPrefix).toList());
+    }
+    
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+    
     private void validateFile(MultipartFile file, FileUpload.UploadType uploadType) {
         if (file == null || file.isEmpty()) {
             throw new IllegalArgumentException("파일이 비어있습니다.");
@@ -212,23 +363,12 @@ public class FileUploadDomainService implements FileUploadServicePort {
         return fileName.substring(fileName.lastIndexOf(".") + 1).toLowerCase();
     }
     
-    private String generateStoredFileName(String fileExtension) {
-        return UUID.randomUUID().toString() + "." + fileExtension;
-    }
-    
-    private String generateFilePath(FileUpload.UploadType uploadType, FileUpload.ReferenceType referenceType, String fileName) {
-        return String.format("%s/%s/%s", uploadType.name().toLowerCase(), 
-                           referenceType.name().toLowerCase(), fileName);
-    }
-    
-    private String generateThumbnailPath(String originalPath) {
-        String pathWithoutExtension = originalPath.substring(0, originalPath.lastIndexOf("."));
-        return pathWithoutExtension + "_thumb.jpg";
-    }
-    
-    private String generateOptimizedPath(String originalPath) {
-        String pathWithoutExtension = originalPath.substring(0, originalPath.lastIndexOf("."));
-        return pathWithoutExtension + "_optimized.jpg";
+    /**
+     * 내용 주소 경로 (예: image/3f/3fa9...c1.png). 참조 대상과 무관하게 같은 내용은 같은 경로를 씁니다.
+     */
+    private String generateFilePath(FileUpload.UploadType uploadType, String contentHash, String fileExtension) {
+        String fileName = fileExtension.isEmpty() ? contentHash : contentHash + "." + fileExtension;
+        return String.format("%s/%s/%s", uploadType.name().toLowerCase(), contentHash.substring(0, 2), fileName);
     }
     
     private long getMaxFileSize(FileUpload.UploadType uploadType) {
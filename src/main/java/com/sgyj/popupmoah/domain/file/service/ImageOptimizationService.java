@@ -3,147 +3,222 @@ package com.sgyj.popupmoah.domain.file.service;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import javax.imageio.IIOImage;
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
 import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Iterator;
 
 /**
  * 이미지 최적화 서비스
  * 이미지 리사이징, 썸네일 생성, 포맷 변환, 품질 최적화 기능을 제공합니다.
+ * 업로드 한 건에서 여러 파생 이미지를 만들 때는 {@link #decode(InputStream)}로 한 번만 디코딩한 뒤
+ * write* 메서드로 같은 이미지를 각 출력 스트림에 바로 인코딩합니다.
  */
 @Slf4j
 @Service
 public class ImageOptimizationService {
-    
+
+    /**
+     * 디코딩을 허용하는 최대 픽셀 수 (약 40MP, INT_RGB 기준 160MB)
+     */
+    public static final long MAX_PIXELS = 40_000_000L;
+
+    private static final float MAX_COMPRESSION_QUALITY = 0.9f;
+    private static final float MIN_COMPRESSION_QUALITY = 0.1f;
+    private static final float QUALITY_PRECISION = 0.03f;
+    private static final int MAX_DOWNSCALE_ROUNDS = 3;
+    private static final int MIN_DOWNSCALE_WIDTH = 64;
+    private static final double DOWNSCALE_MARGIN = 0.9;
+
+    /**
+     * 이미지를 한 번 디코딩합니다.
+     * 헤더에서 크기를 먼저 읽어 최대 픽셀 수를 넘는 이미지는 픽셀을 디코딩하기 전에 거절하며,
+     * 알파 채널이나 팔레트 이미지는 JPEG 인코딩이 가능한 RGB 이미지로 한 번만 변환합니다.
+     */
+    public BufferedImage decode(InputStream inputStream) throws IOException {
+        return decode(inputStream, 0);
+    }
+
+    /**
+     * 목표 너비에 맞춰 이미지를 디코딩합니다.
+     * 원본이 목표 너비의 두 배 이상이면 디코더에서 픽셀을 건너뛰며 읽어(subsampling)
+     * 축소 품질에 필요한 만큼만 메모리에 올립니다. targetWidth가 0 이하이면 원본 크기로 디코딩합니다.
+     */
+    public BufferedImage decode(InputStream inputStream, int targetWidth) throws IOException {
+        return toRgb(decodeRaw(inputStream, targetWidth));
+    }
+
+    /**
+     * 알파 채널과 색 형식을 유지한 채 디코딩합니다. 최대 픽셀 수 검사는 decode와 같습니다.
+     */
+    private BufferedImage decodeRaw(InputStream inputStream, int targetWidth) throws IOException {
+        try (ImageInputStream input = new MemoryCacheImageInputStream(inputStream)) {
+            ImageReader reader = readerFor(input);
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                validatePixelCount(width, reader.getHeight(0));
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = targetWidth > 0 ? Math.max(1, width / (targetWidth * 2)) : 1;
+                if (subsampling > 1) {
+                    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                }
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 바이트 배열의 이미지를 한 번 디코딩합니다.
+     */
+    public BufferedImage decode(byte[] imageData) throws IOException {
+        return decode(new ByteArrayInputStream(imageData));
+    }
+
+    /**
+     * 픽셀을 디코딩하지 않고 헤더 정보만으로 이미지 크기를 읽습니다.
+     */
+    public int[] readDimensions(InputStream inputStream) throws IOException {
+        try (ImageInputStream input = new MemoryCacheImageInputStream(inputStream)) {
+            ImageReader reader = readerFor(input);
+            try {
+                reader.setInput(input, true, true);
+                return new int[]{reader.getWidth(0), reader.getHeight(0)};
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 디코딩된 이미지로 중앙 크롭 정사각형 썸네일을 만들어 출력 스트림에 JPEG로 씁니다.
+     */
+    public void writeThumbnail(BufferedImage image, int thumbnailWidth, int thumbnailHeight, OutputStream outputStream) throws IOException {
+        writeJpeg(thumbnail(image, thumbnailWidth, thumbnailHeight), null, outputStream);
+    }
+
+    /**
+     * 디코딩된 이미지를 목표 비율에 맞게 중앙 크롭한 뒤 목표 크기로 출력 스트림에 JPEG로 씁니다.
+     */
+    public void writeCover(BufferedImage image, int targetWidth, int targetHeight, Float quality, OutputStream outputStream) throws IOException {
+        writeJpeg(cover(image, targetWidth, targetHeight), quality, outputStream);
+    }
+
+    /**
+     * 디코딩된 이미지를 지정한 너비로 (원본보다 크게 늘리지 않고) 줄여 지정한 포맷으로 씁니다.
+     */
+    public void writeScaledToWidth(BufferedImage image, int targetWidth, String format, Float quality, OutputStream outputStream) throws IOException {
+        BufferedImage scaled = image;
+        if (targetWidth < image.getWidth()) {
+            int targetHeight = Math.max(1, (int) Math.round((double) image.getHeight() * targetWidth / image.getWidth()));
+            scaled = draw(image, targetWidth, targetHeight);
+        }
+        write(scaled, format, quality, outputStream);
+    }
+
+    /**
+     * 디코딩된 이미지를 지정한 포맷으로 출력 스트림에 씁니다.
+     * JPEG는 품질을 지정할 수 있으며, 그 외 포맷은 ImageIO 기본 인코더 설정을 사용합니다.
+     */
+    public void write(BufferedImage image, String format, Float quality, OutputStream outputStream) throws IOException {
+        if ("JPEG".equalsIgnoreCase(format) || "JPG".equalsIgnoreCase(format)) {
+            writeJpeg(image, quality, outputStream);
+            return;
+        }
+        if (!ImageIO.write(image, format, outputStream)) {
+            throw new IllegalArgumentException("지원하지 않는 이미지 포맷입니다: " + format);
+        }
+    }
+
+    /**
+     * 디코딩된 이미지를 비율을 유지하며 크기 조정하여 출력 스트림에 JPEG로 씁니다.
+     */
+    public void writeResized(BufferedImage image, int targetWidth, int targetHeight, Float quality, OutputStream outputStream) throws IOException {
+        writeJpeg(resize(image, targetWidth, targetHeight), quality, outputStream);
+    }
+
+    /**
+     * 디코딩된 이미지를 지정한 품질의 JPEG로 출력 스트림에 씁니다.
+     * quality가 null이면 인코더 기본 품질을 사용합니다.
+     */
+    public void writeJpeg(BufferedImage image, Float quality, OutputStream outputStream) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("JPEG").next();
+        try (ImageOutputStream output = new MemoryCacheImageOutputStream(outputStream)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (quality != null && param.canWriteCompressed()) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(quality);
+            }
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
     /**
      * 이미지 크기를 조정합니다.
      */
     public byte[] resizeImage(byte[] imageData, int targetWidth, int targetHeight) throws IOException {
-        try (ByteArrayInputStream inputStream = new ByteArrayInputStream(imageData)) {
-            BufferedImage originalImage = ImageIO.read(inputStream);
-            
-            if (originalImage == null) {
-                throw new IOException("이미지를 읽을 수 없습니다.");
-            }
-            
-            // 비율을 유지하면서 크기 조정
-            int originalWidth = originalImage.getWidth();
-            int originalHeight = originalImage.getHeight();
-            
-            double scaleX = (double) targetWidth / originalWidth;
-            double scaleY = (double) targetHeight / originalHeight;
-            double scale = Math.min(scaleX, scaleY);
-            
-            int newWidth = (int) (originalWidth * scale);
-            int newHeight = (int) (originalHeight * scale);
-            
-            // 고품질 리사이징
-            BufferedImage resizedImage = new BufferedImage(newWidth, newHeight, BufferedImage.TYPE_INT_RGB);
-            Graphics2D graphics = resizedImage.createGraphics();
-            
-            // 렌더링 품질 설정
-            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
-            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
-            graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-            
-            graphics.drawImage(originalImage, 0, 0, newWidth, newHeight, null);
-            graphics.dispose();
-            
-            // 바이트 배열로 변환
-            return convertToByteArray(resizedImage, "JPEG");
-        }
-    }
-    
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        writeResized(decode(imageData), targetWidth, targetHeight, null, outputStream);
+        return outputStream.toByteArray();
+    }
+
     /**
      * 썸네일을 생성합니다.
      */
     public byte[] generateThumbnail(byte[] imageData, int thumbnailWidth, int thumbnailHeight) throws IOException {
-        try (ByteArrayInputStream inputStream = new ByteArrayInputStream(imageData)) {
-            BufferedImage originalImage = ImageIO.read(inputStream);
-            
-            if (originalImage == null) {
-                throw new IOException("이미지를 읽을 수 없습니다.");
-            }
-            
-            // 정사각형 썸네일 생성
-            int size = Math.min(thumbnailWidth, thumbnailHeight);
-            
-            // 중앙을 기준으로 크롭
-            int originalWidth = originalImage.getWidth();
-            int originalHeight = originalImage.getHeight();
-            
-            int cropSize = Math.min(originalWidth, originalHeight);
-            int cropX = (originalWidth - cropSize) / 2;
-            int cropY = (originalHeight - cropSize) / 2;
-            
-            BufferedImage croppedImage = originalImage.getSubimage(cropX, cropY, cropSize, cropSize);
-            
-            // 썸네일 크기로 리사이징
-            BufferedImage thumbnail = new BufferedImage(size, size, BufferedImage.TYPE_INT_RGB);
-            Graphics2D graphics = thumbnail.createGraphics();
-            
-            // 렌더링 품질 설정
-            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
-            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
-            graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-            
-            graphics.drawImage(croppedImage, 0, 0, size, size, null);
-            graphics.dispose();
-            
-            // 바이트 배열로 변환
-            return convertToByteArray(thumbnail, "JPEG");
-        }
-    }
-    
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        writeThumbnail(decode(imageData), thumbnailWidth, thumbnailHeight, outputStream);
+        return outputStream.toByteArray();
+    }
+
     /**
      * 이미지 포맷을 변환합니다.
+     * JPEG로 변환할 때만 RGB로 바꾸고, PNG 등 다른 포맷은 알파 채널(투명도)을 그대로 유지합니다.
      */
     public byte[] convertImageFormat(byte[] imageData, String format) throws IOException {
-        try (ByteArrayInputStream inputStream = new ByteArrayInputStream(imageData)) {
-            BufferedImage image = ImageIO.read(inputStream);
-            
-            if (image == null) {
-                throw new IOException("이미지를 읽을 수 없습니다.");
-            }
-            
-            return convertToByteArray(image, format.toUpperCase());
-        }
+        String targetFormat = format.toUpperCase();
+        BufferedImage image = "JPEG".equals(targetFormat) || "JPG".equals(targetFormat)
+                ? decode(imageData)
+                : decodeRaw(new ByteArrayInputStream(imageData), 0);
+        return convertToByteArray(image, targetFormat);
     }
-    
+
     /**
      * 이미지 품질을 최적화합니다.
      */
     public byte[] optimizeImage(byte[] imageData, float quality) throws IOException {
-        try (ByteArrayInputStream inputStream = new ByteArrayInputStream(imageData)) {
-            BufferedImage image = ImageIO.read(inputStream);
-            
-            if (image == null) {
-                throw new IOException("이미지를 읽을 수 없습니다.");
-            }
-            
-            // 품질 설정을 위한 ImageWriter 사용
-            return convertToByteArrayWithQuality(image, "JPEG", quality);
-        }
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        writeJpeg(decode(imageData), quality, outputStream);
+        return outputStream.toByteArray();
     }
-    
+
     /**
      * 이미지 크기 정보를 가져옵니다.
+     * 픽셀은 디코딩하지 않고 헤더만 읽습니다.
      */
     public int[] getImageDimensions(byte[] imageData) throws IOException {
-        try (ByteArrayInputStream inputStream = new ByteArrayInputStream(imageData)) {
-            BufferedImage image = ImageIO.read(inputStream);
-            
-            if (image == null) {
-                throw new IOException("이미지를 읽을 수 없습니다.");
-            }
-            
-            return new int[]{image.getWidth(), image.getHeight()};
-        }
+        return readDimensions(new ByteArrayInputStream(imageData));
     }
-    
+
     /**
      * 이미지를 바이트 배열로 변환합니다.
      */
@@ -153,35 +228,114 @@ public class ImageOptimizationService {
             return outputStream.toByteArray();
         }
     }
-    
+
     /**
-     * 품질 설정을 포함하여 이미지를 바이트 배열로 변환합니다.
+     * 비율을 유지하면서 목표 크기 안에 들어가도록 축소/확대합니다.
      */
-    private byte[] convertToByteArrayWithQuality(BufferedImage image, String format, float quality) throws IOException {
-        try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-            // JPEG 품질 설정
-            if ("JPEG".equalsIgnoreCase(format)) {
-                javax.imageio.ImageWriter writer = ImageIO.getImageWritersByFormatName("JPEG").next();
-                javax.imageio.ImageWriteParam param = writer.getDefaultWriteParam();
-                
-                if (param.canWriteCompressed()) {
-                    param.setCompressionMode(javax.imageio.ImageWriteParam.MODE_EXPLICIT);
-                    param.setCompressionQuality(quality);
-                }
-                
-                javax.imageio.stream.ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream);
-                writer.setOutput(imageOutputStream);
-                writer.write(null, new javax.imageio.IIOImage(image, null, null), param);
-                writer.dispose();
-                imageOutputStream.close();
-            } else {
-                ImageIO.write(image, format, outputStream);
-            }
-            
-            return outputStream.toByteArray();
+    private BufferedImage resize(BufferedImage originalImage, int targetWidth, int targetHeight) {
+        int originalWidth = originalImage.getWidth();
+        int originalHeight = originalImage.getHeight();
+
+        double scaleX = (double) targetWidth / originalWidth;
+        double scaleY = (double) targetHeight / originalHeight;
+        double scale = Math.min(scaleX, scaleY);
+
+        int newWidth = Math.max(1, (int) (originalWidth * scale));
+        int newHeight = Math.max(1, (int) (originalHeight * scale));
+
+        return draw(originalImage, newWidth, newHeight);
+    }
+
+    /**
+     * 중앙을 기준으로 정사각형으로 크롭한 썸네일을 만듭니다.
+     * 크롭은 원본 래스터를 공유하는 서브 이미지이므로 픽셀을 복사하지 않습니다.
+     */
+    private BufferedImage thumbnail(BufferedImage originalImage, int thumbnailWidth, int thumbnailHeight) {
+        int size = Math.min(thumbnailWidth, thumbnailHeight);
+
+        int originalWidth = originalImage.getWidth();
+        int originalHeight = originalImage.getHeight();
+
+        int cropSize = Math.min(originalWidth, originalHeight);
+        int cropX = (originalWidth - cropSize) / 2;
+        int cropY = (originalHeight - cropSize) / 2;
+
+        BufferedImage croppedImage = originalImage.getSubimage(cropX, cropY, cropSize, cropSize);
+        return draw(croppedImage, size, size);
+    }
+
+    /**
+     * 목표 비율에 맞게 중앙을 크롭한 뒤 목표 크기로 줄입니다.
+     */
+    private BufferedImage cover(BufferedImage originalImage, int targetWidth, int targetHeight) {
+        int originalWidth = originalImage.getWidth();
+        int originalHeight = originalImage.getHeight();
+
+        double targetRatio = (double) targetWidth / targetHeight;
+        int cropWidth = originalWidth;
+        int cropHeight = (int) Math.round(originalWidth / targetRatio);
+        if (cropHeight > originalHeight) {
+            cropHeight = originalHeight;
+            cropWidth = (int) Math.round(originalHeight * targetRatio);
         }
+        int cropX = (originalWidth - cropWidth) / 2;
+        int cropY = (originalHeight - cropHeight) / 2;
+
+        BufferedImage croppedImage = originalImage.getSubimage(cropX, cropY, cropWidth, cropHeight);
+        return draw(croppedImage, targetWidth, targetHeight);
+    }
+
+    private BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+
+        // 렌더링 품질 설정
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+        graphics.drawImage(source, 0, 0, width, height, null);
+        graphics.dispose();
+        return target;
     }
-    
+
+    /**
+     * JPEG 인코더가 바로 받을 수 있는 형식이면 그대로 반환하고,
+     * 그렇지 않으면 흰 배경 위에 그려 RGB 이미지로 변환합니다.
+     */
+    private BufferedImage toRgb(BufferedImage image) {
+        int type = image.getType();
+        if (type == BufferedImage.TYPE_INT_RGB || type == BufferedImage.TYPE_3BYTE_BGR
+                || type == BufferedImage.TYPE_BYTE_GRAY) {
+            return image;
+        }
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+        graphics.drawImage(image, 0, 0, Color.WHITE, null);
+        graphics.dispose();
+        return rgb;
+    }
+
+    private ImageReader readerFor(ImageInputStream input) throws IOException {
+        Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+        if (!readers.hasNext()) {
+            throw new IOException("이미지를 읽을 수 없습니다.");
+        }
+        return readers.next();
+    }
+
+    /**
+     * 이미지 해상도가 디코딩 가능한 범위인지 검사합니다.
+     */
+    public void validatePixelCount(int width, int height) throws IOException {
+        if (width <= 0 || height <= 0) {
+            throw new IOException("이미지를 읽을 수 없습니다.");
+        }
+        if ((long) width * height > MAX_PIXELS) {
+            throw new IllegalArgumentException("이미지 해상도가 너무 큽니다: " + width + "x" + height);
+        }
+    }
+
     /**
      * 이미지가 유효한지 확인합니다.
      */
@@ -194,30 +348,151 @@ public class ImageOptimizationService {
             return false;
         }
     }
-    
+
     /**
      * 이미지 파일 크기를 줄입니다.
+     * 원본을 한 번만 디코딩하고 JPEG 품질을 이진 탐색하여 크기 제한 안에서 가장 높은 품질을 찾습니다.
+     * 최저 품질로도 제한을 넘으면 최저 품질 결과를 반환합니다.
      */
     public byte[] compressImage(byte[] imageData, long maxSizeBytes) throws IOException {
-        byte[] compressedData = imageData;
-        float quality = 0.9f;
-        
-        while (compressedData.length > maxSizeBytes && quality > 0.1f) {
-            compressedData = optimizeImage(imageData, quality);
-            quality -= 0.1f;
+        return compressImage(imageData, maxSizeBytes, false);
+    }
+
+    /**
+     * 이미지 파일 크기를 줄입니다.
+     * allowDownscale이 true이면 품질만으로 제한을 맞출 수 없을 때 해상도를 줄여 다시 탐색합니다.
+     */
+    public byte[] compressImage(byte[] imageData, long maxSizeBytes, boolean allowDownscale) throws IOException {
+        if (imageData.length <= maxSizeBytes) {
+            return imageData;
         }
-        
-        return compressedData;
+        return compressToSize(decode(imageData), maxSizeBytes, allowDownscale).data();
     }
-    
+
+    /**
+     * 디코딩된 이미지를 크기 제한 안의 JPEG로 인코딩합니다.
+     * 하나의 ImageWriter와 두 개의 출력 버퍼(탐색용/최선 결과용)를 모든 시도에 재사용합니다.
+     */
+    public CompressionResult compressToSize(BufferedImage image, long maxSizeBytes, boolean allowDownscale) throws IOException {
+        if (maxSizeBytes <= 0) {
+            throw new IllegalArgumentException("최대 파일 크기는 0보다 커야 합니다: " + maxSizeBytes);
+        }
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("JPEG").next();
+        try {
+            JpegEncoder encoder = new JpegEncoder(writer);
+            BufferedImage current = image;
+            for (int round = 0; ; round++) {
+                searchQuality(encoder, current, maxSizeBytes);
+                if (encoder.bestSize() <= maxSizeBytes || !allowDownscale || round >= MAX_DOWNSCALE_ROUNDS) {
+                    return encoder.result(current);
+                }
+                // 최저 품질 결과 크기로 필요한 면적 비율을 추정하고, 화질 손실이 누적되지 않도록 원본에서 다시 축소
+                double scale = Math.sqrt((double) maxSizeBytes / encoder.bestSize()) * DOWNSCALE_MARGIN;
+                int width = (int) (current.getWidth() * scale);
+                int height = (int) (current.getHeight() * scale);
+                if (width < MIN_DOWNSCALE_WIDTH || height < 1) {
+                    return encoder.result(current);
+                }
+                current = draw(image, width, height);
+            }
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    /**
+     * 최고 품질이 제한 안이면 바로 끝내고, 최저 품질도 넘으면 최저 품질 결과를 남긴 채 끝냅니다.
+     * 그 사이면 제한을 만족하는 가장 높은 품질을 이진 탐색합니다.
+     */
+    private void searchQuality(JpegEncoder encoder, BufferedImage image, long maxSizeBytes) throws IOException {
+        if (encoder.encode(image, MAX_COMPRESSION_QUALITY) <= maxSizeBytes) {
+            encoder.keep(MAX_COMPRESSION_QUALITY);
+            return;
+        }
+        encoder.encode(image, MIN_COMPRESSION_QUALITY);
+        encoder.keep(MIN_COMPRESSION_QUALITY);
+        if (encoder.bestSize() > maxSizeBytes) {
+            return;
+        }
+        float low = MIN_COMPRESSION_QUALITY;
+        float high = MAX_COMPRESSION_QUALITY;
+        while (high - low > QUALITY_PRECISION) {
+            float mid = (low + high) / 2;
+            if (encoder.encode(image, mid) <= maxSizeBytes) {
+                encoder.keep(mid);
+                low = mid;
+            } else {
+                high = mid;
+            }
+        }
+    }
+
+    /**
+     * 크기 제한 압축 결과
+     * @param attempts 인코딩 시도 횟수
+     */
+    public record CompressionResult(byte[] data, float quality, int width, int height, int attempts) {
+    }
+
+    /**
+     * 하나의 ImageWriter로 여러 품질을 시도하는 JPEG 인코더
+     * 탐색용 버퍼에 인코딩하고, 채택한 결과는 버퍼를 맞바꿔 복사 없이 보관합니다.
+     */
+    private static final class JpegEncoder {
+
+        private final ImageWriter writer;
+        private final ImageWriteParam param;
+        private EncodeBuffer scratch = new EncodeBuffer();
+        private EncodeBuffer best = new EncodeBuffer();
+        private float bestQuality;
+        private int attempts;
+
+        JpegEncoder(ImageWriter writer) {
+            this.writer = writer;
+            this.param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        }
+
+        int encode(BufferedImage image, float quality) throws IOException {
+            scratch.reset();
+            param.setCompressionQuality(quality);
+            try (ImageOutputStream output = new MemoryCacheImageOutputStream(scratch)) {
+                writer.setOutput(output);
+                writer.write(null, new IIOImage(image, null, null), param);
+            }
+            attempts++;
+            return scratch.size();
+        }
+
+        void keep(float quality) {
+            EncodeBuffer kept = scratch;
+            scratch = best;
+            best = kept;
+            bestQuality = quality;
+        }
+
+        int bestSize() {
+            return best.size();
+        }
+
+        CompressionResult result(BufferedImage image) {
+            return new CompressionResult(best.toByteArray(), bestQuality, image.getWidth(), image.getHeight(), attempts);
+        }
+    }
+
+    private static final class EncodeBuffer extends ByteArrayOutputStream {
+        EncodeBuffer() {
+            super(64 * 1024);
+        }
+    }
+
     /**
      * 웹 최적화 이미지를 생성합니다.
+     * 한 번 디코딩한 이미지를 크기 조정 후 웹용 품질로 바로 인코딩합니다.
      */
     public byte[] createWebOptimizedImage(byte[] imageData, int maxWidth, int maxHeight) throws IOException {
-        // 이미지 크기 조정
-        byte[] resizedData = resizeImage(imageData, maxWidth, maxHeight);
-        
-        // 품질 최적화 (웹용으로 적절한 품질 설정)
-        return optimizeImage(resizedData, 0.8f);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        writeResized(decode(imageData), maxWidth, maxHeight, 0.8f, outputStream);
+        return outputStream.toByteArray();
     }
-} 
\ No newline at end of file
+}
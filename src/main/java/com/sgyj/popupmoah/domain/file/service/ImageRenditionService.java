@@ -0,0 +1,97 @@
+package com.sgyj.popupmoah.domain.file.service;
+
+import com.sgyj.popupmoah.domain.file.entity.FileUpload;
+import com.sgyj.popupmoah.domain.file.port.FileUploadRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 파생 이미지 생성 서비스
+ * 저장된 원본 이미지를 한 번 디코딩하여 썸네일(app.cdn.thumbnail-size)과 최적화 이미지를 만들고 URL을 갱신합니다.
+ * 이미 만들어진 파생 이미지(같은 내용의 다른 업로드가 만든 것 포함)는 건너뛰므로 재시도해도 안전합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageRenditionService {
+
+    public static final float OPTIMIZED_QUALITY = 0.8f;
+
+    private static final String RENDITION_CONTENT_TYPE = "image/jpeg";
+
+    private final FileUploadRepositoryPort fileUploadRepositoryPort;
+    private final S3FileService s3FileService;
+    private final ImageOptimizationService imageOptimizationService;
+
+    @Value("${app.cdn.thumbnail-size.width:300}")
+    private int thumbnailWidth;
+
+    @Value("${app.cdn.thumbnail-size.height:200}")
+    private int thumbnailHeight;
+
+    @Value("${app.cdn.thumbnail-size.quality:80}")
+    private String thumbnailQuality;
+
+    /**
+     * 파일의 파생 이미지를 생성합니다.
+     */
+    public void generateRenditions(Long fileUploadId) throws IOException {
+        FileUpload fileUpload = fileUploadRepositoryPort.findById(fileUploadId).orElse(null);
+        if (fileUpload == null || !fileUpload.isActive()) {
+            log.info("파생 이미지 생성 대상이 없습니다: fileUploadId={}", fileUploadId);
+            return;
+        }
+        String thumbnailPath = fileUpload.thumbnailFilePath();
+        String optimizedPath = fileUpload.optimizedFilePath();
+
+        // 같은 내용의 다른 업로드가 이미 만든 파생 이미지는 URL만 채움
+        boolean needsThumbnail = !fileUpload.hasThumbnail();
+        if (needsThumbnail && s3FileService.fileExists(thumbnailPath)) {
+            fileUploadRepositoryPort.updateThumbnailUrl(fileUploadId, s3FileService.generateFileUrl(thumbnailPath));
+            needsThumbnail = false;
+        }
+        boolean needsOptimized = !fileUpload.hasOptimizedImage();
+        if (needsOptimized && s3FileService.fileExists(optimizedPath)) {
+            fileUploadRepositoryPort.updateOptimizedUrl(fileUploadId, s3FileService.generateFileUrl(optimizedPath));
+            needsOptimized = false;
+        }
+        if (!needsThumbnail && !needsOptimized) {
+            return;
+        }
+
+        BufferedImage image;
+        try (InputStream inputStream = s3FileService.openFile(fileUpload.getFilePath())) {
+            image = imageOptimizationService.decode(inputStream);
+        }
+
+        if (needsThumbnail) {
+            s3FileService.uploadEncoded(thumbnailPath, RENDITION_CONTENT_TYPE,
+                    outputStream -> imageOptimizationService.writeCover(image, thumbnailWidth, thumbnailHeight,
+                            toQuality(thumbnailQuality), outputStream));
+            fileUploadRepositoryPort.updateThumbnailUrl(fileUploadId, s3FileService.generateFileUrl(thumbnailPath));
+        }
+
+        if (needsOptimized) {
+            s3FileService.uploadEncoded(optimizedPath, RENDITION_CONTENT_TYPE,
+                    outputStream -> imageOptimizationService.writeJpeg(image, OPTIMIZED_QUALITY, outputStream));
+            fileUploadRepositoryPort.updateOptimizedUrl(fileUploadId, s3FileService.generateFileUrl(optimizedPath));
+        }
+    }
+
+    /**
+     * "80"처럼 백분율로 설정된 품질을 인코더 품질(0.0 ~ 1.0)로 변환합니다.
+     */
+    public static float toQuality(String quality) {
+        float value = Float.parseFloat(quality.trim());
+        if (value <= 0 || value > 100) {
+            throw new IllegalArgumentException("이미지 품질은 0 초과 100 이하여야 합니다: " + quality);
+        }
+        return value > 1 ? value / 100f : value;
+    }
+}
@@ -3,16 +3,26 @@ package com.sgyj.popupmoah.domain.file.service;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.*;
 import com.amazonaws.HttpMethod;
+import com.sgyj.popupmoah.domain.file.port.FileStoragePort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URL;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * S3 파일 서비스
@@ -21,9 +31,15 @@ import java.util.Date;
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class S3FileService {
+public class S3FileService implements FileStoragePort {
+    
+    /**
+     * DeleteObjects 요청 한 번에 지정할 수 있는 최대 키 수
+     */
+    static final int MAX_KEYS_PER_DELETE = 1000;
     
     private final AmazonS3 amazonS3;
+    private final S3MultipartUploader multipartUploader;
     
     @Value("${aws.s3.bucket-name}")
     private String bucketName;
@@ -31,13 +47,34 @@ public class S3FileService {
     @Value("${aws.s3.region}")
     private String region;
     
+    @Value("${aws.s3.multipart.threshold-mb:16}")
+    private long multipartThresholdMb;
+    
     /**
-     * 파일을 S3에 업로드합니다.
+     * 길이를 모르는 스트림을 S3에 업로드합니다.
+     * 멀티파트 업로드로 파트 단위로 읽어 올리므로 스트림 전체를 메모리에 버퍼링하지 않습니다.
      */
     public void uploadFile(InputStream inputStream, String filePath, String contentType) {
+        uploadFile(inputStream, filePath, contentType, -1L);
+    }
+    
+    /**
+     * 길이를 알고 있는 스트림을 S3에 업로드합니다.
+     * 길이를 지정하면 SDK가 스트림 전체를 메모리에 버퍼링하지 않고 그대로 전송합니다.
+     * 길이를 모르거나(-1) 임계값 이상인 스트림은 파트를 병렬로 올리는 멀티파트 업로드를 사용합니다.
+     */
+    @Override
+    public void uploadFile(InputStream inputStream, String filePath, String contentType, long contentLength) {
+        if (contentLength < 0 || contentLength >= multipartThresholdMb * 1024 * 1024) {
+            uploadMultipart(inputStream, filePath, contentType);
+            return;
+        }
         try {
             ObjectMetadata metadata = new ObjectMetadata();
             metadata.setContentType(contentType);
+            if (contentLength >= 0) {
+                metadata.setContentLength(contentLength);
+            }
             
             PutObjectRequest putObjectRequest = new PutObjectRequest(bucketName, filePath, inputStream, metadata);
             amazonS3.putObject(putObjectRequest);
@@ -49,21 +86,42 @@ public class S3FileService {
         }
     }
     
+    private void uploadMultipart(InputStream inputStream, String filePath, String contentType) {
+        try {
+            multipartUploader.upload(bucketName, filePath, inputStream, contentType);
+            log.info("파일이 S3에 업로드되었습니다: {}", filePath);
+        } catch (Exception e) {
+            log.error("S3 파일 업로드 실패: {}", filePath, e);
+            throw new RuntimeException("파일 업로드에 실패했습니다.", e);
+        }
+    }
+    
     /**
      * 바이트 배열을 S3에 업로드합니다.
      */
     public void uploadFile(byte[] fileData, String filePath, String contentType) {
         try (ByteArrayInputStream inputStream = new ByteArrayInputStream(fileData)) {
-            uploadFile(inputStream, filePath, contentType);
+            uploadFile(inputStream, filePath, contentType, fileData.length);
         } catch (Exception e) {
             log.error("S3 파일 업로드 실패: {}", filePath, e);
             throw new RuntimeException("파일 업로드에 실패했습니다.", e);
         }
     }
     
+    /**
+     * 인코더가 출력 스트림에 쓴 내용을 S3에 업로드합니다.
+     * 인코딩 결과를 별도의 byte[]로 복사하지 않고 인코딩 버퍼를 그대로 업로드 스트림으로 사용합니다.
+     */
+    public void uploadEncoded(String filePath, String contentType, ContentWriter contentWriter) throws IOException {
+        EncodingBuffer buffer = new EncodingBuffer();
+        contentWriter.writeTo(buffer);
+        uploadFile(buffer.toInputStream(), filePath, contentType, buffer.size());
+    }
+    
     /**
      * S3에서 파일을 다운로드합니다.
      */
+    @Override
     public byte[] downloadFile(String filePath) {
         try {
             S3Object s3Object = amazonS3.getObject(bucketName, filePath);
@@ -76,6 +134,19 @@ public class S3FileService {
         }
     }
     
+    /**
+     * S3 파일을 스트림으로 엽니다.
+     * 전체 내용을 byte[]로 읽지 않으므로 호출자가 스트림을 닫아야 합니다.
+     */
+    public InputStream openFile(String filePath) {
+        try {
+            return amazonS3.getObject(bucketName, filePath).getObjectContent();
+        } catch (Exception e) {
+            log.error("S3 파일 다운로드 실패: {}", filePath, e);
+            throw new RuntimeException("파일 다운로드에 실패했습니다.", e);
+        }
+    }
+    
     /**
      * S3에서 파일을 삭제합니다.
      */
@@ -92,22 +163,78 @@ public class S3FileService {
     /**
      * 여러 파일을 S3에서 삭제합니다.
      */
-    public void deleteFiles(String... filePaths) {
+    public int deleteFiles(String... filePaths) {
+        return deleteFiles(Arrays.asList(filePaths));
+    }
+    
+    /**
+     * 여러 파일을 1000개씩 묶어 DeleteObjects 요청으로 삭제합니다.
+     * 일부 키 삭제에 실패해도 나머지 묶음은 계속 삭제하고, 실패한 키는 로그로 남깁니다.
+     */
+    @Override
+    public int deleteFiles(Collection<String> filePaths) {
+        List<String> keys = new ArrayList<>(new LinkedHashSet<>(filePaths));
+        int deleted = 0;
+        for (int from = 0; from < keys.size(); from += MAX_KEYS_PER_DELETE) {
+            List<String> batch = keys.subList(from, Math.min(from + MAX_KEYS_PER_DELETE, keys.size()));
+            deleted += deleteBatch(batch);
+        }
+        log.info("{}개의 파일이 S3에서 삭제되었습니다. (요청 {}개)", deleted, keys.size());
+        return deleted;
+    }
+    
+    /**
+     * 접두어마다 ListObjectsV2로 키를 모두 찾은 뒤 1000개씩 묶어 삭제합니다.
+     * 목록 조회에 실패한 접두어는 로그로 남기고 나머지 접두어는 계속 처리합니다.
+     */
+    @Override
+    public int deleteFilesByPrefix(Collection<String> prefixes) {
+        List<String> keys = new ArrayList<>();
+        for (String prefix : new LinkedHashSet<>(prefixes)) {
+            try {
+                keys.addAll(listKeys(prefix));
+            } catch (Exception e) {
+                log.error("S3 파일 목록 조회 실패: {}", prefix, e);
+            }
+        }
+        return keys.isEmpty() ? 0 : deleteFiles(keys);
+    }
+    
+    private List<String> listKeys(String prefix) {
+        List<String> keys = new ArrayList<>();
+        ListObjectsV2Request request = new ListObjectsV2Request()
+                .withBucketName(bucketName)
+                .withPrefix(prefix);
+        ListObjectsV2Result result;
+        do {
+            result = amazonS3.listObjectsV2(request);
+            result.getObjectSummaries().forEach(summary -> keys.add(summary.getKey()));
+            request.setContinuationToken(result.getNextContinuationToken());
+        } while (result.isTruncated());
+        return keys;
+    }
+    
+    private int deleteBatch(List<String> keys) {
+        DeleteObjectsRequest deleteObjectsRequest = new DeleteObjectsRequest(bucketName)
+                .withKeys(keys.toArray(String[]::new))
+                .withQuiet(true);
         try {
-            DeleteObjectsRequest deleteObjectsRequest = new DeleteObjectsRequest(bucketName);
-            deleteObjectsRequest.withKeys(filePaths);
-            
             amazonS3.deleteObjects(deleteObjectsRequest);
-            log.info("{}개의 파일이 S3에서 삭제되었습니다.", filePaths.length);
+            return keys.size();
+        } catch (MultiObjectDeleteException e) {
+            e.getErrors().forEach(error ->
+                    log.error("S3 파일 삭제 실패: {} ({})", error.getKey(), error.getCode()));
+            return keys.size() - e.getErrors().size();
         } catch (Exception e) {
-            log.error("S3 파일들 삭제 실패", e);
-            throw new RuntimeException("파일들 삭제에 실패했습니다.", e);
+            log.error("S3 파일들 삭제 실패: {}개 키 ({} ...)", keys.size(), keys.get(0), e);
+            return 0;
         }
     }
     
     /**
      * 파일 URL을 생성합니다.
      */
+    @Override
     public String generateFileUrl(String filePath) {
         return String.format("https://%s.s3.%s.amazonaws.com/%s", bucketName, region, filePath);
     }
@@ -115,6 +242,7 @@ public class S3FileService {
     /**
      * 파일 다운로드 URL을 생성합니다 (만료 시간 포함).
      */
+    @Override
     public String generateDownloadUrl(String filePath, String fileName) {
         try {
             Date expiration = new Date();
@@ -146,11 +274,11 @@ public class S3FileService {
     
     /**
      * 파일 크기를 가져옵니다.
+     * 객체 내용을 열지 않도록 HEAD 요청으로 메타데이터만 조회합니다.
      */
     public long getFileSize(String filePath) {
         try {
-            S3Object s3Object = amazonS3.getObject(bucketName, filePath);
-            return s3Object.getObjectMetadata().getContentLength();
+            return amazonS3.getObjectMetadata(bucketName, filePath).getContentLength();
         } catch (Exception e) {
             log.error("파일 크기 조회 실패: {}", filePath, e);
             throw new RuntimeException("파일 크기 조회에 실패했습니다.", e);
@@ -169,6 +297,27 @@ public class S3FileService {
         }
     }
     
+    /**
+     * 파일 메타데이터를 HEAD 요청으로 조회합니다. 파일이 없으면 빈 값을 반환합니다.
+     */
+    @Override
+    public Optional<StoredFileMetadata> findMetadata(String filePath) {
+        try {
+            ObjectMetadata metadata = amazonS3.getObjectMetadata(bucketName, filePath);
+            return Optional.of(new StoredFileMetadata(
+                    metadata.getContentLength(),
+                    metadata.getContentType(),
+                    metadata.getETag(),
+                    metadata.getLastModified() == null ? null : metadata.getLastModified().toInstant()));
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 404) {
+                return Optional.empty();
+            }
+            log.error("파일 메타데이터 조회 실패: {}", filePath, e);
+            throw new RuntimeException("파일 메타데이터 조회에 실패했습니다.", e);
+        }
+    }
+    
     /**
      * 파일을 복사합니다.
      */
@@ -183,4 +332,28 @@ public class S3FileService {
             throw new RuntimeException("파일 복사에 실패했습니다.", e);
         }
     }
-} 
\ No newline at end of file
+    
+    /**
+     * 출력 스트림에 업로드할 내용을 쓰는 인코더
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream outputStream) throws IOException;
+    }
+    
+    /**
+     * 내부 버퍼를 복사 없이 입력 스트림으로 노출하는 출력 버퍼
+     */
+    private static final class EncodingBuffer extends ByteArrayOutputStream {
+        
+        private static final int INITIAL_CAPACITY = 64 * 1024;
+        
+        EncodingBuffer() {
+            super(INITIAL_CAPACITY);
+        }
+        
+        InputStream toInputStream() {
+            return new ByteArrayInputStream(buf, 0, count);
+        }
+    }
+}
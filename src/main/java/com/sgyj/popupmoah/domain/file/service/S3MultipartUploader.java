@@ -0,0 +1,205 @@
+package com.sgyj.popupmoah.domain.file.service;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * S3 멀티파트 업로더
+ * 입력 스트림을 partSize 단위로 읽어 각 파트를 공용 워커 풀에서 병렬로 업로드합니다.
+ * 업로드 한 건이 동시에 메모리에 올리는 파트는 partConcurrency개로 제한되므로 파일 전체를 버퍼링하지 않으며,
+ * 한 파트라도 실패하면 남은 읽기를 멈추고 멀티파트 업로드를 중단(abort)하여 S3에 조각이 남지 않게 합니다.
+ * 첫 파트를 다 채우지 못하는 작은 스트림은 일반 PUT 한 번으로 올립니다.
+ */
+@Slf4j
+@Component
+public class S3MultipartUploader {
+
+    /**
+     * S3가 허용하는 최소 파트 크기 (마지막 파트 제외)
+     */
+    public static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    private final AmazonS3 amazonS3;
+    private final int partSize;
+    private final int partConcurrency;
+    private final ExecutorService executor;
+
+    public S3MultipartUploader(AmazonS3 amazonS3,
+                               @Value("${aws.s3.multipart.part-size-mb:8}") int partSizeMb,
+                               @Value("${aws.s3.multipart.part-concurrency:4}") int partConcurrency,
+                               @Value("${aws.s3.multipart.threads:8}") int threads) {
+        this(amazonS3, partSizeMb * 1024 * 1024, partConcurrency, newExecutor(threads));
+    }
+
+    S3MultipartUploader(AmazonS3 amazonS3, int partSize, int partConcurrency, ExecutorService executor) {
+        if (partSize < MIN_PART_SIZE) {
+            throw new IllegalArgumentException("멀티파트 파트 크기는 5MB 이상이어야 합니다: " + partSize);
+        }
+        if (partConcurrency <= 0) {
+            throw new IllegalArgumentException("파트 동시 업로드 수는 1 이상이어야 합니다: " + partConcurrency);
+        }
+        this.amazonS3 = amazonS3;
+        this.partSize = partSize;
+        this.partConcurrency = partConcurrency;
+        this.executor = executor;
+    }
+
+    /**
+     * 스트림을 끝까지 읽어 S3에 업로드합니다. 스트림은 호출자가 닫습니다.
+     */
+    public void upload(String bucketName, String key, InputStream inputStream, String contentType) throws IOException {
+        Semaphore inFlight = new Semaphore(partConcurrency);
+        inFlight.acquireUninterruptibly();
+        byte[] buffer = new byte[partSize];
+        int length = readFully(inputStream, buffer);
+        if (length < partSize) {
+            inFlight.release();
+            putSingle(bucketName, key, buffer, length, contentType);
+            return;
+        }
+
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+        String uploadId = amazonS3.initiateMultipartUpload(
+                new InitiateMultipartUploadRequest(bucketName, key, metadata)).getUploadId();
+
+        List<Future<PartETag>> parts = new ArrayList<>();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        try {
+            int partNumber = 1;
+            while (true) {
+                parts.add(submitPart(bucketName, key, uploadId, partNumber, buffer, length, inFlight, failure));
+                if (length < partSize) {
+                    break;
+                }
+                // 이전 파트가 끝나 자리가 날 때까지 다음 파트를 읽지 않음 (메모리 상한)
+                inFlight.acquire();
+                if (failure.get() != null) {
+                    inFlight.release();
+                    break;
+                }
+                buffer = new byte[partSize];
+                length = readFully(inputStream, buffer);
+                if (length == 0) {
+                    inFlight.release();
+                    break;
+                }
+                partNumber++;
+            }
+
+            List<PartETag> partETags = new ArrayList<>(parts.size());
+            for (Future<PartETag> part : parts) {
+                partETags.add(part.get());
+            }
+            amazonS3.completeMultipartUpload(new CompleteMultipartUploadRequest(bucketName, key, uploadId, partETags));
+            log.info("멀티파트 업로드 완료: {} ({}개 파트)", key, partETags.size());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abort(bucketName, key, uploadId, parts);
+            throw new IOException("멀티파트 업로드가 중단되었습니다: " + key, e);
+        } catch (ExecutionException e) {
+            abort(bucketName, key, uploadId, parts);
+            throw new IOException("멀티파트 파트 업로드에 실패했습니다: " + key, e.getCause());
+        } catch (IOException | RuntimeException e) {
+            abort(bucketName, key, uploadId, parts);
+            throw e;
+        }
+    }
+
+    private Future<PartETag> submitPart(String bucketName, String key, String uploadId, int partNumber,
+                                        byte[] buffer, int length, Semaphore inFlight,
+                                        AtomicReference<Throwable> failure) {
+        return executor.submit(() -> {
+            try {
+                // ByteArrayInputStream은 mark/reset을 지원하므로 SDK가 일시적 오류 시 파트를 다시 보낼 수 있음
+                UploadPartRequest request = new UploadPartRequest()
+                        .withBucketName(bucketName)
+                        .withKey(key)
+                        .withUploadId(uploadId)
+                        .withPartNumber(partNumber)
+                        .withPartSize(length)
+                        .withInputStream(new ByteArrayInputStream(buffer, 0, length));
+                return amazonS3.uploadPart(request).getPartETag();
+            } catch (RuntimeException e) {
+                failure.compareAndSet(null, e);
+                throw e;
+            } finally {
+                inFlight.release();
+            }
+        });
+    }
+
+    private void putSingle(String bucketName, String key, byte[] buffer, int length, String contentType) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+        metadata.setContentLength(length);
+        amazonS3.putObject(new PutObjectRequest(bucketName, key, new ByteArrayInputStream(buffer, 0, length), metadata));
+    }
+
+    private void abort(String bucketName, String key, String uploadId, List<Future<PartETag>> parts) {
+        parts.forEach(part -> part.cancel(true));
+        try {
+            amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(bucketName, key, uploadId));
+            log.warn("멀티파트 업로드 중단: {}", key);
+        } catch (RuntimeException e) {
+            // 버킷 수명 주기 규칙(AbortIncompleteMultipartUpload)이 남은 조각을 정리함
+            log.error("멀티파트 업로드 중단 실패: {} (uploadId={})", key, uploadId, e);
+        }
+    }
+
+    /**
+     * 버퍼가 가득 차거나 스트림이 끝날 때까지 읽고, 읽은 바이트 수를 반환합니다.
+     */
+    private static int readFully(InputStream inputStream, byte[] buffer) throws IOException {
+        int total = 0;
+        while (total < buffer.length) {
+            int read = inputStream.read(buffer, total, buffer.length - total);
+            if (read < 0) {
+                break;
+            }
+            total += read;
+        }
+        return total;
+    }
+
+    private static ExecutorService newExecutor(int threads) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        // 큐가 가득 차면 호출 스레드가 직접 업로드하여 자연스럽게 속도를 늦춤
+        return new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(threads * 4), runnable -> {
+                    Thread thread = new Thread(runnable, "s3-part-upload-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -55,6 +55,63 @@ public class CdnConfig {
         private String quality = "80";
     }
 
+    /**
+     * 요청 시 생성하는 반응형 이미지 설정
+     */
+    private Renditions renditions = new Renditions();
+
+    @Data
+    public static class Renditions {
+        /**
+         * 생성을 허용하는 너비 목록 (요청 너비는 이 중 가장 가까운 큰 값으로 맞춤)
+         */
+        private int[] widths = {160, 320, 640, 960, 1280};
+
+        /**
+         * 생성을 허용하는 포맷
+         */
+        private String[] formats = {"jpeg", "png"};
+
+        /**
+         * JPEG 품질 (백분율)
+         */
+        private String quality = "80";
+
+        /**
+         * 로컬 디스크 캐시 디렉터리
+         */
+        private String cacheDir = System.getProperty("java.io.tmpdir") + "/popupmoah/renditions";
+
+        /**
+         * 로컬 디스크 캐시 최대 크기 (MB)
+         */
+        private long cacheMaxSizeMb = 512;
+
+        /**
+         * 동시에 생성할 수 있는 최대 이미지 수
+         */
+        private int maxConcurrentGenerations = 4;
+    }
+
+    /**
+     * CDN 없이 이 서버가 직접 이미지를 제공할 때의 설정
+     * 단일 노드에서는 base-url을 로컬 제공 경로(예: http://localhost:8080/api/images/local)로 지정합니다.
+     */
+    private Local local = new Local();
+
+    @Data
+    public static class Local {
+        /**
+         * 업로드 이미지를 저장하는 로컬 디렉터리
+         */
+        private String root = "uploads";
+
+        /**
+         * 로컬 이미지 응답의 캐시 유지 기간 (일). 파일명이 UUID라 내용이 바뀌지 않으므로 길게 둡니다.
+         */
+        private long maxAgeDays = 365;
+    }
+
     /**
      * 전체 이미지 URL 생성
      */
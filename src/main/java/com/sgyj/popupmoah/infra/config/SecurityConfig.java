@@ -64,6 +64,8 @@ public class SecurityConfig {
                     "/api/popupstores/{id}/unlike",
                     "/api/community/reviews/**",
                     "/api/community/posts/**",
+                    "/api/images/local/**",
+                    "/api/images/*/rendition",
                     "/actuator/**",
                     "/swagger-ui/**",
                     "/v3/api-docs/**",
@@ -1,14 +1,28 @@
 package com.sgyj.popupmoah.infra.controller;
 
 import com.sgyj.popupmoah.infra.service.ImageCdnService;
+import com.sgyj.popupmoah.infra.service.LocalImageFileService;
+import com.sgyj.popupmoah.infra.service.ResponsiveImageService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.AntPathMatcher;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.HandlerMapping;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 이미지 업로드 및 관리 컨트롤러
@@ -20,6 +34,10 @@ import java.util.Map;
 public class ImageController {
 
     private final ImageCdnService imageCdnService;
+    private final ResponsiveImageService responsiveImageService;
+    private final LocalImageFileService localImageFileService;
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
 
     /**
      * 이미지 업로드
@@ -79,6 +97,54 @@ public class ImageController {
         }
     }
 
+    /**
+     * 반응형 이미지 조회
+     * 요청한 너비/포맷의 파생 이미지를 필요할 때 생성하여 반환합니다.
+     * 같은 (파일, 너비, 포맷)의 결과는 바뀌지 않으므로 클라이언트와 CDN이 오래 캐시하도록 합니다.
+     */
+    @GetMapping("/{fileId}/rendition")
+    public ResponseEntity<Resource> getRendition(
+            @PathVariable Long fileId,
+            @RequestParam("width") int width,
+            @RequestParam(value = "format", defaultValue = "jpeg") String format) {
+        
+        try {
+            ResponsiveImageService.Rendition rendition = responsiveImageService.getRendition(fileId, width, format);
+            
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(rendition.contentType()))
+                    .contentLength(rendition.contentLength())
+                    .cacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic())
+                    // 이미 열린 스트림을 넘기므로 전송 중 디스크 캐시에서 밀려나도 응답이 끊기지 않음 (전송 후 컨버터가 닫음)
+                    .body(new InputStreamResource(rendition.inputStream()));
+            
+        } catch (IllegalArgumentException e) {
+            log.warn("반응형 이미지 요청 오류: fileId={}, {}", fileId, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IOException e) {
+            log.error("반응형 이미지 생성 실패: fileId={}, width={}, format={}", fileId, width, format, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * 로컬에 저장된 이미지 제공
+     * CDN 없이 운영할 때 업로드 경로(예: /images/general/uuid.jpg)를 이 경로 뒤에 붙여 요청합니다.
+     * Range 요청과 ETag/Last-Modified 조건부 요청을 지원하며, 재검증은 본문 없이 304로 응답합니다.
+     */
+    @RequestMapping(value = "/local/**", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void getLocalImage(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String pattern = (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String path = (String) request.getAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE);
+        try {
+            localImageFileService.serve(pathMatcher.extractPathWithinPattern(pattern, path), request, response);
+        } catch (NoSuchElementException e) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+        }
+    }
+
     /**
      * 이미지 삭제
      */
@@ -10,9 +10,9 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.util.Arrays;
 import java.util.UUID;
+import java.util.regex.Pattern;
 
 /**
  * 이미지 CDN 서비스
@@ -23,6 +23,8 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class ImageCdnService {
 
+    private static final Pattern CATEGORY_PATTERN = Pattern.compile("[A-Za-z0-9_-]{1,50}");
+
     private final CdnConfig cdnConfig;
 
     /**
@@ -32,6 +34,7 @@ public class ImageCdnService {
         try {
             // 파일 유효성 검사
             validateImageFile(file);
+            validateCategory(category);
 
             // 파일명 생성
             String originalFilename = file.getOriginalFilename();
@@ -40,13 +43,13 @@ public class ImageCdnService {
 
             // 업로드 경로 생성
             String uploadPath = cdnConfig.getImagePath() + "/" + category;
-            Path targetPath = Paths.get("uploads" + uploadPath, filename);
+            Path targetPath = resolveLocalPath(uploadPath + "/" + filename);
 
             // 디렉토리 생성
             Files.createDirectories(targetPath.getParent());
 
-            // 파일 저장
-            Files.copy(file.getInputStream(), targetPath, StandardCopyOption.REPLACE_EXISTING);
+            // 파일 저장 (멀티파트 임시 파일이 같은 파일 시스템에 있으면 복사 없이 이동)
+            file.transferTo(targetPath);
 
             // CDN URL 반환
             String imageUrl = uploadPath + "/" + filename;
@@ -80,7 +83,7 @@ public class ImageCdnService {
     public void deleteImage(String imagePath) {
         try {
             if (imagePath != null && !imagePath.isEmpty()) {
-                Path filePath = Paths.get("uploads" + imagePath);
+                Path filePath = resolveLocalPath(imagePath);
                 if (Files.exists(filePath)) {
                     Files.delete(filePath);
                     log.info("이미지 삭제 완료: {}", imagePath);
@@ -121,6 +124,27 @@ public class ImageCdnService {
         }
     }
 
+    /**
+     * 카테고리는 경로의 한 단계로 쓰이므로 디렉터리 이동 문자를 허용하지 않음
+     */
+    private void validateCategory(String category) {
+        if (category == null || !CATEGORY_PATTERN.matcher(category).matches()) {
+            throw new IllegalArgumentException("카테고리는 영문, 숫자, '_', '-'만 사용할 수 있습니다.");
+        }
+    }
+
+    /**
+     * 이미지 경로를 로컬 저장 디렉터리 안의 경로로 변환
+     */
+    private Path resolveLocalPath(String imagePath) {
+        Path root = Paths.get(cdnConfig.getLocal().getRoot()).toAbsolutePath().normalize();
+        Path path = root.resolve(imagePath.startsWith("/") ? imagePath.substring(1) : imagePath).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("올바르지 않은 이미지 경로입니다: " + imagePath);
+        }
+        return path;
+    }
+
     /**
      * 파일 확장자 추출
      */
@@ -0,0 +1,271 @@
+package com.sgyj.popupmoah.infra.service;
+
+import com.sgyj.popupmoah.infra.config.CdnConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로컬 이미지 파일 제공 서비스
+ * ImageCdnService가 로컬 디렉터리에 저장한 이미지를 CDN 없이 직접 응답합니다.
+ * 본문은 힙으로 복사하지 않고 Tomcat sendfile(지원 시) 또는 FileChannel.transferTo로 보내며,
+ * 단일 Range 요청, 강한 ETag/Last-Modified 검증자와 조건부 요청(304)을 지원합니다.
+ */
+@Slf4j
+@Service
+public class LocalImageFileService {
+
+    /** Tomcat 커넥터가 sendfile을 지원할 때 요청에 붙이는 속성 */
+    static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final Path root;
+    private final String cacheControl;
+    private final MeterRegistry meterRegistry;
+
+    public LocalImageFileService(CdnConfig cdnConfig, MeterRegistry meterRegistry) {
+        CdnConfig.Local config = cdnConfig.getLocal();
+        this.root = Paths.get(config.getRoot()).toAbsolutePath().normalize();
+        this.cacheControl = CacheControl.maxAge(config.getMaxAgeDays(), TimeUnit.DAYS)
+                .cachePublic()
+                .immutable()
+                .getHeaderValue();
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 저장 디렉터리 기준 상대 경로의 이미지를 찾습니다.
+     * 디렉터리 밖을 가리키거나 일반 파일이 아니면 NoSuchElementException을 던집니다.
+     */
+    public LocalImage resolve(String relativePath) throws IOException {
+        Path path = root.resolve(stripLeadingSlash(relativePath)).normalize();
+        if (!path.startsWith(root)) {
+            throw new NoSuchElementException("이미지를 찾을 수 없습니다: " + relativePath);
+        }
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+        } catch (NoSuchFileException e) {
+            throw new NoSuchElementException("이미지를 찾을 수 없습니다: " + relativePath);
+        }
+        if (!attributes.isRegularFile()) {
+            throw new NoSuchElementException("이미지를 찾을 수 없습니다: " + relativePath);
+        }
+        long size = attributes.size();
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        String contentType = MediaTypeFactory.getMediaType(path.getFileName().toString())
+                .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                .toString();
+        return new LocalImage(path, size, lastModified, contentType,
+                "\"" + Long.toHexString(size) + "-" + Long.toHexString(lastModified) + "\"");
+    }
+
+    /**
+     * 이미지를 응답합니다. GET/HEAD, 조건부 요청, 단일 Range 요청을 처리합니다.
+     */
+    public void serve(String relativePath, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        LocalImage image = resolve(relativePath);
+
+        response.setHeader(HttpHeaders.ETAG, image.eTag());
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, image.lastModified());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (isNotModified(request, image)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            record("not_modified");
+            return;
+        }
+
+        ByteRange range = rangeApplies(request, image)
+                ? ByteRange.parse(request.getHeader(HttpHeaders.RANGE), image.size())
+                : null;
+        if (range == ByteRange.UNSATISFIABLE) {
+            response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + image.size());
+            record("unsatisfiable");
+            return;
+        }
+        if (range == null) {
+            range = new ByteRange(0, image.size() - 1);
+            response.setStatus(HttpServletResponse.SC_OK);
+            record("full");
+        } else {
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE,
+                    "bytes " + range.start() + "-" + range.end() + "/" + image.size());
+            record("partial");
+        }
+        response.setContentType(image.contentType());
+        response.setContentLengthLong(range.length());
+
+        if ("HEAD".equalsIgnoreCase(request.getMethod()) || range.length() == 0) {
+            return;
+        }
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            // 커넥터가 응답 후 커널 sendfile로 파일을 직접 소켓에 씀
+            request.setAttribute(SENDFILE_FILENAME, image.path().toString());
+            request.setAttribute(SENDFILE_START, range.start());
+            request.setAttribute(SENDFILE_END, range.end() + 1);
+            return;
+        }
+        transfer(image.path(), range, response);
+    }
+
+    private void transfer(Path path, ByteRange range, HttpServletResponse response) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+            long position = range.start();
+            long remaining = range.length();
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, target);
+                if (transferred <= 0) {
+                    // 응답 중 파일이 잘린 경우
+                    log.warn("로컬 이미지 전송 중단: {} ({}바이트 남음)", path, remaining);
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+
+    /**
+     * If-None-Match가 있으면 그것만, 없으면 If-Modified-Since로 판단합니다.
+     */
+    private boolean isNotModified(HttpServletRequest request, LocalImage image) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            for (String tag : ifNoneMatch.split(",")) {
+                String candidate = tag.trim();
+                if (candidate.startsWith("W/")) {
+                    candidate = candidate.substring(2);
+                }
+                if ("*".equals(candidate) || image.eTag().equals(candidate)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        long ifModifiedSince = dateHeader(request, HttpHeaders.IF_MODIFIED_SINCE);
+        return ifModifiedSince >= 0 && truncateToSeconds(image.lastModified()) <= ifModifiedSince;
+    }
+
+    /**
+     * If-Range가 현재 파일과 맞을 때만 Range를 적용합니다 (바뀐 파일의 일부를 이어 받지 않도록).
+     */
+    private boolean rangeApplies(HttpServletRequest request, LocalImage image) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            // Range 적용 여부는 강한 비교로만 판단
+            return image.eTag().equals(ifRange.trim());
+        }
+        long date = dateHeader(request, HttpHeaders.IF_RANGE);
+        return date >= 0 && truncateToSeconds(image.lastModified()) <= date;
+    }
+
+    private void record(String result) {
+        meterRegistry.counter("image.local.requests", "result", result).increment();
+    }
+
+    private static long dateHeader(HttpServletRequest request, String name) {
+        try {
+            return request.getDateHeader(name);
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    private static long truncateToSeconds(long millis) {
+        return millis / 1000 * 1000;
+    }
+
+    private static String stripLeadingSlash(String relativePath) {
+        String path = relativePath == null ? "" : relativePath;
+        while (path.startsWith("/")) {
+            path = path.substring(1);
+        }
+        return path;
+    }
+
+    /**
+     * 로컬 이미지 파일 정보
+     */
+    public record LocalImage(Path path, long size, long lastModified, String contentType, String eTag) {
+    }
+
+    /**
+     * 응답할 바이트 범위 (양 끝 포함)
+     */
+    record ByteRange(long start, long end) {
+
+        static final ByteRange UNSATISFIABLE = new ByteRange(-1, -2);
+
+        long length() {
+            return end - start + 1;
+        }
+
+        /**
+         * 단일 범위 Range 헤더를 해석합니다.
+         * 헤더가 없거나 형식이 잘못되었거나 여러 범위이면 null(전체 응답)을, 만족할 수 없으면 UNSATISFIABLE을 반환합니다.
+         */
+        static ByteRange parse(String header, long size) {
+            if (header == null || !header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+                return null;
+            }
+            String spec = header.substring("bytes=".length()).trim();
+            int dash = spec.indexOf('-');
+            if (dash < 0) {
+                return null;
+            }
+            try {
+                String first = spec.substring(0, dash).trim();
+                String last = spec.substring(dash + 1).trim();
+                if (first.isEmpty()) {
+                    // 마지막 n바이트
+                    long suffixLength = Long.parseLong(last);
+                    if (suffixLength <= 0 || size == 0) {
+                        return UNSATISFIABLE;
+                    }
+                    return new ByteRange(Math.max(0, size - suffixLength), size - 1);
+                }
+                long start = Long.parseLong(first);
+                long end = last.isEmpty() ? size - 1 : Long.parseLong(last);
+                if (start < 0 || end < start) {
+                    return null;
+                }
+                if (start >= size) {
+                    return UNSATISFIABLE;
+                }
+                return new ByteRange(start, Math.min(end, size - 1));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+}
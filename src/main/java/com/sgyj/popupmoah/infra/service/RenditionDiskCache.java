@@ -0,0 +1,187 @@
+package com.sgyj.popupmoah.infra.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 파생 이미지 로컬 디스크 LRU 캐시
+ * 파일 크기 합계가 최대 크기를 넘으면 가장 오래 사용하지 않은 파일부터 지웁니다.
+ * 파일은 임시 파일에 끝까지 쓴 뒤 원자적으로 옮겨 넣으므로, 읽는 쪽은 항상 완성된 파일만 봅니다.
+ * 응답으로 내보낼 파일은 open/putAndOpen으로 캐시 잠금 안에서 열어, 전송 도중 밀려나 지워져도 끝까지 읽을 수 있게 합니다.
+ */
+@Slf4j
+public class RenditionDiskCache {
+
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path directory;
+    private final long maxBytes;
+
+    /** 파일 이름 -> 크기 (접근 순서) */
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    public RenditionDiskCache(Path directory, long maxBytes) throws IOException {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("캐시 최대 크기는 0보다 커야 합니다: " + maxBytes);
+        }
+        this.directory = Files.createDirectories(directory);
+        this.maxBytes = maxBytes;
+        loadExisting();
+    }
+
+    /**
+     * 캐시된 파일 경로를 반환합니다. 없으면 null을 반환합니다.
+     */
+    public synchronized Path get(String name) {
+        Long size = entries.get(name);
+        if (size == null) {
+            return null;
+        }
+        Path path = directory.resolve(name);
+        if (!Files.exists(path)) {
+            entries.remove(name);
+            totalBytes -= size;
+            return null;
+        }
+        return path;
+    }
+
+    /**
+     * 캐시된 파일을 열어 반환합니다. 없으면 null을 반환합니다.
+     * 잠금 안에서 열기 때문에 반환 뒤에 다른 요청이 이 파일을 밀어내도 스트림은 계속 읽을 수 있습니다.
+     */
+    public synchronized CachedFile open(String name) throws IOException {
+        Path path = get(name);
+        if (path == null) {
+            return null;
+        }
+        return new CachedFile(Files.newInputStream(path), entries.get(name));
+    }
+
+    /**
+     * 캐시에 넣을 내용을 쓸 임시 파일을 만듭니다.
+     */
+    public Path newTempFile() throws IOException {
+        return Files.createTempFile(directory, "rendition-", TEMP_SUFFIX);
+    }
+
+    /**
+     * 완성된 임시 파일을 캐시에 넣고 최대 크기를 넘는 만큼 오래된 파일을 지웁니다.
+     */
+    public synchronized Path put(String name, Path tempFile) throws IOException {
+        long size = Files.size(tempFile);
+        Path target = directory.resolve(name);
+        Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        Long previous = entries.put(name, size);
+        totalBytes += size - (previous == null ? 0 : previous);
+        evict(name);
+        return target;
+    }
+
+    /**
+     * 완성된 임시 파일을 캐시에 넣고, 다른 요청이 밀어내기 전에 같은 잠금 안에서 엽니다.
+     */
+    public synchronized CachedFile putAndOpen(String name, Path tempFile) throws IOException {
+        Path target = put(name, tempFile);
+        return new CachedFile(Files.newInputStream(target), entries.get(name));
+    }
+
+    /**
+     * 이름이 접두사로 시작하는 파일을 모두 지웁니다.
+     */
+    public synchronized void removeByPrefix(String prefix) {
+        Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Long> entry = iterator.next();
+            if (entry.getKey().startsWith(prefix)) {
+                iterator.remove();
+                totalBytes -= entry.getValue();
+                delete(entry.getKey());
+            }
+        }
+    }
+
+    public synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private void evict(String keep) {
+        Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            Map.Entry<String, Long> eldest = iterator.next();
+            if (eldest.getKey().equals(keep)) {
+                continue;
+            }
+            iterator.remove();
+            totalBytes -= eldest.getValue();
+            delete(eldest.getKey());
+        }
+    }
+
+    private void delete(String name) {
+        try {
+            // 이미 열려 있는 파일은 지워도 읽던 쪽이 끝까지 읽을 수 있음
+            Files.deleteIfExists(directory.resolve(name));
+        } catch (IOException e) {
+            log.warn("캐시 파일 삭제 실패: {}", name, e);
+        }
+    }
+
+    /**
+     * 재시작 전에 남아 있던 파일을 마지막 수정 시각 순으로 다시 등록합니다.
+     */
+    private void loadExisting() throws IOException {
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(directory)) {
+            files = stream.filter(Files::isRegularFile).toList();
+        }
+        files.stream()
+                .filter(path -> path.getFileName().toString().endsWith(TEMP_SUFFIX))
+                .forEach(path -> delete(path.getFileName().toString()));
+        files.stream()
+                .filter(path -> !path.getFileName().toString().endsWith(TEMP_SUFFIX))
+                .sorted(Comparator.comparing(RenditionDiskCache::lastModified))
+                .forEach(path -> {
+                    try {
+                        long size = Files.size(path);
+                        entries.put(path.getFileName().toString(), size);
+                        totalBytes += size;
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+        evict(null);
+    }
+
+    private static FileTime lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 열린 캐시 파일과 크기
+     */
+    public record CachedFile(InputStream inputStream, long size) {
+    }
+}
@@ -0,0 +1,285 @@
+package com.sgyj.popupmoah.infra.service;
+
+import com.sgyj.popupmoah.domain.file.entity.FileUpload;
+import com.sgyj.popupmoah.domain.file.port.FileUploadRepositoryPort;
+import com.sgyj.popupmoah.domain.file.port.RenditionCachePort;
+import com.sgyj.popupmoah.domain.file.service.ImageOptimizationService;
+import com.sgyj.popupmoah.domain.file.service.ImageRenditionService;
+import com.sgyj.popupmoah.domain.file.service.S3FileService;
+import com.sgyj.popupmoah.infra.config.CdnConfig;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 반응형 이미지 서비스
+ * (파일 ID, 너비, 포맷) 단위의 파생 이미지를 요청 시 생성합니다.
+ * 로컬 디스크 LRU 캐시 -> S3에 저장된 파생 이미지 -> 원본에서 생성 순으로 찾고,
+ * 같은 파생 이미지에 대한 동시 요청은 하나의 생성 작업 결과를 함께 기다립니다.
+ * 캐시에 있어도 원본 파일이 삭제/비활성화되었으면 제공하지 않습니다.
+ */
+@Slf4j
+@Service
+public class ResponsiveImageService implements RenditionCachePort {
+
+    private final FileUploadRepositoryPort fileUploadRepositoryPort;
+    private final S3FileService s3FileService;
+    private final ImageOptimizationService imageOptimizationService;
+    private final int[] widths;
+    private final Set<String> formats;
+    private final float quality;
+    private final RenditionDiskCache diskCache;
+    private final Semaphore generationPermits;
+
+    private final ConcurrentHashMap<RenditionKey, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+    private final MeterRegistry meterRegistry;
+
+    public ResponsiveImageService(FileUploadRepositoryPort fileUploadRepositoryPort,
+                                  S3FileService s3FileService,
+                                  ImageOptimizationService imageOptimizationService,
+                                  CdnConfig cdnConfig,
+                                  MeterRegistry meterRegistry) throws IOException {
+        CdnConfig.Renditions config = cdnConfig.getRenditions();
+        this.fileUploadRepositoryPort = fileUploadRepositoryPort;
+        this.s3FileService = s3FileService;
+        this.imageOptimizationService = imageOptimizationService;
+        this.widths = Arrays.stream(config.getWidths()).filter(width -> width > 0).sorted().distinct().toArray();
+        if (widths.length == 0) {
+            throw new IllegalArgumentException("반응형 이미지 너비가 설정되지 않았습니다.");
+        }
+        this.formats = supportedFormats(config.getFormats());
+        this.quality = ImageRenditionService.toQuality(config.getQuality());
+        this.diskCache = new RenditionDiskCache(Paths.get(config.getCacheDir()), config.getCacheMaxSizeMb() * 1024 * 1024);
+        this.generationPermits = new Semaphore(config.getMaxConcurrentGenerations());
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("image.rendition.cache.bytes", diskCache, RenditionDiskCache::getTotalBytes)
+                .description("반응형 이미지 디스크 캐시 사용량")
+                .register(meterRegistry);
+        Gauge.builder("image.rendition.cache.entries", diskCache, RenditionDiskCache::size)
+                .description("반응형 이미지 디스크 캐시 파일 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 파생 이미지를 조회합니다.
+     * 요청 너비는 설정된 너비 중 같거나 큰 가장 작은 값으로 맞추므로, 캐시 키 수는 설정된 너비 수로 제한됩니다.
+     * 반환하는 스트림은 디스크 캐시 잠금 안에서 연 것이므로, 전송 중에 캐시에서 밀려나도 끝까지 읽을 수 있습니다.
+     * 호출한 쪽에서 스트림을 닫아야 합니다.
+     * 다른 노드에서 삭제/비활성화된 파일의 캐시는 이 노드에 남아 있을 수 있으므로, 캐시를 보기 전에 파일 상태를 확인합니다.
+     */
+    public Rendition getRendition(Long fileId, int requestedWidth, String format) throws IOException {
+        RenditionKey key = new RenditionKey(fileId, resolveWidth(requestedWidth), resolveFormat(format));
+        FileUpload fileUpload = findServableImage(fileId);
+
+        RenditionDiskCache.CachedFile cached = diskCache.open(key.fileName());
+        if (cached != null) {
+            record("disk");
+            return new Rendition(cached.inputStream(), cached.size(), key.contentType());
+        }
+
+        CompletableFuture<Void> flight = new CompletableFuture<>();
+        CompletableFuture<Void> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            record("joined");
+            await(existing);
+            cached = diskCache.open(key.fileName());
+            if (cached == null) {
+                // 기다리는 사이 캐시에서 밀려난 경우 S3 또는 원본에서 다시 가져옴
+                cached = load(key, fileUpload);
+            }
+            return new Rendition(cached.inputStream(), cached.size(), key.contentType());
+        }
+        try {
+            cached = load(key, fileUpload);
+            flight.complete(null);
+            return new Rendition(cached.inputStream(), cached.size(), key.contentType());
+        } catch (IOException | RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * 파일의 파생 이미지를 로컬 캐시에서 지웁니다.
+     */
+    @Override
+    public void evict(Long fileUploadId) {
+        diskCache.removeByPrefix(fileUploadId + "_");
+    }
+
+    private FileUpload findServableImage(Long fileId) {
+        return fileUploadRepositoryPort.findById(fileId)
+                .filter(FileUpload::isActive)
+                .filter(FileUpload::isImage)
+                .orElseThrow(() -> new NoSuchElementException("이미지 파일을 찾을 수 없습니다: " + fileId));
+    }
+
+    private RenditionDiskCache.CachedFile load(RenditionKey key, FileUpload fileUpload) throws IOException {
+        // 앞선 생성 작업이 방금 끝난 경우
+        RenditionDiskCache.CachedFile cached = diskCache.open(key.fileName());
+        if (cached != null) {
+            record("disk");
+            return cached;
+        }
+
+        Path tempFile = diskCache.newTempFile();
+        try {
+            if (s3FileService.fileExists(key.storagePath())) {
+                try (InputStream inputStream = s3FileService.openFile(key.storagePath())) {
+                    Files.copy(inputStream, tempFile, StandardCopyOption.REPLACE_EXISTING);
+                }
+                record("storage");
+            } else {
+                generate(key, fileUpload, tempFile);
+                record("generated");
+            }
+            return diskCache.putAndOpen(key.fileName(), tempFile);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+    }
+
+    private void generate(RenditionKey key, FileUpload fileUpload, Path tempFile) throws IOException {
+        // 디코딩된 원본이 메모리에 동시에 너무 많이 올라가지 않도록 동시 생성 수를 제한
+        generationPermits.acquireUninterruptibly();
+        try {
+            BufferedImage image;
+            try (InputStream inputStream = s3FileService.openFile(fileUpload.getFilePath())) {
+                image = imageOptimizationService.decode(inputStream, key.width());
+            }
+            try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+                imageOptimizationService.writeScaledToWidth(image, key.width(), key.format(), quality, outputStream);
+            }
+        } finally {
+            generationPermits.release();
+        }
+
+        // 다른 인스턴스와 로컬 캐시에서 밀려난 뒤를 위해 S3에도 저장 (실패해도 응답은 계속)
+        try (InputStream inputStream = Files.newInputStream(tempFile)) {
+            s3FileService.uploadFile(inputStream, key.storagePath(), key.contentType(), Files.size(tempFile));
+        } catch (RuntimeException e) {
+            log.warn("반응형 이미지 S3 저장 실패: {}", key.storagePath(), e);
+        }
+    }
+
+    private int resolveWidth(int requestedWidth) {
+        if (requestedWidth <= 0) {
+            throw new IllegalArgumentException("이미지 너비는 1 이상이어야 합니다: " + requestedWidth);
+        }
+        for (int width : widths) {
+            if (width >= requestedWidth) {
+                return width;
+            }
+        }
+        return widths[widths.length - 1];
+    }
+
+    private String resolveFormat(String format) {
+        String normalized = format == null ? "jpeg" : format.toLowerCase(Locale.ROOT);
+        if ("jpg".equals(normalized)) {
+            normalized = "jpeg";
+        }
+        if (!formats.contains(normalized)) {
+            throw new IllegalArgumentException("지원하지 않는 이미지 포맷입니다: " + format);
+        }
+        return normalized;
+    }
+
+    private void await(CompletableFuture<Void> flight) throws IOException {
+        try {
+            flight.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private void record(String source) {
+        meterRegistry.counter("image.rendition.requests", "source", source).increment();
+    }
+
+    /**
+     * 설정된 포맷 중 이 JVM에 인코더가 있는 포맷만 사용합니다 (예: 기본 JDK에는 WebP 인코더가 없음).
+     */
+    private static Set<String> supportedFormats(String[] configured) {
+        Set<String> supported = new LinkedHashSet<>();
+        for (String format : configured) {
+            String normalized = format.toLowerCase(Locale.ROOT);
+            if (ImageIO.getImageWritersByFormatName(normalized).hasNext()) {
+                supported.add(normalized);
+            } else {
+                log.warn("인코더가 없어 반응형 이미지 포맷에서 제외합니다: {}", format);
+            }
+        }
+        if (supported.isEmpty()) {
+            throw new IllegalArgumentException("사용할 수 있는 반응형 이미지 포맷이 없습니다.");
+        }
+        return supported;
+    }
+
+    /**
+     * 파생 이미지 키
+     */
+    record RenditionKey(Long fileId, int width, String format) {
+
+        String fileName() {
+            return fileId + "_w" + width + "." + extension();
+        }
+
+        String storagePath() {
+            return FileUpload.renditionPrefix(fileId) + "w" + width + "." + extension();
+        }
+
+        String extension() {
+            return "jpeg".equals(format) ? "jpg" : format;
+        }
+
+        String contentType() {
+            return "image/" + format;
+        }
+    }
+
+    /**
+     * 열린 파생 이미지 스트림, 크기, 콘텐츠 타입
+     */
+    public record Rendition(InputStream inputStream, long contentLength, String contentType) implements Closeable {
+
+        @Override
+        public void close() throws IOException {
+            inputStream.close();
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.sgyj.popupmoah.infrastructure.config;
 
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
 import lombok.extern.slf4j.Slf4j;
@@ -26,8 +27,25 @@ public class S3Configuration {
     @Value("${aws.s3.region}")
     private String region;
 
+    /**
+     * S3 호환 엔드포인트 (비어 있으면 AWS S3, 로컬 부하 테스트에서는 popupmoah-loadtest의 내장 서버)
+     */
+    @Value("${aws.s3.endpoint:}")
+    private String endpoint;
+
     @Bean
     public AmazonS3 amazonS3() {
+        if (!endpoint.isEmpty()) {
+            log.info("S3 호환 엔드포인트를 사용합니다: {}", endpoint);
+            return AmazonS3ClientBuilder.standard()
+                    .withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, region))
+                    .withPathStyleAccessEnabled(true)
+                    // 청크 서명 인코딩 없이 본문을 그대로 전송
+                    .disableChunkedEncoding()
+                    .withCredentials(new AWSStaticCredentialsProvider(new BasicAWSCredentials(accessKey, secretKey)))
+                    .build();
+        }
+
         // 로컬 개발 환경에서는 기본 자격 증명 체인 사용
         if (accessKey.isEmpty() || secretKey.isEmpty()) {
             log.info("AWS 자격 증명이 설정되지 않았습니다. 기본 자격 증명 체인을 사용합니다.");
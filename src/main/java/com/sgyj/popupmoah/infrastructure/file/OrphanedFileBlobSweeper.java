@@ -0,0 +1,54 @@
+package com.sgyj.popupmoah.infrastructure.file;
+
+import com.sgyj.popupmoah.domain.file.service.FileBlobCleanupService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 참조가 없는 파일 내용 주기 정리
+ * 내용 행은 업로드 트랜잭션과 별도로 만들어지므로 업로드가 롤백되면 참조 수 0인 행과 저장소 파일이 남습니다.
+ * 이런 행과 커밋 후 정리에 실패한 행을, 진행 중인 업로드가 참조를 올릴 시간(grace)이 지난 뒤에 지웁니다.
+ */
+@Slf4j
+@Component
+public class OrphanedFileBlobSweeper {
+
+    private final FileBlobCleanupService fileBlobCleanupService;
+    private final Duration grace;
+    private final int batchSize;
+
+    public OrphanedFileBlobSweeper(FileBlobCleanupService fileBlobCleanupService,
+                                   @Value("${file.blob.orphan-grace-minutes:60}") long graceMinutes,
+                                   @Value("${file.blob.sweep-batch-size:100}") int batchSize) {
+        if (graceMinutes < 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("정리 유예 시간은 0 이상, 한 번에 정리할 수는 1 이상이어야 합니다.");
+        }
+        this.fileBlobCleanupService = fileBlobCleanupService;
+        this.grace = Duration.ofMinutes(graceMinutes);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${file.blob.sweep-interval-ms:600000}")
+    public void sweep() {
+        LocalDateTime createdBefore = LocalDateTime.now().minus(grace);
+        int total = 0;
+        try {
+            int deleted;
+            do {
+                // 한 번에 잠그는 행 수를 제한하여 같은 내용을 올리는 업로드가 오래 기다리지 않도록 함
+                deleted = fileBlobCleanupService.sweep(createdBefore, batchSize);
+                total += deleted;
+            } while (deleted == batchSize);
+        } catch (RuntimeException e) {
+            log.warn("참조가 없는 파일 내용 정리 실패", e);
+        }
+        if (total > 0) {
+            log.info("참조가 없는 파일 내용 정리: {}개", total);
+        }
+    }
+}
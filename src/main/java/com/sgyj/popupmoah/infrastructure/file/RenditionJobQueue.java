@@ -0,0 +1,280 @@
+package com.sgyj.popupmoah.infrastructure.file;
+
+import com.sgyj.popupmoah.adapter.persistence.file.RenditionJobJpaEntity;
+import com.sgyj.popupmoah.adapter.persistence.file.RenditionJobJpaRepository;
+import com.sgyj.popupmoah.domain.file.exception.RenditionQueueFullException;
+import com.sgyj.popupmoah.domain.file.port.RenditionQueuePort;
+import com.sgyj.popupmoah.domain.file.service.ImageRenditionService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * DB 아웃박스 기반 파생 이미지 생성 대기열
+ * 업로드 트랜잭션에서 작업 행을 저장하고, 주기적으로 처리 가능한 작업을 조건부 UPDATE로 점유하여
+ * 고정 크기 워커 풀에서 실행합니다. 점유는 lease 기한이 있어 처리 중 서버가 죽어도 다른 인스턴스가 이어받습니다.
+ * 점유마다 새 토큰을 발급해 완료/재시도/실패 처리는 그 토큰으로 아직 점유 중일 때만 반영하므로,
+ * 기한이 지나 다른 워커가 이어받은 작업의 결과를 이전 워커가 덮어쓰지 않습니다.
+ * 기한이 지난 작업이 이미 최대 시도 횟수에 도달했으면 이어받지 않고 실패 처리합니다.
+ * 워커 수만큼만 작업을 점유하므로 동시에 메모리에 올라가는 디코딩 이미지 수도 워커 수로 제한되며,
+ * 처리되지 않은 작업이 maxPending을 넘으면 새 이미지 업로드를 거절합니다.
+ */
+@Slf4j
+@Component
+public class RenditionJobQueue implements RenditionQueuePort {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+    private static final String LEASE_EXPIRED_ERROR = "점유 기한 내에 완료되지 않은 채 최대 시도 횟수에 도달했습니다.";
+
+    private final RenditionJobJpaRepository jobRepository;
+    private final ImageRenditionService renditionService;
+    private final int workers;
+    private final long maxPending;
+    private final int maxAttempts;
+    private final Duration backoffBase;
+    private final Duration backoffMax;
+    private final Duration lease;
+
+    private final ThreadPoolExecutor executor;
+    private final Semaphore slots;
+    private final ReentrantLock pollLock = new ReentrantLock();
+    private final AtomicLong outstanding = new AtomicLong();
+
+    private final Counter rejectedCounter;
+    private final Counter retryCounter;
+    private final Counter failureCounter;
+    private final Timer processingTimer;
+    private final Timer latencyTimer;
+
+    public RenditionJobQueue(RenditionJobJpaRepository jobRepository,
+                             ImageRenditionService renditionService,
+                             MeterRegistry meterRegistry,
+                             @Value("${file.rendition.workers:4}") int workers,
+                             @Value("${file.rendition.max-pending:1000}") long maxPending,
+                             @Value("${file.rendition.max-attempts:5}") int maxAttempts,
+                             @Value("${file.rendition.backoff-base-ms:2000}") long backoffBaseMs,
+                             @Value("${file.rendition.backoff-max-ms:300000}") long backoffMaxMs,
+                             @Value("${file.rendition.lease-seconds:120}") long leaseSeconds) {
+        if (workers <= 0 || maxPending <= 0 || maxAttempts <= 0) {
+            throw new IllegalArgumentException("워커 수, 최대 대기 작업 수, 최대 시도 횟수는 1 이상이어야 합니다.");
+        }
+        this.jobRepository = jobRepository;
+        this.renditionService = renditionService;
+        this.workers = workers;
+        this.maxPending = maxPending;
+        this.maxAttempts = maxAttempts;
+        this.backoffBase = Duration.ofMillis(backoffBaseMs);
+        this.backoffMax = Duration.ofMillis(backoffMaxMs);
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.slots = new Semaphore(workers);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(workers), runnable -> {
+                    Thread thread = new Thread(runnable, "rendition-worker-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        Gauge.builder("file.rendition.queue.depth", outstanding, AtomicLong::get)
+                .description("처리되지 않은 파생 이미지 생성 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("file.rendition.in_flight", this, queue -> queue.workers - queue.slots.availablePermits())
+                .description("이 인스턴스에서 처리 중인 작업 수")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("file.rendition.rejected")
+                .description("대기열이 가득 차 거절된 업로드 수")
+                .register(meterRegistry);
+        this.retryCounter = Counter.builder("file.rendition.retries")
+                .description("재시도 예약된 작업 수")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("file.rendition.failures")
+                .description("최대 시도 횟수를 넘겨 실패 처리된 작업 수")
+                .register(meterRegistry);
+        this.processingTimer = Timer.builder("file.rendition.processing")
+                .description("작업 하나의 파생 이미지 생성 시간")
+                .register(meterRegistry);
+        this.latencyTimer = Timer.builder("file.rendition.latency")
+                .description("작업 등록부터 완료까지 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void checkCapacity() {
+        if (outstanding.get() >= maxPending) {
+            rejectedCounter.increment();
+            throw new RenditionQueueFullException("이미지 처리 대기열이 가득 찼습니다. 잠시 후 다시 시도해 주세요.");
+        }
+    }
+
+    @Override
+    public void enqueue(Long fileUploadId) {
+        LocalDateTime now = LocalDateTime.now();
+        jobRepository.save(RenditionJobJpaEntity.builder()
+                .fileUploadId(fileUploadId)
+                .status(RenditionJobJpaEntity.Status.PENDING)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build());
+        outstanding.incrementAndGet();
+    }
+
+    /**
+     * 처리 가능한 작업을 빈 워커 수만큼 점유하여 실행합니다.
+     */
+    @Scheduled(fixedDelayString = "${file.rendition.poll-interval-ms:500}")
+    public void poll() {
+        if (!pollLock.tryLock()) {
+            return;
+        }
+        try {
+            failExpiredExhausted();
+            outstanding.set(jobRepository.countOutstanding());
+            int free = slots.availablePermits();
+            if (free == 0) {
+                return;
+            }
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> candidateIds = jobRepository.findClaimableIds(now, maxAttempts, PageRequest.of(0, free));
+            for (Long jobId : candidateIds) {
+                if (!slots.tryAcquire()) {
+                    break;
+                }
+                String owner = UUID.randomUUID().toString();
+                if (jobRepository.claim(jobId, owner, now, now.plus(lease), maxAttempts) == 0) {
+                    // 다른 인스턴스가 먼저 점유함
+                    slots.release();
+                    continue;
+                }
+                dispatch(jobId, owner);
+            }
+        } catch (RuntimeException e) {
+            log.warn("파생 이미지 작업 조회 실패", e);
+        } finally {
+            pollLock.unlock();
+        }
+    }
+
+    /**
+     * 처리 중 서버가 죽는 등으로 기한이 지난 작업 중 더 시도할 수 없는 작업을 실패 처리합니다.
+     */
+    private void failExpiredExhausted() {
+        int failed = jobRepository.failExpiredExhausted(LocalDateTime.now(), maxAttempts, LEASE_EXPIRED_ERROR);
+        if (failed > 0) {
+            failureCounter.increment(failed);
+            log.error("점유 기한이 지난 파생 이미지 작업 실패 처리: {}건", failed);
+        }
+    }
+
+    private void dispatch(Long jobId, String owner) {
+        try {
+            executor.execute(() -> {
+                try {
+                    process(jobId, owner);
+                } finally {
+                    slots.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중인 경우이며, 점유 기한이 지나면 다시 처리됨
+            slots.release();
+        }
+    }
+
+    private void process(Long jobId, String owner) {
+        RenditionJobJpaEntity job = jobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            return;
+        }
+        try {
+            Timer.Sample sample = Timer.start();
+            renditionService.generateRenditions(job.getFileUploadId());
+            sample.stop(processingTimer);
+
+            LocalDateTime completedAt = LocalDateTime.now();
+            if (jobRepository.markDone(jobId, owner, completedAt) == 0) {
+                logLeaseLost(job);
+                return;
+            }
+            latencyTimer.record(Duration.between(job.getCreatedAt(), completedAt));
+        } catch (Exception e) {
+            handleFailure(job, owner, e);
+        }
+    }
+
+    private void handleFailure(RenditionJobJpaEntity job, String owner, Exception e) {
+        String error = truncate(e.getClass().getSimpleName() + ": " + e.getMessage());
+        // 해상도 초과 등 입력 자체가 잘못된 경우는 재시도해도 결과가 같으므로 바로 실패 처리
+        boolean permanent = e instanceof IllegalArgumentException;
+        if (permanent || job.getAttempts() >= maxAttempts) {
+            if (jobRepository.markFailed(job.getId(), owner, LocalDateTime.now(), error) == 0) {
+                logLeaseLost(job);
+                return;
+            }
+            failureCounter.increment();
+            log.error("파생 이미지 생성 실패: jobId={}, fileUploadId={}, attempts={}",
+                    job.getId(), job.getFileUploadId(), job.getAttempts(), e);
+            return;
+        }
+        Duration delay = backoff(job.getAttempts());
+        if (jobRepository.scheduleRetry(job.getId(), owner, LocalDateTime.now().plus(delay), error) == 0) {
+            logLeaseLost(job);
+            return;
+        }
+        retryCounter.increment();
+        log.warn("파생 이미지 생성 재시도 예약: jobId={}, fileUploadId={}, attempts={}, delay={}",
+                job.getId(), job.getFileUploadId(), job.getAttempts(), delay, e);
+    }
+
+    /**
+     * 기한이 지나 다른 워커가 이어받았거나 실패 처리된 작업이므로 결과를 반영하지 않습니다.
+     */
+    private void logLeaseLost(RenditionJobJpaEntity job) {
+        log.warn("점유를 잃은 파생 이미지 작업의 결과를 반영하지 않습니다: jobId={}, fileUploadId={}",
+                job.getId(), job.getFileUploadId());
+    }
+
+    /**
+     * 지수 백오프에 최대 20%의 지터를 더한 재시도 대기 시간
+     */
+    Duration backoff(int attempts) {
+        int exponent = Math.min(Math.max(attempts - 1, 0), 20);
+        long millis = Math.min(backoffMax.toMillis(), backoffBase.toMillis() << exponent);
+        long jitter = (long) (millis * 0.2 * ThreadLocalRandom.current().nextDouble());
+        return Duration.ofMillis(millis + jitter);
+    }
+
+    private String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
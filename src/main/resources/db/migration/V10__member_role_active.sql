@@ -0,0 +1,8 @@
+-- 회원 역할/활성 여부 컬럼과 관리자 회원 목록 페이지 조회용 인덱스 추가
+-- 기존 회원은 일반 회원(USER)이며 활성 상태로 채웁니다.
+
+ALTER TABLE member ADD COLUMN IF NOT EXISTS role VARCHAR(20) NOT NULL DEFAULT 'USER';
+ALTER TABLE member ADD COLUMN IF NOT EXISTS active BOOLEAN NOT NULL DEFAULT TRUE;
+
+-- 회원 테이블 인덱스 (역할/활성 여부별 ID 순 범위 탐색)
+CREATE INDEX IF NOT EXISTS idx_member_role_active_id ON member(role, active, id);
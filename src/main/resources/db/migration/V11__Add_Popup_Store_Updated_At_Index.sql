@@ -0,0 +1,3 @@
+-- 노드 간 색인 동기화에서 최근 수정된 팝업스토어를 찾기 위한 인덱스 추가
+
+CREATE INDEX IF NOT EXISTS idx_popup_stores_updated_at ON popup_stores(updated_at);
@@ -0,0 +1,3 @@
+-- 파생 이미지 작업을 점유한 워커를 확인하기 위한 점유 토큰 컬럼 추가
+
+ALTER TABLE file_rendition_jobs ADD COLUMN IF NOT EXISTS lease_owner VARCHAR(64);
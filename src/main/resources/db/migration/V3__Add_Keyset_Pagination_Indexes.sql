@@ -0,0 +1,4 @@
+-- 키셋(커서) 페이지네이션을 위한 인덱스 추가
+
+-- 팝업스토어 테이블 인덱스 (createdAt, id 순 정렬/범위 탐색)
+CREATE INDEX IF NOT EXISTS idx_popup_stores_created_at_id ON popup_stores(created_at, id);
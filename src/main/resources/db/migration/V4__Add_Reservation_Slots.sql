@@ -0,0 +1,11 @@
+-- 예약 시간대별 수용 인원 테이블 추가
+
+CREATE TABLE IF NOT EXISTS reservation_slots (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    popup_store_id BIGINT NOT NULL,
+    slot_start TIMESTAMP NOT NULL,
+    capacity INTEGER NOT NULL,
+    reserved INTEGER NOT NULL DEFAULT 0,
+    CONSTRAINT uk_reservation_slots_store_slot UNIQUE (popup_store_id, slot_start),
+    CONSTRAINT ck_reservation_slots_reserved CHECK (reserved >= 0 AND reserved <= capacity)
+);
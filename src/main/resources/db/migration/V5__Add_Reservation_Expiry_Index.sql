@@ -0,0 +1,4 @@
+-- 만료 예약 일괄 정리를 위한 인덱스 추가
+
+-- 예약 테이블 인덱스 (상태별 ID 순 범위 탐색)
+CREATE INDEX IF NOT EXISTS idx_reservations_status_id ON reservations(status, id);
@@ -0,0 +1,14 @@
+-- 팝업스토어 평점 집계 테이블 추가
+-- 리뷰 변경 시 전체 리뷰를 다시 집계하지 않고 증감분만 반영합니다.
+
+CREATE TABLE IF NOT EXISTS popup_store_rating_summary (
+    popup_store_id BIGINT PRIMARY KEY,
+    review_count BIGINT NOT NULL DEFAULT 0,
+    rating_sum BIGINT NOT NULL DEFAULT 0,
+    one_star_count BIGINT NOT NULL DEFAULT 0,
+    two_star_count BIGINT NOT NULL DEFAULT 0,
+    three_star_count BIGINT NOT NULL DEFAULT 0,
+    four_star_count BIGINT NOT NULL DEFAULT 0,
+    five_star_count BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP
+);
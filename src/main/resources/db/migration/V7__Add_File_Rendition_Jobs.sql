@@ -0,0 +1,16 @@
+-- 파생 이미지(썸네일/최적화) 생성 작업 아웃박스 테이블 추가
+
+CREATE TABLE IF NOT EXISTS file_rendition_jobs (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    file_upload_id BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL,
+    locked_until TIMESTAMP,
+    last_error VARCHAR(500),
+    created_at TIMESTAMP NOT NULL,
+    completed_at TIMESTAMP
+);
+
+-- 워커가 처리할 작업을 찾는 조회용
+CREATE INDEX IF NOT EXISTS idx_file_rendition_jobs_status_next ON file_rendition_jobs (status, next_attempt_at);
@@ -0,0 +1,3 @@
+-- 참조 대상별 파일 조회/일괄 삭제용 인덱스 추가
+
+CREATE INDEX IF NOT EXISTS idx_file_upload_reference ON file_upload (reference_type, reference_id);
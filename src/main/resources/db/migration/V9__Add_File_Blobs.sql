@@ -0,0 +1,21 @@
+-- 내용 해시(SHA-256) 기반 중복 업로드 제거용 테이블/컬럼 추가
+
+CREATE TABLE IF NOT EXISTS file_blobs (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    content_hash VARCHAR(64) NOT NULL UNIQUE,
+    storage_path VARCHAR(255) NOT NULL,
+    content_type VARCHAR(255) NOT NULL,
+    file_size BIGINT NOT NULL,
+    image_width INTEGER,
+    image_height INTEGER,
+    reference_count INTEGER NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP,
+    created_by BIGINT,
+    updated_by BIGINT
+);
+
+ALTER TABLE file_upload ADD COLUMN IF NOT EXISTS content_hash VARCHAR(64);
+
+-- 같은 내용의 파생 이미지 재사용/참조 수 일괄 감소용
+CREATE INDEX IF NOT EXISTS idx_file_upload_content_hash ON file_upload (content_hash);
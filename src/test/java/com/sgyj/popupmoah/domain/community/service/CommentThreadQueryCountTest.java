@@ -0,0 +1,132 @@
+package com.sgyj.popupmoah.domain.community.service;
+
+import com.sgyj.popupmoah.domain.community.application.dto.CommentResponse;
+import com.sgyj.popupmoah.domain.community.entity.Comment;
+import com.sgyj.popupmoah.domain.community.entity.Member;
+import com.sgyj.popupmoah.domain.community.entity.MemberRole;
+import com.sgyj.popupmoah.domain.community.repository.CommentRepository;
+import com.sgyj.popupmoah.domain.popupstore.entity.PopupStore;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 댓글 스레드 조회의 SQL 실행 횟수 회귀 테스트
+ * 스레드 수와 관계없이 실행되는 SQL 문 수가 일정한지 확인합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class CommentThreadQueryCountTest {
+
+    private static final int THREADS = 50;
+    private static final int REPLIES_PER_THREAD = 3;
+
+    @Configuration
+    @EnableAutoConfiguration
+    @EntityScan(basePackageClasses = {Comment.class, PopupStore.class})
+    @EnableJpaRepositories(basePackageClasses = CommentRepository.class)
+    static class JpaTestConfiguration {
+    }
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private CommentService commentService;
+
+    private Statistics statistics;
+
+    private Long popupStoreId;
+
+    @BeforeEach
+    void setUp() {
+        commentService = new CommentService(commentRepository, null, null);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        PopupStore popupStore = entityManager.persist(PopupStore.builder().name("성수 팝업스토어").build());
+        popupStoreId = popupStore.getId();
+        List<Member> members = List.of(member("alice"), member("bob"), member("carol"));
+        members.forEach(entityManager::persist);
+
+        for (int i = 0; i < THREADS; i++) {
+            Comment root = entityManager.persist(comment(popupStore, members.get(i % members.size()), null, "댓글 " + i));
+            for (int j = 0; j < REPLIES_PER_THREAD; j++) {
+                entityManager.persist(comment(popupStore, members.get(j % members.size()), root, "답글 " + i + "-" + j));
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("전체 스레드 조회 시 SQL 한 번 실행 테스트")
+    void testAllThreadsLoadedWithSingleStatement() {
+        // When
+        List<CommentResponse> threads = commentService.getCommentsByPopupStore(popupStoreId);
+
+        // Then
+        assertThat(threads).hasSize(THREADS);
+        assertThat(threads).allSatisfy(thread -> {
+            assertThat(thread.getReplyCount()).isEqualTo(REPLIES_PER_THREAD);
+            assertThat(thread.getMemberUsername()).isNotNull();
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("스레드 페이지 조회 시 SQL 실행 횟수 고정 테스트")
+    void testThreadPageLoadedWithConstantStatements() {
+        // When
+        Page<CommentResponse> page = commentService.getCommentsByPopupStore(popupStoreId, PageRequest.of(1, 20));
+
+        // Then
+        assertThat(page.getContent()).hasSize(20);
+        assertThat(page.getTotalElements()).isEqualTo(THREADS);
+        assertThat(page.getContent()).allSatisfy(thread ->
+                assertThat(thread.getReplies()).hasSize(REPLIES_PER_THREAD));
+        // 최상위 댓글 ID 페이지 + COUNT + 스레드 댓글
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    private Member member(String username) {
+        return Member.builder()
+                .username(username)
+                .password("encoded")
+                .email(username + "@example.com")
+                .nickname(username)
+                .role(MemberRole.USER)
+                .active(true)
+                .build();
+    }
+
+    private Comment comment(PopupStore popupStore, Member member, Comment parent, String content) {
+        return Comment.builder()
+                .popupStore(popupStore)
+                .member(member)
+                .parent(parent)
+                .content(content)
+                .deleted(false)
+                .build();
+    }
+}
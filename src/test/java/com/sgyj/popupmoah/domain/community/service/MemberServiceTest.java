@@ -0,0 +1,151 @@
+package com.sgyj.popupmoah.domain.community.service;
+
+import com.sgyj.popupmoah.domain.community.application.dto.MemberListResponse;
+import com.sgyj.popupmoah.domain.community.entity.MemberRole;
+import com.sgyj.popupmoah.domain.community.repository.MemberRepository;
+import com.sgyj.popupmoah.domain.community.repository.MemberSummaryView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemberServiceTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private JwtService jwtService;
+
+    @InjectMocks
+    private MemberService memberService;
+
+    @Test
+    @DisplayName("회원 목록 DB 페이지 조회 테스트")
+    void testGetMemberListPage() {
+        // Given
+        when(memberRepository.findSummaries(MemberRole.USER, true, PageRequest.of(1, 2)))
+                .thenReturn(new PageImpl<>(views(8L, 7L), PageRequest.of(1, 2), 10));
+
+        // When
+        MemberListResponse response = memberService.getMemberList(1, 2, MemberRole.USER, true, null, null);
+
+        // Then
+        assertThat(response.getMembers()).extracting(MemberListResponse.MemberSummary::getMemberId)
+                .containsExactly(8L, 7L);
+        assertThat(response.getTotalCount()).isEqualTo(10L);
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(response.getNextCursor()).isEqualTo(7L);
+        verify(memberRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("전체 수 없이 회원 목록 조회 테스트")
+    void testGetMemberListWithoutTotal() {
+        // Given
+        when(memberRepository.findSummarySlice(null, null, PageRequest.of(0, 2)))
+                .thenReturn(new SliceImpl<>(views(10L, 9L), PageRequest.of(0, 2), true));
+
+        // When
+        MemberListResponse response = memberService.getMemberList(0, 2, null, null, null, false);
+
+        // Then
+        assertThat(response.getTotalCount()).isNull();
+        assertThat(response.isHasNext()).isTrue();
+        verify(memberRepository, never()).countSummaries(any(), any());
+    }
+
+    @Test
+    @DisplayName("커서 기반 회원 목록 조회 테스트")
+    void testGetMemberListWithCursor() {
+        // Given
+        when(memberRepository.findSummariesBefore(null, false, 7L, PageRequest.of(0, 3)))
+                .thenReturn(views(6L, 5L, 4L));
+
+        // When
+        MemberListResponse response = memberService.getMemberList(0, 2, null, false, 7L, null);
+
+        // Then
+        assertThat(response.getMembers()).extracting(MemberListResponse.MemberSummary::getMemberId)
+                .containsExactly(6L, 5L);
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(response.getNextCursor()).isEqualTo(5L);
+        assertThat(response.getTotalCount()).isNull();
+    }
+
+    @Test
+    @DisplayName("잘못된 페이지 크기 검증 테스트")
+    void testInvalidPageSize() {
+        assertThatThrownBy(() -> memberService.getMemberList(0, 101))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("페이지 크기는");
+    }
+
+    private List<MemberSummaryView> views(Long... ids) {
+        return Arrays.stream(ids)
+                .map(this::view)
+                .toList();
+    }
+
+    private MemberSummaryView view(Long id) {
+        return new MemberSummaryView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getUsername() {
+                return "user" + id;
+            }
+
+            @Override
+            public String getEmail() {
+                return "user" + id + "@example.com";
+            }
+
+            @Override
+            public String getNickname() {
+                return "회원" + id;
+            }
+
+            @Override
+            public MemberRole getRole() {
+                return MemberRole.USER;
+            }
+
+            @Override
+            public boolean isActive() {
+                return true;
+            }
+
+            @Override
+            public LocalDateTime getCreatedAt() {
+                return LocalDateTime.of(2026, 1, 1, 0, 0);
+            }
+
+            @Override
+            public LocalDateTime getUpdatedAt() {
+                return null;
+            }
+        };
+    }
+}
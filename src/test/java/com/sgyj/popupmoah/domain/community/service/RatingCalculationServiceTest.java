@@ -0,0 +1,153 @@
+package com.sgyj.popupmoah.domain.community.service;
+
+import com.sgyj.popupmoah.domain.community.entity.PopupStoreRatingSummary;
+import com.sgyj.popupmoah.domain.community.repository.PopupStoreRatingSummaryRepository;
+import com.sgyj.popupmoah.domain.community.repository.RatingBucketView;
+import com.sgyj.popupmoah.domain.community.repository.ReviewRepository;
+import com.sgyj.popupmoah.domain.popupstore.repository.PopupStoreRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RatingCalculationServiceTest {
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private PopupStoreRepository popupStoreRepository;
+
+    @Mock
+    private PopupStoreRatingSummaryRepository ratingSummaryRepository;
+
+    @Mock
+    private RatingSummaryInitializer ratingSummaryInitializer;
+
+    @InjectMocks
+    private RatingCalculationService ratingCalculationService;
+
+    @Test
+    @DisplayName("리뷰 생성 시 증감분만 반영 테스트")
+    void testReviewCreationAppliesDelta() {
+        // Given
+        when(ratingSummaryRepository.applyDelta(eq(1L), eq(1L), eq(4L), eq(0L), eq(0L), eq(0L), eq(1L), eq(0L),
+                any(LocalDateTime.class))).thenReturn(1);
+
+        // When
+        ratingCalculationService.updateRatingAfterReviewCreation(1L, 4);
+
+        // Then
+        verifyNoInteractions(reviewRepository, ratingSummaryInitializer);
+    }
+
+    @Test
+    @DisplayName("리뷰 수정 시 이전 평점을 빼고 새 평점을 더하는 증감분 반영 테스트")
+    void testReviewUpdateMovesBucket() {
+        // Given
+        when(ratingSummaryRepository.applyDelta(eq(1L), eq(0L), eq(-3L), eq(0L), eq(1L), eq(0L), eq(0L), eq(-1L),
+                any(LocalDateTime.class))).thenReturn(1);
+
+        // When
+        ratingCalculationService.updateRatingAfterReviewUpdate(1L, 5, 2);
+
+        // Then
+        verifyNoInteractions(reviewRepository);
+    }
+
+    @Test
+    @DisplayName("집계 행이 없으면 생성 후 증감분 반영 테스트")
+    void testCreatesSummaryWhenMissing() {
+        // Given
+        when(ratingSummaryRepository.applyDelta(eq(2L), eq(-1L), eq(-3L), eq(0L), eq(0L), eq(-1L), eq(0L), eq(0L),
+                any(LocalDateTime.class))).thenReturn(0, 1);
+
+        // When
+        ratingCalculationService.updateRatingAfterReviewDeletion(2L, 3);
+
+        // Then
+        verify(ratingSummaryInitializer).create(2L);
+        verify(ratingSummaryRepository, times(2)).applyDelta(eq(2L), anyLong(), anyLong(), anyLong(), anyLong(),
+                anyLong(), anyLong(), anyLong(), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("잘못된 평점 검증 테스트")
+    void testInvalidRating() {
+        assertThatThrownBy(() -> ratingCalculationService.updateRatingAfterReviewCreation(1L, 6))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("평점은 1~5");
+    }
+
+    @Test
+    @DisplayName("어긋난 집계 보정 테스트")
+    void testReconcileRepairsDrift() {
+        // Given
+        PopupStoreRatingSummary drifted = PopupStoreRatingSummary.of(1L, new long[] {0, 0, 0, 0, 9});
+        PopupStoreRatingSummary empty = PopupStoreRatingSummary.of(3L, new long[] {1, 0, 0, 0, 0});
+        when(ratingSummaryRepository.findBetweenForUpdate(1L, 10L)).thenReturn(List.of(drifted, empty));
+        when(reviewRepository.countByRatingBetween(1L, 10L)).thenReturn(List.of(
+                bucket(1L, 5, 2L), bucket(1L, 3, 1L), bucket(2L, 4, 1L)));
+
+        // When
+        int repaired = ratingCalculationService.reconcileRange(1L, 10L);
+
+        // Then
+        assertThat(repaired).isEqualTo(3);
+        assertThat(drifted.getReviewCount()).isEqualTo(3);
+        assertThat(drifted.getRatingSum()).isEqualTo(13);
+        assertThat(empty.getReviewCount()).isZero();
+        verify(ratingSummaryRepository).save(argThat(summary ->
+                summary.getPopupStoreId().equals(2L) && summary.getFourStarCount() == 1));
+    }
+
+    @Test
+    @DisplayName("평점 정보와 별점 분포 조회 테스트")
+    void testGetRatingInfoWithHistogram() {
+        // Given
+        when(ratingSummaryRepository.findById(1L))
+                .thenReturn(Optional.of(PopupStoreRatingSummary.of(1L, new long[] {1, 0, 0, 1, 1})));
+
+        // When
+        RatingCalculationService.RatingInfo info = ratingCalculationService.getRatingInfo(1L);
+
+        // Then
+        assertThat(info.getAverageRating()).isEqualTo(3.33);
+        assertThat(info.getReviewCount()).isEqualTo(3L);
+        assertThat(info.isHasRating()).isTrue();
+        assertThat(info.getHistogram()).containsExactly(
+                entry(1, 1L), entry(2, 0L), entry(3, 0L), entry(4, 1L), entry(5, 1L));
+    }
+
+    private RatingBucketView bucket(Long popupStoreId, Integer rating, Long reviewCount) {
+        return new RatingBucketView() {
+            @Override
+            public Long getPopupStoreId() {
+                return popupStoreId;
+            }
+
+            @Override
+            public Integer getRating() {
+                return rating;
+            }
+
+            @Override
+            public Long getReviewCount() {
+                return reviewCount;
+            }
+        };
+    }
+}
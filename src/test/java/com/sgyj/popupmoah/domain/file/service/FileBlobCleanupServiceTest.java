@@ -0,0 +1,91 @@
+package com.sgyj.popupmoah.domain.file.service;
+
+import com.sgyj.popupmoah.domain.file.entity.FileBlob;
+import com.sgyj.popupmoah.domain.file.port.FileBlobRepositoryPort;
+import com.sgyj.popupmoah.domain.file.port.FileStoragePort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FileBlobCleanupServiceTest {
+
+    @Mock
+    private FileBlobRepositoryPort fileBlobRepositoryPort;
+
+    @Mock
+    private FileStoragePort fileStoragePort;
+
+    @InjectMocks
+    private FileBlobCleanupService fileBlobCleanupService;
+
+    @Test
+    @DisplayName("잠근 내용 행을 저장소 파일부터 지운 뒤 삭제 테스트")
+    void testDeletesStorageBeforeRows() {
+        // Given
+        when(fileBlobRepositoryPort.lockUnreferenced(List.of("abc"))).thenReturn(List.of(blob(1L, "abc")));
+        when(fileBlobRepositoryPort.deleteUnreferencedByIds(List.of(1L))).thenReturn(1);
+
+        // When
+        int deleted = fileBlobCleanupService.release(List.of("abc"));
+
+        // Then
+        assertThat(deleted).isEqualTo(1);
+        InOrder inOrder = inOrder(fileStoragePort, fileBlobRepositoryPort);
+        inOrder.verify(fileStoragePort).deleteFiles(List.of(
+                "image/ab/abc.png", "image/ab/abc_thumb.jpg", "image/ab/abc_optimized.jpg"));
+        inOrder.verify(fileBlobRepositoryPort).deleteUnreferencedByIds(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("다시 참조된 내용은 저장소에서 지우지 않음 테스트")
+    void testKeepsReferencedContent() {
+        // Given
+        when(fileBlobRepositoryPort.lockUnreferenced(List.of("abc"))).thenReturn(List.of());
+
+        // When
+        int deleted = fileBlobCleanupService.release(List.of("abc"));
+
+        // Then
+        assertThat(deleted).isZero();
+        verify(fileStoragePort, never()).deleteFiles(any());
+        verify(fileBlobRepositoryPort, never()).deleteUnreferencedByIds(any());
+    }
+
+    @Test
+    @DisplayName("저장소 삭제에 실패하면 행을 남겨 다음 정리에서 재시도 테스트")
+    void testKeepsRowsWhenStorageDeleteFails() {
+        // Given
+        LocalDateTime createdBefore = LocalDateTime.of(2026, 5, 1, 12, 0);
+        when(fileBlobRepositoryPort.lockUnreferencedCreatedBefore(createdBefore, 100))
+                .thenReturn(List.of(blob(1L, "abc"), blob(2L, "abd")));
+        when(fileStoragePort.deleteFiles(any())).thenThrow(new IllegalStateException("S3 오류"));
+
+        // When & Then
+        assertThatThrownBy(() -> fileBlobCleanupService.sweep(createdBefore, 100))
+                .isInstanceOf(IllegalStateException.class);
+        verify(fileBlobRepositoryPort, never()).deleteUnreferencedByIds(any());
+    }
+
+    private FileBlob blob(Long id, String contentHash) {
+        return FileBlob.builder()
+                .id(id)
+                .contentHash(contentHash)
+                .storagePath("image/" + contentHash.substring(0, 2) + "/" + contentHash + ".png")
+                .contentType("image/png")
+                .fileSize(3L)
+                .referenceCount(0)
+                .build();
+    }
+}
@@ -0,0 +1,211 @@
+package com.sgyj.popupmoah.domain.file.service;
+
+import com.sgyj.popupmoah.domain.file.entity.FileBlob;
+import com.sgyj.popupmoah.domain.file.entity.FileUpload;
+import com.sgyj.popupmoah.domain.file.port.FileBlobRepositoryPort;
+import com.sgyj.popupmoah.domain.file.port.FileStoragePort;
+import com.sgyj.popupmoah.domain.file.port.FileUploadRepositoryPort;
+import com.sgyj.popupmoah.domain.file.port.RenditionCachePort;
+import com.sgyj.popupmoah.domain.file.port.RenditionQueuePort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FileUploadDomainServiceTest {
+
+    @Mock
+    private FileUploadRepositoryPort fileUploadRepositoryPort;
+
+    @Mock
+    private FileBlobRepositoryPort fileBlobRepositoryPort;
+
+    @Mock
+    private FileStoragePort fileStoragePort;
+
+    @Mock
+    private ImageOptimizationService imageOptimizationService;
+
+    @Mock
+    private RenditionQueuePort renditionQueuePort;
+
+    @Mock
+    private FileBlobCleanupService fileBlobCleanupService;
+
+    @Mock
+    private RenditionCachePort renditionCachePort;
+
+    @InjectMocks
+    private FileUploadDomainService fileUploadDomainService;
+
+    @Test
+    @DisplayName("참조 대상 파일을 DELETE 한 번과 일괄 삭제 한 번으로 정리 테스트")
+    void testDeleteFilesByReference() {
+        // Given
+        List<FileUpload> files = IntStream.range(0, 300)
+                .mapToObj(i -> image((long) i, "image/popup_store/" + i + ".png", i % 2 == 0))
+                .toList();
+        when(fileUploadRepositoryPort.findByReferenceTypeAndReferenceId(FileUpload.ReferenceType.POPUP_STORE, 7L))
+                .thenReturn(files);
+        when(fileUploadRepositoryPort.deleteByReferenceTypeAndReferenceId(FileUpload.ReferenceType.POPUP_STORE, 7L))
+                .thenReturn(300);
+
+        // When
+        int deleted = fileUploadDomainService.deleteFilesByReference(FileUpload.ReferenceType.POPUP_STORE, 7L);
+
+        // Then
+        assertThat(deleted).isEqualTo(300);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<String>> paths = ArgumentCaptor.forClass(Collection.class);
+        verify(fileStoragePort, times(1)).deleteFiles(paths.capture());
+        assertThat(paths.getValue())
+                .hasSize(600)
+                .contains("image/popup_store/0.png", "image/popup_store/0_thumb.jpg", "image/popup_store/0_optimized.jpg")
+                .doesNotContain("image/popup_store/1_thumb.jpg");
+        verify(fileUploadRepositoryPort, never()).deleteById(any());
+        verify(fileStoragePort).deleteFilesByPrefix(argThat(prefixes -> prefixes.size() == 300
+                && prefixes.contains("renditions/0/") && prefixes.contains("renditions/299/")));
+        verify(renditionCachePort).evict(299L);
+    }
+
+    @Test
+    @DisplayName("단일 파일 삭제 시 원본과 파생 이미지를 한 번에 삭제 테스트")
+    void testDeleteFileRemovesRenditionsInOneCall() {
+        // Given
+        when(fileUploadRepositoryPort.findById(1L))
+                .thenReturn(Optional.of(image(1L, "image/popup_store/a.png", true)));
+
+        // When
+        fileUploadDomainService.deleteFile(1L);
+
+        // Then
+        verify(fileUploadRepositoryPort).deleteById(1L);
+        verify(fileStoragePort).deleteFiles(List.of(
+                "image/popup_store/a.png", "image/popup_store/a_thumb.jpg", "image/popup_store/a_optimized.jpg"));
+    }
+
+    @Test
+    @DisplayName("새 내용은 내용 주소 경로에 한 번 업로드 테스트")
+    void testNewContentIsStoredUnderContentAddress() throws IOException {
+        // Given
+        MockMultipartFile file = new MockMultipartFile("file", "guide.pdf", "application/pdf", new byte[]{1, 2, 3});
+        String hash = "039058c6f2c0cb492c533b0a4d14ef77cc0f78abccced5287d84a1a2011cfb81";
+        when(fileBlobRepositoryPort.findByContentHash(hash)).thenReturn(Optional.empty());
+        when(fileBlobRepositoryPort.createIfAbsent(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(fileBlobRepositoryPort.incrementReferenceCount(hash)).thenReturn(1);
+        when(fileStoragePort.findMetadata(anyString())).thenReturn(Optional.empty());
+        when(fileUploadRepositoryPort.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        FileUpload fileUpload = fileUploadDomainService.uploadFile(file, FileUpload.UploadType.DOCUMENT,
+                FileUpload.ReferenceType.POPUP_STORE, 7L);
+
+        // Then
+        assertThat(fileUpload.getContentHash()).isEqualTo(hash);
+        assertThat(fileUpload.getFilePath()).isEqualTo("document/03/" + hash + ".pdf");
+        verify(fileStoragePort).uploadFile(any(InputStream.class), eq("document/03/" + hash + ".pdf"),
+                eq("application/pdf"), eq(3L));
+    }
+
+    @Test
+    @DisplayName("같은 내용의 이미지는 업로드와 이미지 처리를 건너뜀 테스트")
+    void testDuplicateImageSkipsStorageAndProcessing() throws IOException {
+        // Given
+        MockMultipartFile file = new MockMultipartFile("file", "poster.png", "image/png", new byte[]{1, 2, 3});
+        String hash = "039058c6f2c0cb492c533b0a4d14ef77cc0f78abccced5287d84a1a2011cfb81";
+        FileBlob blob = FileBlob.builder()
+                .contentHash(hash)
+                .storagePath("image/03/" + hash + ".png")
+                .contentType("image/png")
+                .fileSize(3L)
+                .imageWidth(800)
+                .imageHeight(600)
+                .referenceCount(1)
+                .build();
+        FileUpload source = image(1L, blob.getStoragePath(), true);
+        when(fileBlobRepositoryPort.findByContentHash(hash)).thenReturn(Optional.of(blob));
+        when(fileBlobRepositoryPort.incrementReferenceCount(hash)).thenReturn(1);
+        when(fileStoragePort.findMetadata(blob.getStoragePath()))
+                .thenReturn(Optional.of(new FileStoragePort.StoredFileMetadata(3, "image/png", "etag", null)));
+        when(fileUploadRepositoryPort.findWithRenditionsByContentHash(hash)).thenReturn(Optional.of(source));
+        when(fileUploadRepositoryPort.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        FileUpload fileUpload = fileUploadDomainService.uploadAndOptimizeImage(file,
+                FileUpload.ReferenceType.REVIEW, 3L);
+
+        // Then
+        assertThat(fileUpload.getFilePath()).isEqualTo(blob.getStoragePath());
+        assertThat(fileUpload.getImageWidth()).isEqualTo(800);
+        assertThat(fileUpload.getThumbnailUrl()).isEqualTo("thumb");
+        verify(fileStoragePort, never()).uploadFile(any(), anyString(), anyString(), anyLong());
+        verify(imageOptimizationService, never()).readDimensions(any());
+        verify(renditionQueuePort, never()).enqueue(any());
+    }
+
+    @Test
+    @DisplayName("참조가 남은 내용은 저장소에서 지우지 않음 테스트")
+    void testDeleteKeepsSharedContent() {
+        // Given
+        FileUpload shared = FileUpload.builder()
+                .id(5L)
+                .originalFileName("poster.png")
+                .storedFileName("abc.png")
+                .filePath("image/ab/abc.png")
+                .fileUrl("url")
+                .contentType("image/png")
+                .fileSize(3L)
+                .fileExtension("png")
+                .uploadType(FileUpload.UploadType.IMAGE)
+                .contentHash("abc")
+                .build();
+        when(fileUploadRepositoryPort.findById(5L)).thenReturn(Optional.of(shared));
+
+        // When
+        fileUploadDomainService.deleteFile(5L);
+
+        // Then
+        verify(fileBlobRepositoryPort).decrementReferenceCount("abc");
+        verify(fileBlobCleanupService).release(List.of("abc"));
+        verify(fileStoragePort, never()).deleteFiles(any());
+        verify(fileStoragePort).deleteFilesByPrefix(List.of("renditions/5/"));
+        verify(renditionCachePort).evict(5L);
+    }
+
+    private FileUpload image(Long id, String filePath, boolean withRenditions) {
+        return FileUpload.builder()
+                .id(id)
+                .originalFileName("poster.png")
+                .storedFileName(filePath.substring(filePath.lastIndexOf('/') + 1))
+                .filePath(filePath)
+                .fileUrl("https://test-bucket.s3.ap-northeast-2.amazonaws.com/" + filePath)
+                .contentType("image/png")
+                .fileSize(1024L)
+                .fileExtension("png")
+                .uploadType(FileUpload.UploadType.IMAGE)
+                .referenceType(FileUpload.ReferenceType.POPUP_STORE)
+                .referenceId(7L)
+                .thumbnailUrl(withRenditions ? "thumb" : null)
+                .optimizedUrl(withRenditions ? "optimized" : null)
+                .build();
+    }
+}
@@ -0,0 +1,140 @@
+package com.sgyj.popupmoah.domain.file.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ImageOptimizationServiceTest {
+
+    private final ImageOptimizationService imageOptimizationService = new ImageOptimizationService();
+
+    @Test
+    @DisplayName("헤더만으로 이미지 크기 조회 테스트")
+    void testReadDimensionsFromHeader() throws IOException {
+        // Given
+        byte[] imageData = encode(new BufferedImage(800, 600, BufferedImage.TYPE_INT_RGB), "jpg");
+
+        // When
+        int[] dimensions = imageOptimizationService.getImageDimensions(imageData);
+
+        // Then
+        assertThat(dimensions).containsExactly(800, 600);
+    }
+
+    @Test
+    @DisplayName("한 번 디코딩한 이미지로 여러 파생 이미지 생성 테스트")
+    void testRenditionsFromSingleDecode() throws IOException {
+        // Given
+        byte[] imageData = encode(new BufferedImage(800, 600, BufferedImage.TYPE_INT_ARGB), "png");
+        BufferedImage image = imageOptimizationService.decode(new ByteArrayInputStream(imageData));
+
+        // When
+        ByteArrayOutputStream thumbnail = new ByteArrayOutputStream();
+        imageOptimizationService.writeThumbnail(image, 300, 300, thumbnail);
+        ByteArrayOutputStream optimized = new ByteArrayOutputStream();
+        imageOptimizationService.writeJpeg(image, 0.8f, optimized);
+
+        // Then (알파 채널 이미지도 JPEG로 인코딩됨)
+        assertThat(image.getType()).isEqualTo(BufferedImage.TYPE_INT_RGB);
+        BufferedImage thumbnailImage = ImageIO.read(new ByteArrayInputStream(thumbnail.toByteArray()));
+        assertThat(thumbnailImage.getWidth()).isEqualTo(300);
+        assertThat(thumbnailImage.getHeight()).isEqualTo(300);
+        BufferedImage optimizedImage = ImageIO.read(new ByteArrayInputStream(optimized.toByteArray()));
+        assertThat(optimizedImage.getWidth()).isEqualTo(800);
+        assertThat(optimizedImage.getHeight()).isEqualTo(600);
+    }
+
+    @Test
+    @DisplayName("PNG 포맷 변환 시 투명도 유지 테스트")
+    void testConvertImageFormatKeepsAlpha() throws IOException {
+        // Given
+        BufferedImage source = new BufferedImage(40, 30, BufferedImage.TYPE_INT_ARGB);
+        source.setRGB(0, 0, 0x80FF0000);
+        byte[] imageData = encode(source, "png");
+
+        // When
+        byte[] converted = imageOptimizationService.convertImageFormat(imageData, "png");
+
+        // Then
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(converted));
+        assertThat(image.getColorModel().hasAlpha()).isTrue();
+        assertThat(image.getRGB(0, 0) >>> 24).isEqualTo(0x80);
+        assertThat(image.getRGB(1, 0) >>> 24).isZero();
+    }
+
+    @Test
+    @DisplayName("이미지가 아닌 데이터 디코딩 실패 테스트")
+    void testDecodeInvalidData() {
+        assertThatThrownBy(() -> imageOptimizationService.decode(new byte[]{1, 2, 3}))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("이미지를 읽을 수 없습니다");
+    }
+
+    @Test
+    @DisplayName("크기 제한 안의 가장 높은 품질로 압축 테스트")
+    void testCompressToSizeFindsHighestQualityWithinBudget() throws IOException {
+        // Given
+        BufferedImage image = noisyImage(800, 600);
+        long budget = 60_000;
+
+        // When
+        ImageOptimizationService.CompressionResult result = imageOptimizationService.compressToSize(image, budget, false);
+
+        // Then
+        assertThat(result.data().length).isLessThanOrEqualTo((int) budget);
+        assertThat(result.attempts()).isLessThanOrEqualTo(7);
+        ByteArrayOutputStream higherQuality = new ByteArrayOutputStream();
+        imageOptimizationService.writeJpeg(image, Math.min(0.9f, result.quality() + 0.05f), higherQuality);
+        assertThat(higherQuality.size()).isGreaterThan((int) budget);
+    }
+
+    @Test
+    @DisplayName("품질만으로 부족하면 해상도를 줄여 압축 테스트")
+    void testCompressToSizeDownscalesWhenQualityIsNotEnough() throws IOException {
+        // Given
+        BufferedImage image = noisyImage(800, 600);
+        long budget = imageOptimizationService.compressToSize(image, 1, false).data().length / 2;
+
+        // When
+        ImageOptimizationService.CompressionResult result = imageOptimizationService.compressToSize(image, budget, true);
+
+        // Then
+        assertThat(result.data().length).isLessThanOrEqualTo((int) budget);
+        assertThat(result.width()).isLessThan(800);
+    }
+
+    @Test
+    @DisplayName("이미 제한 안인 이미지는 그대로 반환 테스트")
+    void testCompressImageReturnsOriginalWhenSmallEnough() throws IOException {
+        // Given
+        byte[] imageData = encode(new BufferedImage(100, 100, BufferedImage.TYPE_INT_RGB), "jpg");
+
+        // When & Then
+        assertThat(imageOptimizationService.compressImage(imageData, imageData.length)).isSameAs(imageData);
+    }
+
+    private BufferedImage noisyImage(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(42);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.setRGB(x, y, (x * 255 / width) << 16 | (y * 255 / height) << 8 | random.nextInt(64));
+            }
+        }
+        return image;
+    }
+
+    private byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, format, outputStream);
+        return outputStream.toByteArray();
+    }
+}
@@ -0,0 +1,84 @@
+package com.sgyj.popupmoah.domain.file.service;
+
+import com.sgyj.popupmoah.domain.file.port.FileStoragePort;
+import com.sgyj.popupmoah.support.InMemoryAmazonS3;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class S3FileServiceTest {
+
+    private static final String BUCKET = "test-bucket";
+
+    private final InMemoryAmazonS3 amazonS3 = new InMemoryAmazonS3();
+    private S3FileService s3FileService;
+
+    @BeforeEach
+    void setUp() {
+        s3FileService = new S3FileService(amazonS3, mock(S3MultipartUploader.class));
+        ReflectionTestUtils.setField(s3FileService, "bucketName", BUCKET);
+        ReflectionTestUtils.setField(s3FileService, "region", "ap-northeast-2");
+        ReflectionTestUtils.setField(s3FileService, "multipartThresholdMb", 16L);
+    }
+
+    @Test
+    @DisplayName("1000개 단위 일괄 삭제 테스트")
+    void testDeleteFilesInBatchesOfThousand() {
+        // Given
+        List<String> paths = IntStream.range(0, 2500)
+                .mapToObj(i -> "image/popup_store/" + i + ".jpg")
+                .toList();
+        paths.forEach(path -> s3FileService.uploadFile(new byte[]{1}, path, "image/jpeg"));
+
+        // When
+        int deleted = s3FileService.deleteFiles(paths);
+
+        // Then
+        assertThat(deleted).isEqualTo(2500);
+        assertThat(amazonS3.getDeleteRequests()).isEqualTo(3);
+        assertThat(amazonS3.getObjectCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("접두어 아래 파일만 찾아 일괄 삭제 테스트")
+    void testDeleteFilesByPrefix() {
+        // Given
+        IntStream.range(0, 1200).forEach(i -> s3FileService.uploadFile(new byte[]{1}, "renditions/1/w" + i + ".jpg", "image/jpeg"));
+        s3FileService.uploadFile(new byte[]{1}, "renditions/10/w160.jpg", "image/jpeg");
+
+        // When
+        int deleted = s3FileService.deleteFilesByPrefix(List.of("renditions/1/", "renditions/2/"));
+
+        // Then
+        assertThat(deleted).isEqualTo(1200);
+        assertThat(amazonS3.getObjectCount()).isEqualTo(1);
+        assertThat(s3FileService.fileExists("renditions/10/w160.jpg")).isTrue();
+    }
+
+    @Test
+    @DisplayName("HEAD 요청으로 메타데이터 조회 테스트")
+    void testFindMetadata() {
+        // Given
+        s3FileService.uploadFile(new byte[128], "image/popup_store/a.png", "image/png");
+
+        // When
+        Optional<FileStoragePort.StoredFileMetadata> metadata = s3FileService.findMetadata("image/popup_store/a.png");
+        Optional<FileStoragePort.StoredFileMetadata> missing = s3FileService.findMetadata("image/popup_store/none.png");
+
+        // Then
+        assertThat(metadata).isPresent();
+        assertThat(metadata.get().contentLength()).isEqualTo(128);
+        assertThat(metadata.get().contentType()).isEqualTo("image/png");
+        assertThat(metadata.get().eTag()).isNotBlank();
+        assertThat(missing).isEmpty();
+        assertThat(s3FileService.getFileSize("image/popup_store/a.png")).isEqualTo(128);
+    }
+}
@@ -0,0 +1,97 @@
+package com.sgyj.popupmoah.domain.file.service;
+
+import com.sgyj.popupmoah.support.InMemoryAmazonS3;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.*;
+
+class S3MultipartUploaderTest {
+
+    private static final String BUCKET = "test-bucket";
+    private static final int PART_SIZE = S3MultipartUploader.MIN_PART_SIZE;
+
+    private final InMemoryAmazonS3 amazonS3 = new InMemoryAmazonS3();
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("파트를 병렬로 올리되 동시 업로드 수를 제한하는 멀티파트 업로드 테스트")
+    void testMultipartUploadWithBoundedConcurrency() throws IOException {
+        // Given
+        S3MultipartUploader uploader = new S3MultipartUploader(amazonS3, PART_SIZE, 2, executor);
+        amazonS3.withPartDelay(50);
+        byte[] content = randomBytes(PART_SIZE * 4 + 3 * 1024 * 1024);
+
+        // When
+        uploader.upload(BUCKET, "files/large.bin", new ByteArrayInputStream(content), "application/octet-stream");
+
+        // Then
+        assertThat(amazonS3.getContent(BUCKET, "files/large.bin")).isEqualTo(content);
+        assertThat(amazonS3.getPartRequests()).isEqualTo(5);
+        assertThat(amazonS3.getMaxConcurrentParts()).isBetween(1, 2);
+        assertThat(amazonS3.getPutRequests()).isZero();
+        assertThat(amazonS3.getPendingUploads()).isZero();
+    }
+
+    @Test
+    @DisplayName("한 파트보다 작은 스트림은 단일 PUT으로 업로드 테스트")
+    void testSmallStreamUsesSinglePut() throws IOException {
+        // Given
+        S3MultipartUploader uploader = new S3MultipartUploader(amazonS3, PART_SIZE, 2, executor);
+        byte[] content = randomBytes(1024);
+
+        // When
+        uploader.upload(BUCKET, "files/small.bin", new ByteArrayInputStream(content), "application/octet-stream");
+
+        // Then
+        assertThat(amazonS3.getContent(BUCKET, "files/small.bin")).isEqualTo(content);
+        assertThat(amazonS3.getPutRequests()).isEqualTo(1);
+        assertThat(amazonS3.getPartRequests()).isZero();
+    }
+
+    @Test
+    @DisplayName("파트 업로드 실패 시 멀티파트 업로드 중단 테스트")
+    void testAbortOnPartFailure() {
+        // Given
+        S3MultipartUploader uploader = new S3MultipartUploader(amazonS3, PART_SIZE, 2, executor);
+        amazonS3.failOnPart(2);
+        byte[] content = randomBytes(PART_SIZE * 6);
+
+        // When & Then
+        assertThatThrownBy(() -> uploader.upload(BUCKET, "files/broken.bin",
+                new ByteArrayInputStream(content), "application/octet-stream"))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("멀티파트 파트 업로드에 실패했습니다");
+        assertThat(amazonS3.doesObjectExist(BUCKET, "files/broken.bin")).isFalse();
+        assertThat(amazonS3.getAbortedUploads()).isEqualTo(1);
+        assertThat(amazonS3.getPendingUploads()).isZero();
+        // 실패를 확인한 뒤에는 나머지 파트를 읽지 않음
+        assertThat(amazonS3.getPartRequests()).isLessThan(6);
+    }
+
+    @Test
+    @DisplayName("S3 최소 크기보다 작은 파트 크기 거부 테스트")
+    void testRejectsTooSmallPartSize() {
+        assertThatThrownBy(() -> new S3MultipartUploader(amazonS3, 1024 * 1024, 2, executor))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("5MB 이상");
+    }
+
+    private byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(42).nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,144 @@
+package com.sgyj.popupmoah.infra.service;
+
+import com.sgyj.popupmoah.infra.config.CdnConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LocalImageFileServiceTest {
+
+    private static final String IMAGE_PATH = "/images/general/poster.png";
+    private static final byte[] CONTENT = "0123456789abcdefghij".getBytes(StandardCharsets.US_ASCII);
+
+    @TempDir
+    Path root;
+
+    private LocalImageFileService localImageFileService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path file = root.resolve("images/general/poster.png");
+        Files.createDirectories(file.getParent());
+        Files.write(file, CONTENT);
+
+        CdnConfig cdnConfig = new CdnConfig();
+        cdnConfig.getLocal().setRoot(root.toString());
+        localImageFileService = new LocalImageFileService(cdnConfig, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("전체 이미지 응답과 검증자/캐시 헤더 테스트")
+    void testServeFullContent() throws IOException {
+        // When
+        MockHttpServletResponse response = serve(new MockHttpServletRequest("GET", "/"));
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsByteArray()).isEqualTo(CONTENT);
+        assertThat(response.getContentType()).isEqualTo("image/png");
+        assertThat(response.getHeader("ETag")).startsWith("\"");
+        assertThat(response.getHeader("Last-Modified")).isNotNull();
+        assertThat(response.getHeader("Cache-Control")).contains("max-age=31536000", "public", "immutable");
+        assertThat(response.getHeader("Accept-Ranges")).isEqualTo("bytes");
+    }
+
+    @Test
+    @DisplayName("ETag가 같으면 본문 없이 304 응답 테스트")
+    void testNotModified() throws IOException {
+        // Given
+        String eTag = serve(new MockHttpServletRequest("GET", "/")).getHeader("ETag");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader("If-None-Match", eTag);
+
+        // When
+        MockHttpServletResponse response = serve(request);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(response.getHeader("ETag")).isEqualTo(eTag);
+    }
+
+    @Test
+    @DisplayName("Range 요청 부분 응답 테스트")
+    void testPartialContent() throws IOException {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader("Range", "bytes=5-9");
+
+        // When
+        MockHttpServletResponse response = serve(request);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes 5-9/20");
+        assertThat(response.getContentAsString()).isEqualTo("56789");
+    }
+
+    @Test
+    @DisplayName("만족할 수 없는 Range와 맞지 않는 If-Range 처리 테스트")
+    void testUnsatisfiableAndStaleIfRange() throws IOException {
+        // Given
+        MockHttpServletRequest unsatisfiable = new MockHttpServletRequest("GET", "/");
+        unsatisfiable.addHeader("Range", "bytes=100-");
+        MockHttpServletRequest staleIfRange = new MockHttpServletRequest("GET", "/");
+        staleIfRange.addHeader("Range", "bytes=0-1");
+        staleIfRange.addHeader("If-Range", "\"other\"");
+
+        // When & Then
+        MockHttpServletResponse response = serve(unsatisfiable);
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes */20");
+
+        response = serve(staleIfRange);
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsByteArray()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    @DisplayName("sendfile 지원 시 본문을 쓰지 않고 커넥터에 위임 테스트")
+    void testDelegatesToSendfile() throws IOException {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.setAttribute(LocalImageFileService.SENDFILE_SUPPORTED, Boolean.TRUE);
+        request.addHeader("Range", "bytes=-4");
+
+        // When
+        MockHttpServletResponse response = serve(request);
+
+        // Then
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(response.getContentLengthLong()).isEqualTo(4);
+        assertThat(request.getAttribute(LocalImageFileService.SENDFILE_FILENAME))
+                .isEqualTo(root.resolve("images/general/poster.png").toString());
+        assertThat(request.getAttribute(LocalImageFileService.SENDFILE_START)).isEqualTo(16L);
+        assertThat(request.getAttribute(LocalImageFileService.SENDFILE_END)).isEqualTo(20L);
+    }
+
+    @Test
+    @DisplayName("저장 디렉터리 밖 경로 거부 테스트")
+    void testRejectsPathTraversal() {
+        assertThatThrownBy(() -> localImageFileService.resolve("/images/../../secret.txt"))
+                .isInstanceOf(NoSuchElementException.class);
+        assertThatThrownBy(() -> localImageFileService.resolve("/images/general"))
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    private MockHttpServletResponse serve(MockHttpServletRequest request) throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        localImageFileService.serve(IMAGE_PATH, request, response);
+        return response;
+    }
+}
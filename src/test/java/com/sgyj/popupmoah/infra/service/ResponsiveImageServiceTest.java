@@ -0,0 +1,234 @@
+package com.sgyj.popupmoah.infra.service;
+
+import com.sgyj.popupmoah.domain.file.entity.FileUpload;
+import com.sgyj.popupmoah.domain.file.port.FileUploadRepositoryPort;
+import com.sgyj.popupmoah.domain.file.service.ImageOptimizationService;
+import com.sgyj.popupmoah.domain.file.service.S3FileService;
+import com.sgyj.popupmoah.infra.config.CdnConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ResponsiveImageServiceTest {
+
+    private static final String ORIGINAL_PATH = "image/popup_store/original.png";
+
+    @Mock
+    private FileUploadRepositoryPort fileUploadRepositoryPort;
+
+    @Mock
+    private S3FileService s3FileService;
+
+    @TempDir
+    Path cacheDir;
+
+    private ResponsiveImageService responsiveImageService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        CdnConfig cdnConfig = new CdnConfig();
+        cdnConfig.getRenditions().setWidths(new int[]{160, 320, 640});
+        cdnConfig.getRenditions().setCacheDir(cacheDir.toString());
+        responsiveImageService = new ResponsiveImageService(fileUploadRepositoryPort, s3FileService,
+                new ImageOptimizationService(), cdnConfig, new SimpleMeterRegistry());
+
+        byte[] original = png(1200, 800);
+        when(fileUploadRepositoryPort.findById(1L)).thenReturn(Optional.of(FileUpload.builder()
+                .id(1L)
+                .filePath(ORIGINAL_PATH)
+                .uploadType(FileUpload.UploadType.IMAGE)
+                .build()));
+        when(s3FileService.fileExists(anyString())).thenReturn(false);
+        when(s3FileService.openFile(ORIGINAL_PATH)).thenAnswer(invocation -> {
+            Thread.sleep(100); // 동시 요청이 겹치도록 원본 다운로드를 느리게
+            return new ByteArrayInputStream(original);
+        });
+    }
+
+    @Test
+    @DisplayName("요청 너비를 설정된 너비로 맞춰 생성 테스트")
+    void testGeneratesSnappedWidth() throws IOException {
+        // When
+        BufferedImage image;
+        ResponsiveImageService.Rendition rendition = responsiveImageService.getRendition(1L, 200, "jpg");
+        try (rendition) {
+            image = ImageIO.read(rendition.inputStream());
+        }
+
+        // Then
+        assertThat(image.getWidth()).isEqualTo(320);
+        assertThat(image.getHeight()).isEqualTo(213);
+        assertThat(rendition.contentType()).isEqualTo("image/jpeg");
+        verify(s3FileService).uploadFile(any(), eq("renditions/1/w320.jpg"), eq("image/jpeg"), anyLong());
+    }
+
+    @Test
+    @DisplayName("같은 파생 이미지 동시 요청 시 한 번만 생성 테스트")
+    void testConcurrentRequestsGenerateOnce() throws Exception {
+        // Given
+        int requests = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ResponsiveImageService.Rendition>> results = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < requests; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return responsiveImageService.getRendition(1L, 640, "png");
+            }));
+        }
+        start.countDown();
+        byte[] first = readAll(results.get(0).get());
+        for (Future<ResponsiveImageService.Rendition> result : results.subList(1, requests)) {
+            assertThat(readAll(result.get())).isEqualTo(first);
+        }
+        executor.shutdown();
+
+        // Then
+        verify(s3FileService, times(1)).openFile(ORIGINAL_PATH);
+    }
+
+    @Test
+    @DisplayName("디스크 캐시 적중 시 원본 조회 생략 테스트")
+    void testServesFromDiskCache() throws IOException {
+        // Given
+        responsiveImageService.getRendition(1L, 160, "jpeg");
+
+        // When
+        ResponsiveImageService.Rendition rendition = responsiveImageService.getRendition(1L, 100, "jpeg");
+
+        // Then
+        assertThat(readAll(rendition)).hasSize((int) rendition.contentLength());
+        verify(s3FileService, times(1)).openFile(ORIGINAL_PATH);
+    }
+
+    @Test
+    @DisplayName("비활성화된 파일은 캐시에 있어도 제공하지 않음 테스트")
+    void testDeactivatedFileIsNotServedFromCache() throws IOException {
+        // Given
+        readAll(responsiveImageService.getRendition(1L, 160, "jpeg"));
+        when(fileUploadRepositoryPort.findById(1L)).thenReturn(Optional.of(FileUpload.builder()
+                .id(1L)
+                .filePath(ORIGINAL_PATH)
+                .uploadType(FileUpload.UploadType.IMAGE)
+                .active(false)
+                .build()));
+
+        // When
+        Throwable thrown = catchThrowable(() -> responsiveImageService.getRendition(1L, 160, "jpeg"));
+
+        // Then
+        assertThat(thrown).isInstanceOf(NoSuchElementException.class);
+        verify(s3FileService, times(1)).openFile(ORIGINAL_PATH);
+    }
+
+    @Test
+    @DisplayName("삭제된 파일의 로컬 캐시 정리 테스트")
+    void testEvictRemovesCachedRenditions() throws IOException {
+        // Given
+        readAll(responsiveImageService.getRendition(1L, 160, "jpeg"));
+        readAll(responsiveImageService.getRendition(1L, 640, "png"));
+
+        // When
+        responsiveImageService.evict(1L);
+        readAll(responsiveImageService.getRendition(1L, 160, "jpeg"));
+
+        // Then
+        verify(s3FileService, times(3)).openFile(ORIGINAL_PATH);
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 포맷 검증 테스트")
+    void testRejectsUnsupportedFormat() {
+        assertThatThrownBy(() -> responsiveImageService.getRendition(1L, 320, "tiff-x"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("지원하지 않는 이미지 포맷");
+    }
+
+    @Test
+    @DisplayName("디스크 캐시 최대 크기 초과 시 오래된 파일 삭제 테스트")
+    void testDiskCacheEvictsLeastRecentlyUsed() throws IOException {
+        // Given
+        RenditionDiskCache cache = new RenditionDiskCache(cacheDir.resolve("lru"), 10);
+        cache.put("a", write(cache.newTempFile(), 4));
+        cache.put("b", write(cache.newTempFile(), 4));
+        cache.get("a");
+
+        // When
+        cache.put("c", write(cache.newTempFile(), 4));
+
+        // Then
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("a")).isNotNull();
+        assertThat(cache.get("c")).isNotNull();
+        assertThat(cache.getTotalBytes()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("열어 둔 캐시 파일이 밀려나 삭제되어도 끝까지 읽기 테스트")
+    void testOpenedFileSurvivesEviction() throws IOException {
+        // Given
+        RenditionDiskCache cache = new RenditionDiskCache(cacheDir.resolve("open"), 10);
+        cache.put("a", write(cache.newTempFile(), 6));
+        RenditionDiskCache.CachedFile opened = cache.open("a");
+
+        // When
+        cache.put("b", write(cache.newTempFile(), 6));
+
+        // Then
+        assertThat(cache.get("a")).isNull();
+        try (InputStream inputStream = opened.inputStream()) {
+            assertThat(inputStream.readAllBytes()).hasSize(6);
+        }
+        assertThat(opened.size()).isEqualTo(6);
+    }
+
+    private byte[] readAll(ResponsiveImageService.Rendition rendition) throws IOException {
+        try (rendition) {
+            return rendition.inputStream().readAllBytes();
+        }
+    }
+
+    private Path write(Path file, int bytes) throws IOException {
+        return Files.write(file, new byte[bytes]);
+    }
+
+    private byte[] png(int width, int height) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", outputStream);
+        return outputStream.toByteArray();
+    }
+}
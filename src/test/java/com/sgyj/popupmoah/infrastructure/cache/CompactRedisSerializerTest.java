@@ -0,0 +1,139 @@
+package com.sgyj.popupmoah.infrastructure.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sgyj.popupmoah.infra.jpa.Location;
+import com.sgyj.popupmoah.module.popupstore.entity.PopupStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CompactRedisSerializerTest {
+
+    private final CompactRedisSerializer serializer = CompactRedisSerializer.builder()
+            .register(1, PopupStore.class)
+            .compressionThreshold(1024)
+            .build();
+
+    @Test
+    @DisplayName("등록 타입 목록은 JSON보다 작게 쓰고 그대로 복원 테스트")
+    void testRoundTripsRegisteredList() {
+        // Given
+        List<PopupStore> popupStores = popupStores(50);
+
+        // When
+        byte[] bytes = serializer.serialize(popupStores);
+        Object restored = serializer.deserialize(bytes);
+
+        // Then
+        assertThat(bytes.length).isLessThan(jsonSerializer().serialize(popupStores).length);
+        assertThat(bytes[0] & 0x01).as("LZ4 플래그").isEqualTo(1);
+        assertThat(restored).asList().hasSize(50);
+        PopupStore first = (PopupStore) ((List<?>) restored).get(0);
+        assertThat(first.getId()).isEqualTo(1L);
+        assertThat(first.getName()).isEqualTo("팝업스토어 1");
+        assertThat(first.getLocation()).isEqualTo(Location.of(37.5, 127.0));
+        assertThat(first.getStartDate()).isEqualTo(LocalDateTime.of(2025, 3, 1, 10, 0));
+    }
+
+    @Test
+    @DisplayName("임계값보다 작은 값은 압축하지 않음 테스트")
+    void testSmallValueIsNotCompressed() {
+        // When
+        byte[] bytes = serializer.serialize(popupStores(1).get(0));
+
+        // Then
+        assertThat(bytes[0] & 0x01).isZero();
+        assertThat(serializer.deserialize(bytes)).isInstanceOf(PopupStore.class);
+    }
+
+    @Test
+    @DisplayName("등록하지 않은 타입과 기존 JSON 값은 JSON으로 처리 테스트")
+    void testFallsBackToJson() {
+        // Given
+        byte[] legacy = new GenericJackson2JsonRedisSerializer().serialize(new ArrayList<>(List.of("a", "b")));
+
+        // When & Then
+        assertThat(serializer.deserialize(legacy)).isEqualTo(List.of("a", "b"));
+        assertThat(serializer.deserialize(serializer.serialize("active"))).isEqualTo("active");
+        assertThat(serializer.deserialize(serializer.serialize(List.of()))).asList().isEmpty();
+    }
+
+    @Test
+    @DisplayName("제네릭 타입은 등록한 타입 인자로 복원 테스트")
+    void testRoundTripsGenericType() {
+        // Given
+        CompactRedisSerializer genericSerializer = CompactRedisSerializer.builder()
+                .register(1, new TypeReference<Versioned<List<PopupStore>>>() {})
+                .build();
+        Versioned<List<PopupStore>> value = new Versioned<>(popupStores(3), 7L);
+
+        // When
+        Object restored = genericSerializer.deserialize(genericSerializer.serialize(value));
+
+        // Then
+        assertThat(restored).isInstanceOf(Versioned.class);
+        Versioned<?> versioned = (Versioned<?>) restored;
+        assertThat(versioned.version).isEqualTo(7L);
+        assertThat(versioned.value).asList().hasSize(3).first().isInstanceOf(PopupStore.class);
+    }
+
+    @Test
+    @DisplayName("같은 클래스를 다른 번호로 중복 등록 거부 테스트")
+    void testRejectsDuplicateGenericClass() {
+        assertThatThrownBy(() -> CompactRedisSerializer.builder()
+                .register(1, new TypeReference<Versioned<List<PopupStore>>>() {})
+                .register(2, new TypeReference<Versioned<String>>() {}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("타입 번호 중복 등록 거부 테스트")
+    void testRejectsDuplicateTypeId() {
+        assertThatThrownBy(() -> CompactRedisSerializer.builder()
+                .register(1, PopupStore.class)
+                .register(1, String.class))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private GenericJackson2JsonRedisSerializer jsonSerializer() {
+        GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer();
+        jsonSerializer.configure(mapper -> mapper.registerModule(new JavaTimeModule()));
+        return jsonSerializer;
+    }
+
+    static class Versioned<T> {
+        T value;
+        long version;
+
+        Versioned() {
+        }
+
+        Versioned(T value, long version) {
+            this.value = value;
+            this.version = version;
+        }
+    }
+
+    private List<PopupStore> popupStores(int count) {
+        return IntStream.rangeClosed(1, count)
+                .mapToObj(i -> PopupStore.builder()
+                        .id((long) i)
+                        .name("팝업스토어 " + i)
+                        .description("한정 굿즈와 포토존을 운영하는 팝업스토어입니다.")
+                        .location(Location.of(37.5, 127.0))
+                        .startDate(LocalDateTime.of(2025, 3, 1, 10, 0))
+                        .endDate(LocalDateTime.of(2025, 3, 15, 20, 0))
+                        .imageUrl("https://cdn.popupmoah.com/images/popupstore/" + i + ".jpg")
+                        .category("패션")
+                        .build())
+                .toList();
+    }
+}
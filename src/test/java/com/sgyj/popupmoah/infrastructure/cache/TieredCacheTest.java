@@ -0,0 +1,138 @@
+package com.sgyj.popupmoah.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TieredCacheTest {
+
+    private ConcurrentMapCache remoteCache;
+    private SimpleMeterRegistry meterRegistry;
+    private List<String> published;
+    private TieredCache tieredCache;
+
+    @BeforeEach
+    void setUp() {
+        remoteCache = new ConcurrentMapCache("popupstores", false);
+        meterRegistry = new SimpleMeterRegistry();
+        published = new ArrayList<>();
+        tieredCache = new TieredCache("popupstores",
+                Caffeine.newBuilder().maximumSize(100).build(),
+                remoteCache,
+                false,
+                (cacheName, key) -> published.add(cacheName + ":" + key),
+                meterRegistry);
+    }
+
+    @Test
+    @DisplayName("L2 값을 L1에 채운 뒤 L1에서 응답 테스트")
+    void testPromotesRemoteValueToLocal() {
+        // Given
+        remoteCache.put(1L, "store-1");
+
+        // When
+        Object first = tieredCache.get(1L).get();
+        remoteCache.evict(1L);
+        Object second = tieredCache.get(1L).get();
+
+        // Then
+        assertThat(first).isEqualTo("store-1");
+        assertThat(second).isEqualTo("store-1");
+        assertThat(count("l1", "hit")).isEqualTo(1);
+        assertThat(count("l1", "miss")).isEqualTo(1);
+        assertThat(count("l2", "hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("값 로더는 L1/L2 모두 없을 때 한 번만 호출 테스트")
+    void testLoadsOnceThroughBothLevels() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        String first = tieredCache.get("all", () -> "list-" + loads.incrementAndGet());
+        String second = tieredCache.get("all", () -> "list-" + loads.incrementAndGet());
+
+        // Then
+        assertThat(first).isEqualTo("list-1");
+        assertThat(second).isEqualTo("list-1");
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(remoteCache.get("all").get()).isEqualTo("list-1");
+        assertThat(count("l2", "miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("null 값을 허용하지 않으면 로더의 null은 저장하지 않고 다시 로딩 테스트")
+    void testDoesNotCacheNullFromLoader() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        String first = tieredCache.get(404L, () -> {
+            loads.incrementAndGet();
+            return null;
+        });
+        String second = tieredCache.get(404L, () -> {
+            loads.incrementAndGet();
+            return null;
+        });
+
+        // Then
+        assertThat(first).isNull();
+        assertThat(second).isNull();
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(remoteCache.get(404L)).isNull();
+        assertThat(tieredCache.get(404L)).isNull();
+    }
+
+    @Test
+    @DisplayName("삭제는 두 단계에 반영하고 다른 노드에 무효화 전파 테스트")
+    void testEvictPublishesInvalidation() {
+        // Given
+        tieredCache.put(1L, "store-1");
+
+        // When
+        tieredCache.evict(1L);
+        tieredCache.clear();
+
+        // Then
+        assertThat(tieredCache.get(1L)).isNull();
+        assertThat(remoteCache.get(1L)).isNull();
+        assertThat(published).containsExactly("popupstores:1", "popupstores:1", "popupstores:null");
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화는 L1만 비워 다음 조회가 L2를 읽음 테스트")
+    void testEvictLocalFallsBackToRemote() {
+        // Given
+        tieredCache.put(1L, "store-1");
+        remoteCache.put(1L, "store-1-updated");
+
+        // When
+        Object stale = tieredCache.get(1L).get();
+        tieredCache.evictLocal(TieredCache.localKey(1L));
+        Object fresh = tieredCache.get(1L).get();
+
+        // Then
+        assertThat(stale).isEqualTo("store-1");
+        assertThat(fresh).isEqualTo("store-1-updated");
+    }
+
+    private double count(String level, String result) {
+        return meterRegistry.get("cache.tiered.gets")
+                .tag("cache", "popupstores")
+                .tag("level", level)
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+}
@@ -0,0 +1,204 @@
+package com.sgyj.popupmoah.infrastructure.file;
+
+import com.sgyj.popupmoah.adapter.persistence.file.RenditionJobJpaEntity;
+import com.sgyj.popupmoah.adapter.persistence.file.RenditionJobJpaRepository;
+import com.sgyj.popupmoah.domain.file.exception.RenditionQueueFullException;
+import com.sgyj.popupmoah.domain.file.service.ImageRenditionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class RenditionJobQueueTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Mock
+    private RenditionJobJpaRepository jobRepository;
+
+    @Mock
+    private ImageRenditionService renditionService;
+
+    private RenditionJobQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        queue = new RenditionJobQueue(jobRepository, renditionService, new SimpleMeterRegistry(),
+                2, 10, MAX_ATTEMPTS, 1000, 10_000, 60);
+        when(jobRepository.claim(any(), anyString(), any(LocalDateTime.class), any(LocalDateTime.class), eq(MAX_ATTEMPTS)))
+                .thenReturn(1);
+        when(jobRepository.markDone(any(), anyString(), any(LocalDateTime.class))).thenReturn(1);
+        when(jobRepository.scheduleRetry(any(), anyString(), any(LocalDateTime.class), anyString())).thenReturn(1);
+        when(jobRepository.markFailed(any(), anyString(), any(LocalDateTime.class), anyString())).thenReturn(1);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        queue.shutdown();
+    }
+
+    @Test
+    @DisplayName("작업 처리 후 완료 처리 테스트")
+    void testProcessesClaimedJob() throws IOException {
+        // Given
+        givenJob(1L, 100L, 1);
+
+        // When
+        queue.poll();
+
+        // Then
+        verify(renditionService, timeout(1000)).generateRenditions(100L);
+        verify(jobRepository, timeout(1000)).markDone(eq(1L), anyString(), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("완료 처리는 점유할 때 받은 토큰으로 반영 테스트")
+    void testCompletesWithClaimedOwner() throws IOException {
+        // Given
+        givenJob(1L, 100L, 1);
+
+        // When
+        queue.poll();
+
+        // Then
+        ArgumentCaptor<String> claimedBy = ArgumentCaptor.forClass(String.class);
+        verify(jobRepository).claim(eq(1L), claimedBy.capture(), any(LocalDateTime.class), any(LocalDateTime.class),
+                eq(MAX_ATTEMPTS));
+        verify(jobRepository, timeout(1000)).markDone(eq(1L), eq(claimedBy.getValue()), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("점유를 잃은 작업은 재시도 예약 결과를 집계하지 않음 테스트")
+    void testLostLeaseIsNotCountedAsRetry() throws IOException {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        queue.shutdown();
+        queue = new RenditionJobQueue(jobRepository, renditionService, meterRegistry,
+                2, 10, MAX_ATTEMPTS, 1000, 10_000, 60);
+        givenJob(1L, 100L, 1);
+        doThrow(new IOException("S3 연결 실패")).when(renditionService).generateRenditions(100L);
+        when(jobRepository.scheduleRetry(any(), anyString(), any(LocalDateTime.class), anyString())).thenReturn(0);
+
+        // When
+        queue.poll();
+
+        // Then
+        verify(jobRepository, timeout(1000)).scheduleRetry(eq(1L), anyString(), any(LocalDateTime.class), anyString());
+        assertThat(meterRegistry.get("file.rendition.retries").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("기한이 지난 작업이 최대 시도 횟수에 도달했으면 실패 처리 테스트")
+    void testFailsExpiredJobsAtMaxAttempts() {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        queue.shutdown();
+        queue = new RenditionJobQueue(jobRepository, renditionService, meterRegistry,
+                2, 10, MAX_ATTEMPTS, 1000, 10_000, 60);
+        when(jobRepository.failExpiredExhausted(any(LocalDateTime.class), eq(MAX_ATTEMPTS), anyString())).thenReturn(2);
+
+        // When
+        queue.poll();
+
+        // Then
+        verify(jobRepository).findClaimableIds(any(LocalDateTime.class), eq(MAX_ATTEMPTS), any());
+        assertThat(meterRegistry.get("file.rendition.failures").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("빈 워커 수만큼만 작업 조회 테스트")
+    void testClaimsAtMostFreeWorkers() {
+        // When
+        queue.poll();
+
+        // Then
+        verify(jobRepository).findClaimableIds(any(LocalDateTime.class), eq(MAX_ATTEMPTS),
+                argThat(pageable -> pageable.getPageSize() == 2));
+    }
+
+    @Test
+    @DisplayName("실패 시 백오프 후 재시도 예약 테스트")
+    void testSchedulesRetryOnFailure() throws IOException {
+        // Given
+        givenJob(1L, 100L, 1);
+        doThrow(new IOException("S3 연결 실패")).when(renditionService).generateRenditions(100L);
+
+        // When
+        queue.poll();
+
+        // Then
+        verify(jobRepository, timeout(1000)).scheduleRetry(eq(1L), anyString(), any(LocalDateTime.class),
+                contains("S3 연결 실패"));
+        verify(jobRepository, never()).markFailed(any(), any(), any(), anyString());
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수 초과 시 실패 처리 테스트")
+    void testMarksFailedAfterMaxAttempts() throws IOException {
+        // Given
+        givenJob(1L, 100L, MAX_ATTEMPTS);
+        doThrow(new IOException("S3 연결 실패")).when(renditionService).generateRenditions(100L);
+
+        // When
+        queue.poll();
+
+        // Then
+        verify(jobRepository, timeout(1000)).markFailed(eq(1L), anyString(), any(LocalDateTime.class), anyString());
+        verify(jobRepository, never()).scheduleRetry(any(), any(), any(), anyString());
+    }
+
+    @Test
+    @DisplayName("대기 작업이 가득 차면 업로드 거절 테스트")
+    void testRejectsWhenQueueIsFull() {
+        // Given
+        when(jobRepository.countOutstanding()).thenReturn(10L);
+        queue.poll();
+
+        // When & Then
+        assertThatThrownBy(() -> queue.checkCapacity())
+                .isInstanceOf(RenditionQueueFullException.class)
+                .hasMessageContaining("대기열이 가득");
+    }
+
+    @Test
+    @DisplayName("재시도 대기 시간 지수 증가 및 상한 테스트")
+    void testBackoff() {
+        assertThat(queue.backoff(1)).isBetween(Duration.ofMillis(1000), Duration.ofMillis(1200));
+        assertThat(queue.backoff(3)).isBetween(Duration.ofMillis(4000), Duration.ofMillis(4800));
+        assertThat(queue.backoff(30)).isBetween(Duration.ofMillis(10_000), Duration.ofMillis(12_000));
+    }
+
+    private void givenJob(Long jobId, Long fileUploadId, int attempts) {
+        when(jobRepository.findClaimableIds(any(LocalDateTime.class), anyInt(), any())).thenReturn(List.of(jobId));
+        when(jobRepository.findById(jobId)).thenReturn(Optional.of(RenditionJobJpaEntity.builder()
+                .id(jobId)
+                .fileUploadId(fileUploadId)
+                .status(RenditionJobJpaEntity.Status.PROCESSING)
+                .attempts(attempts)
+                .nextAttemptAt(LocalDateTime.now())
+                .createdAt(LocalDateTime.now())
+                .build()));
+    }
+}
@@ -61,7 +61,7 @@ public class CachePerformanceTest {
 
         // 성능 개선 확인
         double improvement = (double) (firstQueryTime - secondQueryTime) / firstQueryTime * 100;
-        log.info("성능 개선: {:.2f}%", improvement);
+        log.info("성능 개선: {}%", String.format("%.2f", improvement));
 
         // 동시성 테스트
         testConcurrentCacheAccess();
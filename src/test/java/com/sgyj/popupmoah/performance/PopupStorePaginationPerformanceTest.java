@@ -0,0 +1,168 @@
+package com.sgyj.popupmoah.performance;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 팝업스토어 페이지네이션 성능 테스트
+ * 깊은 페이지에서 OFFSET 페이지네이션과 (created_at, id) 키셋 페이지네이션의 응답 시간을 비교
+ * 최대 100만 건을 넣으므로 기본 test 태스크에서는 제외하고 performanceTest 태스크로 실행합니다.
+ */
+@Slf4j
+@Tag("performance")
+public class PopupStorePaginationPerformanceTest {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int BATCH_SIZE = 5_000;
+    private static final int ITERATIONS = 20;
+
+    private static final String OFFSET_QUERY =
+            "SELECT id, created_at FROM popup_stores WHERE active = TRUE " +
+            "ORDER BY created_at DESC, id DESC LIMIT ? OFFSET ?";
+
+    private static final String KEYSET_QUERY =
+            "SELECT id, created_at FROM popup_stores WHERE active = TRUE AND " +
+            "(created_at < ? OR (created_at = ? AND id < ?)) " +
+            "ORDER BY created_at DESC, id DESC LIMIT ?";
+
+    /**
+     * 데이터 규모별 깊은 페이지 조회 성능 비교
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {10_000, 100_000, 1_000_000})
+    public void testDeepPageOffsetVersusKeyset(int rowCount) throws SQLException {
+        log.info("=== 페이지네이션 성능 테스트 시작: {}건 ===", rowCount);
+
+        try (Connection connection = DriverManager.getConnection(
+                "jdbc:h2:mem:pagination_" + rowCount + ";DB_CLOSE_DELAY=-1", "sa", "")) {
+            createTable(connection);
+            insertRows(connection, rowCount);
+
+            // 마지막에서 두 번째 페이지 근처 (가장 깊은 페이지)
+            int offset = rowCount - PAGE_SIZE * 2;
+
+            List<Long> offsetPage = queryOffset(connection, offset);
+            Row cursor = lastRowBefore(connection, offset);
+            List<Long> keysetPage = queryKeyset(connection, cursor);
+
+            // 두 방식이 동일한 페이지를 반환해야 함
+            assertThat(keysetPage).isEqualTo(offsetPage);
+
+            long offsetNanos = 0;
+            long keysetNanos = 0;
+            for (int i = 0; i < ITERATIONS; i++) {
+                long startTime = System.nanoTime();
+                queryOffset(connection, offset);
+                offsetNanos += System.nanoTime() - startTime;
+
+                startTime = System.nanoTime();
+                queryKeyset(connection, cursor);
+                keysetNanos += System.nanoTime() - startTime;
+            }
+
+            double offsetAvgMs = offsetNanos / 1_000_000.0 / ITERATIONS;
+            double keysetAvgMs = keysetNanos / 1_000_000.0 / ITERATIONS;
+            log.info("OFFSET 페이지네이션 평균: {}ms (offset={})", String.format("%.3f", offsetAvgMs), offset);
+            log.info("키셋 페이지네이션 평균: {}ms", String.format("%.3f", keysetAvgMs));
+            log.info("성능 개선: {}배", String.format("%.1f", offsetAvgMs / Math.max(keysetAvgMs, 0.001)));
+
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DROP ALL OBJECTS");
+            }
+        }
+
+        log.info("=== 페이지네이션 성능 테스트 완료: {}건 ===", rowCount);
+    }
+
+    private void createTable(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE popup_stores (" +
+                    "id BIGINT PRIMARY KEY, " +
+                    "name VARCHAR(255) NOT NULL, " +
+                    "active BOOLEAN NOT NULL, " +
+                    "created_at TIMESTAMP NOT NULL)");
+            statement.execute("CREATE INDEX idx_popup_stores_created_at_id ON popup_stores(created_at, id)");
+        }
+    }
+
+    private void insertRows(Connection connection, int rowCount) throws SQLException {
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        connection.setAutoCommit(false);
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO popup_stores (id, name, active, created_at) VALUES (?, ?, TRUE, ?)")) {
+            for (int i = 1; i <= rowCount; i++) {
+                statement.setLong(1, i);
+                statement.setString(2, "팝업스토어 " + i);
+                // 같은 created_at 값이 여러 행에 걸치도록 하여 id 타이브레이크를 검증
+                statement.setTimestamp(3, Timestamp.valueOf(base.plusSeconds(i / 3)));
+                statement.addBatch();
+                if (i % BATCH_SIZE == 0) {
+                    statement.executeBatch();
+                }
+            }
+            statement.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+    }
+
+    private List<Long> queryOffset(Connection connection, int offset) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(OFFSET_QUERY)) {
+            statement.setInt(1, PAGE_SIZE);
+            statement.setInt(2, offset);
+            return readIds(statement);
+        }
+    }
+
+    private List<Long> queryKeyset(Connection connection, Row cursor) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(KEYSET_QUERY)) {
+            statement.setTimestamp(1, cursor.createdAt());
+            statement.setTimestamp(2, cursor.createdAt());
+            statement.setLong(3, cursor.id());
+            statement.setInt(4, PAGE_SIZE);
+            return readIds(statement);
+        }
+    }
+
+    /**
+     * OFFSET 직전 행을 커서로 사용 (이전 페이지의 마지막 행에 해당)
+     */
+    private Row lastRowBefore(Connection connection, int offset) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(OFFSET_QUERY)) {
+            statement.setInt(1, 1);
+            statement.setInt(2, offset - 1);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return new Row(resultSet.getLong("id"), resultSet.getTimestamp("created_at"));
+            }
+        }
+    }
+
+    private List<Long> readIds(PreparedStatement statement) throws SQLException {
+        List<Long> ids = new ArrayList<>(PAGE_SIZE);
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                ids.add(resultSet.getLong("id"));
+            }
+        }
+        return ids;
+    }
+
+    private record Row(long id, Timestamp createdAt) {
+    }
+}
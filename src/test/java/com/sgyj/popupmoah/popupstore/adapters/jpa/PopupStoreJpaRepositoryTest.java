@@ -0,0 +1,77 @@
+package com.sgyj.popupmoah.popupstore.adapters.jpa;
+
+import com.sgyj.popupmoah.popupstore.domain.search.PopupStoreSearchCondition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PopupStoreJpaRepositoryTest {
+
+    @Mock
+    private PopupStoreJpaEntityRepository repository;
+
+    @InjectMocks
+    private PopupStoreJpaRepository popupStoreJpaRepository;
+
+    @Test
+    @DisplayName("첫 페이지는 요청한 방향으로 정렬하고 id를 보조 정렬로 사용 테스트")
+    void testFirstPageHonorsDirectionWithIdTiebreak() {
+        // Given
+        when(repository.findBySearchConditions(isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), isNull(),
+                isNull(), isNull(), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of()));
+
+        // When
+        popupStoreJpaRepository.searchBySearchConditions(PopupStoreSearchCondition.builder()
+                .sortBy("createdAt")
+                .sortDirection("asc")
+                .build());
+
+        // Then
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(repository).findBySearchConditions(isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), isNull(),
+                isNull(), isNull(), any(LocalDateTime.class), pageable.capture());
+        assertThat(pageable.getValue().getSort())
+                .isEqualTo(Sort.by(Sort.Order.asc("createdAt"), Sort.Order.asc("id")));
+    }
+
+    @Test
+    @DisplayName("COUNT 생략 조회도 같은 방향의 id 보조 정렬 사용 테스트")
+    void testSliceUsesIdTiebreak() {
+        // Given
+        when(repository.findSliceBySearchConditions(isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), isNull(),
+                isNull(), isNull(), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of()));
+
+        // When
+        popupStoreJpaRepository.searchBySearchConditions(PopupStoreSearchCondition.builder()
+                .sortBy("name")
+                .sortDirection("desc")
+                .includeTotal(false)
+                .build());
+
+        // Then
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(repository).findSliceBySearchConditions(isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), isNull(),
+                isNull(), isNull(), any(LocalDateTime.class), pageable.capture());
+        assertThat(pageable.getValue().getSort())
+                .isEqualTo(Sort.by(Sort.Order.desc("name"), Sort.Order.desc("id")));
+    }
+}
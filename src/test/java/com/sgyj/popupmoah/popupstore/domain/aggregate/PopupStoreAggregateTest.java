@@ -1,11 +1,15 @@
 package com.sgyj.popupmoah.popupstore.domain.aggregate;
 
 import com.sgyj.popupmoah.popupstore.domain.entity.PopupStore;
+import com.sgyj.popupmoah.popupstore.domain.event.PopupStoreChangedEvent;
+import com.sgyj.popupmoah.popupstore.domain.port.PopupStoreCounterPort;
+import com.sgyj.popupmoah.popupstore.domain.port.PopupStoreEventPublisherPort;
 import com.sgyj.popupmoah.popupstore.domain.port.PopupStoreRepositoryPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -243,6 +247,23 @@ class PopupStoreAggregateTest {
         verify(repository).save(any(PopupStore.class));
     }
     
+    @Test
+    @DisplayName("카운터 포트 사용 시 엔티티를 저장하지 않고 누적 테스트")
+    void testIncrementViewCountWithCounter() {
+        // Given
+        PopupStoreCounterPort counter = mock(PopupStoreCounterPort.class);
+        PopupStoreAggregate bufferedAggregate = new PopupStoreAggregate(repository, counter);
+        
+        // When
+        bufferedAggregate.incrementViewCount(1L);
+        bufferedAggregate.decrementLikeCount(1L);
+        
+        // Then
+        verify(counter).incrementViewCount(1L);
+        verify(counter).decrementLikeCount(1L);
+        verifyNoInteractions(repository);
+    }
+    
     @Test
     @DisplayName("팝업스토어 활성화 테스트")
     void testActivate() {
@@ -273,6 +294,42 @@ class PopupStoreAggregateTest {
         verify(repository).save(any(PopupStore.class));
     }
     
+    @Test
+    @DisplayName("상태 변경과 삭제 시 변경 이벤트 발행 테스트")
+    void testPublishesChangeEvents() {
+        // Given
+        PopupStoreEventPublisherPort events = mock(PopupStoreEventPublisherPort.class);
+        PopupStoreAggregate publishingAggregate = new PopupStoreAggregate(repository, null, events);
+        when(repository.findById(1L)).thenReturn(Optional.of(testPopupStore));
+        when(repository.save(any(PopupStore.class))).thenReturn(testPopupStore);
+        when(repository.existsById(1L)).thenReturn(true);
+        
+        // When
+        publishingAggregate.deactivate(1L);
+        publishingAggregate.delete(1L);
+        
+        // Then
+        ArgumentCaptor<PopupStoreChangedEvent> captor = ArgumentCaptor.forClass(PopupStoreChangedEvent.class);
+        verify(events, times(2)).publish(captor.capture());
+        assertThat(captor.getAllValues().get(0).getType()).isEqualTo(PopupStoreChangedEvent.Type.UPDATED);
+        assertThat(captor.getAllValues().get(0).getPopupStore().isActive()).isFalse();
+        assertThat(captor.getAllValues().get(1).getType()).isEqualTo(PopupStoreChangedEvent.Type.DELETED);
+        assertThat(captor.getAllValues().get(1).getPopupStoreId()).isEqualTo(1L);
+    }
+    
+    @Test
+    @DisplayName("승인 대기 상태가 아닌 팝업스토어 승인 시 예외 발생 테스트")
+    void testApproveNotPending() {
+        // Given
+        when(repository.findById(1L)).thenReturn(Optional.of(testPopupStore));
+        
+        // When & Then
+        assertThatThrownBy(() -> aggregate.approve(1L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("승인 대기 상태가 아닌 팝업스토어입니다");
+        verify(repository, never()).save(any(PopupStore.class));
+    }
+    
     @Test
     @DisplayName("이름으로 팝업스토어 검색 테스트")
     void testSearchByName() {
@@ -0,0 +1,141 @@
+package com.sgyj.popupmoah.popupstore.infrastructure.cache;
+
+import com.sgyj.popupmoah.popupstore.domain.entity.PopupStore;
+import com.sgyj.popupmoah.popupstore.domain.event.PopupStoreChangedEvent;
+import com.sgyj.popupmoah.popupstore.infrastructure.counter.PopupStoreCounterDelta;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PopupStoreCacheMaintainerTest {
+
+    @Mock
+    private RedisLeaseLock leaseLock;
+
+    private ConcurrentMapCacheManager cacheManager;
+    private List<Runnable> backgroundTasks;
+    private StaleWhileRevalidateCache listCache;
+    private PopupStoreCacheMaintainer maintainer;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager("popupstores");
+        backgroundTasks = new ArrayList<>();
+        listCache = new StaleWhileRevalidateCache(cacheManager, leaseLock, new SimpleMeterRegistry(),
+                backgroundTasks::add, 60_000, Duration.ofMillis(500), Duration.ofMillis(100));
+        maintainer = new PopupStoreCacheMaintainer(cacheManager, listCache);
+    }
+
+    @Test
+    @DisplayName("비활성화 시 단건은 교체하고 활성 목록에서만 제거 테스트")
+    void testDeactivatePatchesListsInPlace() {
+        // Given
+        when(leaseLock.tryAcquire(anyString(), any())).thenReturn("token");
+        cachedLists(List.of(store(1L, true), store(2L, true)));
+        PopupStore deactivated = store(2L, false);
+
+        // When
+        maintainer.onChanged(PopupStoreChangedEvent.updated(deactivated));
+
+        // Then
+        assertThat(ids(list("all"))).containsExactly(1L, 2L);
+        assertThat(list("all").get(1).isActive()).isFalse();
+        assertThat(ids(list("active"))).containsExactly(1L);
+        assertThat(cacheManager.getCache("popupstores").get(2L).get()).isSameAs(deactivated);
+        assertThat(backgroundTasks).as("다시 조회하지 않음").isEmpty();
+    }
+
+    @Test
+    @DisplayName("생성은 목록 끝에 추가하고 삭제는 모든 목록과 단건에서 제거 테스트")
+    void testCreateAndDelete() {
+        // Given
+        when(leaseLock.tryAcquire(anyString(), any())).thenReturn("token");
+        cachedLists(List.of(store(1L, true)));
+        cacheManager.getCache("popupstores").put(1L, store(1L, true));
+
+        // When
+        maintainer.onChanged(PopupStoreChangedEvent.created(store(3L, true)));
+        maintainer.onChanged(PopupStoreChangedEvent.deleted(1L));
+
+        // Then
+        assertThat(ids(list("all"))).containsExactly(3L);
+        assertThat(ids(list("active"))).containsExactly(3L);
+        assertThat(cacheManager.getCache("popupstores").get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 노드가 목록을 다시 조회 중이면 패치 대신 갱신 대상으로 표시 테스트")
+    void testMarksStaleWhenLeaseIsHeld() {
+        // Given
+        when(leaseLock.tryAcquire(anyString(), any())).thenReturn("token", "token", null, null);
+        cachedLists(List.of(store(1L, true)));
+
+        // When
+        maintainer.onChanged(PopupStoreChangedEvent.created(store(2L, true)));
+
+        // Then
+        assertThat(ids(listCache.get("popupstores", "all", List::of))).containsExactly(1L);
+        assertThat(backgroundTasks).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("카운터 반영 시 단건은 지우고 목록은 카운터만 고침 테스트")
+    void testCountersFlushedPatchesCounts() {
+        // Given
+        when(leaseLock.tryAcquire(anyString(), any())).thenReturn("token");
+        cachedLists(List.of(store(1L, true), store(2L, true)));
+        cacheManager.getCache("popupstores").put(1L, store(1L, true));
+
+        // When
+        maintainer.countersFlushed(List.of(new PopupStoreCounterDelta(1L, 5, -1)));
+
+        // Then
+        assertThat(list("all").get(0).getViewCount()).isEqualTo(15L);
+        assertThat(list("all").get(0).getLikeCount()).isEqualTo(2L);
+        assertThat(list("all").get(1).getViewCount()).isEqualTo(10L);
+        assertThat(list("active").get(0).getViewCount()).isEqualTo(15L);
+        assertThat(cacheManager.getCache("popupstores").get(1L)).isNull();
+        assertThat(backgroundTasks).as("다시 조회하지 않음").isEmpty();
+    }
+
+    private void cachedLists(List<PopupStore> popupStores) {
+        listCache.get("popupstores", "all", () -> popupStores);
+        listCache.get("popupstores", "active", () -> popupStores.stream().filter(PopupStore::isActive).toList());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<PopupStore> list(String key) {
+        StaleWhileRevalidateCache.CachedValue<?> cached =
+                (StaleWhileRevalidateCache.CachedValue<?>) cacheManager.getCache("popupstores").get(key).get();
+        return (List<PopupStore>) cached.value();
+    }
+
+    private static List<Long> ids(List<PopupStore> popupStores) {
+        return popupStores.stream().map(PopupStore::getId).toList();
+    }
+
+    private static PopupStore store(Long id, boolean active) {
+        return PopupStore.builder()
+                .id(id)
+                .name("팝업스토어 " + id)
+                .active(active)
+                .status(active ? "ACTIVE" : "INACTIVE")
+                .viewCount(10L)
+                .likeCount(3L)
+                .build();
+    }
+}
@@ -0,0 +1,164 @@
+package com.sgyj.popupmoah.popupstore.infrastructure.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StaleWhileRevalidateCacheTest {
+
+    @Mock
+    private RedisLeaseLock leaseLock;
+
+    private ConcurrentMapCacheManager cacheManager;
+    private List<Runnable> backgroundTasks;
+    private StaleWhileRevalidateCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager("popupstores");
+        backgroundTasks = new ArrayList<>();
+        cache = new StaleWhileRevalidateCache(cacheManager, leaseLock, new SimpleMeterRegistry(),
+                backgroundTasks::add, 60_000, Duration.ofMillis(10_000), Duration.ofMillis(500));
+    }
+
+    @Test
+    @DisplayName("값이 없을 때 동시 요청은 한 번만 조회 테스트")
+    void testConcurrentMissesLoadOnce() throws Exception {
+        // Given
+        when(leaseLock.tryAcquire(anyString(), any())).thenReturn("token");
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        List<Future<List<String>>> results = new ArrayList<>();
+        results.add(executor.submit(() -> cache.get("popupstores", "all", () -> {
+            loads.incrementAndGet();
+            loaderStarted.countDown();
+            await(releaseLoader);
+            return List.of("store-1");
+        })));
+        assertThat(loaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < 7; i++) {
+            results.add(executor.submit(() -> cache.get("popupstores", "all", () -> {
+                loads.incrementAndGet();
+                return List.of("duplicate");
+            })));
+        }
+        Thread.sleep(100);
+        releaseLoader.countDown();
+
+        // Then
+        for (Future<List<String>> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).containsExactly("store-1");
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        verify(leaseLock, times(1)).tryAcquire(eq("popupmoah:cache-lock:popupstores:all"), any());
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("갱신 대상 값은 이전 값을 반환하고 백그라운드에서 한 번만 갱신 테스트")
+    void testStaleValueServedWhileRefreshing() {
+        // Given
+        when(leaseLock.tryAcquire(anyString(), any())).thenReturn("token");
+        cache.get("popupstores", "all", () -> List.of("v1"));
+        cache.markStale("popupstores", "all");
+
+        // When
+        List<String> first = cache.get("popupstores", "all", () -> List.of("v2"));
+        List<String> second = cache.get("popupstores", "all", () -> List.of("v3"));
+
+        // Then
+        assertThat(first).containsExactly("v1");
+        assertThat(second).containsExactly("v1");
+        assertThat(backgroundTasks).hasSize(1);
+
+        backgroundTasks.get(0).run();
+        assertThat(cache.<List<String>>get("popupstores", "all", () -> List.of("v4"))).containsExactly("v2");
+        verify(leaseLock, times(2)).release(anyString(), eq("token"));
+    }
+
+    @Test
+    @DisplayName("다른 노드가 락을 쥐고 있으면 갱신하지 않음 테스트")
+    void testRefreshSkippedWhenOtherNodeHoldsLease() {
+        // Given
+        when(leaseLock.tryAcquire(anyString(), any())).thenReturn("token", (String) null);
+        cache.get("popupstores", "active", () -> List.of("v1"));
+        cache.markStale("popupstores", "active");
+        cache.get("popupstores", "active", () -> List.of("v2"));
+
+        // When
+        backgroundTasks.get(0).run();
+
+        // Then
+        assertThat(cache.<List<String>>get("popupstores", "active", () -> List.of("v3"))).containsExactly("v1");
+        verify(leaseLock, times(1)).release(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("다른 노드가 계산 중이면 그 결과를 기다려 사용 테스트")
+    void testWaitsForOtherNodeOnMiss() throws Exception {
+        // Given
+        when(leaseLock.tryAcquire(anyString(), any())).thenReturn(null);
+        ExecutorService otherNode = Executors.newSingleThreadExecutor();
+        otherNode.submit(() -> {
+            Thread.sleep(100);
+            cacheManager.getCache("popupstores")
+                    .put("all", new StaleWhileRevalidateCache.CachedValue<>(List.of("from-other-node"), Long.MAX_VALUE, 0));
+            return null;
+        });
+
+        // When
+        List<String> result = cache.get("popupstores", "all", () -> List.of("local"));
+
+        // Then
+        assertThat(result).containsExactly("from-other-node");
+        otherNode.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("다른 노드의 결과를 락 임대 시간이 아닌 대기 시간까지만 기다림 테스트")
+    void testLoadsWithoutLockAfterAwaitTimeout() {
+        // Given
+        when(leaseLock.tryAcquire(anyString(), any())).thenReturn(null);
+        long startedAt = System.nanoTime();
+
+        // When
+        List<String> result = cache.get("popupstores", "all", () -> List.of("local"));
+
+        // Then
+        assertThat(result).containsExactly("local");
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(5_000);
+        verify(leaseLock, never()).release(anyString(), any());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
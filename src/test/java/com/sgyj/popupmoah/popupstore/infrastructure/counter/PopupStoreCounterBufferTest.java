@@ -0,0 +1,176 @@
+package com.sgyj.popupmoah.popupstore.infrastructure.counter;
+
+import com.sgyj.popupmoah.popupstore.adapters.jpa.PopupStoreJpaRepository;
+import com.sgyj.popupmoah.popupstore.infrastructure.cache.PopupStoreCacheMaintainer;
+import com.sgyj.popupmoah.popupstore.infrastructure.search.PopupStoreIndexSynchronizer;
+import com.sgyj.popupmoah.popupstore.infrastructure.search.PopupStoreSearchIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PopupStoreCounterBufferTest {
+
+    @Mock
+    private PopupStoreCounterWriter writer;
+
+    @Mock
+    private PopupStoreSearchIndex searchIndex;
+
+    @Mock
+    private PopupStoreJpaRepository jpaRepository;
+
+    @Mock
+    private PopupStoreIndexSynchronizer indexSynchronizer;
+
+    @Mock
+    private PopupStoreCacheMaintainer cacheMaintainer;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private PopupStoreCounterBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lenient().when(searchIndex.isReady()).thenReturn(true);
+        lenient().when(searchIndex.contains(anyLong())).thenReturn(true);
+        buffer = new PopupStoreCounterBuffer(writer, searchIndex, jpaRepository, indexSynchronizer,
+                cacheMaintainer, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("동시 증가 요청을 팝업스토어별 증감분 하나로 반영 테스트")
+    @SuppressWarnings("unchecked")
+    void testConcurrentIncrementsFlushedAsSingleDelta() throws InterruptedException {
+        // Given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 1000; i++) {
+            executor.submit(() -> buffer.incrementViewCount(1L));
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        buffer.incrementLikeCount(2L);
+        buffer.incrementLikeCount(2L);
+        buffer.decrementLikeCount(2L);
+
+        // When
+        buffer.flush();
+
+        // Then
+        ArgumentCaptor<List<PopupStoreCounterDelta>> captor = ArgumentCaptor.forClass(List.class);
+        verify(writer).write(captor.capture());
+        assertThat(captor.getValue()).containsExactlyInAnyOrder(
+                new PopupStoreCounterDelta(1L, 1000, 0),
+                new PopupStoreCounterDelta(2L, 0, 1));
+        assertThat(buffer.pendingDeltas()).isZero();
+        assertThat(meterRegistry.get("popupstore.counter.pending.deltas").gauge().value()).isZero();
+        verify(indexSynchronizer).countersFlushed(captor.getValue());
+        verify(cacheMaintainer).countersFlushed(captor.getValue());
+    }
+
+    @Test
+    @DisplayName("색인에 없는 팝업스토어의 증감 요청 무시 테스트")
+    void testUnknownPopupStoreIsIgnored() {
+        // Given
+        when(searchIndex.contains(99L)).thenReturn(false);
+
+        // When
+        buffer.incrementViewCount(99L);
+        buffer.incrementLikeCount(99L);
+
+        // Then
+        assertThat(buffer.pendingDeltas()).isZero();
+        buffer.flush();
+        verifyNoInteractions(writer);
+    }
+
+    @Test
+    @DisplayName("색인 구성 전에는 저장소로 존재 여부 확인 테스트")
+    @SuppressWarnings("unchecked")
+    void testChecksRepositoryBeforeIndexIsReady() {
+        // Given
+        when(searchIndex.isReady()).thenReturn(false);
+        when(jpaRepository.existsById(1L)).thenReturn(true);
+        when(jpaRepository.existsById(2L)).thenReturn(false);
+
+        // When
+        buffer.incrementViewCount(1L);
+        buffer.incrementViewCount(1L);
+        buffer.incrementViewCount(2L);
+        buffer.flush();
+
+        // Then
+        ArgumentCaptor<List<PopupStoreCounterDelta>> captor = ArgumentCaptor.forClass(List.class);
+        verify(writer).write(captor.capture());
+        assertThat(captor.getValue()).containsExactly(new PopupStoreCounterDelta(1L, 2, 0));
+        verify(jpaRepository, times(1)).existsById(1L);
+    }
+
+    @Test
+    @DisplayName("반영 후 버퍼를 비우고 다음 요청에서 존재 여부 다시 확인 테스트")
+    void testFlushDropsEntriesAndRevalidates() {
+        // Given
+        buffer.incrementViewCount(1L);
+        buffer.flush();
+        doReturn(false).when(searchIndex).contains(1L);
+
+        // When
+        buffer.incrementViewCount(1L);
+        buffer.flush();
+
+        // Then
+        verify(writer, times(1)).write(anyList());
+        verify(searchIndex, times(2)).contains(1L);
+        assertThat(buffer.pendingDeltas()).isZero();
+    }
+
+    @Test
+    @DisplayName("반영 실패 시 증감분 보존 후 재시도 테스트")
+    @SuppressWarnings("unchecked")
+    void testFailedFlushIsRetried() {
+        // Given
+        buffer.incrementViewCount(1L);
+        buffer.incrementViewCount(1L);
+        doThrow(new IllegalStateException("DB 오류")).doNothing().when(writer).write(anyList());
+
+        // When
+        buffer.flush();
+        long pendingAfterFailure = buffer.pendingDeltas();
+        buffer.flush();
+
+        // Then
+        ArgumentCaptor<List<PopupStoreCounterDelta>> captor = ArgumentCaptor.forClass(List.class);
+        verify(writer, times(2)).write(captor.capture());
+        assertThat(pendingAfterFailure).isEqualTo(2);
+        assertThat(captor.getAllValues().get(1)).containsExactly(new PopupStoreCounterDelta(1L, 2, 0));
+        assertThat(meterRegistry.get("popupstore.counter.flush.failures").counter().count()).isEqualTo(1.0);
+        assertThat(buffer.pendingDeltas()).isZero();
+        verify(indexSynchronizer, times(1)).countersFlushed(anyList());
+    }
+
+    @Test
+    @DisplayName("증감 요청이 없으면 저장소 호출 생략 테스트")
+    void testFlushWithoutPendingDeltas() {
+        // When
+        buffer.flush();
+
+        // Then
+        verifyNoInteractions(writer);
+    }
+}
@@ -0,0 +1,101 @@
+package com.sgyj.popupmoah.popupstore.infrastructure.geo;
+
+import com.sgyj.popupmoah.popupstore.domain.entity.PopupStore;
+import com.sgyj.popupmoah.popupstore.domain.search.PopupStoreCluster;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PopupStoreClusterIndexTest {
+
+    // 서울 전역
+    private static final double SOUTH = 37.40;
+    private static final double WEST = 126.80;
+    private static final double NORTH = 37.70;
+    private static final double EAST = 127.20;
+
+    private PopupStoreClusterIndex clusterIndex;
+
+    @BeforeEach
+    void setUp() {
+        clusterIndex = new PopupStoreClusterIndex();
+        clusterIndex.rebuild(List.of(
+                popupStore(1L, 37.5447, 127.0560, true),   // 성수
+                popupStore(2L, 37.5443, 127.0446, true),   // 서울숲
+                popupStore(3L, 37.4979, 127.0276, true),   // 강남
+                popupStore(4L, 37.5563, 126.9220, true),   // 홍대
+                popupStore(5L, 37.5446, 127.0558, false)   // 비활성
+        ));
+    }
+
+    @Test
+    @DisplayName("낮은 줌 레벨에서 하나의 클러스터로 집계 테스트")
+    void testLowZoomAggregatesIntoSingleCluster() {
+        // When
+        List<PopupStoreCluster> clusters = clusterIndex.findClusters(SOUTH, WEST, NORTH, EAST, 5);
+
+        // Then
+        assertThat(clusters).hasSize(1);
+        PopupStoreCluster cluster = clusters.get(0);
+        assertThat(cluster.getCount()).isEqualTo(4);
+        assertThat(cluster.getRepresentativeIds()).containsExactly(1L, 2L, 3L);
+        assertThat(cluster.getLatitude()).isCloseTo((37.5447 + 37.5443 + 37.4979 + 37.5563) / 4, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("높은 줌 레벨에서 개별 팝업스토어로 분리 테스트")
+    void testHighZoomSplitsClusters() {
+        // When
+        List<PopupStoreCluster> clusters = clusterIndex.findClusters(SOUTH, WEST, NORTH, EAST, 16);
+
+        // Then
+        assertThat(clusters).hasSize(4);
+        assertThat(clusters).allSatisfy(cluster -> assertThat(cluster.getCount()).isEqualTo(1));
+    }
+
+    @Test
+    @DisplayName("영역 밖의 셀 제외 테스트")
+    void testExcludesCellsOutsideBounds() {
+        // When (성수/서울숲 부근만)
+        List<PopupStoreCluster> clusters = clusterIndex.findClusters(37.53, 127.03, 37.56, 127.07, 14);
+
+        // Then
+        assertThat(clusters).flatExtracting(PopupStoreCluster::getRepresentativeIds).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("좌표/상태 변경 시 격자 갱신 테스트")
+    void testIncrementalUpdate() {
+        // When
+        clusterIndex.index(popupStore(4L, 37.5447, 127.0561, true));   // 홍대 -> 성수로 이동
+        clusterIndex.index(popupStore(3L, 37.4979, 127.0276, false));  // 강남 비활성화
+        clusterIndex.remove(2L);
+        List<PopupStoreCluster> clusters = clusterIndex.findClusters(SOUTH, WEST, NORTH, EAST, 12);
+
+        // Then
+        assertThat(clusters).hasSize(1);
+        assertThat(clusters.get(0).getRepresentativeIds()).containsExactly(1L, 4L);
+    }
+
+    @Test
+    @DisplayName("잘못된 줌 레벨 검증 테스트")
+    void testInvalidZoom() {
+        assertThatThrownBy(() -> clusterIndex.findClusters(SOUTH, WEST, NORTH, EAST, 21))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("줌 레벨은");
+    }
+
+    private PopupStore popupStore(Long id, double latitude, double longitude, boolean active) {
+        return PopupStore.builder()
+                .id(id)
+                .name("팝업스토어 " + id)
+                .latitude(latitude)
+                .longitude(longitude)
+                .active(active)
+                .build();
+    }
+}
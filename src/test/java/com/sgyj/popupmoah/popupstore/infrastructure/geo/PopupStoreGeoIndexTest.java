@@ -0,0 +1,96 @@
+package com.sgyj.popupmoah.popupstore.infrastructure.geo;
+
+import com.sgyj.popupmoah.popupstore.domain.entity.PopupStore;
+import com.sgyj.popupmoah.popupstore.domain.search.NearbyPopupStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PopupStoreGeoIndexTest {
+
+    // 성수역 부근
+    private static final double ORIGIN_LAT = 37.5445;
+    private static final double ORIGIN_LON = 127.0557;
+
+    private PopupStoreGeoIndex geoIndex;
+
+    @BeforeEach
+    void setUp() {
+        geoIndex = new PopupStoreGeoIndex();
+        geoIndex.rebuild(List.of(
+                popupStore(1L, "성수 팝업", 37.5447, 127.0560, true),      // 약 35m
+                popupStore(2L, "서울숲 팝업", 37.5443, 127.0446, true),    // 약 1km
+                popupStore(3L, "강남 팝업", 37.4979, 127.0276, true),      // 약 5.7km
+                popupStore(4L, "비활성 팝업", 37.5446, 127.0558, false),
+                popupStore(5L, "좌표 없는 팝업", null, null, true)
+        ));
+    }
+
+    @Test
+    @DisplayName("반경 내 팝업스토어를 가까운 순으로 조회 테스트")
+    void testFindWithinRadiusSortedByDistance() {
+        // When
+        List<NearbyPopupStore> result = geoIndex.findWithinRadius(ORIGIN_LAT, ORIGIN_LON, 1500);
+
+        // Then
+        assertThat(result).extracting(nearby -> nearby.getPopupStore().getId()).containsExactly(1L, 2L);
+        assertThat(result.get(0).getDistanceMeters()).isLessThan(result.get(1).getDistanceMeters());
+        assertThat(geoIndex.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("넓은 반경은 상위 셀로 탐색 테스트")
+    void testFindWithinLargeRadius() {
+        // When
+        List<NearbyPopupStore> result = geoIndex.findWithinRadius(ORIGIN_LAT, ORIGIN_LON, 10_000);
+
+        // Then
+        assertThat(result).extracting(nearby -> nearby.getPopupStore().getId()).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("경계 상자 내 팝업스토어 조회 테스트")
+    void testFindWithinBounds() {
+        // When
+        List<NearbyPopupStore> result = geoIndex.findWithinBounds(37.54, 127.05, 37.55, 127.06, ORIGIN_LAT, ORIGIN_LON);
+
+        // Then
+        assertThat(result).extracting(nearby -> nearby.getPopupStore().getId()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("비활성화 시 색인에서 제거되고 재활성화 시 다시 색인 테스트")
+    void testDeactivateAndActivate() {
+        // When
+        geoIndex.index(popupStore(1L, "성수 팝업", 37.5447, 127.0560, false));
+        List<NearbyPopupStore> afterDeactivate = geoIndex.findWithinRadius(ORIGIN_LAT, ORIGIN_LON, 500);
+        geoIndex.index(popupStore(4L, "비활성 팝업", 37.5446, 127.0558, true));
+        List<NearbyPopupStore> afterActivate = geoIndex.findWithinRadius(ORIGIN_LAT, ORIGIN_LON, 500);
+
+        // Then
+        assertThat(afterDeactivate).isEmpty();
+        assertThat(afterActivate).extracting(nearby -> nearby.getPopupStore().getId()).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("잘못된 좌표 검증 테스트")
+    void testInvalidCoordinates() {
+        assertThatThrownBy(() -> geoIndex.findWithinRadius(91, ORIGIN_LON, 1000))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("잘못된 좌표입니다");
+    }
+
+    private PopupStore popupStore(Long id, String name, Double latitude, Double longitude, boolean active) {
+        return PopupStore.builder()
+                .id(id)
+                .name(name)
+                .latitude(latitude)
+                .longitude(longitude)
+                .active(active)
+                .build();
+    }
+}
@@ -0,0 +1,93 @@
+package com.sgyj.popupmoah.popupstore.infrastructure.schedule;
+
+import com.sgyj.popupmoah.popupstore.domain.entity.PopupStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class PopupStoreRunningIndexTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 1, 12, 0);
+
+    private ScheduledExecutorService scheduler;
+    private PopupStoreRunningIndex runningIndex;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = mock(ScheduledExecutorService.class);
+        Clock clock = Clock.fixed(NOW.atZone(ZONE).toInstant(), ZONE);
+        runningIndex = new PopupStoreRunningIndex(clock, scheduler);
+        runningIndex.rebuild(List.of(
+                popupStore(1L, true, NOW.minusDays(1), NOW.plusHours(1)),
+                popupStore(2L, true, NOW.plusMinutes(30), NOW.plusDays(1)),
+                popupStore(3L, false, NOW.minusDays(1), NOW.plusDays(1)),
+                popupStore(4L, true, NOW.minusDays(3), NOW.minusDays(1)),
+                popupStore(5L, true, null, null)
+        ));
+    }
+
+    @Test
+    @DisplayName("기동 시 진행 중인 팝업스토어만 포함하고 가장 가까운 전환 시각에 깨어나도록 예약 테스트")
+    void testRebuild() {
+        // Then
+        assertThat(runningIndex.findRunning()).extracting(PopupStore::getId).containsExactly(1L, 5L);
+        assertThat(runningIndex.isRunning(3L)).isFalse();
+        verify(scheduler).schedule(any(Runnable.class), eq(TimeUnit.MINUTES.toMillis(30)), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("시작/종료 시각에 맞춰 집합에 넣고 빼기 테스트")
+    void testTransitionsAtWindowBoundaries() {
+        // When & Then
+        runningIndex.advanceTo(NOW.plusMinutes(30).minusNanos(1));
+        assertThat(runningIndex.getRunningIds()).containsExactlyInAnyOrder(1L, 5L);
+
+        runningIndex.advanceTo(NOW.plusMinutes(30));
+        assertThat(runningIndex.getRunningIds()).containsExactlyInAnyOrder(1L, 2L, 5L);
+
+        runningIndex.advanceTo(NOW.plusHours(1));
+        assertThat(runningIndex.isRunning(1L)).as("종료 시각까지는 진행 중").isTrue();
+
+        runningIndex.advanceTo(NOW.plusHours(1).plusSeconds(1));
+        assertThat(runningIndex.findRunning()).extracting(PopupStore::getId).containsExactly(2L, 5L);
+    }
+
+    @Test
+    @DisplayName("기간이나 상태가 바뀌면 이전에 예약된 전환은 무시 테스트")
+    void testReindexIgnoresOutdatedTransitions() {
+        // Given: 2번의 시작을 하루 미루고, 1번을 비활성화
+        runningIndex.index(popupStore(2L, true, NOW.plusDays(1), NOW.plusDays(2)));
+        runningIndex.index(popupStore(1L, false, NOW.minusDays(1), NOW.plusHours(1)));
+
+        // When
+        runningIndex.advanceTo(NOW.plusHours(2));
+
+        // Then
+        assertThat(runningIndex.findRunning()).extracting(PopupStore::getId).containsExactly(5L);
+
+        runningIndex.advanceTo(NOW.plusDays(1));
+        assertThat(runningIndex.findRunning()).extracting(PopupStore::getId).containsExactly(2L, 5L);
+    }
+
+    private static PopupStore popupStore(Long id, boolean active, LocalDateTime startDate, LocalDateTime endDate) {
+        return PopupStore.builder()
+                .id(id)
+                .name("팝업스토어 " + id)
+                .active(active)
+                .startDate(startDate)
+                .endDate(endDate)
+                .build();
+    }
+}
@@ -0,0 +1,172 @@
+package com.sgyj.popupmoah.popupstore.infrastructure.search;
+
+import com.sgyj.popupmoah.popupstore.adapters.jpa.PopupStoreJpaRepository;
+import com.sgyj.popupmoah.popupstore.domain.entity.PopupStore;
+import com.sgyj.popupmoah.popupstore.infrastructure.counter.PopupStoreCounterDelta;
+import com.sgyj.popupmoah.popupstore.infrastructure.geo.PopupStoreClusterIndex;
+import com.sgyj.popupmoah.popupstore.infrastructure.geo.PopupStoreGeoIndex;
+import com.sgyj.popupmoah.popupstore.infrastructure.schedule.PopupStoreRunningIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("팝업스토어 색인 동기화 테스트")
+class PopupStoreIndexSynchronizerTest {
+
+    private static final String CHANNEL = "popupmoah:popupstore-index";
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 18, 12, 0);
+
+    @Mock
+    private PopupStoreJpaRepository jpaRepository;
+    @Mock
+    private PopupStoreSearchIndex searchIndex;
+    @Mock
+    private PopupStoreGeoIndex geoIndex;
+    @Mock
+    private PopupStoreClusterIndex clusterIndex;
+    @Mock
+    private PopupStoreRunningIndex runningIndex;
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private PopupStoreIndexSynchronizer synchronizer;
+
+    @BeforeEach
+    void setUp() {
+        ZoneId zone = ZoneId.systemDefault();
+        Clock clock = Clock.fixed(NOW.atZone(zone).toInstant(), zone);
+        synchronizer = new PopupStoreIndexSynchronizer(jpaRepository, searchIndex, geoIndex, clusterIndex,
+                runningIndex, redisTemplate, CHANNEL, Duration.ofSeconds(10), clock);
+    }
+
+    @Test
+    @DisplayName("저장은 이 노드의 모든 색인에 반영하고 다른 노드에 알림 테스트")
+    void testSavedIndexesLocallyAndPublishes() {
+        // Given
+        PopupStore popupStore = store(1L);
+
+        // When
+        synchronizer.saved(popupStore);
+
+        // Then
+        verify(searchIndex).index(popupStore);
+        verify(geoIndex).index(popupStore);
+        verify(clusterIndex).index(popupStore);
+        verify(runningIndex).index(popupStore);
+        verify(redisTemplate).convertAndSend(eq(CHANNEL), endsWith("\n1"));
+    }
+
+    @Test
+    @DisplayName("다른 노드의 알림은 저장소에서 다시 읽어 반영하고 없으면 제거 테스트")
+    void testMessageFromOtherNodeReloadsFromRepository() {
+        // Given
+        rebuilt();
+        PopupStore updated = store(1L);
+        when(jpaRepository.findById(1L)).thenReturn(Optional.of(updated));
+        when(jpaRepository.findById(2L)).thenReturn(Optional.empty());
+
+        // When
+        synchronizer.onMessage(message("other-node\n1"), null);
+        synchronizer.onMessage(message("other-node\n2"), null);
+
+        // Then
+        verify(searchIndex).index(updated);
+        verify(runningIndex).index(updated);
+        verify(searchIndex).remove(2L);
+        verify(geoIndex).remove(2L);
+        verify(clusterIndex).remove(2L);
+        verify(runningIndex).remove(2L);
+    }
+
+    @Test
+    @DisplayName("이 노드가 보낸 알림은 무시 테스트")
+    void testOwnMessageIgnored() {
+        // Given
+        rebuilt();
+        synchronizer.deleted(1L);
+        ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(CHANNEL), published.capture());
+
+        // When
+        synchronizer.onMessage(message(published.getValue()), null);
+
+        // Then
+        verify(jpaRepository, never()).findById(any());
+        verify(searchIndex).remove(1L);
+    }
+
+    @Test
+    @DisplayName("카운터 증감분은 이 노드의 검색 색인에 더하고 다른 노드는 메시지로 받아 더함 테스트")
+    void testCounterDeltasAppliedLocallyAndOnOtherNodes() {
+        // Given
+        rebuilt();
+        List<PopupStoreCounterDelta> deltas = List.of(
+                new PopupStoreCounterDelta(1L, 3, 0),
+                new PopupStoreCounterDelta(2L, 0, -1));
+
+        // When
+        synchronizer.countersFlushed(deltas);
+        synchronizer.onMessage(message("other-node\ncounters\n1:3:0,2:0:-1"), null);
+
+        // Then
+        verify(searchIndex, times(2)).applyCounterDeltas(deltas);
+        verify(redisTemplate).convertAndSend(eq(CHANNEL), endsWith("\ncounters\n1:3:0,2:0:-1"));
+        verify(jpaRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("주기 동기화는 이전 구성 시각과 겹치게 수정된 행을 다시 색인 테스트")
+    void testCatchUpReindexesRowsUpdatedSinceLastSync() {
+        // Given
+        synchronizer.catchUp();
+        verifyNoInteractions(jpaRepository);
+        rebuilt();
+        PopupStore changed = store(3L);
+        when(jpaRepository.findUpdatedSince(NOW.minusSeconds(10))).thenReturn(List.of(changed));
+
+        // When
+        synchronizer.catchUp();
+
+        // Then
+        verify(searchIndex).index(changed);
+        verify(geoIndex).index(changed);
+        verify(clusterIndex).index(changed);
+        verify(runningIndex).index(changed);
+    }
+
+    private void rebuilt() {
+        when(jpaRepository.findAll()).thenReturn(List.of());
+        synchronizer.rebuild();
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static PopupStore store(Long id) {
+        return PopupStore.builder()
+                .id(id)
+                .name("팝업스토어 " + id)
+                .active(true)
+                .build();
+    }
+}
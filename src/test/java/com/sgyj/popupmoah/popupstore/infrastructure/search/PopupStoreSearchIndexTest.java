@@ -0,0 +1,222 @@
+package com.sgyj.popupmoah.popupstore.infrastructure.search;
+
+import com.sgyj.popupmoah.popupstore.domain.entity.PopupStore;
+import com.sgyj.popupmoah.popupstore.domain.search.PopupStoreSearchCondition;
+import com.sgyj.popupmoah.popupstore.domain.search.PopupStoreSearchCursor;
+import com.sgyj.popupmoah.popupstore.domain.search.PopupStoreSearchResult;
+import com.sgyj.popupmoah.popupstore.infrastructure.counter.PopupStoreCounterDelta;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PopupStoreSearchIndexTest {
+
+    private PopupStoreSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new PopupStoreSearchIndex();
+        searchIndex.rebuild(List.of(
+                popupStore(1L, "성수 캐릭터 팝업스토어", "패션", "서울시 성동구 성수동", 1, 30),
+                popupStore(2L, "강남 뷰티 팝업", "뷰티", "서울시 강남구", -10, 10),
+                popupStore(3L, "Seongsu Coffee Pop-up", "푸드", "서울시 성동구", -5, -1)
+        ));
+    }
+
+    @Test
+    @DisplayName("한글 부분 문자열 키워드로 검색 테스트")
+    void testSearchByKoreanKeyword() {
+        // When
+        PopupStoreSearchResult result = searchIndex.search(condition().keyword("팝업").build());
+
+        // Then
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        assertThat(result.getContent()).extracting(PopupStore::getId).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("위치 필드와 대소문자 무시 키워드 검색 테스트")
+    void testSearchByLocationAndCaseInsensitiveKeyword() {
+        // When
+        PopupStoreSearchResult byLocation = searchIndex.search(condition().keyword("성동구").build());
+        PopupStoreSearchResult byEnglish = searchIndex.search(condition().keyword("COFFEE").build());
+
+        // Then
+        assertThat(byLocation.getContent()).extracting(PopupStore::getId).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(byEnglish.getContent()).extracting(PopupStore::getId).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("한 글자 키워드 검색 테스트")
+    void testSearchBySingleCharacterKeyword() {
+        // When
+        PopupStoreSearchResult result = searchIndex.search(condition().keyword("뷰").build());
+
+        // Then
+        assertThat(result.getContent()).extracting(PopupStore::getId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("카테고리와 진행 중 조건 검색 테스트")
+    void testSearchByCategoryAndCurrentlyActive() {
+        // When
+        PopupStoreSearchResult beauty = searchIndex.search(condition().category("뷰티").currentlyActive(true).build());
+        PopupStoreSearchResult ended = searchIndex.search(condition().category("푸드").currentlyActive(true).build());
+
+        // Then
+        assertThat(beauty.getContent()).extracting(PopupStore::getId).containsExactly(2L);
+        assertThat(ended.getTotalElements()).isZero();
+    }
+
+    @Test
+    @DisplayName("페이징 시 전체 개수 유지 테스트")
+    void testPagingKeepsTotalCount() {
+        // When
+        PopupStoreSearchResult result = searchIndex.search(condition().sortBy("name").sortDirection("asc").page(1).size(2).build());
+
+        // Then
+        assertThat(result.getTotalElements()).isEqualTo(3);
+        assertThat(result.getContent()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("전체 개수 없이 정렬 순서대로 한 페이지와 다음 페이지 여부 조회 테스트")
+    void testSearchWithoutTotalReadsInSortOrder() {
+        // When
+        PopupStoreSearchResult first = searchIndex.search(condition().sortBy("name").sortDirection("asc")
+                .size(2).includeTotal(false).build());
+        PopupStoreSearchResult second = searchIndex.search(condition().sortBy("name").sortDirection("asc")
+                .page(1).size(2).includeTotal(false).build());
+
+        // Then
+        assertThat(first.getContent()).extracting(PopupStore::getId).containsExactly(3L, 2L);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getTotalElements()).isNull();
+        assertThat(second.getContent()).extracting(PopupStore::getId).containsExactly(1L);
+        assertThat(second.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("후보를 좁힌 검색에서 중간 페이지를 정렬 순서대로 조회 테스트")
+    void testSearchMiddlePageOfNarrowedCandidates() {
+        // Given
+        searchIndex.rebuild(LongStream.rangeClosed(1, 50)
+                .mapToObj(id -> ranked(id, id % 2 == 0 ? "패션" : "뷰티", (id * 7) % 50))
+                .toList());
+
+        // When
+        PopupStoreSearchResult result = searchIndex.search(condition().category("패션")
+                .sortBy("viewCount").sortDirection("desc").page(2).size(5).build());
+
+        // Then
+        assertThat(result.getTotalElements()).isEqualTo(25);
+        assertThat(result.getContent()).extracting(PopupStore::getViewCount)
+                .containsExactly(28L, 26L, 24L, 22L, 20L);
+        assertThat(result.isHasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("카운터 증감분 반영 시 조회수 정렬 순서 갱신 테스트")
+    void testCounterDeltasReorderViewCountSort() {
+        // Given
+        searchIndex.rebuild(List.of(ranked(1L, "패션", 30L), ranked(2L, "패션", 20L), ranked(3L, "패션", 10L)));
+
+        // When
+        searchIndex.applyCounterDeltas(List.of(
+                new PopupStoreCounterDelta(3L, 25, 1),
+                new PopupStoreCounterDelta(99L, 5, 0)));
+        PopupStoreSearchResult result = searchIndex.search(condition().sortBy("viewCount").sortDirection("desc")
+                .size(3).includeTotal(false).build());
+
+        // Then
+        assertThat(result.getContent()).extracting(PopupStore::getId).containsExactly(3L, 1L, 2L);
+        assertThat(result.getContent()).extracting(PopupStore::getViewCount).containsExactly(35L, 30L, 20L);
+        assertThat(result.getContent().get(0).getLikeCount()).isEqualTo(1L);
+        assertThat(searchIndex.contains(99L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("키셋 조회는 커서 다음 문서부터 정렬 방향으로 한 페이지 조회 테스트")
+    void testKeysetSeeksPastCursor() {
+        // Given
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 0, 0);
+        searchIndex.rebuild(LongStream.rangeClosed(1, 10)
+                .mapToObj(id -> createdAt(id, base.plusMinutes(id)))
+                .toList());
+
+        // When
+        PopupStoreSearchResult descending = searchIndex.search(condition().size(3)
+                .cursor(new PopupStoreSearchCursor(base.plusMinutes(6), 6L)).build());
+        PopupStoreSearchResult ascending = searchIndex.search(condition().sortDirection("asc").size(3)
+                .includeTotal(false).cursor(new PopupStoreSearchCursor(base.plusMinutes(8), 8L)).build());
+
+        // Then
+        assertThat(descending.getContent()).extracting(PopupStore::getId).containsExactly(5L, 4L, 3L);
+        assertThat(descending.isHasNext()).isTrue();
+        assertThat(descending.getTotalElements()).isEqualTo(10);
+        assertThat(ascending.getContent()).extracting(PopupStore::getId).containsExactly(9L, 10L);
+        assertThat(ascending.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("색인 갱신 및 삭제 테스트")
+    void testIndexAndRemove() {
+        // Given
+        searchIndex.index(popupStore(2L, "홍대 굿즈 팝업", "굿즈", "서울시 마포구", -1, 5));
+
+        // When
+        PopupStoreSearchResult oldName = searchIndex.search(condition().keyword("강남").build());
+        PopupStoreSearchResult newName = searchIndex.search(condition().keyword("홍대").build());
+        searchIndex.remove(2L);
+        PopupStoreSearchResult afterRemove = searchIndex.search(condition().keyword("홍대").build());
+
+        // Then
+        assertThat(oldName.getTotalElements()).isZero();
+        assertThat(newName.getContent()).extracting(PopupStore::getId).containsExactly(2L);
+        assertThat(afterRemove.getTotalElements()).isZero();
+        assertThat(searchIndex.size()).isEqualTo(2);
+    }
+
+    private PopupStoreSearchCondition.PopupStoreSearchConditionBuilder condition() {
+        return PopupStoreSearchCondition.builder();
+    }
+
+    private PopupStore popupStore(Long id, String name, String category, String location, int startOffset, int endOffset) {
+        return PopupStore.builder()
+                .id(id)
+                .name(name)
+                .description(name + " 설명")
+                .category(category)
+                .location(location)
+                .startDate(LocalDateTime.now().plusDays(startOffset))
+                .endDate(LocalDateTime.now().plusDays(endOffset))
+                .active(true)
+                .viewCount(0L)
+                .likeCount(0L)
+                .build();
+    }
+
+    private PopupStore ranked(Long id, String category, long viewCount) {
+        return PopupStore.builder()
+                .id(id)
+                .name("팝업스토어 " + id)
+                .category(category)
+                .location("서울시")
+                .active(true)
+                .viewCount(viewCount)
+                .likeCount(0L)
+                .build();
+    }
+
+    private PopupStore createdAt(Long id, LocalDateTime createdAt) {
+        PopupStore popupStore = ranked(id, "패션", 0L);
+        popupStore.setCreatedAt(createdAt);
+        return popupStore;
+    }
+}
@@ -1,6 +1,8 @@
 package com.sgyj.popupmoah.reservation.domain.aggregate;
 
 import com.sgyj.popupmoah.reservation.domain.entity.Reservation;
+import com.sgyj.popupmoah.reservation.domain.expiry.ReservationExpiryBatch;
+import com.sgyj.popupmoah.reservation.domain.port.ReservationCapacityPort;
 import com.sgyj.popupmoah.reservation.domain.port.ReservationRepositoryPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,7 +18,9 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,6 +29,9 @@ class ReservationAggregateTest {
     @Mock
     private ReservationRepositoryPort repository;
     
+    @Mock
+    private ReservationCapacityPort capacity;
+    
     private ReservationAggregate aggregate;
     
     private Reservation testReservation;
@@ -292,27 +299,130 @@ class ReservationAggregateTest {
     @DisplayName("만료된 예약 정리 테스트")
     void testCleanupExpiredReservations() {
         // Given
-        Reservation expiredReservation = Reservation.builder()
-                .id(2L)
-                .memberId(2L)
-                .popupStoreId(2L)
-                .memberName("이영희")
-                .memberEmail("lee@example.com")
-                .memberPhone("010-1111-2222")
-                .reservationDateTime(LocalDateTime.now().minusHours(1))
-                .numberOfPeople(1)
-                .status("PENDING")
-                .build();
+        when(repository.findExpiredPendingIds(any(LocalDateTime.class), eq(0L), anyInt()))
+                .thenReturn(Arrays.asList(2L, 5L));
+        when(repository.expirePendingBetween(eq(0L), eq(5L), any(LocalDateTime.class), eq(ReservationAggregate.EXPIRY_REASON)))
+                .thenReturn(2);
         
-        List<Reservation> expiredReservations = Arrays.asList(expiredReservation);
-        when(repository.findExpiredReservations(any(LocalDateTime.class))).thenReturn(expiredReservations);
-        when(repository.save(any(Reservation.class))).thenReturn(expiredReservation);
+        // When
+        int expired = aggregate.cleanupExpiredReservations();
+        
+        // Then
+        assertThat(expired).isEqualTo(2);
+        verify(repository, never()).findExpiredReservations(any(LocalDateTime.class));
+        verify(repository, never()).save(any(Reservation.class));
+    }
+    
+    @Test
+    @DisplayName("만료 예약 배치 이어서 처리 테스트")
+    void testExpireNextBatchResumesFromLastId() {
+        // Given
+        LocalDateTime now = LocalDateTime.of(2026, 5, 1, 12, 0, 30, 123_456_789);
+        LocalDateTime expiredAt = LocalDateTime.of(2026, 5, 1, 12, 0, 30);
+        when(repository.findExpiredPendingIds(expiredAt, 10L, 3)).thenReturn(Arrays.asList(11L, 12L, 15L));
+        when(repository.expirePendingBetween(10L, 15L, expiredAt, ReservationAggregate.EXPIRY_REASON)).thenReturn(3);
         
         // When
-        aggregate.cleanupExpiredReservations();
+        ReservationExpiryBatch batch = aggregate.expireNextBatch(now, 10L, 3);
         
         // Then
-        verify(repository).findExpiredReservations(any(LocalDateTime.class));
-        verify(repository).save(any(Reservation.class));
+        assertThat(batch.getExpiredIds()).containsExactly(11L, 12L, 15L);
+        assertThat(batch.getLastId()).isEqualTo(15L);
+        assertThat(batch.isHasMore()).isTrue();
+        verify(repository, never()).findCancelledIdsBetween(anyLong(), anyLong(), any(LocalDateTime.class), any());
+    }
+    
+    @Test
+    @DisplayName("조회 후 상태가 바뀐 예약은 만료 대상에서 제외 테스트")
+    void testExpireNextBatchExcludesConcurrentlyChangedReservations() {
+        // Given
+        LocalDateTime expiredAt = LocalDateTime.of(2026, 5, 1, 12, 0);
+        when(repository.findExpiredPendingIds(expiredAt, 0L, 10)).thenReturn(Arrays.asList(1L, 2L, 3L));
+        when(repository.expirePendingBetween(0L, 3L, expiredAt, ReservationAggregate.EXPIRY_REASON)).thenReturn(2);
+        when(repository.findCancelledIdsBetween(0L, 3L, expiredAt, ReservationAggregate.EXPIRY_REASON))
+                .thenReturn(Arrays.asList(1L, 3L));
+        
+        // When
+        ReservationExpiryBatch batch = aggregate.expireNextBatch(expiredAt, 0L, 10);
+        
+        // Then
+        assertThat(batch.getExpiredIds()).containsExactly(1L, 3L);
+        assertThat(batch.isHasMore()).isFalse();
+    }
+    
+    @Test
+    @DisplayName("수용 인원 초과 시 예약 생성 거절 테스트")
+    void testCreateReservationOverCapacity() {
+        // Given
+        ReservationAggregate capacityAggregate = new ReservationAggregate(repository, capacity);
+        when(capacity.tryReserve(1L, testReservation.getReservationDateTime(), 2)).thenReturn(false);
+        
+        // When & Then
+        assertThatThrownBy(() -> capacityAggregate.create(testReservation))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("예약 가능 인원을 초과했습니다");
+        verify(repository, never()).save(any(Reservation.class));
+    }
+    
+    @Test
+    @DisplayName("예약 취소 시 좌석 반환 테스트")
+    void testCancelReservationReleasesSeats() {
+        // Given
+        ReservationAggregate capacityAggregate = new ReservationAggregate(repository, capacity);
+        when(repository.findById(1L)).thenReturn(Optional.of(testReservation));
+        when(repository.save(any(Reservation.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        
+        // When
+        capacityAggregate.cancel(1L, "일정 변경");
+        
+        // Then
+        verify(capacity).release(1L, testReservation.getReservationDateTime(), 2);
+    }
+    
+    @Test
+    @DisplayName("예약을 취소 상태로 업데이트 시 좌석 반환 테스트")
+    void testUpdateToCancelledReleasesSeats() {
+        // Given
+        ReservationAggregate capacityAggregate = new ReservationAggregate(repository, capacity);
+        Reservation cancelled = changed("CANCELLED", 2);
+        when(repository.findById(1L)).thenReturn(Optional.of(testReservation));
+        when(repository.save(any(Reservation.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        
+        // When
+        capacityAggregate.update(1L, cancelled);
+        
+        // Then
+        verify(capacity).release(1L, testReservation.getReservationDateTime(), 2);
+        verify(capacity, never()).tryMove(anyLong(), any(), anyInt(), anyLong(), any(), anyInt());
+    }
+    
+    @Test
+    @DisplayName("예약 시간대 변경 시 좌석 이동 실패하면 거절 테스트")
+    void testUpdateMovingSeatsOverCapacity() {
+        // Given
+        ReservationAggregate capacityAggregate = new ReservationAggregate(repository, capacity);
+        Reservation moved = changed("PENDING", 5);
+        when(repository.findById(1L)).thenReturn(Optional.of(testReservation));
+        when(capacity.tryMove(1L, testReservation.getReservationDateTime(), 2,
+                1L, testReservation.getReservationDateTime(), 5)).thenReturn(false);
+        
+        // When & Then
+        assertThatThrownBy(() -> capacityAggregate.update(1L, moved))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("예약 가능 인원을 초과했습니다");
+        verify(capacity, never()).release(anyLong(), any(), anyInt());
+        verify(repository, never()).save(any(Reservation.class));
+    }
+    
+    private Reservation changed(String status, int numberOfPeople) {
+        return Reservation.builder()
+                .memberId(testReservation.getMemberId())
+                .popupStoreId(testReservation.getPopupStoreId())
+                .memberName(testReservation.getMemberName())
+                .memberEmail(testReservation.getMemberEmail())
+                .reservationDateTime(testReservation.getReservationDateTime())
+                .numberOfPeople(numberOfPeople)
+                .status(status)
+                .build();
     }
 }
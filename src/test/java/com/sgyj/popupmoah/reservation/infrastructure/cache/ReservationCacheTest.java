@@ -0,0 +1,101 @@
+package com.sgyj.popupmoah.reservation.infrastructure.cache;
+
+import com.sgyj.popupmoah.reservation.domain.entity.Reservation;
+import com.sgyj.popupmoah.reservation.domain.event.ReservationChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ReservationCacheTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 3, 1, 10, 0);
+
+    private ReservationCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ReservationCache(new ConcurrentMapCacheManager("reservations"));
+    }
+
+    @Test
+    @DisplayName("상태 변경은 단건과 목록의 해당 예약만 교체하고 다시 조회하지 않음 테스트")
+    void testPatchesStatusChangeInPlace() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        cache.findByMemberId(1L, () -> {
+            loads.incrementAndGet();
+            return new ArrayList<>(List.of(reservation(2L, 1L, 10L, 2, "PENDING"), reservation(1L, 1L, 10L, 1, "PENDING")));
+        });
+        cache.findById(2L, () -> Optional.of(reservation(2L, 1L, 10L, 2, "PENDING")));
+        Reservation confirmed = reservation(2L, 1L, 10L, 2, "CONFIRMED");
+
+        // When
+        cache.onChanged(ReservationChangedEvent.updated(confirmed, confirmed));
+
+        // Then
+        List<Reservation> member = cache.findByMemberId(1L, () -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(member).extracting(Reservation::getId).containsExactly(2L, 1L);
+        assertThat(member.get(0).getStatus()).isEqualTo("CONFIRMED");
+        assertThat(cache.findById(2L, Optional::empty)).contains(confirmed);
+    }
+
+    @Test
+    @DisplayName("팝업스토어가 바뀌면 이전 목록에서 빼고 새 목록의 시간순 자리에 넣음 테스트")
+    void testMovesBetweenPopupStoreLists() {
+        // Given
+        cache.findByPopupStoreId(10L, () -> new ArrayList<>(List.of(reservation(1L, 1L, 10L, 1, "PENDING"))));
+        cache.findByPopupStoreId(20L, () -> new ArrayList<>(List.of(
+                reservation(5L, 2L, 20L, 3, "PENDING"), reservation(6L, 3L, 20L, 1, "PENDING"))));
+        Reservation previous = reservation(1L, 1L, 10L, 1, "PENDING");
+        Reservation moved = reservation(1L, 1L, 20L, 2, "PENDING");
+
+        // When
+        cache.onChanged(ReservationChangedEvent.updated(previous, moved));
+
+        // Then
+        assertThat(cache.findByPopupStoreId(10L, List::of)).isEmpty();
+        assertThat(cache.findByPopupStoreId(20L, List::of)).extracting(Reservation::getId).containsExactly(5L, 1L, 6L);
+    }
+
+    @Test
+    @DisplayName("삭제는 단건과 목록에서 제거 테스트")
+    void testDelete() {
+        // Given
+        Reservation reservation = reservation(1L, 1L, 10L, 1, "PENDING");
+        cache.findById(1L, () -> Optional.of(reservation));
+        cache.findByMemberId(1L, () -> new ArrayList<>(List.of(reservation)));
+
+        // When
+        cache.onChanged(ReservationChangedEvent.deleted(reservation));
+
+        // Then
+        assertThat(cache.findById(1L, Optional::empty)).isEmpty();
+        assertThat(cache.findByMemberId(1L, () -> List.of(reservation(9L, 1L, 10L, 1, "PENDING")))).isEmpty();
+    }
+
+    private static Reservation reservation(Long id, Long memberId, Long popupStoreId, int dayOffset, String status) {
+        return Reservation.builder()
+                .id(id)
+                .memberId(memberId)
+                .popupStoreId(popupStoreId)
+                .memberName("회원" + memberId)
+                .memberEmail("member" + memberId + "@example.com")
+                .reservationDateTime(BASE.plusDays(dayOffset))
+                .numberOfPeople(2)
+                .status(status)
+                .build();
+    }
+}
@@ -0,0 +1,245 @@
+package com.sgyj.popupmoah.reservation.infrastructure.capacity;
+
+import com.sgyj.popupmoah.reservation.adapters.jpa.ReservationSlotJpaEntity;
+import com.sgyj.popupmoah.reservation.adapters.jpa.ReservationSlotJpaEntityRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ReservationCapacityManagerTest {
+
+    private static final int CAPACITY = 20;
+    private static final LocalDateTime SLOT_START = LocalDateTime.of(2026, 5, 1, 14, 0);
+
+    @Mock
+    private ReservationSlotJpaEntityRepository slotRepository;
+
+    @Mock
+    private ReservationSlotInitializer slotInitializer;
+
+    private ReservationCapacityManager capacityManager;
+
+    /** DB의 reserved 컬럼 역할 */
+    private final AtomicInteger reserved = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        capacityManager = new ReservationCapacityManager(slotRepository, slotInitializer, 30, CAPACITY, 30);
+
+        when(slotRepository.findByPopupStoreIdAndSlotStart(eq(1L), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> Optional.of(slot(reserved.get())));
+        when(slotRepository.reserveSeats(eq(1L), any(LocalDateTime.class), anyInt()))
+                .thenAnswer(invocation -> {
+                    int people = invocation.getArgument(2);
+                    int current;
+                    do {
+                        current = reserved.get();
+                        if (current + people > CAPACITY) {
+                            return 0;
+                        }
+                    } while (!reserved.compareAndSet(current, current + people));
+                    return 1;
+                });
+        when(slotRepository.releaseSeats(eq(1L), any(LocalDateTime.class), anyInt()))
+                .thenAnswer(invocation -> {
+                    int people = invocation.getArgument(2);
+                    reserved.updateAndGet(current -> Math.max(0, current - people));
+                    return 1;
+                });
+    }
+
+    @Test
+    @DisplayName("동시 예약 시 수용 인원 초과 방지 테스트")
+    void testConcurrentReservationsNeverExceedCapacity() throws InterruptedException {
+        // Given
+        int requests = 100;
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(requests);
+        AtomicInteger succeeded = new AtomicInteger();
+
+        // When
+        for (int i = 0; i < requests; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    if (capacityManager.tryReserve(1L, SLOT_START.plusMinutes(10), 1)) {
+                        succeeded.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        // Then
+        assertThat(succeeded.get()).isEqualTo(CAPACITY);
+        assertThat(reserved.get()).isEqualTo(CAPACITY);
+        assertThat(capacityManager.isAvailable(1L, SLOT_START, 1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("가득 찬 시간대는 DB 갱신 없이 거절 테스트")
+    void testRejectsFullSlotWithoutDatabaseUpdate() {
+        // Given
+        reserved.set(CAPACITY - 2);
+
+        // When
+        boolean result = capacityManager.tryReserve(1L, SLOT_START, 3);
+
+        // Then
+        assertThat(result).isFalse();
+        verify(slotRepository, never()).reserveSeats(anyLong(), any(LocalDateTime.class), anyInt());
+    }
+
+    @Test
+    @DisplayName("좌석 반환 후 예약 가능 테스트")
+    void testReleaseMakesSeatsAvailable() {
+        // Given
+        reserved.set(CAPACITY);
+        assertThat(capacityManager.isAvailable(1L, SLOT_START, 1)).isFalse();
+
+        // When
+        capacityManager.release(1L, SLOT_START, 2);
+
+        // Then
+        assertThat(capacityManager.isAvailable(1L, SLOT_START, 2)).isTrue();
+        assertThat(capacityManager.isAvailable(1L, SLOT_START, 3)).isFalse();
+        verify(slotRepository, times(1)).findByPopupStoreIdAndSlotStart(1L, SLOT_START);
+    }
+
+    @Test
+    @DisplayName("시간대 행이 없으면 생성 테스트")
+    void testCreatesMissingSlot() {
+        // Given
+        when(slotRepository.findByPopupStoreIdAndSlotStart(eq(2L), any(LocalDateTime.class))).thenReturn(Optional.empty());
+        when(slotInitializer.create(2L, SLOT_START, SLOT_START.plusMinutes(30), CAPACITY))
+                .thenReturn(ReservationSlotJpaEntity.builder()
+                        .popupStoreId(2L)
+                        .slotStart(SLOT_START)
+                        .capacity(CAPACITY)
+                        .reserved(0)
+                        .build());
+
+        // When
+        boolean available = capacityManager.isAvailable(2L, SLOT_START.plusMinutes(29), CAPACITY);
+
+        // Then
+        assertThat(available).isTrue();
+        verify(slotInitializer).create(2L, SLOT_START, SLOT_START.plusMinutes(30), CAPACITY);
+    }
+
+    @Test
+    @DisplayName("같은 시간대 변경이 다른 요청의 행 락 대기에 막히지 않음 테스트")
+    void testSameSlotChangeDoesNotWaitBehindPendingUpdate() throws Exception {
+        // Given (첫 예약이 DB 행 락을 기다리며 UPDATE 안에 머묾)
+        CountDownLatch inUpdate = new CountDownLatch(1);
+        CountDownLatch rowUnlocked = new CountDownLatch(1);
+        when(slotRepository.reserveSeats(eq(1L), any(LocalDateTime.class), eq(5)))
+                .thenAnswer(invocation -> {
+                    inUpdate.countDown();
+                    assertThat(rowUnlocked.await(5, TimeUnit.SECONDS)).isTrue();
+                    reserved.addAndGet(5);
+                    return 1;
+                });
+        reserved.set(2);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        Future<Boolean> blocked = executor.submit(() -> capacityManager.tryReserve(1L, SLOT_START, 5));
+        assertThat(inUpdate.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When (같은 시간대의 다른 예약을 2명에서 3명으로 변경)
+        Future<Boolean> moved = executor.submit(() -> capacityManager.tryMove(1L, SLOT_START, 2, 1L, SLOT_START.plusMinutes(5), 3));
+
+        // Then
+        assertThat(moved.get(2, TimeUnit.SECONDS)).isTrue();
+        rowUnlocked.countDown();
+        assertThat(blocked.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(reserved.get()).isEqualTo(8);
+        executor.shutdown();
+        verify(slotRepository).reserveSeats(1L, SLOT_START, 1);
+        verify(slotRepository, never()).releaseSeats(anyLong(), any(LocalDateTime.class), anyInt());
+    }
+
+    @Test
+    @DisplayName("다른 시간대로 변경 시 새 좌석 확보 후 이전 좌석 반환 테스트")
+    void testMoveReservesNewSlotBeforeReleasingOld() {
+        // Given
+        reserved.set(4);
+
+        // When
+        boolean moved = capacityManager.tryMove(1L, SLOT_START, 2, 1L, SLOT_START.plusMinutes(30), 3);
+
+        // Then
+        assertThat(moved).isTrue();
+        var order = inOrder(slotRepository);
+        order.verify(slotRepository).reserveSeats(1L, SLOT_START.plusMinutes(30), 3);
+        order.verify(slotRepository).releaseSeats(1L, SLOT_START, 2);
+    }
+
+    @Test
+    @DisplayName("새 시간대가 가득 차면 이전 좌석 유지 테스트")
+    void testMoveKeepsOldSeatsWhenNewSlotIsFull() {
+        // Given
+        reserved.set(CAPACITY);
+
+        // When
+        boolean moved = capacityManager.tryMove(1L, SLOT_START, 2, 1L, SLOT_START.plusMinutes(30), 3);
+
+        // Then
+        assertThat(moved).isFalse();
+        verify(slotRepository, never()).releaseSeats(anyLong(), any(LocalDateTime.class), anyInt());
+    }
+
+    @Test
+    @DisplayName("시간대 시작 시각 계산 테스트")
+    void testSlotStartOf() {
+        assertThat(capacityManager.slotStartOf(LocalDateTime.of(2026, 5, 1, 14, 29, 59))).isEqualTo(SLOT_START);
+        assertThat(capacityManager.slotStartOf(LocalDateTime.of(2026, 5, 1, 14, 30))).isEqualTo(SLOT_START.plusMinutes(30));
+    }
+
+    @Test
+    @DisplayName("잘못된 예약 인원 검증 테스트")
+    void testInvalidNumberOfPeople() {
+        assertThatThrownBy(() -> capacityManager.tryReserve(1L, SLOT_START, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("1명 이상");
+    }
+
+    private ReservationSlotJpaEntity slot(int reservedSeats) {
+        return ReservationSlotJpaEntity.builder()
+                .id(1L)
+                .popupStoreId(1L)
+                .slotStart(SLOT_START)
+                .capacity(CAPACITY)
+                .reserved(reservedSeats)
+                .build();
+    }
+}
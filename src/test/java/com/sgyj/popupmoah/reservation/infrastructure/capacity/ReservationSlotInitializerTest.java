@@ -0,0 +1,79 @@
+package com.sgyj.popupmoah.reservation.infrastructure.capacity;
+
+import com.sgyj.popupmoah.reservation.adapters.jpa.ReservationJpaEntityRepository;
+import com.sgyj.popupmoah.reservation.adapters.jpa.ReservationSlotJpaEntity;
+import com.sgyj.popupmoah.reservation.adapters.jpa.ReservationSlotJpaEntityRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationSlotInitializerTest {
+
+    private static final LocalDateTime SLOT_START = LocalDateTime.of(2026, 5, 1, 14, 0);
+    private static final LocalDateTime SLOT_END = SLOT_START.plusMinutes(30);
+
+    @Mock
+    private ReservationSlotJpaEntityRepository slotRepository;
+
+    @Mock
+    private ReservationJpaEntityRepository reservationRepository;
+
+    @InjectMocks
+    private ReservationSlotInitializer slotInitializer;
+
+    @Test
+    @DisplayName("기존 예약 인원을 반영해 시간대 생성 테스트")
+    void testSeedsReservedFromExistingReservations() {
+        // Given
+        when(reservationRepository.sumActivePeopleBetween(1L, SLOT_START, SLOT_END)).thenReturn(5L);
+        when(slotRepository.saveAndFlush(any(ReservationSlotJpaEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        ReservationSlotJpaEntity slot = slotInitializer.create(1L, SLOT_START, SLOT_END, 20);
+
+        // Then
+        assertThat(slot.getCapacity()).isEqualTo(20);
+        assertThat(slot.getReserved()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("기존 예약이 기본 수용 인원을 넘으면 수용 인원을 예약 인원으로 맞춤 테스트")
+    void testRaisesCapacityForOverbookedSlot() {
+        // Given
+        when(reservationRepository.sumActivePeopleBetween(1L, SLOT_START, SLOT_END)).thenReturn(27L);
+        when(slotRepository.saveAndFlush(any(ReservationSlotJpaEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        ReservationSlotJpaEntity slot = slotInitializer.create(1L, SLOT_START, SLOT_END, 20);
+
+        // Then
+        assertThat(slot.getReserved()).isEqualTo(27);
+        assertThat(slot.getCapacity()).isEqualTo(27);
+        assertThat(slot.getReserved()).isLessThanOrEqualTo(slot.getCapacity());
+    }
+
+    @Test
+    @DisplayName("예약이 없는 시간대는 0명으로 생성 테스트")
+    void testSeedsZeroWhenNoReservations() {
+        // Given
+        when(reservationRepository.sumActivePeopleBetween(1L, SLOT_START, SLOT_END)).thenReturn(null);
+        when(slotRepository.saveAndFlush(any(ReservationSlotJpaEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        ReservationSlotJpaEntity slot = slotInitializer.create(1L, SLOT_START, SLOT_END, 20);
+
+        // Then
+        assertThat(slot.getReserved()).isZero();
+        verify(slotRepository).saveAndFlush(any(ReservationSlotJpaEntity.class));
+    }
+}
@@ -0,0 +1,369 @@
+package com.sgyj.popupmoah.support;
+
+import com.amazonaws.services.s3.AbstractAmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadResult;
+import com.amazonaws.services.s3.model.CopyObjectRequest;
+import com.amazonaws.services.s3.model.CopyObjectResult;
+import com.amazonaws.services.s3.model.DeleteObjectRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsResult;
+import com.amazonaws.services.s3.model.GetObjectMetadataRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 인메모리 S3
+ * 외부 서비스 없이 업로드/조회/삭제/멀티파트 업로드를 검증할 수 있도록 AmazonS3를 메모리에서 흉내 냅니다.
+ * 구현하지 않은 메서드는 AbstractAmazonS3가 UnsupportedOperationException을 던집니다.
+ */
+public class InMemoryAmazonS3 extends AbstractAmazonS3 {
+
+    private final Map<String, StoredObject> objects = new ConcurrentHashMap<>();
+    private final Map<String, Map<Integer, byte[]>> multipartUploads = new ConcurrentHashMap<>();
+
+    private final AtomicInteger putRequests = new AtomicInteger();
+    private final AtomicInteger partRequests = new AtomicInteger();
+    private final AtomicInteger abortedUploads = new AtomicInteger();
+    private final AtomicInteger deleteRequests = new AtomicInteger();
+    private final AtomicInteger concurrentParts = new AtomicInteger();
+    private final AtomicInteger maxConcurrentParts = new AtomicInteger();
+
+    private final Set<Integer> failingParts = ConcurrentHashMap.newKeySet();
+    private volatile long partDelayMillis;
+
+    // ===== 테스트 설정 =====
+
+    /**
+     * 지정한 번호의 파트 업로드가 실패하도록 합니다.
+     */
+    public InMemoryAmazonS3 failOnPart(int partNumber) {
+        failingParts.add(partNumber);
+        return this;
+    }
+
+    /**
+     * 파트 업로드마다 지연을 주어 동시 업로드 수를 관찰할 수 있게 합니다.
+     */
+    public InMemoryAmazonS3 withPartDelay(long millis) {
+        this.partDelayMillis = millis;
+        return this;
+    }
+
+    public byte[] getContent(String bucketName, String key) {
+        StoredObject object = objects.get(id(bucketName, key));
+        return object == null ? null : object.data();
+    }
+
+    public int getObjectCount() {
+        return objects.size();
+    }
+
+    public int getPutRequests() {
+        return putRequests.get();
+    }
+
+    public int getPartRequests() {
+        return partRequests.get();
+    }
+
+    public int getAbortedUploads() {
+        return abortedUploads.get();
+    }
+
+    public int getPendingUploads() {
+        return multipartUploads.size();
+    }
+
+    public int getDeleteRequests() {
+        return deleteRequests.get();
+    }
+
+    public int getMaxConcurrentParts() {
+        return maxConcurrentParts.get();
+    }
+
+    // ===== AmazonS3 =====
+
+    @Override
+    public PutObjectResult putObject(PutObjectRequest request) {
+        putRequests.incrementAndGet();
+        byte[] data = request.getFile() != null ? readFile(request) : readAll(request.getInputStream());
+        ObjectMetadata metadata = request.getMetadata() == null ? new ObjectMetadata() : request.getMetadata().clone();
+        StoredObject object = store(request.getBucketName(), request.getKey(), data, metadata);
+        PutObjectResult result = new PutObjectResult();
+        result.setETag(object.metadata().getETag());
+        return result;
+    }
+
+    @Override
+    public S3Object getObject(String bucketName, String key) {
+        StoredObject object = find(bucketName, key);
+        S3Object s3Object = new S3Object();
+        s3Object.setBucketName(bucketName);
+        s3Object.setKey(key);
+        s3Object.setObjectMetadata(object.metadata().clone());
+        s3Object.setObjectContent(new ByteArrayInputStream(object.data()));
+        return s3Object;
+    }
+
+    @Override
+    public S3Object getObject(GetObjectRequest request) {
+        return getObject(request.getBucketName(), request.getKey());
+    }
+
+    @Override
+    public ObjectMetadata getObjectMetadata(String bucketName, String key) {
+        return find(bucketName, key).metadata().clone();
+    }
+
+    @Override
+    public ObjectMetadata getObjectMetadata(GetObjectMetadataRequest request) {
+        return getObjectMetadata(request.getBucketName(), request.getKey());
+    }
+
+    @Override
+    public boolean doesObjectExist(String bucketName, String key) {
+        return objects.containsKey(id(bucketName, key));
+    }
+
+    @Override
+    public void deleteObject(String bucketName, String key) {
+        deleteRequests.incrementAndGet();
+        objects.remove(id(bucketName, key));
+    }
+
+    @Override
+    public void deleteObject(DeleteObjectRequest request) {
+        deleteObject(request.getBucketName(), request.getKey());
+    }
+
+    @Override
+    public DeleteObjectsResult deleteObjects(DeleteObjectsRequest request) {
+        deleteRequests.incrementAndGet();
+        if (request.getKeys().size() > 1000) {
+            throw error(400, "MalformedXML", "한 요청에서 삭제할 수 있는 키는 1000개까지입니다.");
+        }
+        List<DeleteObjectsResult.DeletedObject> deleted = new ArrayList<>();
+        for (DeleteObjectsRequest.KeyVersion keyVersion : request.getKeys()) {
+            // S3와 마찬가지로 없는 키도 삭제된 것으로 응답
+            objects.remove(id(request.getBucketName(), keyVersion.getKey()));
+            DeleteObjectsResult.DeletedObject deletedObject = new DeleteObjectsResult.DeletedObject();
+            deletedObject.setKey(keyVersion.getKey());
+            deleted.add(deletedObject);
+        }
+        return new DeleteObjectsResult(deleted);
+    }
+
+    /**
+     * 키 순서로 접두어가 일치하는 객체를 maxKeys개씩 반환합니다. 이어받기 토큰은 마지막으로 반환한 키입니다.
+     */
+    @Override
+    public ListObjectsV2Result listObjectsV2(ListObjectsV2Request request) {
+        String bucketPrefix = id(request.getBucketName(), "");
+        String prefix = request.getPrefix() == null ? "" : request.getPrefix();
+        String after = request.getContinuationToken();
+        int maxKeys = request.getMaxKeys() == null ? 1000 : request.getMaxKeys();
+        List<String> keys = objects.keySet().stream()
+                .filter(id -> id.startsWith(bucketPrefix))
+                .map(id -> id.substring(bucketPrefix.length()))
+                .filter(key -> key.startsWith(prefix))
+                .filter(key -> after == null || key.compareTo(after) > 0)
+                .sorted()
+                .toList();
+
+        ListObjectsV2Result result = new ListObjectsV2Result();
+        result.setBucketName(request.getBucketName());
+        result.setPrefix(request.getPrefix());
+        for (String key : keys.subList(0, Math.min(maxKeys, keys.size()))) {
+            S3ObjectSummary summary = new S3ObjectSummary();
+            summary.setBucketName(request.getBucketName());
+            summary.setKey(key);
+            result.getObjectSummaries().add(summary);
+        }
+        result.setKeyCount(result.getObjectSummaries().size());
+        if (keys.size() > maxKeys) {
+            result.setTruncated(true);
+            result.setNextContinuationToken(keys.get(maxKeys - 1));
+        }
+        return result;
+    }
+
+    @Override
+    public CopyObjectResult copyObject(CopyObjectRequest request) {
+        StoredObject source = find(request.getSourceBucketName(), request.getSourceKey());
+        StoredObject copy = store(request.getDestinationBucketName(), request.getDestinationKey(),
+                source.data(), source.metadata().clone());
+        CopyObjectResult result = new CopyObjectResult();
+        result.setETag(copy.metadata().getETag());
+        return result;
+    }
+
+    @Override
+    public InitiateMultipartUploadResult initiateMultipartUpload(InitiateMultipartUploadRequest request) {
+        String uploadId = UUID.randomUUID().toString();
+        multipartUploads.put(uploadId, new ConcurrentHashMap<>());
+        InitiateMultipartUploadResult result = new InitiateMultipartUploadResult();
+        result.setBucketName(request.getBucketName());
+        result.setKey(request.getKey());
+        result.setUploadId(uploadId);
+        return result;
+    }
+
+    @Override
+    public UploadPartResult uploadPart(UploadPartRequest request) {
+        partRequests.incrementAndGet();
+        int concurrent = concurrentParts.incrementAndGet();
+        maxConcurrentParts.accumulateAndGet(concurrent, Math::max);
+        try {
+            Map<Integer, byte[]> parts = multipartUploads.get(request.getUploadId());
+            if (parts == null) {
+                throw error(404, "NoSuchUpload", "멀티파트 업로드를 찾을 수 없습니다: " + request.getUploadId());
+            }
+            byte[] data = readAll(request.getInputStream());
+            if (data.length != request.getPartSize()) {
+                throw error(400, "IncompleteBody", "파트 크기가 일치하지 않습니다: " + request.getPartNumber());
+            }
+            if (partDelayMillis > 0) {
+                sleep(partDelayMillis);
+            }
+            if (failingParts.contains(request.getPartNumber())) {
+                throw error(500, "InternalError", "파트 업로드 실패: " + request.getPartNumber());
+            }
+            parts.put(request.getPartNumber(), data);
+            UploadPartResult result = new UploadPartResult();
+            result.setPartNumber(request.getPartNumber());
+            result.setETag(md5Hex(data));
+            return result;
+        } finally {
+            concurrentParts.decrementAndGet();
+        }
+    }
+
+    @Override
+    public CompleteMultipartUploadResult completeMultipartUpload(CompleteMultipartUploadRequest request) {
+        Map<Integer, byte[]> parts = multipartUploads.remove(request.getUploadId());
+        if (parts == null) {
+            throw error(404, "NoSuchUpload", "멀티파트 업로드를 찾을 수 없습니다: " + request.getUploadId());
+        }
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        request.getPartETags().stream()
+                .sorted(Comparator.comparingInt(PartETag::getPartNumber))
+                .forEach(partETag -> {
+                    byte[] part = parts.get(partETag.getPartNumber());
+                    if (part == null || !md5Hex(part).equals(partETag.getETag())) {
+                        throw error(400, "InvalidPart", "파트를 찾을 수 없습니다: " + partETag.getPartNumber());
+                    }
+                    content.writeBytes(part);
+                });
+        StoredObject object = store(request.getBucketName(), request.getKey(), content.toByteArray(), new ObjectMetadata());
+        CompleteMultipartUploadResult result = new CompleteMultipartUploadResult();
+        result.setBucketName(request.getBucketName());
+        result.setKey(request.getKey());
+        result.setETag(object.metadata().getETag());
+        return result;
+    }
+
+    @Override
+    public void abortMultipartUpload(AbortMultipartUploadRequest request) {
+        if (multipartUploads.remove(request.getUploadId()) != null) {
+            abortedUploads.incrementAndGet();
+        }
+    }
+
+    // ===== 내부 구현 =====
+
+    private StoredObject store(String bucketName, String key, byte[] data, ObjectMetadata metadata) {
+        metadata.setContentLength(data.length);
+        metadata.setHeader("ETag", md5Hex(data));
+        StoredObject object = new StoredObject(data, metadata);
+        objects.put(id(bucketName, key), object);
+        return object;
+    }
+
+    private StoredObject find(String bucketName, String key) {
+        StoredObject object = objects.get(id(bucketName, key));
+        if (object == null) {
+            throw error(404, "NoSuchKey", "객체를 찾을 수 없습니다: " + key);
+        }
+        return object;
+    }
+
+    private static String id(String bucketName, String key) {
+        return bucketName + "/" + key;
+    }
+
+    private static AmazonS3Exception error(int statusCode, String errorCode, String message) {
+        AmazonS3Exception exception = new AmazonS3Exception(message);
+        exception.setStatusCode(statusCode);
+        exception.setErrorCode(errorCode);
+        return exception;
+    }
+
+    private static byte[] readAll(InputStream inputStream) {
+        try {
+            return inputStream.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] readFile(PutObjectRequest request) {
+        try {
+            return Files.readAllBytes(request.getFile().toPath());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String md5Hex(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw error(500, "InternalError", "파트 업로드가 중단되었습니다.");
+        }
+    }
+
+    private record StoredObject(byte[] data, ObjectMetadata metadata) {
+    }
+}